@@ -0,0 +1,88 @@
+package com.yash.cabinbooking.bench;
+
+import com.yash.cabinbooking.cache.AvailabilityIndex;
+import com.yash.cabinbooking.daoimpl.BookingDaoImpl;
+import com.yash.cabinbooking.util.SlotGrid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Free slot generation for the booking form and the "alternatives" suggestions.
+ *
+ *   freeSlotsFromMask          - SlotGrid.freeSlots on a precomputed occupancy mask
+ *   availableSlotsIndexed      - BookingDaoImpl.getAvailableTimeSlots, day already indexed
+ *   availableSlotsFromDatabase - same, index entry dropped first so the day is read from H2
+ *   alternativeSlotsIndexed    - BookingDaoImpl.getAlternativeTimeSlots, day already indexed
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AvailabilityBenchmark {
+
+    private static final int[] DURATIONS = {30, 60, 90, 120};
+    private static final String[] REQUESTED = {"10:00-11:00", "14:00-15:30", "09:30-10:00", "16:00-18:00"};
+
+    private BookingDaoImpl bookingDao;
+    private long[] masks;
+    private int cursor;
+
+    @Setup
+    public void setUp() throws Exception {
+        BenchmarkDatabase.start();
+        bookingDao = new BookingDaoImpl();
+
+        masks = new long[64];
+        for (int i = 0; i < masks.length; i++) {
+            int start = SlotGrid.DAY_START_MINUTE + (i % 9) * 60;
+            masks[i] = SlotGrid.maskFor(start, start + 45 + (i % 4) * 15)
+                    | SlotGrid.maskFor(SlotGrid.DAY_START_MINUTE + (i % 5) * 90, SlotGrid.DAY_START_MINUTE + (i % 5) * 90 + 30);
+        }
+
+        for (int i = 0; i < BenchmarkDatabase.CABINS * BenchmarkDatabase.DAYS; i++) {
+            bookingDao.getAvailableTimeSlots(SlotBenchmark.cabinAt(i), SlotBenchmark.dayAt(i), 60);
+        }
+    }
+
+    @Benchmark
+    public List<String> freeSlotsFromMask() {
+        int i = next();
+        return SlotGrid.freeSlots(masks[i & 63], DURATIONS[i & 3]);
+    }
+
+    @Benchmark
+    public List<String> availableSlotsIndexed() {
+        int i = next();
+        return bookingDao.getAvailableTimeSlots(SlotBenchmark.cabinAt(i), SlotBenchmark.dayAt(i), DURATIONS[i & 3]);
+    }
+
+    @Benchmark
+    public List<String> availableSlotsFromDatabase() {
+        int i = next();
+        AvailabilityIndex.getInstance().invalidate(SlotBenchmark.cabinAt(i), SlotBenchmark.dayAt(i));
+        return bookingDao.getAvailableTimeSlots(SlotBenchmark.cabinAt(i), SlotBenchmark.dayAt(i), DURATIONS[i & 3]);
+    }
+
+    @Benchmark
+    public List<String> alternativeSlotsIndexed() {
+        int i = next();
+        return bookingDao.getAlternativeTimeSlots(SlotBenchmark.cabinAt(i), SlotBenchmark.dayAt(i), REQUESTED[i & 3], 5);
+    }
+
+    private int next() {
+        return cursor++ & Integer.MAX_VALUE;
+    }
+}
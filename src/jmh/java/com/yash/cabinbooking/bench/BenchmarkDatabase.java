@@ -0,0 +1,172 @@
+package com.yash.cabinbooking.bench;
+
+import com.yash.cabinbooking.util.DbUtil;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.Random;
+
+/**
+ * Embedded H2 stand-in for the MySQL database, seeded once per benchmark JVM.
+ *
+ * DbUtil reads its cabinbooking.db.* properties when the class is loaded, so
+ * start() must run before anything touches a DAO - every benchmark state calls it
+ * first in its @Setup.
+ *
+ * Seeded data (fixed random seed, so every run sees the same rows):
+ *   2 companies, 50 cabins, 200 users
+ *   30 days from FIRST_DAY, 2-6 bookings per cabin per day (~6,000 bookings)
+ */
+public final class BenchmarkDatabase {
+
+    public static final LocalDate FIRST_DAY = LocalDate.of(2026, 1, 5);
+    public static final int DAYS = 30;
+    public static final int CABINS = 50;
+    public static final int USERS = 200;
+
+    private static final String URL = "jdbc:h2:mem:cabinbench;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    // Start / end minute pairs a seeded booking can take
+    private static final int[][] SLOTS = {
+            {540, 600}, {600, 660}, {630, 720}, {720, 780}, {780, 870},
+            {840, 900}, {900, 960}, {960, 1020}, {1020, 1080}
+    };
+
+    private static boolean started;
+    private static int bookingCount;
+
+    private BenchmarkDatabase() {
+    }
+
+    public static synchronized void start() throws SQLException {
+        if (started) return;
+
+        System.setProperty("cabinbooking.db.url", URL);
+        System.setProperty("cabinbooking.db.user", "sa");
+        System.setProperty("cabinbooking.db.password", "");
+        System.setProperty("cabinbooking.db.driver", "org.h2.Driver");
+        System.setProperty("cabinbooking.db.sessionInitSql", "");
+
+        Connection conn = DbUtil.getConnection();
+        if (conn == null) {
+            throw new SQLException("No connection to " + URL);
+        }
+        try {
+            createSchema(conn);
+            seed(conn);
+        } finally {
+            DbUtil.closeConnection(conn);
+        }
+        started = true;
+        System.out.println("✅ Benchmark database seeded: " + CABINS + " cabins, " + USERS + " users, " +
+                bookingCount + " bookings");
+    }
+
+    public static Date day(int offset) {
+        return Date.valueOf(FIRST_DAY.plusDays(offset));
+    }
+
+    // ================================
+    // SCHEMA
+    // ================================
+
+    // src/test/resources/h2/schema.sql - shared with the load-test harness
+    private static void createSchema(Connection conn) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("RUNSCRIPT FROM 'classpath:/h2/schema.sql'");
+        }
+    }
+
+    // ================================
+    // SEED DATA
+    // ================================
+
+    private static void seed(Connection conn) throws SQLException {
+        Random random = new Random(42);
+        boolean autoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+        try {
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("INSERT INTO companies (name, location, contact_info) VALUES " +
+                        "('Yash Technologies', 'Indore', 'contact@yash.com'), " +
+                        "('Yash Labs', 'Pune', 'labs@yash.com')");
+            }
+
+            try (PreparedStatement pstmt = conn.prepareStatement(
+                    "INSERT INTO users (name, email, password, user_type, default_company_id) VALUES (?, ?, ?, ?, 1)")) {
+                for (int i = 1; i <= USERS; i++) {
+                    pstmt.setString(1, "Bench User " + i);
+                    pstmt.setString(2, "user" + i + "@bench.local");
+                    pstmt.setString(3, "not-a-real-hash");
+                    pstmt.setString(4, i % 10 == 0 ? "VIP" : (i == 1 ? "ADMIN" : "NORMAL"));
+                    pstmt.addBatch();
+                }
+                pstmt.executeBatch();
+            }
+
+            String[] amenities = {"Projector, Whiteboard", "TV Screen, Video Conferencing", "Whiteboard",
+                    "Premium Setup, Coffee Machine", "Phone Booth", "Projector, Sound System, Whiteboard"};
+            String[] floors = {"Ground Floor", "First Floor", "Second Floor", "Top Floor"};
+            try (PreparedStatement pstmt = conn.prepareStatement(
+                    "INSERT INTO cabins (company_id, name, capacity, amenities, is_vip_only, location, status) " +
+                            "VALUES (1, ?, ?, ?, ?, ?, ?)")) {
+                for (int i = 1; i <= CABINS; i++) {
+                    pstmt.setString(1, "Cabin " + i);
+                    pstmt.setInt(2, 2 + random.nextInt(19));
+                    pstmt.setString(3, amenities[random.nextInt(amenities.length)]);
+                    pstmt.setBoolean(4, i % 7 == 0);
+                    pstmt.setString(5, floors[random.nextInt(floors.length)]);
+                    pstmt.setString(6, i % 17 == 0 ? "MAINTENANCE" : "ACTIVE");
+                    pstmt.addBatch();
+                }
+                pstmt.executeBatch();
+            }
+
+            String[] statuses = {"APPROVED", "APPROVED", "APPROVED", "PENDING", "PENDING", "REJECTED", "CANCELLED"};
+            Timestamp createdAt = Timestamp.valueOf(FIRST_DAY.minusDays(14).atTime(9, 0));
+            try (PreparedStatement pstmt = conn.prepareStatement(
+                    "INSERT INTO bookings (user_id, cabin_id, booking_date, time_slot, start_minute, end_minute, " +
+                            "purpose, status, priority_level, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)")) {
+                for (int day = 0; day < DAYS; day++) {
+                    Date date = day(day);
+                    for (int cabin = 1; cabin <= CABINS; cabin++) {
+                        int perDay = 2 + random.nextInt(5);
+                        for (int n = 0; n < perDay; n++) {
+                            int[] slot = SLOTS[random.nextInt(SLOTS.length)];
+                            int userId = 1 + random.nextInt(USERS);
+                            pstmt.setInt(1, userId);
+                            pstmt.setInt(2, cabin);
+                            pstmt.setDate(3, date);
+                            pstmt.setString(4, label(slot[0]) + "-" + label(slot[1]));
+                            pstmt.setInt(5, slot[0]);
+                            pstmt.setInt(6, slot[1]);
+                            pstmt.setString(7, "Benchmark meeting " + n);
+                            pstmt.setString(8, statuses[random.nextInt(statuses.length)]);
+                            pstmt.setString(9, userId % 10 == 0 ? "VIP" : "NORMAL");
+                            createdAt = new Timestamp(createdAt.getTime() + 1000L + random.nextInt(60_000));
+                            pstmt.setTimestamp(10, createdAt);
+                            pstmt.addBatch();
+                            bookingCount++;
+                        }
+                    }
+                    pstmt.executeBatch();
+                }
+            }
+            conn.commit();
+        } catch (SQLException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(autoCommit);
+        }
+    }
+
+    private static String label(int minuteOfDay) {
+        return String.format("%02d:%02d", minuteOfDay / 60, minuteOfDay % 60);
+    }
+}
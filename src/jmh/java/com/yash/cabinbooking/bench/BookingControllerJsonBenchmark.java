@@ -0,0 +1,157 @@
+package com.yash.cabinbooking.bench;
+
+import com.yash.cabinbooking.controller.BookingController;
+import com.yash.cabinbooking.model.SessionPrincipal;
+import com.yash.cabinbooking.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The AJAX endpoints of BookingController end to end (servlet dispatch, availability
+ * lookup, JSON written to the response), with the day already in AvailabilityIndex.
+ *
+ *   availability          - GET /booking/availability (free slot, or alternatives on conflict)
+ *   alternatives          - GET /booking/alternatives
+ *   multiDayAvailability  - GET /booking/multiDayAvailability over 14 days
+ *
+ * Request, response and session are plain java.lang.reflect.Proxy stubs, so no
+ * servlet container is needed; the response body goes to a reused StringWriter.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookingControllerJsonBenchmark {
+
+    private static final String[] START_TIMES = {"09:00", "10:30", "13:00", "14:15", "16:00"};
+
+    private BookingController controller;
+    private HttpSession session;
+    private StringWriter body;
+    private HttpServletResponse response;
+    private int cursor;
+
+    @Setup
+    public void setUp() throws Exception {
+        BenchmarkDatabase.start();
+
+        controller = new BookingController();
+        controller.init();
+
+        User user = new User();
+        user.setUserId(2);
+        user.setName("Bench User 2");
+        user.setUserType(User.UserType.NORMAL);
+
+        Map<String, Object> sessionAttributes = new HashMap<>();
+        sessionAttributes.put("user", SessionPrincipal.from(user));
+        session = stub(HttpSession.class, (method, args) ->
+                "getAttribute".equals(method.getName()) ? sessionAttributes.get(args[0]) : null);
+
+        body = new StringWriter(4096);
+        PrintWriter writer = new PrintWriter(body);
+        response = stub(HttpServletResponse.class, (method, args) ->
+                "getWriter".equals(method.getName()) ? writer : null);
+
+        for (int i = 0; i < BenchmarkDatabase.CABINS * BenchmarkDatabase.DAYS; i++) {
+            availability();
+        }
+    }
+
+    @Benchmark
+    public int availability() throws Exception {
+        int i = next();
+        Map<String, String> params = new HashMap<>();
+        params.put("cabinId", Integer.toString(SlotBenchmark.cabinAt(i)));
+        params.put("date", SlotBenchmark.dayAt(i).toString());
+        params.put("startTime", START_TIMES[i % START_TIMES.length]);
+        params.put("duration", "60");
+        return call("GET", "/booking/availability", params);
+    }
+
+    @Benchmark
+    public int alternatives() throws Exception {
+        int i = next();
+        Map<String, String> params = new HashMap<>();
+        params.put("cabinId", Integer.toString(SlotBenchmark.cabinAt(i)));
+        params.put("date", SlotBenchmark.dayAt(i).toString());
+        params.put("timeSlot", "10:00-11:00");
+        return call("GET", "/booking/alternatives", params);
+    }
+
+    @Benchmark
+    public int multiDayAvailability() throws Exception {
+        int i = next();
+        Date start = SlotBenchmark.dayAt(i % BenchmarkDatabase.CABINS);
+        Map<String, String> params = new HashMap<>();
+        params.put("cabinId", Integer.toString(SlotBenchmark.cabinAt(i)));
+        params.put("startDate", start.toString());
+        params.put("endDate", start.toLocalDate().plusDays(13).toString());
+        return call("GET", "/booking/multiDayAvailability", params);
+    }
+
+    // Returns the body length so the JSON is consumed
+    private int call(String httpMethod, String uri, Map<String, String> params) throws Exception {
+        body.getBuffer().setLength(0);
+        HttpServletRequest request = stub(HttpServletRequest.class, (method, args) -> {
+            switch (method.getName()) {
+                case "getMethod": return httpMethod;
+                case "getRequestURI": return uri;
+                case "getContextPath": return "";
+                case "getParameter": return params.get(args[0]);
+                case "getSession": return session;
+                default: return null;
+            }
+        });
+        controller.service(request, response);
+        return body.getBuffer().length();
+    }
+
+    private int next() {
+        return cursor++ & Integer.MAX_VALUE;
+    }
+
+    // ================================
+    // SERVLET STUBS
+    // ================================
+
+    private interface Handler {
+        Object invoke(Method method, Object[] args);
+    }
+
+    // Unhandled methods return null, or the zero value for primitive return types
+    private static <T> T stub(Class<T> type, Handler handler) {
+        Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (self, method, args) -> {
+            Object result = handler.invoke(method, args);
+            if (result != null || !method.getReturnType().isPrimitive()) return result;
+            Class<?> returnType = method.getReturnType();
+            if (returnType == boolean.class) return false;
+            if (returnType == long.class) return 0L;
+            if (returnType == int.class) return 0;
+            return null;   // void
+        });
+        return type.cast(proxy);
+    }
+}
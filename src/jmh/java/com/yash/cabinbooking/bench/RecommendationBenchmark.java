@@ -0,0 +1,54 @@
+package com.yash.cabinbooking.bench;
+
+import com.yash.cabinbooking.model.Cabin;
+import com.yash.cabinbooking.model.User;
+import com.yash.cabinbooking.serviceimpl.AIRecommendationServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AIRecommendationServiceImpl.getSimilarCabins - scores every cabin of the company
+ * with calculateCabinSimilarity, filters and sorts by score. Cabins come from
+ * CabinCatalog, so after the first call this is pure CPU.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RecommendationBenchmark {
+
+    private AIRecommendationServiceImpl recommendationService;
+    private User user;
+    private int cursor;
+
+    @Setup
+    public void setUp() throws Exception {
+        BenchmarkDatabase.start();
+        recommendationService = new AIRecommendationServiceImpl();
+
+        user = new User();
+        user.setUserId(2);
+        user.setName("Bench User 2");
+        user.setUserType(User.UserType.NORMAL);
+
+        recommendationService.getSimilarCabins(1, user);
+    }
+
+    @Benchmark
+    public List<Cabin> similarCabins() {
+        return recommendationService.getSimilarCabins(1 + (cursor++ & Integer.MAX_VALUE) % BenchmarkDatabase.CABINS, user);
+    }
+}
@@ -0,0 +1,111 @@
+package com.yash.cabinbooking.bench;
+
+import com.yash.cabinbooking.cache.AvailabilityIndex;
+import com.yash.cabinbooking.daoimpl.BookingDaoImpl;
+import com.yash.cabinbooking.model.Booking;
+import com.yash.cabinbooking.model.TimeSlot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time slot parsing and conflict checks - the code that replaced
+ * BookingDaoImpl.timeToMinutes / hasTimeConflict (TimeSlot + AvailabilityIndex).
+ *
+ *   parsePacked / parseSlot      - "HH:MM-HH:MM" to minutes
+ *   overlaps                     - interval test on two parsed slots
+ *   conflictCheckIndexed         - BookingDaoImpl.isSlotAvailable with the day already in AvailabilityIndex
+ *   conflictCheckFromDatabase    - same, index entry dropped first so the day is read from H2
+ *   bookingSetTimeSlot           - Booking.calculateTimeFields via setTimeSlot
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SlotBenchmark {
+
+    private static final String[] SLOTS = {
+            "09:00-10:00", "10:30-11:45", " 13:00 - 14:00 ", "14:15-16:15", "16:00-17:30", "9:00-9:45", "11:00-12:00"
+    };
+
+    private BookingDaoImpl bookingDao;
+    private TimeSlot[] parsed;
+    private Booking booking;
+    private int cursor;
+
+    @Setup
+    public void setUp() throws Exception {
+        BenchmarkDatabase.start();
+        bookingDao = new BookingDaoImpl();
+
+        parsed = new TimeSlot[SLOTS.length];
+        for (int i = 0; i < SLOTS.length; i++) {
+            parsed[i] = TimeSlot.parse(SLOTS[i]);
+        }
+        booking = new Booking();
+
+        // Warm the index for every seeded cabin/day
+        for (int i = 0; i < BenchmarkDatabase.CABINS * BenchmarkDatabase.DAYS; i++) {
+            bookingDao.isSlotAvailable(cabinAt(i), dayAt(i), SLOTS[0]);
+        }
+    }
+
+    @Benchmark
+    public int parsePacked() {
+        return TimeSlot.parsePacked(SLOTS[next() % SLOTS.length]);
+    }
+
+    @Benchmark
+    public TimeSlot parseSlot() {
+        return TimeSlot.parse(SLOTS[next() % SLOTS.length]);
+    }
+
+    @Benchmark
+    public boolean overlaps() {
+        int i = next();
+        return parsed[i % parsed.length].overlaps(parsed[(i + 3) % parsed.length]);
+    }
+
+    @Benchmark
+    public boolean conflictCheckIndexed() {
+        int i = next();
+        return bookingDao.isSlotAvailable(cabinAt(i), dayAt(i), SLOTS[i % SLOTS.length]);
+    }
+
+    @Benchmark
+    public boolean conflictCheckFromDatabase() {
+        int i = next();
+        AvailabilityIndex.getInstance().invalidate(cabinAt(i), dayAt(i));
+        return bookingDao.isSlotAvailable(cabinAt(i), dayAt(i), SLOTS[i % SLOTS.length]);
+    }
+
+    @Benchmark
+    public Booking bookingSetTimeSlot() {
+        booking.setTimeSlot(SLOTS[next() % SLOTS.length]);
+        return booking;
+    }
+
+    private int next() {
+        return cursor++ & Integer.MAX_VALUE;
+    }
+
+    static int cabinAt(int i) {
+        return 1 + i % BenchmarkDatabase.CABINS;
+    }
+
+    static Date dayAt(int i) {
+        return BenchmarkDatabase.day((i / BenchmarkDatabase.CABINS) % BenchmarkDatabase.DAYS);
+    }
+}
@@ -0,0 +1,60 @@
+package com.yash.cabinbooking.loadtest;
+
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+/**
+ * An admin working the approval queue: opens the booking management page, then
+ * bulk-approves up to 10 random PENDING bookings (picked straight from the
+ * database rather than scraped from the page). Think time is 4x the employees'.
+ */
+public class AdminUser extends VirtualUser {
+
+    private static final int BATCH = 10;
+
+    private final BrowserSession browser;
+    private final LoadTestDatabase db;
+    private final long thinkMs;
+    private final BooleanSupplier running;
+
+    public AdminUser(BrowserSession browser, LoadTestDatabase db, LoadStats stats, String email,
+                     long thinkMs, BooleanSupplier running) {
+        super(browser, db, stats, email, thinkMs, running);
+        this.browser = browser;
+        this.db = db;
+        this.thinkMs = thinkMs;
+        this.running = running;
+    }
+
+    @Override
+    public void run() {
+        login();
+        while (running.getAsBoolean()) {
+            if (!browser.isLoggedIn()) {
+                login();
+            } else if (browser.get(LoadStats.ADMIN_BOOKINGS, "/admin/bookings", null) == 302) {
+                browser.forgetSession();
+            } else {
+                approveBatch();
+            }
+            think(4 * thinkMs);
+        }
+    }
+
+    private void approveBatch() {
+        List<Integer> pending;
+        try {
+            pending = db.randomPendingBookingIds(BATCH);
+        } catch (SQLException e) {
+            return;
+        }
+        if (pending.isEmpty()) return;
+
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("bookingIds", pending);
+        browser.post(LoadStats.BULK_APPROVE, "/admin/bulk-approve", params, true);
+    }
+}
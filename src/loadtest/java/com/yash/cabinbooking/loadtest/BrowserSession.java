@@ -0,0 +1,130 @@
+package com.yash.cabinbooking.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One simulated browser: keeps its own JSESSIONID and does not follow redirects,
+ * so a login or booking is timed up to the 302, exactly what the servlet did.
+ */
+public final class BrowserSession {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final LoadStats stats;
+
+    private String sessionCookie;
+    private int retryAfterSeconds;
+
+    public BrowserSession(HttpClient client, String baseUrl, LoadStats stats) {
+        this.client = client;
+        this.baseUrl = baseUrl;
+        this.stats = stats;
+    }
+
+    /**
+     * @return HTTP status, or -1 if the request failed
+     */
+    public int get(String endpoint, String path, Map<String, ?> params) {
+        String query = params == null || params.isEmpty() ? "" : "?" + encode(params);
+        return send(endpoint, builder(path + query).GET(), false);
+    }
+
+    /**
+     * @return HTTP status, or -1 if the request failed
+     */
+    public int post(String endpoint, String path, Map<String, ?> params, boolean ajax) {
+        return post(endpoint, path, params, ajax, false);
+    }
+
+    /**
+     * @param expectRedirect Count anything but a 302 as an error (login)
+     * @return HTTP status, or -1 if the request failed
+     */
+    public int post(String endpoint, String path, Map<String, ?> params, boolean ajax, boolean expectRedirect) {
+        HttpRequest.Builder builder = builder(path)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(encode(params)));
+        if (ajax) {
+            builder.header("X-Requested-With", "XMLHttpRequest");
+        }
+        return send(endpoint, builder, expectRedirect);
+    }
+
+    public boolean isLoggedIn() {
+        return sessionCookie != null;
+    }
+
+    public void forgetSession() {
+        sessionCookie = null;
+    }
+
+    // Retry-After of the last response, 0 if it had none
+    public int getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    private HttpRequest.Builder builder(String pathAndQuery) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + pathAndQuery)).timeout(TIMEOUT);
+        if (sessionCookie != null) {
+            builder.header("Cookie", sessionCookie);
+        }
+        return builder;
+    }
+
+    private int send(String endpoint, HttpRequest.Builder builder, boolean expectRedirect) {
+        long started = System.nanoTime();
+        int status;
+        try {
+            HttpResponse<byte[]> response = client.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+            status = response.statusCode();
+            rememberSession(response.headers().allValues("Set-Cookie"));
+            retryAfterSeconds = response.headers().firstValue("Retry-After").map(Integer::parseInt).orElse(0);
+        } catch (IOException e) {
+            status = -1;
+            retryAfterSeconds = 0;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            status = -1;
+        }
+        boolean ok = expectRedirect ? status == 302 : status >= 200 && status < 400;
+        stats.record(endpoint, System.nanoTime() - started, ok);
+        return status;
+    }
+
+    private void rememberSession(List<String> setCookies) {
+        for (String header : setCookies) {
+            if (header.startsWith("JSESSIONID=")) {
+                int end = header.indexOf(';');
+                sessionCookie = end < 0 ? header : header.substring(0, end);
+            }
+        }
+    }
+
+    // Repeated parameters (bookingIds) are passed as a List
+    private static String encode(Map<String, ?> params) {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, ?> entry : params.entrySet()) {
+            Iterable<?> values = entry.getValue() instanceof Iterable
+                    ? (Iterable<?>) entry.getValue()
+                    : List.of(entry.getValue());
+            for (Object value : values) {
+                if (sb.length() > 0) sb.append('&');
+                sb.append(URLEncoder.encode(entry.getKey(), StandardCharsets.UTF_8))
+                        .append('=')
+                        .append(URLEncoder.encode(String.valueOf(value), StandardCharsets.UTF_8));
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,62 @@
+package com.yash.cabinbooking.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Response times for one endpoint. Samples are kept raw (a long per request) and
+ * sorted once at the end, so percentiles are exact; a run of a few minutes stays
+ * well within a few MB.
+ */
+public final class LatencyRecorder {
+
+    private final String endpoint;
+
+    private long[] samples = new long[4096];
+    private int count;
+    private int errors;
+
+    public LatencyRecorder(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public synchronized void record(long nanos, boolean ok) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+        if (!ok) errors++;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public synchronized int getCount() {
+        return count;
+    }
+
+    public synchronized int getErrors() {
+        return errors;
+    }
+
+    /**
+     * Sorted copy of the samples, for percentile()
+     */
+    public synchronized long[] snapshot() {
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    /**
+     * Nearest-rank percentile
+     * @param sorted Output of snapshot()
+     * @param percentile 0-100, e.g. 99.9
+     * @return Latency in milliseconds, 0 when there are no samples
+     */
+    public static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) return 0;
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,64 @@
+package com.yash.cabinbooking.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Everything the virtual users measure. Samples taken before startMeasuring()
+ * (the warm-up) are dropped.
+ */
+public final class LoadStats {
+
+    public static final String LOGIN = "/login";
+    public static final String DASHBOARD = "/dashboard";
+    public static final String BOOK = "/book";
+    public static final String AVAILABILITY = "/booking/availability";
+    public static final String MULTI_DAY = "/booking/multiDayAvailability";
+    public static final String ADMIN_BOOKINGS = "/admin/bookings";
+    public static final String BULK_APPROVE = "/admin/bulk-approve";
+
+    private final Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+
+    // Outcomes of POST /book: redirect to My Bookings, or the form shown again (slot taken, VIP-only cabin)
+    public final AtomicInteger bookingsCreated = new AtomicInteger();
+    public final AtomicInteger bookingsRefused = new AtomicInteger();
+
+    private volatile boolean measuring;
+    private volatile long measureStartNanos;
+    private volatile long measureEndNanos;
+
+    public LoadStats() {
+        for (String endpoint : new String[]{LOGIN, DASHBOARD, BOOK, AVAILABILITY, MULTI_DAY, ADMIN_BOOKINGS, BULK_APPROVE}) {
+            recorders.put(endpoint, new LatencyRecorder(endpoint));
+        }
+    }
+
+    public void startMeasuring() {
+        measureStartNanos = System.nanoTime();
+        measuring = true;
+    }
+
+    public void stopMeasuring() {
+        measureEndNanos = System.nanoTime();
+        measuring = false;
+    }
+
+    public boolean isMeasuring() {
+        return measuring;
+    }
+
+    public void record(String endpoint, long nanos, boolean ok) {
+        if (measuring) {
+            recorders.get(endpoint).record(nanos, ok);
+        }
+    }
+
+    public Iterable<LatencyRecorder> getRecorders() {
+        return recorders.values();
+    }
+
+    public double getMeasuredSeconds() {
+        return (measureEndNanos - measureStartNanos) / 1_000_000_000.0;
+    }
+}
@@ -0,0 +1,245 @@
+package com.yash.cabinbooking.loadtest;
+
+import com.yash.cabinbooking.model.TimeSlot;
+import com.yash.cabinbooking.util.DbUtil;
+import com.yash.cabinbooking.util.PasswordUtil;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Embedded H2 (MySQL mode) database for the load test, created and seeded before
+ * Tomcat starts. The application reaches it through the normal DbUtil pool.
+ *
+ * Seeded data:
+ *   1 company, `admins` admins, `users` employees (every 10th one VIP), `cabins` cabins (every 10th VIP-only)
+ *   for each cabin and each of the next `days` days: one APPROVED and one PENDING booking
+ * Every account uses PASSWORD.
+ *
+ * Pooled connections run at REPEATABLE READ, MySQL's default, so a transaction
+ * that reads before it locks sees a stale snapshot here as it would on InnoDB.
+ * H2 still locks differently (no gap or next-key locks, its own deadlock
+ * detection), so a clean run is evidence, not proof, for MySQL.
+ */
+public final class LoadTestDatabase {
+
+    public static final String PASSWORD = "LoadTest@123";
+
+    private static final String URL = "jdbc:h2:mem:cabinloadtest;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    private final int users;
+    private final int admins;
+    private final int cabins;
+    private final int days;
+    private final LocalDate firstDay;
+
+    public LoadTestDatabase(int users, int admins, int cabins, int days) {
+        this.users = users;
+        this.admins = admins;
+        this.cabins = cabins;
+        this.days = days;
+        this.firstDay = LocalDate.now().plusDays(1);
+    }
+
+    // Must run before any application class touches DbUtil
+    public static void configure() {
+        System.setProperty("cabinbooking.db.url", URL);
+        System.setProperty("cabinbooking.db.user", "sa");
+        System.setProperty("cabinbooking.db.password", "");
+        System.setProperty("cabinbooking.db.driver", "org.h2.Driver");
+        System.setProperty("cabinbooking.db.sessionInitSql",
+                "SET SESSION CHARACTERISTICS AS TRANSACTION ISOLATION LEVEL REPEATABLE READ");
+        // Schema below already has every migrated column; GET_LOCK is MySQL-only anyway
+        System.setProperty("cabinbooking.migrations.enabled", "false");
+    }
+
+    public void createAndSeed() throws SQLException {
+        Connection conn = DbUtil.getConnection();
+        if (conn == null) {
+            throw new SQLException("No connection to " + URL);
+        }
+        try {
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("RUNSCRIPT FROM 'classpath:/h2/schema.sql'");
+            }
+            seed(conn);
+        } finally {
+            DbUtil.closeConnection(conn);
+        }
+    }
+
+    public String userEmail(int index) {
+        return "user" + index + "@loadtest.local";
+    }
+
+    public String adminEmail(int index) {
+        return "admin" + index + "@loadtest.local";
+    }
+
+    public Date day(int offset) {
+        return Date.valueOf(firstDay.plusDays(offset));
+    }
+
+    public int getUsers() { return users; }
+    public int getCabins() { return cabins; }
+    public int getDays() { return days; }
+
+    // ================================
+    // QUERIES USED DURING THE RUN
+    // ================================
+
+    /**
+     * Random PENDING bookings for the admin bulk-approve traffic
+     */
+    public List<Integer> randomPendingBookingIds(int limit) throws SQLException {
+        List<Integer> ids = new ArrayList<>();
+        Connection conn = DbUtil.getConnection();
+        if (conn == null) return ids;
+        try (PreparedStatement pstmt = conn.prepareStatement(
+                "SELECT booking_id FROM bookings WHERE status = 'PENDING' ORDER BY RAND() LIMIT ?")) {
+            pstmt.setInt(1, limit);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    ids.add(rs.getInt(1));
+                }
+            }
+        } finally {
+            DbUtil.closeConnection(conn);
+        }
+        return ids;
+    }
+
+    /**
+     * Pairs of APPROVED bookings for the same cabin and day whose times overlap - must be 0
+     */
+    public int countOverlappingApproved() throws SQLException {
+        return count("SELECT COUNT(*) FROM bookings a JOIN bookings b " +
+                "ON a.cabin_id = b.cabin_id AND a.booking_date = b.booking_date AND a.booking_id < b.booking_id " +
+                "AND a.start_minute < b.end_minute AND b.start_minute < a.end_minute " +
+                "WHERE a.status = 'APPROVED' AND b.status = 'APPROVED'");
+    }
+
+    /**
+     * Isolation level of the application's pooled connections, for the report
+     */
+    public String getIsolationLevel() throws SQLException {
+        Connection conn = DbUtil.getConnection();
+        if (conn == null) throw new SQLException("No connection to " + URL);
+        try {
+            switch (conn.getTransactionIsolation()) {
+                case Connection.TRANSACTION_READ_UNCOMMITTED: return "READ UNCOMMITTED";
+                case Connection.TRANSACTION_READ_COMMITTED: return "READ COMMITTED";
+                case Connection.TRANSACTION_REPEATABLE_READ: return "REPEATABLE READ";
+                case Connection.TRANSACTION_SERIALIZABLE: return "SERIALIZABLE";
+                default: return "NONE";
+            }
+        } finally {
+            DbUtil.closeConnection(conn);
+        }
+    }
+
+    public int countBookings(String status) throws SQLException {
+        return count("SELECT COUNT(*) FROM bookings WHERE status = '" + status + "'");
+    }
+
+    private int count(String sql) throws SQLException {
+        Connection conn = DbUtil.getConnection();
+        if (conn == null) throw new SQLException("No connection to " + URL);
+        try (Statement stmt = conn.createStatement(); ResultSet rs = stmt.executeQuery(sql)) {
+            return rs.next() ? rs.getInt(1) : 0;
+        } finally {
+            DbUtil.closeConnection(conn);
+        }
+    }
+
+    // ================================
+    // SEED DATA
+    // ================================
+
+    private void seed(Connection conn) throws SQLException {
+        // One hash for every account - BCrypt at the production work factor is slow
+        String hash = PasswordUtil.hashPassword(PASSWORD);
+
+        conn.setAutoCommit(false);
+        try {
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute("INSERT INTO companies (name, location, contact_info) " +
+                        "VALUES ('Yash Technologies', 'Indore', 'contact@yash.com')");
+            }
+
+            try (PreparedStatement pstmt = conn.prepareStatement(
+                    "INSERT INTO users (name, email, password, user_type, default_company_id) VALUES (?, ?, ?, ?, 1)")) {
+                for (int i = 1; i <= admins; i++) {
+                    addUser(pstmt, "Load Admin " + i, adminEmail(i), hash, "ADMIN");
+                }
+                for (int i = 1; i <= users; i++) {
+                    addUser(pstmt, "Load User " + i, userEmail(i), hash, i % 10 == 0 ? "VIP" : "NORMAL");
+                }
+                pstmt.executeBatch();
+            }
+
+            try (PreparedStatement pstmt = conn.prepareStatement(
+                    "INSERT INTO cabins (company_id, name, capacity, amenities, is_vip_only, location) VALUES (1, ?, ?, ?, ?, ?)")) {
+                for (int i = 1; i <= cabins; i++) {
+                    pstmt.setString(1, "Load Cabin " + i);
+                    pstmt.setInt(2, 4 + (i % 4) * 2);
+                    pstmt.setString(3, i % 2 == 0 ? "Projector, Whiteboard" : "TV Screen");
+                    pstmt.setBoolean(4, i % 10 == 0);
+                    pstmt.setString(5, "Floor " + (1 + i % 3));
+                    pstmt.addBatch();
+                }
+                pstmt.executeBatch();
+            }
+
+            // Non-overlapping starting point: APPROVED 09:00-10:00, PENDING 14:00-15:00
+            try (PreparedStatement pstmt = conn.prepareStatement(
+                    "INSERT INTO bookings (user_id, cabin_id, booking_date, time_slot, start_minute, end_minute, " +
+                            "purpose, status, priority_level) VALUES (?, ?, ?, ?, ?, ?, ?, ?, 'NORMAL')")) {
+                int n = 0;
+                for (int day = 0; day < days; day++) {
+                    for (int cabin = 1; cabin <= cabins; cabin++) {
+                        int userId = admins + 1 + (n++ % users);
+                        addBooking(pstmt, userId, cabin, day(day), TimeSlot.of(9 * 60, 10 * 60), "APPROVED");
+                        addBooking(pstmt, userId, cabin, day(day), TimeSlot.of(14 * 60, 15 * 60), "PENDING");
+                    }
+                }
+                pstmt.executeBatch();
+            }
+            conn.commit();
+        } catch (SQLException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(true);
+        }
+    }
+
+    private static void addUser(PreparedStatement pstmt, String name, String email, String hash, String type)
+            throws SQLException {
+        pstmt.setString(1, name);
+        pstmt.setString(2, email);
+        pstmt.setString(3, hash);
+        pstmt.setString(4, type);
+        pstmt.addBatch();
+    }
+
+    private static void addBooking(PreparedStatement pstmt, int userId, int cabinId, Date date, TimeSlot slot,
+                                   String status) throws SQLException {
+        pstmt.setInt(1, userId);
+        pstmt.setInt(2, cabinId);
+        pstmt.setDate(3, date);
+        pstmt.setString(4, slot.toString());
+        pstmt.setInt(5, slot.getStartMinute());
+        pstmt.setInt(6, slot.getEndMinute());
+        pstmt.setString(7, "Seeded meeting");
+        pstmt.setString(8, status);
+        pstmt.addBatch();
+    }
+}
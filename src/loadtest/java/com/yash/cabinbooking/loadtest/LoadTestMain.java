@@ -0,0 +1,201 @@
+package com.yash.cabinbooking.loadtest;
+
+import org.apache.catalina.Context;
+import org.apache.catalina.WebResourceRoot;
+import org.apache.catalina.core.StandardContext;
+import org.apache.catalina.startup.Tomcat;
+import org.apache.catalina.webresources.DirResourceSet;
+import org.apache.catalina.webresources.StandardRoot;
+
+import java.io.File;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * End-to-end load test: starts the web application in embedded Tomcat against an
+ * in-memory H2 database, drives it with virtual employees and admins over HTTP,
+ * then reports per-endpoint throughput and p50/p99/p99.9 latency and checks the
+ * database for overlapping APPROVED bookings (double bookings).
+ *
+ * H2 runs at REPEATABLE READ like InnoDB, so snapshot races show up, but its
+ * locking is not InnoDB's (no gap locks); the double-booking check is a smoke
+ * test for MySQL, not a proof.
+ *
+ * Run with: mvn -Ploadtest test-compile exec:exec -Dloadtest.args="--users=100 --duration=120"
+ *
+ * Options (--name=value):
+ *   users    (50)   concurrent employees         admins   (2)   concurrent admins
+ *   cabins   (20)   seeded cabins                days     (5)   bookable days from tomorrow
+ *   duration (60)   measured seconds             warmup   (10)  unmeasured seconds first
+ *   thinkMs  (100)  mean think time per action   threads  (200) Tomcat worker threads
+ *   port     (0)    HTTP port, 0 = any free one  logLevel (OFF) application log level
+ *
+ * Exits with status 1 if any double booking was found.
+ */
+public final class LoadTestMain {
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        int users = intOption(options, "users", 50);
+        int admins = intOption(options, "admins", 2);
+        int cabins = intOption(options, "cabins", 20);
+        int days = intOption(options, "days", 5);
+        int duration = intOption(options, "duration", 60);
+        int warmup = intOption(options, "warmup", 10);
+        int thinkMs = intOption(options, "thinkMs", 100);
+
+        // Both must be set before the first application class loads
+        System.setProperty("cabinbooking.log.level", options.getOrDefault("logLevel", "OFF"));
+        LoadTestDatabase.configure();
+
+        LoadTestDatabase db = new LoadTestDatabase(users, admins, cabins, days);
+        db.createAndSeed();
+        System.out.println("✅ Seeded " + users + " users, " + admins + " admins, " + cabins + " cabins, " + days + " days");
+
+        Tomcat tomcat = startTomcat(intOption(options, "port", 0), intOption(options, "threads", 200),
+                options.getOrDefault("webapp", "src/main/webapp"), options.getOrDefault("classes", "target/classes"));
+        String baseUrl = "http://localhost:" + tomcat.getConnector().getLocalPort();
+        System.out.println("🚀 Application running at " + baseUrl);
+
+        LoadStats stats = new LoadStats();
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+
+        Runner runner = new Runner();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 1; i <= users; i++) {
+            VirtualUser user = new VirtualUser(new BrowserSession(client, baseUrl, stats), db, stats,
+                    db.userEmail(i), thinkMs, runner::isRunning);
+            threads.add(new Thread(user, "loadtest-user-" + i));
+        }
+        for (int i = 1; i <= admins; i++) {
+            AdminUser admin = new AdminUser(new BrowserSession(client, baseUrl, stats), db, stats,
+                    db.adminEmail(i), thinkMs, runner::isRunning);
+            threads.add(new Thread(admin, "loadtest-admin-" + i));
+        }
+
+        System.out.println("🔥 Warming up for " + warmup + " s with " + users + " users and " + admins + " admins");
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        Thread.sleep(warmup * 1000L);
+
+        System.out.println("⏱️ Measuring for " + duration + " s");
+        stats.startMeasuring();
+        Thread.sleep(duration * 1000L);
+        stats.stopMeasuring();
+
+        runner.stop();
+        for (Thread thread : threads) {
+            thread.join(60_000);
+        }
+
+        int overlaps = db.countOverlappingApproved();
+        printReport(stats, db, overlaps);
+
+        tomcat.stop();
+        tomcat.destroy();
+        System.exit(overlaps == 0 ? 0 : 1);
+    }
+
+    // ================================
+    // EMBEDDED TOMCAT
+    // ================================
+
+    private static Tomcat startTomcat(int port, int threads, String webappDir, String classesDir) throws Exception {
+        Tomcat tomcat = new Tomcat();
+        tomcat.setBaseDir(Files.createTempDirectory("cabinest-loadtest").toString());
+        tomcat.setPort(port);
+        tomcat.getConnector().setProperty("maxThreads", Integer.toString(threads));
+
+        Context context = tomcat.addWebapp("", new File(webappDir).getAbsolutePath());
+        // Parent-first, so the application and this harness share one copy of DbUtil and its pool
+        ((StandardContext) context).setDelegate(true);
+
+        // Compiled classes as WEB-INF/classes, so @WebServlet / @WebListener are picked up
+        WebResourceRoot resources = new StandardRoot(context);
+        resources.addPreResources(new DirResourceSet(resources, "/WEB-INF/classes",
+                new File(classesDir).getAbsolutePath(), "/"));
+        context.setResources(resources);
+
+        tomcat.start();
+        return tomcat;
+    }
+
+    // ================================
+    // REPORT
+    // ================================
+
+    private static void printReport(LoadStats stats, LoadTestDatabase db, int overlaps) throws Exception {
+        double seconds = stats.getMeasuredSeconds();
+
+        System.out.println();
+        System.out.printf("%-32s %9s %7s %9s %9s %9s %9s %9s%n",
+                "Endpoint", "Requests", "Errors", "Req/s", "p50 ms", "p99 ms", "p99.9 ms", "Max ms");
+        int total = 0;
+        for (LatencyRecorder recorder : stats.getRecorders()) {
+            long[] sorted = recorder.snapshot();
+            total += sorted.length;
+            System.out.printf("%-32s %9d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    recorder.getEndpoint(), sorted.length, recorder.getErrors(), sorted.length / seconds,
+                    LatencyRecorder.percentile(sorted, 50), LatencyRecorder.percentile(sorted, 99),
+                    LatencyRecorder.percentile(sorted, 99.9), LatencyRecorder.percentile(sorted, 100));
+        }
+        System.out.printf("%-32s %9d %7s %9.1f%n", "TOTAL", total, "", total / seconds);
+
+        System.out.println();
+        System.out.println("📅 Bookings created: " + stats.bookingsCreated.get() +
+                ", refused (slot taken / not accessible): " + stats.bookingsRefused.get());
+        System.out.println("📊 Database now: " + db.countBookings("APPROVED") + " APPROVED, " +
+                db.countBookings("PENDING") + " PENDING, " + db.countBookings("CANCELLED") + " CANCELLED");
+        System.out.println("🔒 Isolation: " + db.getIsolationLevel() +
+                " on H2 - InnoDB locks differently (gap locks), so this check is not a proof for MySQL");
+        if (overlaps == 0) {
+            System.out.println("✅ No overlapping APPROVED bookings");
+        } else {
+            System.out.println("❌ DOUBLE BOOKING: " + overlaps + " pairs of overlapping APPROVED bookings");
+        }
+    }
+
+    // ================================
+    // OPTIONS
+    // ================================
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            int eq = arg.indexOf('=');
+            options.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        return options;
+    }
+
+    private static int intOption(Map<String, String> options, String name, int defaultValue) {
+        String value = options.get(name);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+    private static final class Runner {
+        private volatile boolean running = true;
+
+        boolean isRunning() {
+            return running;
+        }
+
+        void stop() {
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.yash.cabinbooking.loadtest;
+
+import com.yash.cabinbooking.model.TimeSlot;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BooleanSupplier;
+
+/**
+ * An employee clicking around: logs in, then loops over a weighted mix of
+ *   35% availability AJAX      GET  /booking/availability
+ *   20% book a slot            POST /book
+ *   20% dashboard              GET  /dashboard
+ *   15% multi-day availability GET  /booking/multiDayAvailability
+ *   10% log out and back in    POST /login
+ * with a random think time (0-2x thinkMs) between actions. A login answered with
+ * 503 waits for its Retry-After before trying again. Slots are drawn from a small
+ * set of cabins and days so bookers keep colliding.
+ */
+public class VirtualUser implements Runnable {
+
+    private final BrowserSession browser;
+    private final LoadTestDatabase db;
+    private final LoadStats stats;
+    private final String email;
+    private final long thinkMs;
+    private final BooleanSupplier running;
+
+    public VirtualUser(BrowserSession browser, LoadTestDatabase db, LoadStats stats, String email,
+                       long thinkMs, BooleanSupplier running) {
+        this.browser = browser;
+        this.db = db;
+        this.stats = stats;
+        this.email = email;
+        this.thinkMs = thinkMs;
+        this.running = running;
+    }
+
+    @Override
+    public void run() {
+        login();
+        while (running.getAsBoolean()) {
+            if (!browser.isLoggedIn()) {
+                login();
+            } else {
+                int roll = ThreadLocalRandom.current().nextInt(100);
+                if (roll < 35) {
+                    checkAvailability();
+                } else if (roll < 55) {
+                    book();
+                } else if (roll < 75) {
+                    dashboard();
+                } else if (roll < 90) {
+                    checkMultiDayAvailability();
+                } else {
+                    login();
+                }
+            }
+            think(thinkMs);
+        }
+    }
+
+    protected void login() {
+        browser.forgetSession();
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("email", email);
+        params.put("password", LoadTestDatabase.PASSWORD);
+        int status = browser.post(LoadStats.LOGIN, "/login", params, false, true);
+        if (status != 302) {
+            browser.forgetSession();
+        }
+        if (status == 503) {
+            sleep(browser.getRetryAfterSeconds() * 1000L);
+        }
+    }
+
+    protected void think(long meanMs) {
+        if (meanMs > 0) {
+            sleep(ThreadLocalRandom.current().nextLong(2 * meanMs + 1));
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void dashboard() {
+        // A redirect here means the session is gone - log in again next time
+        if (browser.get(LoadStats.DASHBOARD, "/dashboard", null) == 302) {
+            browser.forgetSession();
+        }
+    }
+
+    private void checkAvailability() {
+        TimeSlot slot = randomSlot();
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("cabinId", randomCabin());
+        params.put("date", randomDay());
+        params.put("startTime", slot.getStartLabel());
+        params.put("duration", slot.getDurationMinutes());
+        browser.get(LoadStats.AVAILABILITY, "/booking/availability", params);
+    }
+
+    private void checkMultiDayAvailability() {
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("cabinId", randomCabin());
+        params.put("startDate", db.day(0));
+        params.put("endDate", db.day(db.getDays() - 1));
+        browser.get(LoadStats.MULTI_DAY, "/booking/multiDayAvailability", params);
+    }
+
+    private void book() {
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("cabinId", randomCabin());
+        params.put("bookingDate", randomDay());
+        params.put("timeSlot", randomSlot());
+        params.put("purpose", "Load test meeting");
+
+        int status = browser.post(LoadStats.BOOK, "/book", params, false);
+        if (!stats.isMeasuring()) return;
+        if (status == 302) {
+            stats.bookingsCreated.incrementAndGet();
+        } else if (status == 200) {
+            stats.bookingsRefused.incrementAndGet();
+        }
+    }
+
+    private int randomCabin() {
+        return 1 + ThreadLocalRandom.current().nextInt(db.getCabins());
+    }
+
+    private Object randomDay() {
+        return db.day(ThreadLocalRandom.current().nextInt(db.getDays()));
+    }
+
+    // One hour, starting on the hour or half hour between 09:00 and 16:30
+    private static TimeSlot randomSlot() {
+        int start = 9 * 60 + 30 * ThreadLocalRandom.current().nextInt(16);
+        return TimeSlot.of(start, start + 60);
+    }
+}
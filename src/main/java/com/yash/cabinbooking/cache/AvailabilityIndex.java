@@ -0,0 +1,364 @@
+package com.yash.cabinbooking.cache;
+
+import com.yash.cabinbooking.util.SlotGrid;
+import com.yash.cabinbooking.logging.Logger;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory availability engine for cabin bookings.
+ *
+ * For every (cabinId, date) that has been looked at, keeps the PENDING/APPROVED
+ * bookings as intervals in minutes-of-day so overlap checks need no database
+ * round trip. BookingDaoImpl loads a day on first use and writes every booking
+ * change through to this index.
+ *
+ * Tunable with system properties:
+ *   cabinbooking.availability.ttlMs      (default 300000) - reload a day after this long
+ *   cabinbooking.availability.maxEntries (default 10000)  - cabin-days kept in memory
+ */
+public class AvailabilityIndex {
+
+    private static final Logger log = Logger.getLogger(AvailabilityIndex.class);
+
+    private static final AvailabilityIndex INSTANCE = new AvailabilityIndex();
+
+    private final long ttlMs = Long.getLong("cabinbooking.availability.ttlMs", 300000L);
+    private final int maxEntries = Integer.getInteger("cabinbooking.availability.maxEntries", 10000);
+
+    private final Map<Key, DaySchedule> schedules = new ConcurrentHashMap<>();
+    private final Map<Integer, Key> bookingLocations = new ConcurrentHashMap<>();
+
+    // ✅ Bumped before every write-through so a load that raced with a write is never cached
+    private final AtomicLong writeSequence = new AtomicLong();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    private AvailabilityIndex() {
+    }
+
+    public static AvailabilityIndex getInstance() {
+        return INSTANCE;
+    }
+
+    // ================================
+    // LOOKUP & LOADING
+    // ================================
+
+    /**
+     * Get the cached schedule for a cabin-day
+     * @return DaySchedule or null if the day is not loaded (or has expired)
+     */
+    public DaySchedule get(int cabinId, Date date) {
+        Key key = new Key(cabinId, date);
+        DaySchedule schedule = schedules.get(key);
+        if (schedule != null && System.currentTimeMillis() - schedule.loadedAt > ttlMs) {
+            schedules.remove(key, schedule);
+            schedule = null;
+        }
+        if (schedule == null) {
+            misses.incrementAndGet();
+        } else {
+            hits.incrementAndGet();
+        }
+        return schedule;
+    }
+
+    /**
+     * Capture the write sequence before reading a day from the database
+     * @return Token to pass to install()
+     */
+    public long beginLoad() {
+        return writeSequence.get();
+    }
+
+    /**
+     * Cache a day that was read from the database. If any booking write happened
+     * since beginLoad() the schedule is returned but not kept.
+     * @param loadToken Value returned by beginLoad() before the query ran
+     * @param bookingIds Booking ids, parallel to starts/ends
+     * @param starts Start minute of each booking
+     * @param ends End minute of each booking
+     * @return Schedule built from the given intervals
+     */
+    public DaySchedule install(int cabinId, Date date, long loadToken,
+                               List<Integer> bookingIds, List<Integer> starts, List<Integer> ends) {
+        DaySchedule schedule = DaySchedule.build(bookingIds, starts, ends);
+        Key key = new Key(cabinId, date);
+
+        if (schedules.size() >= maxEntries) {
+            evict();
+        }
+
+        schedules.put(key, schedule);
+        for (int bookingId : schedule.bookingIds) {
+            bookingLocations.put(bookingId, key);
+        }
+
+        // A write slipped in while we were loading - drop it and let the next call reload
+        if (writeSequence.get() != loadToken) {
+            schedules.remove(key, schedule);
+        }
+        return schedule;
+    }
+
+    // ================================
+    // WRITE-THROUGH
+    // ================================
+
+    /**
+     * Record a booking that occupies its slot (PENDING or APPROVED)
+     */
+    public void bookingActive(int bookingId, int cabinId, Date date, int startMinute, int endMinute) {
+        writeSequence.incrementAndGet();
+        removeFromCurrentDay(bookingId);
+
+        Key key = new Key(cabinId, date);
+        schedules.computeIfPresent(key, (k, schedule) -> schedule.with(bookingId, startMinute, endMinute));
+        if (schedules.containsKey(key)) {
+            bookingLocations.put(bookingId, key);
+        }
+    }
+
+    /**
+     * Record a booking that no longer occupies its slot (REJECTED or CANCELLED)
+     */
+    public void bookingInactive(int bookingId) {
+        writeSequence.incrementAndGet();
+        removeFromCurrentDay(bookingId);
+    }
+
+    /**
+     * Drop a single cabin-day, e.g. when a write could not be applied precisely
+     */
+    public void invalidate(int cabinId, Date date) {
+        writeSequence.incrementAndGet();
+        schedules.remove(new Key(cabinId, date));
+    }
+
+    public void clear() {
+        writeSequence.incrementAndGet();
+        schedules.clear();
+        bookingLocations.clear();
+        log.debug("🧹 Availability index cleared");
+    }
+
+    private void removeFromCurrentDay(int bookingId) {
+        Key previous = bookingLocations.remove(bookingId);
+        if (previous != null) {
+            schedules.computeIfPresent(previous, (k, schedule) -> schedule.without(bookingId));
+        }
+    }
+
+    private void evict() {
+        long now = System.currentTimeMillis();
+        long today = new Date(now).toLocalDate().toEpochDay();
+
+        // Expired and past days go first; if that is not enough, start over
+        schedules.entrySet().removeIf(e ->
+                now - e.getValue().loadedAt > ttlMs || e.getKey().epochDay < today);
+        if (schedules.size() >= maxEntries) {
+            schedules.clear();
+        }
+        bookingLocations.values().removeIf(key -> !schedules.containsKey(key));
+        log.debug("🧹 Availability index evicted down to {} cabin-days", schedules.size());
+    }
+
+    // ================================
+    // STATISTICS
+    // ================================
+
+    public int size() {
+        return schedules.size();
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public String getStatsSummary() {
+        return "cabinDays=" + schedules.size() + ", trackedBookings=" + bookingLocations.size() +
+                ", hits=" + hits.get() + ", misses=" + misses.get();
+    }
+
+    // ================================
+    // DATA STRUCTURES
+    // ================================
+
+    private static final class Key {
+        private final int cabinId;
+        private final long epochDay;
+
+        Key(int cabinId, Date date) {
+            this.cabinId = cabinId;
+            this.epochDay = date.toLocalDate().toEpochDay();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return cabinId == other.cabinId && epochDay == other.epochDay;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(cabinId, epochDay);
+        }
+    }
+
+    /**
+     * Immutable set of booked intervals for one cabin-day, sorted by start minute.
+     * maxEndPrefix[i] is the latest end among intervals 0..i, which makes
+     * "does anything overlap [start, end)" a single binary search even when
+     * legacy data contains overlapping bookings. occupancyMask is the same day
+     * folded onto the 36 business-hour granules of SlotGrid.
+     */
+    public static final class DaySchedule {
+        private final int[] bookingIds;
+        private final int[] starts;
+        private final int[] ends;
+        private final int[] maxEndPrefix;
+        private final long occupancyMask;
+        private final long loadedAt;
+
+        private DaySchedule(int[] bookingIds, int[] starts, int[] ends, long loadedAt) {
+            this.bookingIds = bookingIds;
+            this.starts = starts;
+            this.ends = ends;
+            this.loadedAt = loadedAt;
+            this.maxEndPrefix = new int[ends.length];
+            int max = Integer.MIN_VALUE;
+            long mask = 0L;
+            for (int i = 0; i < ends.length; i++) {
+                max = Math.max(max, ends[i]);
+                maxEndPrefix[i] = max;
+                mask |= SlotGrid.maskFor(starts[i], ends[i]);
+            }
+            this.occupancyMask = mask;
+        }
+
+        static DaySchedule build(List<Integer> bookingIds, List<Integer> starts, List<Integer> ends) {
+            int n = bookingIds.size();
+            Integer[] order = new Integer[n];
+            for (int i = 0; i < n; i++) order[i] = i;
+            Arrays.sort(order, (a, b) -> Integer.compare(starts.get(a), starts.get(b)));
+
+            int[] ids = new int[n];
+            int[] s = new int[n];
+            int[] e = new int[n];
+            for (int i = 0; i < n; i++) {
+                ids[i] = bookingIds.get(order[i]);
+                s[i] = starts.get(order[i]);
+                e[i] = ends.get(order[i]);
+            }
+            return new DaySchedule(ids, s, e, System.currentTimeMillis());
+        }
+
+        /**
+         * Check whether any booking overlaps [startMinute, endMinute) - O(log n)
+         */
+        public boolean overlaps(int startMinute, int endMinute) {
+            int last = lastStartingBefore(endMinute);
+            return last >= 0 && maxEndPrefix[last] > startMinute;
+        }
+
+        /**
+         * Booking ids overlapping [startMinute, endMinute)
+         */
+        public List<Integer> conflictingBookingIds(int startMinute, int endMinute) {
+            List<Integer> ids = new ArrayList<>();
+            int last = lastStartingBefore(endMinute);
+            for (int i = 0; i <= last; i++) {
+                if (ends[i] > startMinute) {
+                    ids.add(bookingIds[i]);
+                }
+            }
+            return ids;
+        }
+
+        /**
+         * Booked 15 minute granules between 09:00 and 18:00, see SlotGrid
+         */
+        public long getOccupancyMask() {
+            return occupancyMask;
+        }
+
+        public int size() {
+            return bookingIds.length;
+        }
+
+        // Index of the last interval whose start is < minute, or -1
+        private int lastStartingBefore(int minute) {
+            int lo = 0;
+            int hi = starts.length - 1;
+            int result = -1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                if (starts[mid] < minute) {
+                    result = mid;
+                    lo = mid + 1;
+                } else {
+                    hi = mid - 1;
+                }
+            }
+            return result;
+        }
+
+        DaySchedule with(int bookingId, int startMinute, int endMinute) {
+            DaySchedule base = without(bookingId);
+            int n = base.bookingIds.length;
+            int pos = base.lastStartingBefore(startMinute + 1) + 1;
+
+            int[] ids = new int[n + 1];
+            int[] s = new int[n + 1];
+            int[] e = new int[n + 1];
+            System.arraycopy(base.bookingIds, 0, ids, 0, pos);
+            System.arraycopy(base.starts, 0, s, 0, pos);
+            System.arraycopy(base.ends, 0, e, 0, pos);
+            ids[pos] = bookingId;
+            s[pos] = startMinute;
+            e[pos] = endMinute;
+            System.arraycopy(base.bookingIds, pos, ids, pos + 1, n - pos);
+            System.arraycopy(base.starts, pos, s, pos + 1, n - pos);
+            System.arraycopy(base.ends, pos, e, pos + 1, n - pos);
+            return new DaySchedule(ids, s, e, loadedAt);
+        }
+
+        DaySchedule without(int bookingId) {
+            int index = -1;
+            for (int i = 0; i < bookingIds.length; i++) {
+                if (bookingIds[i] == bookingId) {
+                    index = i;
+                    break;
+                }
+            }
+            if (index < 0) return this;
+
+            int n = bookingIds.length - 1;
+            int[] ids = new int[n];
+            int[] s = new int[n];
+            int[] e = new int[n];
+            System.arraycopy(bookingIds, 0, ids, 0, index);
+            System.arraycopy(starts, 0, s, 0, index);
+            System.arraycopy(ends, 0, e, 0, index);
+            System.arraycopy(bookingIds, index + 1, ids, index, n - index);
+            System.arraycopy(starts, index + 1, s, index, n - index);
+            System.arraycopy(ends, index + 1, e, index, n - index);
+            return new DaySchedule(ids, s, e, loadedAt);
+        }
+    }
+}
@@ -0,0 +1,527 @@
+package com.yash.cabinbooking.cache;
+
+import com.yash.cabinbooking.dao.AnalyticsDao;
+import com.yash.cabinbooking.daoimpl.AnalyticsDaoImpl;
+import com.yash.cabinbooking.model.Booking;
+import com.yash.cabinbooking.logging.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Live booking counters for the admin dashboard and analytics pages.
+ *
+ * BookingServiceImpl reports every lifecycle change (create, approve, reject,
+ * cancel, reallocate) and the counters are bumped with LongAdders, so reads are
+ * O(1) and never touch the database. On startup the last snapshot file is loaded
+ * for a warm start, then the counters are rebuilt from the database in the
+ * background. The rebuild repeats periodically to correct any drift from writes
+ * that bypass the service layer. Events that arrive while a rebuild runs are
+ * applied to the new counters as well, so the swap does not lose them; an event
+ * committed before one of the rebuild's queries reads the table is counted twice
+ * until the next rebuild (see rebuild()).
+ *
+ * The cabin and duration of each PENDING booking are kept too, so an approval
+ * can move its minutes into the cabin's total without reading the booking back.
+ *
+ * Tunable with system properties:
+ *   cabinbooking.metrics.snapshotFile         (default ${java.io.tmpdir}/cabinest-booking-metrics.properties)
+ *   cabinbooking.metrics.snapshotIntervalMs   (default 60000)   - how often the snapshot file is written
+ *   cabinbooking.metrics.reconcileIntervalMs  (default 900000)  - how often counters are rebuilt from the database
+ *   cabinbooking.metrics.snapshotMaxAgeMs     (default 86400000) - older snapshot files are ignored
+ *   cabinbooking.metrics.retentionDays        (default 90)      - per-day counters kept for past days
+ */
+public class BookingMetricsAggregator {
+
+    private static final Logger log = Logger.getLogger(BookingMetricsAggregator.class);
+
+    private static final BookingMetricsAggregator INSTANCE = new BookingMetricsAggregator();
+
+    private static final ZoneId IST = ZoneId.of("Asia/Kolkata");
+
+    private final Path snapshotFile = Paths.get(System.getProperty("cabinbooking.metrics.snapshotFile",
+            Paths.get(System.getProperty("java.io.tmpdir"), "cabinest-booking-metrics.properties").toString()));
+    private final long snapshotIntervalMs = Long.getLong("cabinbooking.metrics.snapshotIntervalMs", 60000L);
+    private final long reconcileIntervalMs = Long.getLong("cabinbooking.metrics.reconcileIntervalMs", 900000L);
+    private final long snapshotMaxAgeMs = Long.getLong("cabinbooking.metrics.snapshotMaxAgeMs", 86400000L);
+    private final int retentionDays = Integer.getInteger("cabinbooking.metrics.retentionDays", 90);
+
+    // ✅ Swapped as a whole after a rebuild, so readers never see a half-built set
+    private volatile Counters counters = new Counters();
+    // Counters being rebuilt; every event is applied to them too (see record())
+    private volatile Counters rebuildTarget = null;
+    private volatile boolean ready = false;
+    private volatile long lastRebuildAt = 0L;
+
+    private final AtomicBoolean rebuildRunning = new AtomicBoolean(false);
+    private ScheduledExecutorService scheduler;
+
+    private BookingMetricsAggregator() {
+    }
+
+    public static BookingMetricsAggregator getInstance() {
+        return INSTANCE;
+    }
+
+    // ================================
+    // LIFECYCLE
+    // ================================
+
+    /**
+     * Load the last snapshot (if any) and start the background rebuild/snapshot tasks
+     */
+    public synchronized void start() {
+        if (scheduler != null) return;
+
+        loadSnapshot();
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "cabinbooking-metrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::rebuildQuietly, 0, reconcileIntervalMs, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::writeSnapshotQuietly, snapshotIntervalMs, snapshotIntervalMs,
+                TimeUnit.MILLISECONDS);
+
+        log.debug("📈 Booking metrics started (snapshot: {})", snapshotFile);
+    }
+
+    /**
+     * Stop the background tasks and write a final snapshot for the next start
+     */
+    public synchronized void shutdown() {
+        if (scheduler == null) return;
+
+        scheduler.shutdownNow();
+        scheduler = null;
+        if (ready) {
+            writeSnapshotQuietly();
+        }
+        log.debug("📈 Booking metrics stopped - {}", getStatsSummary());
+    }
+
+    /**
+     * True once the counters came from a snapshot or a database rebuild
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    // ================================
+    // LIFECYCLE EVENTS
+    // ================================
+
+    public void onBookingCreated(Booking booking) {
+        record(c -> {
+            c.apply(booking.getStatus(), booking.getPriorityLevel(), booking.getBookingDate(),
+                    booking.getCabinId(), booking.getDurationMinutes(), 1);
+            c.trackPending(booking);
+            if (booking.getStatus() == Booking.Status.APPROVED) {
+                c.approvedToday();
+            }
+        });
+    }
+
+    /**
+     * A PENDING booking was approved. Its cabin and minutes come from the pending
+     * bookings kept here; a booking created behind the service's back is not known,
+     * and then the counters are rebuilt from the database.
+     */
+    public void onBookingApproved(int bookingId) {
+        int[] pending = counters.pendingBookings.get(bookingId);
+        record(c -> {
+            c.pendingBookings.remove(bookingId);
+            c.apply(Booking.Status.PENDING, null, null, 0, 0, -1);
+            if (pending != null) {
+                c.apply(Booking.Status.APPROVED, null, null, pending[0], pending[1], 1);
+            } else {
+                c.apply(Booking.Status.APPROVED, null, null, 0, 0, 1);
+            }
+            c.approvedToday();
+        });
+        if (pending == null) {
+            log.debug("📈 Approved booking {} was not tracked as pending, recounting", bookingId);
+            requestRebuild();
+        }
+    }
+
+    /**
+     * A PENDING booking was rejected (rejection never frees approved minutes)
+     */
+    public void onBookingRejected(int bookingId) {
+        record(c -> {
+            c.pendingBookings.remove(bookingId);
+            c.apply(Booking.Status.PENDING, null, null, 0, 0, -1);
+            c.apply(Booking.Status.REJECTED, null, null, 0, 0, 1);
+        });
+    }
+
+    /**
+     * A booking was cancelled; the argument holds its state before the cancel
+     */
+    public void onBookingCancelled(Booking before) {
+        if (before.getStatus() == Booking.Status.CANCELLED) return;
+        record(c -> {
+            c.pendingBookings.remove(before.getBookingId());
+            c.apply(before.getStatus(), null, null, before.getCabinId(), before.getDurationMinutes(), -1);
+            c.apply(Booking.Status.CANCELLED, null, null, before.getCabinId(), 0, 1);
+        });
+    }
+
+    /**
+     * A booking was moved to another cabin; the booking holds its new state
+     */
+    public void onBookingReallocated(Booking booking, int previousCabinId, Booking.Status previousStatus) {
+        record(c -> {
+            c.pendingBookings.remove(booking.getBookingId());
+            c.apply(previousStatus, null, null, previousCabinId, booking.getDurationMinutes(), -1);
+            c.apply(booking.getStatus(), null, null, booking.getCabinId(), booking.getDurationMinutes(), 1);
+            c.trackPending(booking);
+            if (previousStatus != Booking.Status.APPROVED && booking.getStatus() == Booking.Status.APPROVED) {
+                c.approvedToday();
+            }
+        });
+    }
+
+    /**
+     * Generic edit: remove the old state's contribution and add the new one
+     */
+    public void onBookingUpdated(Booking before, Booking after) {
+        record(c -> {
+            c.pendingBookings.remove(before.getBookingId());
+            c.apply(before.getStatus(), before.getPriorityLevel(), before.getBookingDate(),
+                    before.getCabinId(), before.getDurationMinutes(), -1);
+            c.apply(after.getStatus(), after.getPriorityLevel(), after.getBookingDate(),
+                    after.getCabinId(), after.getDurationMinutes(), 1);
+            c.trackPending(after);
+            if (before.getStatus() != Booking.Status.APPROVED && after.getStatus() == Booking.Status.APPROVED) {
+                c.approvedToday();
+            }
+        });
+    }
+
+    /**
+     * Bookings changed in a way the caller cannot describe precisely (e.g. an
+     * approval of a booking that was not tracked) - rebuild from the database in the background
+     */
+    public void requestRebuild() {
+        ScheduledExecutorService current = scheduler;
+        if (current != null) {
+            current.execute(this::rebuildQuietly);
+        } else {
+            ready = false;
+        }
+    }
+
+    // ================================
+    // O(1) READS
+    // ================================
+
+    public long getStatusCount(Booking.Status status) {
+        return counters.statusCounts.get(status).sum();
+    }
+
+    public long getPriorityCount(Booking.PriorityLevel priorityLevel) {
+        return counters.priorityCounts.get(priorityLevel).sum();
+    }
+
+    public long getTotalBookings() {
+        long total = 0;
+        for (LongAdder adder : counters.statusCounts.values()) {
+            total += adder.sum();
+        }
+        return total;
+    }
+
+    public long getBookingsOn(Date date) {
+        LongAdder adder = counters.bookingsByDay.get(date.toLocalDate().toEpochDay());
+        return adder == null ? 0 : adder.sum();
+    }
+
+    public long getApprovalsOn(Date date) {
+        LongAdder adder = counters.approvalsByDay.get(date.toLocalDate().toEpochDay());
+        return adder == null ? 0 : adder.sum();
+    }
+
+    public long getApprovedMinutes(int cabinId) {
+        LongAdder adder = counters.approvedMinutesByCabin.get(cabinId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    /**
+     * Status name -> count, in the shape AnalyticsDao returns
+     */
+    public Map<String, Integer> getStatusCounts() {
+        Map<String, Integer> result = new LinkedHashMap<>();
+        counters.statusCounts.forEach((status, adder) -> result.put(status.name(), (int) adder.sum()));
+        return result;
+    }
+
+    /**
+     * Priority name -> count, in the shape AnalyticsDao returns
+     */
+    public Map<String, Integer> getPriorityCounts() {
+        Map<String, Integer> result = new LinkedHashMap<>();
+        counters.priorityCounts.forEach((priority, adder) -> result.put(priority.name(), (int) adder.sum()));
+        return result;
+    }
+
+    public String getStatsSummary() {
+        return "ready=" + ready + ", bookings=" + getTotalBookings() +
+                ", pending=" + getStatusCount(Booking.Status.PENDING) +
+                ", trackedDays=" + counters.bookingsByDay.size() +
+                ", cabins=" + counters.approvedMinutesByCabin.size() +
+                ", trackedPending=" + counters.pendingBookings.size() +
+                ", lastRebuildAt=" + lastRebuildAt;
+    }
+
+    // ================================
+    // REBUILD FROM DATABASE
+    // ================================
+
+    /**
+     * Recount everything from the database and swap the counters in
+     * @return true if the rebuild completed
+     */
+    public boolean rebuild() {
+        if (!rebuildRunning.compareAndSet(false, true)) {
+            return false;
+        }
+
+        try {
+            long started = System.currentTimeMillis();
+            AnalyticsDao analyticsDao = new AnalyticsDaoImpl();
+            Date fromDate = Date.valueOf(today().minusDays(retentionDays));
+
+            // From here on every event is applied to fresh as well. An event whose change commits before
+            // one of the queries below reads the bookings table is then counted twice in the counters that
+            // query fills - by the query and by the event. Any event recorded before the last query can be
+            // affected, so the exposure is the whole rebuild, and the extra count stays until the next
+            // rebuild. Leaving fresh alone instead would drop every event of the rebuild from the new counters.
+            Counters fresh = new Counters();
+            rebuildTarget = fresh;
+
+            for (Map.Entry<String, Integer> entry : analyticsDao.getBookingCountsByStatus().entrySet()) {
+                Booking.Status status = Booking.Status.fromString(entry.getKey());
+                fresh.statusCounts.get(status).add(entry.getValue());
+            }
+            for (Map.Entry<String, Integer> entry : analyticsDao.getBookingCountsByPriority().entrySet()) {
+                Booking.PriorityLevel priority = Booking.PriorityLevel.fromString(entry.getKey());
+                fresh.priorityCounts.get(priority).add(entry.getValue());
+            }
+            analyticsDao.getBookingCountsByDate(fromDate).forEach((date, count) ->
+                    fresh.day(fresh.bookingsByDay, date.toLocalDate().toEpochDay()).add(count));
+            analyticsDao.getApprovalCountsByDate(fromDate).forEach((date, count) ->
+                    fresh.day(fresh.approvalsByDay, date.toLocalDate().toEpochDay()).add(count));
+            analyticsDao.getApprovedMinutesByCabin().forEach((cabinId, minutes) ->
+                    fresh.approvedMinutesByCabin.computeIfAbsent(cabinId, k -> new LongAdder()).add(minutes));
+            analyticsDao.getPendingBookingMinutes().forEach(fresh.pendingBookings::putIfAbsent);
+
+            counters = fresh;
+            ready = true;
+            lastRebuildAt = System.currentTimeMillis();
+            log.debug("📈 Booking metrics rebuilt in {} ms - {}", (lastRebuildAt - started), getStatsSummary());
+            return true;
+
+        } finally {
+            rebuildTarget = null;
+            rebuildRunning.set(false);
+        }
+    }
+
+    /**
+     * Apply an event to the live counters and to a rebuild in progress.
+     * rebuildTarget is read before counters: rebuild() swaps counters first and
+     * clears rebuildTarget after, so an event sees either both sets or only the new one.
+     */
+    private void record(Consumer<Counters> event) {
+        Counters target = rebuildTarget;
+        Counters live = counters;
+        event.accept(live);
+        if (target != null && target != live) {
+            event.accept(target);
+        }
+    }
+
+    private void rebuildQuietly() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("❌ Booking metrics rebuild failed: {}", e.getMessage(), e);
+        }
+    }
+
+    // ================================
+    // SNAPSHOT FILE
+    // ================================
+
+    /**
+     * Write the counters to the snapshot file (temp file + atomic rename)
+     */
+    public void writeSnapshot() throws IOException {
+        Counters c = counters;
+        long oldestDay = today().minusDays(retentionDays).toEpochDay();
+        c.bookingsByDay.keySet().removeIf(day -> day < oldestDay);
+        c.approvalsByDay.keySet().removeIf(day -> day < oldestDay);
+
+        Properties props = new Properties();
+        props.setProperty("savedAt", String.valueOf(System.currentTimeMillis()));
+        c.statusCounts.forEach((status, adder) -> props.setProperty("status." + status.name(), String.valueOf(adder.sum())));
+        c.priorityCounts.forEach((priority, adder) -> props.setProperty("priority." + priority.name(), String.valueOf(adder.sum())));
+        c.bookingsByDay.forEach((day, adder) -> props.setProperty("bookings." + LocalDate.ofEpochDay(day), String.valueOf(adder.sum())));
+        c.approvalsByDay.forEach((day, adder) -> props.setProperty("approvals." + LocalDate.ofEpochDay(day), String.valueOf(adder.sum())));
+        c.approvedMinutesByCabin.forEach((cabinId, adder) -> props.setProperty("cabinMinutes." + cabinId, String.valueOf(adder.sum())));
+
+        Path parent = snapshotFile.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = Paths.get(snapshotFile.toString() + ".tmp");
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            props.store(out, "Cabinest booking metrics snapshot");
+        }
+        Files.move(temp, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void writeSnapshotQuietly() {
+        try {
+            writeSnapshot();
+        } catch (Exception e) {
+            log.error("❌ Could not write booking metrics snapshot: {}", e.getMessage());
+        }
+    }
+
+    private void loadSnapshot() {
+        if (!Files.isReadable(snapshotFile)) {
+            log.debug("📈 No booking metrics snapshot found, waiting for database rebuild");
+            return;
+        }
+
+        Properties props = new Properties();
+        try (InputStream in = Files.newInputStream(snapshotFile)) {
+            props.load(in);
+
+            long savedAt = Long.parseLong(props.getProperty("savedAt", "0"));
+            if (System.currentTimeMillis() - savedAt > snapshotMaxAgeMs) {
+                log.debug("📈 Booking metrics snapshot is too old, ignoring it");
+                return;
+            }
+
+            Counters loaded = new Counters();
+            for (String key : props.stringPropertyNames()) {
+                int dot = key.indexOf('.');
+                if (dot < 0) continue;
+
+                String group = key.substring(0, dot);
+                String name = key.substring(dot + 1);
+                long value = Long.parseLong(props.getProperty(key));
+
+                switch (group) {
+                    case "status":
+                        loaded.statusCounts.get(Booking.Status.valueOf(name)).add(value);
+                        break;
+                    case "priority":
+                        loaded.priorityCounts.get(Booking.PriorityLevel.valueOf(name)).add(value);
+                        break;
+                    case "bookings":
+                        loaded.day(loaded.bookingsByDay, LocalDate.parse(name).toEpochDay()).add(value);
+                        break;
+                    case "approvals":
+                        loaded.day(loaded.approvalsByDay, LocalDate.parse(name).toEpochDay()).add(value);
+                        break;
+                    case "cabinMinutes":
+                        loaded.approvedMinutesByCabin.computeIfAbsent(Integer.parseInt(name), k -> new LongAdder()).add(value);
+                        break;
+                    default:
+                        break;
+                }
+            }
+
+            counters = loaded;
+            ready = true;
+            log.debug("📈 Booking metrics warm-started from snapshot - {}", getStatsSummary());
+
+        } catch (Exception e) {
+            log.error("❌ Could not read booking metrics snapshot: {}", e.getMessage());
+        }
+    }
+
+    private static LocalDate today() {
+        return LocalDate.now(IST);
+    }
+
+    // ================================
+    // DATA STRUCTURES
+    // ================================
+
+    private static final class Counters {
+        private final Map<Booking.Status, LongAdder> statusCounts = new EnumMap<>(Booking.Status.class);
+        private final Map<Booking.PriorityLevel, LongAdder> priorityCounts = new EnumMap<>(Booking.PriorityLevel.class);
+        private final Map<Long, LongAdder> bookingsByDay = new ConcurrentHashMap<>();
+        private final Map<Long, LongAdder> approvalsByDay = new ConcurrentHashMap<>();
+        private final Map<Integer, LongAdder> approvedMinutesByCabin = new ConcurrentHashMap<>();
+        // bookingId -> {cabinId, minutes} of PENDING bookings
+        private final Map<Integer, int[]> pendingBookings = new ConcurrentHashMap<>();
+
+        Counters() {
+            // EnumMaps are filled once and only read afterwards, so they are safe to share
+            for (Booking.Status status : Booking.Status.values()) {
+                statusCounts.put(status, new LongAdder());
+            }
+            for (Booking.PriorityLevel priority : Booking.PriorityLevel.values()) {
+                priorityCounts.put(priority, new LongAdder());
+            }
+        }
+
+        LongAdder day(Map<Long, LongAdder> byDay, long epochDay) {
+            return byDay.computeIfAbsent(epochDay, k -> new LongAdder());
+        }
+
+        void trackPending(Booking booking) {
+            if (booking.getStatus() == Booking.Status.PENDING && booking.getBookingId() > 0) {
+                pendingBookings.put(booking.getBookingId(), new int[]{booking.getCabinId(), booking.getDurationMinutes()});
+            }
+        }
+
+        void approvedToday() {
+            day(approvalsByDay, today().toEpochDay()).increment();
+        }
+
+        // Add (sign = 1) or remove (sign = -1) one booking; null fields are left alone
+        void apply(Booking.Status status, Booking.PriorityLevel priority, Date date,
+                   int cabinId, int minutes, int sign) {
+            if (status != null) {
+                statusCounts.get(status).add(sign);
+            }
+            if (priority != null) {
+                priorityCounts.get(priority).add(sign);
+            }
+            if (date != null) {
+                day(bookingsByDay, date.toLocalDate().toEpochDay()).add(sign);
+            }
+            if (status == Booking.Status.APPROVED && minutes > 0) {
+                approvedMinutesByCabin.computeIfAbsent(cabinId, k -> new LongAdder()).add((long) sign * minutes);
+            }
+        }
+    }
+}
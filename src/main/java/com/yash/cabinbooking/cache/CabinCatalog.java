@@ -0,0 +1,240 @@
+package com.yash.cabinbooking.cache;
+
+import com.yash.cabinbooking.model.Cabin;
+import com.yash.cabinbooking.logging.Logger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory copy of the cabins table.
+ *
+ * Cabins change rarely, so CabinDaoImpl loads the whole table once into an
+ * immutable Snapshot indexed by id, status, VIP flag, capacity and location.
+ * Every cabin write replaces the snapshot reference (copy-on-write): readers
+ * never lock and never see a half-built index. Lookups return copies, so a
+ * caller editing a Cabin cannot change the cached one.
+ *
+ * Cabin is a mutable bean and callers do edit what they get back (the cabin
+ * edit form loads a cabin, sets the new values on it and passes it to
+ * updateCabin), so handing out the cached objects is not an option without
+ * changing the model. A copy is nine field assignments per cabin; the table
+ * holds tens of rows, so copying a full list costs microseconds against the
+ * millisecond query it replaces.
+ *
+ * Tunable with system properties:
+ *   cabinbooking.cabins.ttlMs (default 600000) - reload after this long, in case
+ *                                                the table was edited outside the app
+ */
+public class CabinCatalog {
+
+    private static final Logger log = Logger.getLogger(CabinCatalog.class);
+
+    private static final CabinCatalog INSTANCE = new CabinCatalog();
+
+    // Same order as "ORDER BY name" in MySQL's case-insensitive collation
+    private static final Comparator<Cabin> BY_NAME =
+            Comparator.comparing(Cabin::getName, Comparator.nullsFirst(String.CASE_INSENSITIVE_ORDER));
+
+    private final long ttlMs = Long.getLong("cabinbooking.cabins.ttlMs", 600000L);
+
+    private volatile Snapshot snapshot;
+
+    // ✅ Bumped on every invalidation so a load that raced with a write is never installed
+    private final AtomicLong writeSequence = new AtomicLong();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    private CabinCatalog() {
+    }
+
+    public static CabinCatalog getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Current snapshot
+     * @return Snapshot or null if not loaded (or expired)
+     */
+    public Snapshot get() {
+        Snapshot current = snapshot;
+        if (current != null && System.currentTimeMillis() - current.loadedAt > ttlMs) {
+            current = null;
+        }
+        if (current == null) {
+            misses.incrementAndGet();
+        } else {
+            hits.incrementAndGet();
+        }
+        return current;
+    }
+
+    /**
+     * Capture the write sequence before reading the cabins table
+     * @return Token to pass to install()
+     */
+    public long beginLoad() {
+        return writeSequence.get();
+    }
+
+    /**
+     * Build and publish a snapshot of the whole cabins table. If a cabin was
+     * written since beginLoad() the snapshot is returned but not kept.
+     * @param loadToken Value returned by beginLoad() before the query ran
+     * @param cabins Every row of the cabins table
+     * @return Snapshot built from the given cabins
+     */
+    public Snapshot install(long loadToken, List<Cabin> cabins) {
+        Snapshot built = new Snapshot(cabins);
+        synchronized (this) {
+            if (writeSequence.get() == loadToken) {
+                snapshot = built;
+            }
+        }
+        log.debug("🏠 Cabin catalog loaded: {} cabins", cabins.size());
+        return built;
+    }
+
+    /**
+     * Drop the snapshot after a cabin was created, updated or deleted
+     */
+    public void invalidate() {
+        synchronized (this) {
+            writeSequence.incrementAndGet();
+            snapshot = null;
+        }
+        log.debug("🧹 Cabin catalog invalidated");
+    }
+
+    public String getStatsSummary() {
+        Snapshot current = snapshot;
+        return "cabins=" + (current == null ? 0 : current.all.size()) +
+                ", hits=" + hits.get() + ", misses=" + misses.get();
+    }
+
+    private static List<Cabin> copies(List<Cabin> cabins) {
+        List<Cabin> result = new ArrayList<>(cabins.size());
+        for (Cabin cabin : cabins) {
+            result.add(new Cabin(cabin));
+        }
+        return result;
+    }
+
+    /**
+     * Immutable, fully indexed view of the cabins table
+     */
+    public static final class Snapshot {
+        private final List<Cabin> all;                             // by name
+        private final Map<Integer, Cabin> byId;
+        private final Map<Cabin.Status, List<Cabin>> byStatus;     // by name
+        private final List<Cabin> activeVipFirst;                  // VIP-only first, then by name
+        private final List<Cabin> activeNonVip;                    // by name
+        private final List<Cabin> activeVipOnly;                   // by name
+        private final NavigableMap<Integer, List<Cabin>> activeByCapacity;  // each bucket by name
+        private final Map<String, List<Cabin>> activeByLocation;   // lower-cased location -> cabins by name
+        private final long loadedAt = System.currentTimeMillis();
+
+        private Snapshot(List<Cabin> cabins) {
+            List<Cabin> sorted = new ArrayList<>(cabins);
+            sorted.sort(BY_NAME);
+
+            Map<Integer, Cabin> ids = new HashMap<>();
+            Map<Cabin.Status, List<Cabin>> statuses = new EnumMap<>(Cabin.Status.class);
+            List<Cabin> vipOnly = new ArrayList<>();
+            List<Cabin> nonVip = new ArrayList<>();
+            NavigableMap<Integer, List<Cabin>> capacities = new TreeMap<>();
+            Map<String, List<Cabin>> locations = new LinkedHashMap<>();
+
+            for (Cabin cabin : sorted) {
+                ids.put(cabin.getCabinId(), cabin);
+                statuses.computeIfAbsent(cabin.getStatus(), s -> new ArrayList<>()).add(cabin);
+
+                if (cabin.getStatus() != Cabin.Status.ACTIVE) continue;
+
+                (cabin.isVipOnly() ? vipOnly : nonVip).add(cabin);
+                capacities.computeIfAbsent(cabin.getCapacity(), c -> new ArrayList<>()).add(cabin);
+                if (cabin.getLocation() != null) {
+                    locations.computeIfAbsent(cabin.getLocation().toLowerCase(Locale.ROOT), l -> new ArrayList<>()).add(cabin);
+                }
+            }
+
+            List<Cabin> vipFirst = new ArrayList<>(vipOnly);
+            vipFirst.addAll(nonVip);
+
+            this.all = Collections.unmodifiableList(sorted);
+            this.byId = Collections.unmodifiableMap(ids);
+            this.byStatus = Collections.unmodifiableMap(statuses);
+            this.activeVipFirst = Collections.unmodifiableList(vipFirst);
+            this.activeNonVip = Collections.unmodifiableList(nonVip);
+            this.activeVipOnly = Collections.unmodifiableList(vipOnly);
+            this.activeByCapacity = Collections.unmodifiableNavigableMap(capacities);
+            this.activeByLocation = Collections.unmodifiableMap(locations);
+        }
+
+        public Cabin getById(int cabinId) {
+            Cabin cabin = byId.get(cabinId);
+            return cabin == null ? null : new Cabin(cabin);
+        }
+
+        public List<Cabin> getAll() {
+            return copies(all);
+        }
+
+        public List<Cabin> getByStatus(Cabin.Status status) {
+            return copies(byStatus.getOrDefault(status, Collections.emptyList()));
+        }
+
+        /**
+         * Active cabins a user may book: VIP/admin users see VIP-only cabins first
+         */
+        public List<Cabin> getAccessible(boolean includeVipOnly) {
+            return copies(includeVipOnly ? activeVipFirst : activeNonVip);
+        }
+
+        public List<Cabin> getActiveVipOnly() {
+            return copies(activeVipOnly);
+        }
+
+        /**
+         * Active cabins with minCapacity <= capacity <= maxCapacity, ordered by capacity then name
+         */
+        public List<Cabin> getActiveByCapacity(int minCapacity, int maxCapacity) {
+            List<Cabin> result = new ArrayList<>();
+            if (minCapacity > maxCapacity) return result;
+            for (List<Cabin> bucket : activeByCapacity.subMap(minCapacity, true, maxCapacity, true).values()) {
+                result.addAll(copies(bucket));
+            }
+            return result;
+        }
+
+        /**
+         * Active cabins whose location contains the text (case-insensitive), ordered by name
+         */
+        public List<Cabin> getActiveByLocation(String locationText) {
+            String needle = locationText.toLowerCase(Locale.ROOT);
+            List<Cabin> result = new ArrayList<>();
+            for (Map.Entry<String, List<Cabin>> entry : activeByLocation.entrySet()) {
+                if (entry.getKey().contains(needle)) {
+                    result.addAll(copies(entry.getValue()));
+                }
+            }
+            result.sort(BY_NAME);
+            return result;
+        }
+
+        public int size() {
+            return all.size();
+        }
+    }
+}
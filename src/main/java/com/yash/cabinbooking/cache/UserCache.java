@@ -0,0 +1,216 @@
+package com.yash.cabinbooking.cache;
+
+import com.yash.cabinbooking.model.User;
+import com.yash.cabinbooking.logging.Logger;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded LRU cache of users by id, with a secondary email index.
+ *
+ * Entries never hold the password hash - authentication and password changes
+ * go through UserDao's *ForAuth lookups, which always hit the database.
+ * UserDaoImpl invalidates a user on every write to the users table; the TTL
+ * covers edits made outside the app.
+ *
+ * Tunable with system properties:
+ *   cabinbooking.users.maxEntries (default 1000)  - least recently used users beyond this are evicted
+ *   cabinbooking.users.ttlMs      (default 60000) - reload a user after this long
+ */
+public class UserCache {
+
+    private static final Logger log = Logger.getLogger(UserCache.class);
+
+    private static final UserCache INSTANCE = new UserCache();
+
+    private final int maxEntries = Integer.getInteger("cabinbooking.users.maxEntries", 1000);
+    private final long ttlMs = Long.getLong("cabinbooking.users.ttlMs", 60000L);
+
+    // ✅ Access-ordered, so iteration starts at the least recently used entry; guarded by "this"
+    private final LinkedHashMap<Integer, Entry> byId = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, Integer> idsByEmail = new HashMap<>();
+
+    // Bumped on every invalidation so a load that raced with a write is never cached
+    private final AtomicLong writeSequence = new AtomicLong();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+
+    private UserCache() {
+    }
+
+    public static UserCache getInstance() {
+        return INSTANCE;
+    }
+
+    // ================================
+    // LOOKUP & LOADING
+    // ================================
+
+    /**
+     * Cached user by id
+     * @return Copy of the user (password is null) or null on a miss
+     */
+    public User getById(int userId) {
+        synchronized (this) {
+            Entry entry = byId.get(userId);
+            if (entry != null && isExpired(entry)) {
+                removeEntry(userId);
+                expirations.incrementAndGet();
+                entry = null;
+            }
+            return record(entry);
+        }
+    }
+
+    /**
+     * Cached user by email (case-insensitive)
+     * @return Copy of the user (password is null) or null on a miss
+     */
+    public User getByEmail(String email) {
+        synchronized (this) {
+            Integer userId = idsByEmail.get(normalize(email));
+            if (userId == null) {
+                return record(null);
+            }
+            return getById(userId);
+        }
+    }
+
+    /**
+     * Capture the write sequence before reading a user from the database
+     * @return Token to pass to put()
+     */
+    public long beginLoad() {
+        return writeSequence.get();
+    }
+
+    /**
+     * Cache a user read from the database, unless a user write happened since beginLoad()
+     * @param loadToken Value returned by beginLoad() before the query ran
+     * @param user User as loaded (the password is stripped from the cached copy)
+     */
+    public void put(long loadToken, User user) {
+        if (user == null) return;
+
+        User copy = new User(user);
+        copy.setPassword(null);
+
+        synchronized (this) {
+            if (writeSequence.get() != loadToken) return;
+
+            removeEntry(copy.getUserId());
+            byId.put(copy.getUserId(), new Entry(copy));
+            if (copy.getEmail() != null) {
+                idsByEmail.put(normalize(copy.getEmail()), copy.getUserId());
+            }
+
+            if (byId.size() > maxEntries) {
+                Iterator<Integer> eldest = byId.keySet().iterator();
+                Integer eldestId = eldest.next();
+                removeEntry(eldestId);
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    // ================================
+    // INVALIDATION
+    // ================================
+
+    public void invalidate(int userId) {
+        synchronized (this) {
+            writeSequence.incrementAndGet();
+            removeEntry(userId);
+        }
+    }
+
+    public void clear() {
+        synchronized (this) {
+            writeSequence.incrementAndGet();
+            byId.clear();
+            idsByEmail.clear();
+        }
+        log.debug("🧹 User cache cleared");
+    }
+
+    // ================================
+    // STATISTICS
+    // ================================
+
+    public synchronized int size() {
+        return byId.size();
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    public long getExpirationCount() {
+        return expirations.get();
+    }
+
+    public double getHitRate() {
+        long total = hits.get() + misses.get();
+        return total == 0 ? 0.0 : (hits.get() * 100.0) / total;
+    }
+
+    public String getStatsSummary() {
+        return "users=" + size() + "/" + maxEntries + ", hits=" + hits.get() + ", misses=" + misses.get() +
+                ", evictions=" + evictions.get() + ", expirations=" + expirations.get() +
+                ", hitRate=" + Math.round(getHitRate() * 100.0) / 100.0 + "%";
+    }
+
+    // ================================
+    // PRIVATE UTILITY METHODS
+    // ================================
+
+    private User record(Entry entry) {
+        if (entry == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return new User(entry.user);
+    }
+
+    private boolean isExpired(Entry entry) {
+        return System.currentTimeMillis() - entry.loadedAt > ttlMs;
+    }
+
+    // Caller holds the lock
+    private void removeEntry(int userId) {
+        Entry removed = byId.remove(userId);
+        if (removed != null && removed.user.getEmail() != null) {
+            idsByEmail.remove(normalize(removed.user.getEmail()), userId);
+        }
+    }
+
+    private static String normalize(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Entry {
+        private final User user;
+        private final long loadedAt = System.currentTimeMillis();
+
+        Entry(User user) {
+            this.user = user;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.yash.cabinbooking.cache;
+
+import com.yash.cabinbooking.model.User;
+import com.yash.cabinbooking.logging.Logger;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Status (ACTIVE / INACTIVE) and role of each signed-in user, for AuthFilter's
+ * per-request check that the session's user is still active and still has the
+ * role it logged in with.
+ *
+ * Two enums per user in a ConcurrentHashMap - a hit is one lock-free read.
+ * UserDaoImpl invalidates a user on every write to the users table, like
+ * UserCache; the short TTL covers edits made outside the app (e.g. an admin
+ * deactivating someone directly in MySQL).
+ *
+ * Tunable with system properties:
+ *   cabinbooking.auth.statusTtlMs (default 10000) - recheck a user's status after this long
+ */
+public class UserStatusCache {
+
+    private static final Logger log = Logger.getLogger(UserStatusCache.class);
+
+    private static final UserStatusCache INSTANCE = new UserStatusCache();
+
+    private final long ttlMs = Long.getLong("cabinbooking.auth.statusTtlMs", 10000L);
+
+    private final ConcurrentHashMap<Integer, Entry> byId = new ConcurrentHashMap<>();
+
+    // Bumped on every invalidation so a load that raced with a write is never cached
+    private final AtomicLong writeSequence = new AtomicLong();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    private UserStatusCache() {
+    }
+
+    public static UserStatusCache getInstance() {
+        return INSTANCE;
+    }
+
+    // ================================
+    // LOOKUP & LOADING
+    // ================================
+
+    /**
+     * Cached status of a user
+     * @return Fresh entry, or null when missing or older than the TTL
+     */
+    public Entry get(int userId) {
+        Entry entry = byId.get(userId);
+        if (entry == null || System.currentTimeMillis() - entry.loadedAt > ttlMs) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        return entry;
+    }
+
+    /**
+     * Call before reading the user from the database; pass the token to put()
+     */
+    public long beginLoad() {
+        return writeSequence.get();
+    }
+
+    /**
+     * Cache a user's status, unless the user was written since beginLoad()
+     * @param loadToken Value returned by beginLoad() before the database read
+     * @param user User as just read from the database (null is ignored)
+     * @return The new entry, also returned when it was not cached
+     */
+    public Entry put(long loadToken, User user) {
+        if (user == null) {
+            return null;
+        }
+        Entry entry = new Entry(user.getStatus(), user.getUserType(), System.currentTimeMillis());
+        if (writeSequence.get() == loadToken) {
+            byId.put(user.getUserId(), entry);
+        }
+        return entry;
+    }
+
+    // ================================
+    // INVALIDATION
+    // ================================
+
+    public void invalidate(int userId) {
+        writeSequence.incrementAndGet();
+        byId.remove(userId);
+    }
+
+    public void clear() {
+        writeSequence.incrementAndGet();
+        byId.clear();
+        log.debug("🧹 User status cache cleared");
+    }
+
+    // ================================
+    // STATISTICS
+    // ================================
+
+    public int size() {
+        return byId.size();
+    }
+
+    public String getStatsSummary() {
+        long h = hits.get();
+        long m = misses.get();
+        long total = h + m;
+        return String.format("entries=%d, hits=%d, misses=%d, hitRate=%.1f%%",
+                size(), h, m, total == 0 ? 0.0 : h * 100.0 / total);
+    }
+
+    public static final class Entry {
+        private final User.Status status;
+        private final User.UserType userType;
+        private final long loadedAt;
+
+        private Entry(User.Status status, User.UserType userType, long loadedAt) {
+            this.status = status;
+            this.userType = userType;
+            this.loadedAt = loadedAt;
+        }
+
+        public boolean isActive() {
+            return status == User.Status.ACTIVE;
+        }
+
+        public User.UserType getUserType() {
+            return userType;
+        }
+    }
+}
@@ -3,8 +3,17 @@ package com.yash.cabinbooking.controller;
 import com.yash.cabinbooking.model.User;
 import com.yash.cabinbooking.model.Cabin;
 import com.yash.cabinbooking.model.Booking;
+import com.yash.cabinbooking.model.BookingCursor;
+import com.yash.cabinbooking.model.BookingExportFilter;
+import com.yash.cabinbooking.model.BookingPage;
+import com.yash.cabinbooking.model.AnalyticsSnapshot;
+import com.yash.cabinbooking.model.ActionResponse;
 import com.yash.cabinbooking.service.*;
 import com.yash.cabinbooking.serviceimpl.*;
+import com.yash.cabinbooking.util.BookingExportWriter;
+import com.yash.cabinbooking.util.SessionUtil;
+import com.yash.cabinbooking.util.JsonResponseWriter;
+import com.yash.cabinbooking.logging.Logger;
 
 import javax.servlet.ServletException;
 import javax.servlet.annotation.WebServlet;
@@ -12,9 +21,17 @@ import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpSession;
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.sql.Date;
+import java.time.LocalDate;
 import java.util.*;
+import java.util.concurrent.Semaphore;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * ✅ COMPLETE ADMIN CONTROLLER - WITH ALL ENDPOINTS FIXED
@@ -32,14 +49,23 @@ import java.util.*;
         "/admin/bulk-reject",        // ✅ ADDED
         "/admin/force-vip-booking",  // ✅ ADDED
         "/admin/reallocate-cabin",   // ✅ ADDED
-        "/admin/assign-cabin"        // ✅ ADDED
+        "/admin/assign-cabin",       // ✅ ADDED
+        "/admin/export-bookings"
 })
 public class AdminController extends HttpServlet {
 
+    private static final Logger log = Logger.getLogger(AdminController.class);
+
     private BookingService bookingService;
     private UserService userService;
     private CompanyService companyService;
     private CabinService cabinService;
+    private AnalyticsService analyticsService;
+
+    private static final int EXPORT_BUFFER_BYTES = 64 * 1024;
+
+    // ✅ Each running export holds a pooled connection for the whole download, so only a few may run at once
+    private static final Semaphore EXPORT_SLOTS = new Semaphore(Integer.getInteger("cabinbooking.export.maxConcurrent", 2));
 
     @Override
     public void init() throws ServletException {
@@ -48,7 +74,8 @@ public class AdminController extends HttpServlet {
             this.userService = new UserServiceImpl();
             this.companyService = new CompanyServiceImpl();
             this.cabinService = new CabinServiceImpl();
-            System.out.println("🔧 AdminController initialized for Yash Technology - ALL ENDPOINTS LOADED");
+            this.analyticsService = new AnalyticsServiceImpl();
+            log.info("🔧 AdminController initialized for Yash Technology - ALL ENDPOINTS LOADED");
         } catch (Exception e) {
             throw new ServletException("AdminController initialization failed", e);
         }
@@ -64,14 +91,10 @@ public class AdminController extends HttpServlet {
             action = servletPath.substring(7);
         }
 
-        User currentUser = getCurrentUser(request);
-        if (currentUser == null || !currentUser.isAdmin()) {
-            System.out.println("🔒 Unauthorized admin access attempt");
-            response.sendRedirect(request.getContextPath() + "/login");
-            return;
-        }
+        // ✅ AuthFilter has already turned away anonymous and non-admin requests
+        User currentUser = SessionUtil.getCurrentUser(request);
 
-        System.out.println("🌐 Admin GET Request: " + action + " by user: " + currentUser.getName());
+        log.info("🌐 Admin GET Request: {} by user: {}", action, currentUser.getName());
 
         try {
             switch (action) {
@@ -97,13 +120,15 @@ public class AdminController extends HttpServlet {
                 case "demote-user":
                     handleDemoteUser(request, response, currentUser);
                     break;
+                case "export-bookings":
+                    handleExportBookings(request, response, currentUser);
+                    break;
                 default:
                     showAdminDashboard(request, response, currentUser);
                     break;
             }
         } catch (Exception e) {
-            System.err.println("❌ Error in admin GET: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error in admin GET: {}", e.getMessage(), e);
             handleError(request, response, "Error processing admin request", e);
         }
     }
@@ -113,13 +138,8 @@ public class AdminController extends HttpServlet {
     protected void doPost(HttpServletRequest request, HttpServletResponse response)
             throws ServletException, IOException {
 
-        User admin = getCurrentUser(request);
-        if (admin == null || !admin.isAdmin()) {
-            System.err.println("❌ Unauthorized admin POST request");
-            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-            response.getWriter().write("{\"success\": false, \"error\": \"Unauthorized access\"}");
-            return;
-        }
+        // ✅ AuthFilter has already turned away anonymous and non-admin requests
+        User admin = SessionUtil.getCurrentUser(request);
 
         // ✅ GET ACTION FROM URL PATH (NOT PARAMETER)
         String servletPath = request.getServletPath();
@@ -129,7 +149,7 @@ public class AdminController extends HttpServlet {
             action = servletPath.substring(7); // Remove "/admin/" prefix
         }
 
-        System.out.println("📝 Admin POST Request: " + action + " by user: " + admin.getName());
+        log.info("📝 Admin POST Request: {} by user: {}", action, admin.getName());
 
         try {
             switch (action) {
@@ -160,19 +180,18 @@ public class AdminController extends HttpServlet {
                     if (paramAction != null) {
                         handleParameterBasedAction(request, response, admin, paramAction);
                     } else {
-                        System.err.println("❌ Unknown admin action: " + action);
+                        log.error("❌ Unknown admin action: {}", action);
                         response.sendError(HttpServletResponse.SC_NOT_FOUND, "Action not found: " + action);
                     }
                     break;
             }
         } catch (Exception e) {
-            System.err.println("❌ Error in admin POST: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error in admin POST: {}", e.getMessage(), e);
 
             // ✅ PROPER ERROR RESPONSE
             if ("XMLHttpRequest".equals(request.getHeader("X-Requested-With"))) {
-                response.setContentType("application/json");
-                response.getWriter().write("{\"success\": false, \"error\": \"" + e.getMessage() + "\"}");
+                JsonResponseWriter.write(response, HttpServletResponse.SC_INTERNAL_SERVER_ERROR,
+                        ActionResponse.failed("Server error. Please try again."));
             } else {
                 request.getSession().setAttribute("errorMessage", "Error: " + e.getMessage());
                 response.sendRedirect(request.getContextPath() + "/admin/bookings");
@@ -183,16 +202,14 @@ public class AdminController extends HttpServlet {
     // ✅ APPROVE BOOKING HANDLER
     private void handleApproveBooking(HttpServletRequest request, HttpServletResponse response, User admin)
             throws ServletException, IOException {
-        System.out.println("✅ Processing booking approval by admin: " + admin.getName());
+        log.info("✅ Processing booking approval by admin: {}", admin.getName());
 
         try {
             String bookingIdStr = request.getParameter("bookingId");
 
             if (bookingIdStr == null || bookingIdStr.trim().isEmpty()) {
-                System.err.println("❌ No booking ID provided for approval");
-                response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-                response.setContentType("application/json");
-                response.getWriter().write("{\"success\": false, \"error\": \"Booking ID required\"}");
+                log.error("❌ No booking ID provided for approval");
+                JsonResponseWriter.write(response, HttpServletResponse.SC_BAD_REQUEST, ActionResponse.failed("Booking ID required"));
                 return;
             }
 
@@ -200,22 +217,20 @@ public class AdminController extends HttpServlet {
             boolean success = bookingService.approveBooking(bookingId, admin.getUserId());
 
             if (success) {
-                System.out.println("✅ Booking approved successfully: " + bookingId);
+                log.info("✅ Booking approved successfully: {}", bookingId);
 
                 // ✅ CHECK IF AJAX REQUEST
                 if ("XMLHttpRequest".equals(request.getHeader("X-Requested-With"))) {
-                    response.setContentType("application/json");
-                    response.getWriter().write("{\"success\": true, \"message\": \"Booking approved successfully!\"}");
+                    JsonResponseWriter.write(response, ActionResponse.ok("Booking approved successfully!"));
                 } else {
                     request.getSession().setAttribute("successMessage", "Booking #" + bookingId + " approved successfully!");
                     response.sendRedirect(request.getContextPath() + "/admin/bookings");
                 }
             } else {
-                System.err.println("❌ Booking approval failed: " + bookingId);
+                log.error("❌ Booking approval failed: {}", bookingId);
 
                 if ("XMLHttpRequest".equals(request.getHeader("X-Requested-With"))) {
-                    response.setContentType("application/json");
-                    response.getWriter().write("{\"success\": false, \"error\": \"Approval failed\"}");
+                    JsonResponseWriter.write(response, ActionResponse.failed("Approval failed"));
                 } else {
                     request.getSession().setAttribute("errorMessage", "Failed to approve booking #" + bookingId);
                     response.sendRedirect(request.getContextPath() + "/admin/bookings");
@@ -223,32 +238,27 @@ public class AdminController extends HttpServlet {
             }
 
         } catch (NumberFormatException e) {
-            System.err.println("❌ Invalid booking ID format: " + request.getParameter("bookingId"));
-            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-            response.setContentType("application/json");
-            response.getWriter().write("{\"success\": false, \"error\": \"Invalid booking ID\"}");
+            log.error("❌ Invalid booking ID format: {}", request.getParameter("bookingId"));
+            JsonResponseWriter.write(response, HttpServletResponse.SC_BAD_REQUEST, ActionResponse.failed("Invalid booking ID"));
         } catch (Exception e) {
-            System.err.println("❌ Error approving booking: " + e.getMessage());
-            response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
-            response.setContentType("application/json");
-            response.getWriter().write("{\"success\": false, \"error\": \"Server error: " + e.getMessage() + "\"}");
+            log.error("❌ Error approving booking: {}", e.getMessage());
+            JsonResponseWriter.write(response, HttpServletResponse.SC_INTERNAL_SERVER_ERROR,
+                    ActionResponse.failed("Server error. Please try again."));
         }
     }
 
     // ✅ REJECT BOOKING HANDLER - MAIN FIX!
     private void handleRejectBooking(HttpServletRequest request, HttpServletResponse response, User admin)
             throws ServletException, IOException {
-        System.out.println("❌ Processing booking rejection by admin: " + admin.getName());
+        log.info("❌ Processing booking rejection by admin: {}", admin.getName());
 
         try {
             String bookingIdStr = request.getParameter("bookingId");
             String reason = request.getParameter("reason");
 
             if (bookingIdStr == null || bookingIdStr.trim().isEmpty()) {
-                System.err.println("❌ No booking ID provided for rejection");
-                response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-                response.setContentType("application/json");
-                response.getWriter().write("{\"success\": false, \"error\": \"Booking ID required\"}");
+                log.error("❌ No booking ID provided for rejection");
+                JsonResponseWriter.write(response, HttpServletResponse.SC_BAD_REQUEST, ActionResponse.failed("Booking ID required"));
                 return;
             }
 
@@ -259,28 +269,26 @@ public class AdminController extends HttpServlet {
                 reason = "Rejected by admin";
             }
 
-            System.out.println("❌ Rejecting booking " + bookingId + " with reason: " + reason);
+            log.info("❌ Rejecting booking {} with reason: {}", bookingId, reason);
 
             // ✅ USE PROPER SERVICE METHOD
             boolean success = bookingService.rejectBooking(bookingId, admin.getUserId());
 
             if (success) {
-                System.out.println("❌ Booking rejected successfully: " + bookingId);
+                log.info("❌ Booking rejected successfully: {}", bookingId);
 
                 // ✅ CHECK IF AJAX REQUEST
                 if ("XMLHttpRequest".equals(request.getHeader("X-Requested-With"))) {
-                    response.setContentType("application/json");
-                    response.getWriter().write("{\"success\": true, \"message\": \"Booking rejected successfully!\"}");
+                    JsonResponseWriter.write(response, ActionResponse.ok("Booking rejected successfully!"));
                 } else {
                     request.getSession().setAttribute("successMessage", "Booking #" + bookingId + " rejected successfully!");
                     response.sendRedirect(request.getContextPath() + "/admin/bookings");
                 }
             } else {
-                System.err.println("❌ Booking rejection failed: " + bookingId);
+                log.error("❌ Booking rejection failed: {}", bookingId);
 
                 if ("XMLHttpRequest".equals(request.getHeader("X-Requested-With"))) {
-                    response.setContentType("application/json");
-                    response.getWriter().write("{\"success\": false, \"error\": \"Rejection failed\"}");
+                    JsonResponseWriter.write(response, ActionResponse.failed("Rejection failed"));
                 } else {
                     request.getSession().setAttribute("errorMessage", "Failed to reject booking #" + bookingId);
                     response.sendRedirect(request.getContextPath() + "/admin/bookings");
@@ -288,60 +296,51 @@ public class AdminController extends HttpServlet {
             }
 
         } catch (NumberFormatException e) {
-            System.err.println("❌ Invalid booking ID format: " + request.getParameter("bookingId"));
-            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
-            response.setContentType("application/json");
-            response.getWriter().write("{\"success\": false, \"error\": \"Invalid booking ID\"}");
+            log.error("❌ Invalid booking ID format: {}", request.getParameter("bookingId"));
+            JsonResponseWriter.write(response, HttpServletResponse.SC_BAD_REQUEST, ActionResponse.failed("Invalid booking ID"));
         } catch (Exception e) {
-            System.err.println("❌ Error rejecting booking: " + e.getMessage());
-            e.printStackTrace();
-            response.setStatus(HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
-            response.setContentType("application/json");
-            response.getWriter().write("{\"success\": false, \"error\": \"Server error: " + e.getMessage() + "\"}");
+            log.error("❌ Error rejecting booking: {}", e.getMessage(), e);
+            JsonResponseWriter.write(response, HttpServletResponse.SC_INTERNAL_SERVER_ERROR,
+                    ActionResponse.failed("Server error. Please try again."));
         }
     }
 
     // ✅ BULK APPROVE HANDLER
     private void handleBulkApprove(HttpServletRequest request, HttpServletResponse response, User admin)
             throws ServletException, IOException {
-        System.out.println("✅ Processing bulk approval by admin: " + admin.getName());
+        log.info("✅ Processing bulk approval by admin: {}", admin.getName());
 
         try {
-            String[] bookingIds = request.getParameterValues("bookingIds");
+            String[] bookingIdParams = request.getParameterValues("bookingIds");
+            int totalCount = bookingIdParams == null ? 0 : bookingIdParams.length;
+
+            // ✅ PERFORMANCE: All ids in one transaction with a batched UPDATE
+            List<String> invalidIds = new ArrayList<>();
+            int[] bookingIds = parseBookingIds(bookingIdParams, invalidIds);
+            boolean[] results = bookingIds.length > 0
+                    ? bookingService.approveBookings(bookingIds, admin.getUserId())
+                    : new boolean[0];
+
             int successCount = 0;
-            int totalCount = 0;
-
-            if (bookingIds != null) {
-                totalCount = bookingIds.length;
-                for (String idStr : bookingIds) {
-                    try {
-                        int bookingId = Integer.parseInt(idStr);
-                        if (bookingService.approveBooking(bookingId, admin.getUserId())) {
-                            successCount++;
-                        }
-                    } catch (NumberFormatException e) {
-                        System.err.println("❌ Invalid booking ID in bulk: " + idStr);
-                    }
-                }
+            for (boolean result : results) {
+                if (result) successCount++;
             }
 
             String message = "Bulk approval completed: " + successCount + "/" + totalCount + " bookings approved";
-            System.out.println("✅ " + message);
+            log.info("✅ {}", message);
 
             if ("XMLHttpRequest".equals(request.getHeader("X-Requested-With"))) {
-                response.setContentType("application/json");
-                response.getWriter().write("{\"success\": true, \"message\": \"" + message + "\"}");
+                JsonResponseWriter.write(response, ActionResponse.bulk(message, bookingIds, results, invalidIds));
             } else {
                 request.getSession().setAttribute("successMessage", message);
                 response.sendRedirect(request.getContextPath() + "/admin/bookings");
             }
 
         } catch (Exception e) {
-            System.err.println("❌ Error in bulk approval: " + e.getMessage());
+            log.error("❌ Error in bulk approval: {}", e.getMessage());
 
             if ("XMLHttpRequest".equals(request.getHeader("X-Requested-With"))) {
-                response.setContentType("application/json");
-                response.getWriter().write("{\"success\": false, \"error\": \"Bulk approval failed\"}");
+                JsonResponseWriter.write(response, ActionResponse.failed("Bulk approval failed"));
             } else {
                 request.getSession().setAttribute("errorMessage", "Bulk approval failed");
                 response.sendRedirect(request.getContextPath() + "/admin/bookings");
@@ -352,44 +351,39 @@ public class AdminController extends HttpServlet {
     // ✅ BULK REJECT HANDLER
     private void handleBulkReject(HttpServletRequest request, HttpServletResponse response, User admin)
             throws ServletException, IOException {
-        System.out.println("❌ Processing bulk rejection by admin: " + admin.getName());
+        log.info("❌ Processing bulk rejection by admin: {}", admin.getName());
 
         try {
-            String[] bookingIds = request.getParameterValues("bookingIds");
+            String[] bookingIdParams = request.getParameterValues("bookingIds");
+            int totalCount = bookingIdParams == null ? 0 : bookingIdParams.length;
+
+            // ✅ PERFORMANCE: All ids in one transaction with a batched UPDATE
+            List<String> invalidIds = new ArrayList<>();
+            int[] bookingIds = parseBookingIds(bookingIdParams, invalidIds);
+            boolean[] results = bookingIds.length > 0
+                    ? bookingService.rejectBookings(bookingIds, admin.getUserId())
+                    : new boolean[0];
+
             int successCount = 0;
-            int totalCount = 0;
-
-            if (bookingIds != null) {
-                totalCount = bookingIds.length;
-                for (String idStr : bookingIds) {
-                    try {
-                        int bookingId = Integer.parseInt(idStr);
-                        if (bookingService.rejectBooking(bookingId, admin.getUserId())) {
-                            successCount++;
-                        }
-                    } catch (NumberFormatException e) {
-                        System.err.println("❌ Invalid booking ID in bulk: " + idStr);
-                    }
-                }
+            for (boolean result : results) {
+                if (result) successCount++;
             }
 
             String message = "Bulk rejection completed: " + successCount + "/" + totalCount + " bookings rejected";
-            System.out.println("❌ " + message);
+            log.info("❌ {}", message);
 
             if ("XMLHttpRequest".equals(request.getHeader("X-Requested-With"))) {
-                response.setContentType("application/json");
-                response.getWriter().write("{\"success\": true, \"message\": \"" + message + "\"}");
+                JsonResponseWriter.write(response, ActionResponse.bulk(message, bookingIds, results, invalidIds));
             } else {
                 request.getSession().setAttribute("successMessage", message);
                 response.sendRedirect(request.getContextPath() + "/admin/bookings");
             }
 
         } catch (Exception e) {
-            System.err.println("❌ Error in bulk rejection: " + e.getMessage());
+            log.error("❌ Error in bulk rejection: {}", e.getMessage());
 
             if ("XMLHttpRequest".equals(request.getHeader("X-Requested-With"))) {
-                response.setContentType("application/json");
-                response.getWriter().write("{\"success\": false, \"error\": \"Bulk rejection failed\"}");
+                JsonResponseWriter.write(response, ActionResponse.failed("Bulk rejection failed"));
             } else {
                 request.getSession().setAttribute("errorMessage", "Bulk rejection failed");
                 response.sendRedirect(request.getContextPath() + "/admin/bookings");
@@ -400,7 +394,7 @@ public class AdminController extends HttpServlet {
     // ✅ PARAMETER-BASED ACTION HANDLER (BACKWARD COMPATIBILITY)
     private void handleParameterBasedAction(HttpServletRequest request, HttpServletResponse response,
                                             User admin, String action) throws ServletException, IOException {
-        System.out.println("🔄 Handling parameter-based action: " + action);
+        log.info("🔄 Handling parameter-based action: {}", action);
 
         if ("approve".equals(action)) {
             handleApproveBooking(request, response, admin);
@@ -426,49 +420,23 @@ public class AdminController extends HttpServlet {
             throws ServletException, IOException {
 
         try {
-            List<Booking> allBookings = bookingService.getAllBookings();
-            List<Booking> recentBookings = new ArrayList<>();
-            List<Booking> pendingBookings = new ArrayList<>();
-            List<Booking> vipBookings = new ArrayList<>();
-
-            for (Booking booking : allBookings) {
-                if (booking.getStatus() == Booking.Status.PENDING) {
-                    pendingBookings.add(booking);
-                }
-                if (booking.getPriorityLevel() == Booking.PriorityLevel.VIP) {
-                    vipBookings.add(booking);
-                }
-                if (recentBookings.size() < 5) {
-                    recentBookings.add(booking);
-                }
-            }
-
-            List<User> allUsers = userService.getAllUsers();
-            int normalUsers = 0, vipUsers = 0, adminUsers = 0;
-
-            for (User user : allUsers) {
-                if (user.isAdmin()) {
-                    adminUsers++;
-                } else if (user.isVIP()) {
-                    vipUsers++;
-                } else {
-                    normalUsers++;
-                }
-            }
+            // ✅ PERFORMANCE: Counters come from the live metrics, only the 5 latest rows are loaded
+            AnalyticsSnapshot snapshot = analyticsService.getSnapshot();
+            List<Booking> recentBookings = bookingService.getRecentBookings(5);
 
             request.setAttribute("admin", admin);
-            request.setAttribute("totalUsers", allUsers.size());
-            request.setAttribute("totalCabins", cabinService.getTotalCabinCount());
-            request.setAttribute("totalBookings", allBookings.size());
+            request.setAttribute("totalUsers", snapshot.getTotalUsers());
+            request.setAttribute("totalCabins", snapshot.getTotalCabins());
+            request.setAttribute("totalBookings", snapshot.getTotalBookings());
             request.setAttribute("recentBookings", recentBookings);
-            request.setAttribute("pendingCount", pendingBookings.size());
-            request.setAttribute("vipBookings", vipBookings);
-            request.setAttribute("normalUsers", normalUsers);
-            request.setAttribute("vipUsers", vipUsers);
-            request.setAttribute("adminUsers", adminUsers);
-            request.setAttribute("activeCabins", cabinService.getTotalCabinCount());
-            request.setAttribute("vipCabins", 0);
-            request.setAttribute("maintenanceCabins", 0);
+            request.setAttribute("pendingCount", snapshot.getPendingBookings());
+            request.setAttribute("vipBookingCount", snapshot.getVipBookings());
+            request.setAttribute("normalUsers", snapshot.getNormalUsers());
+            request.setAttribute("vipUsers", snapshot.getVipUsers());
+            request.setAttribute("adminUsers", snapshot.getAdminUsers());
+            request.setAttribute("activeCabins", snapshot.getActiveCabins());
+            request.setAttribute("vipCabins", snapshot.getVipCabins());
+            request.setAttribute("maintenanceCabins", snapshot.getMaintenanceCabins());
 
             request.getRequestDispatcher("/admin/dashboard.jsp").forward(request, response);
 
@@ -487,62 +455,20 @@ public class AdminController extends HttpServlet {
                 filter = "pending";
             }
 
-            List<Booking> allBookings = bookingService.getAllBookings();
-            List<Booking> filteredBookings = new ArrayList<>();
-
-            int pendingCount = 0;
-            int approvedCount = 0;
-            int rejectedCount = 0;
-            int vipCount = 0;
-
-            for (Booking booking : allBookings) {
-                if (booking.getStatus() == Booking.Status.PENDING) {
-                    pendingCount++;
-                } else if (booking.getStatus() == Booking.Status.APPROVED) {
-                    approvedCount++;
-                } else if (booking.getStatus() == Booking.Status.REJECTED) {
-                    rejectedCount++;
-                }
-
-                if (booking.getPriorityLevel() == Booking.PriorityLevel.VIP) {
-                    vipCount++;
-                }
-
-                switch (filter) {
-                    case "pending":
-                        if (booking.getStatus() == Booking.Status.PENDING) {
-                            filteredBookings.add(booking);
-                        }
-                        break;
-                    case "approved":
-                        if (booking.getStatus() == Booking.Status.APPROVED) {
-                            filteredBookings.add(booking);
-                        }
-                        break;
-                    case "rejected":
-                        if (booking.getStatus() == Booking.Status.REJECTED) {
-                            filteredBookings.add(booking);
-                        }
-                        break;
-                    case "vip":
-                        if (booking.getPriorityLevel() == Booking.PriorityLevel.VIP) {
-                            filteredBookings.add(booking);
-                        }
-                        break;
-                    case "all":
-                    default:
-                        filteredBookings.add(booking);
-                        break;
-                }
-            }
+            // ✅ PERFORMANCE: One keyset page of the selected tab; counts come from the analytics snapshot
+            BookingCursor after = BookingCursor.fromToken(request.getParameter("after"));
+            BookingPage page = bookingService.getBookingsPage(filter, after, BookingServiceImpl.DEFAULT_PAGE_SIZE);
+            AnalyticsSnapshot snapshot = analyticsService.getSnapshot();
 
             request.setAttribute("admin", admin);
-            request.setAttribute("bookings", filteredBookings);
-            request.setAttribute("pendingCount", pendingCount);
-            request.setAttribute("approvedCount", approvedCount);
-            request.setAttribute("rejectedCount", rejectedCount);
-            request.setAttribute("vipCount", vipCount);
-            request.setAttribute("totalCount", allBookings.size());
+            request.setAttribute("bookings", page.getBookings());
+            request.setAttribute("nextToken", page.getNextToken());
+            request.setAttribute("isFirstPage", after == null);
+            request.setAttribute("pendingCount", snapshot.getPendingBookings());
+            request.setAttribute("approvedCount", snapshot.getApprovedBookings());
+            request.setAttribute("rejectedCount", snapshot.getRejectedBookings());
+            request.setAttribute("vipCount", snapshot.getVipBookings());
+            request.setAttribute("totalCount", snapshot.getTotalBookings());
             request.setAttribute("currentFilter", filter);
 
             request.getRequestDispatcher("/admin/booking-management.jsp").forward(request, response);
@@ -552,6 +478,102 @@ public class AdminController extends HttpServlet {
         }
     }
 
+    // ✅ PERFORMANCE: Streams rows from the database cursor to the response - memory use is
+    // the same for ten bookings or ten million. Filters: from, to (yyyy-MM-dd), cabinId,
+    // status, priority; format=csv|ndjson; gzip=true for a .gz download.
+    // At most cabinbooking.export.maxConcurrent exports run at once (default 2), each for at
+    // most cabinbooking.export.maxDurationMs, so downloads cannot drain the connection pool
+    private void handleExportBookings(HttpServletRequest request, HttpServletResponse response, User admin)
+            throws IOException {
+
+        String format = request.getParameter("format");
+        if (format == null || format.isEmpty()) {
+            format = "csv";
+        }
+        String contentType = BookingExportWriter.contentTypeFor(format);
+        if (contentType == null) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Unsupported export format: " + format);
+            return;
+        }
+        boolean gzip = "true".equalsIgnoreCase(request.getParameter("gzip"));
+
+        BookingExportFilter filter = new BookingExportFilter();
+        try {
+            String from = request.getParameter("from");
+            String to = request.getParameter("to");
+            String cabinId = request.getParameter("cabinId");
+            String status = request.getParameter("status");
+            String priority = request.getParameter("priority");
+
+            if (from != null && !from.isEmpty()) filter.setStartDate(Date.valueOf(from));
+            if (to != null && !to.isEmpty()) filter.setEndDate(Date.valueOf(to));
+            if (cabinId != null && !cabinId.isEmpty()) filter.setCabinId(Integer.parseInt(cabinId));
+            if (status != null && !status.isEmpty()) filter.setStatus(Booking.Status.valueOf(status.toUpperCase()));
+            if (priority != null && !priority.isEmpty()) filter.setPriorityLevel(Booking.PriorityLevel.valueOf(priority.toUpperCase()));
+        } catch (IllegalArgumentException e) {
+            log.error("❌ Invalid export filter: {}", e.getMessage());
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Invalid export filter");
+            return;
+        }
+
+        if (filter.getStartDate() != null && filter.getEndDate() != null
+                && filter.getEndDate().before(filter.getStartDate())) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Export end date is before start date");
+            return;
+        }
+
+        if (!EXPORT_SLOTS.tryAcquire()) {
+            log.warn("⚠️ Booking export by {} refused - too many exports running", admin.getName());
+            response.setHeader("Retry-After", "30");
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Another export is running, please retry shortly");
+            return;
+        }
+        try {
+            streamExport(request, response, admin, format, contentType, gzip, filter);
+        } finally {
+            EXPORT_SLOTS.release();
+        }
+    }
+
+    private void streamExport(HttpServletRequest request, HttpServletResponse response, User admin, String format,
+                              String contentType, boolean gzip, BookingExportFilter filter) throws IOException {
+        String fileName = "bookings-" + LocalDate.now() + "." + format.toLowerCase() + (gzip ? ".gz" : "");
+        response.setContentType(gzip ? "application/gzip" : contentType);
+        response.setHeader("Content-Disposition", "attachment; filename=\"" + fileName + "\"");
+        response.setHeader("Cache-Control", "no-store");
+
+        log.info("📤 Booking export ({}{}) requested by {}", format, (gzip ? ", gzip" : ""), admin.getName());
+
+        OutputStream stream = response.getOutputStream();
+        if (gzip) {
+            stream = new GZIPOutputStream(stream, EXPORT_BUFFER_BYTES);
+        }
+        Writer out = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8), EXPORT_BUFFER_BYTES);
+
+        try {
+            BookingExportWriter writer = BookingExportWriter.forFormat(format, out);
+            writer.writeHeader();
+            long rows = bookingService.exportBookings(filter, writer);
+
+            if (rows < 0) {
+                log.error("❌ Booking export failed - database error");
+                if (!response.isCommitted()) {
+                    response.reset();
+                    response.sendError(HttpServletResponse.SC_INTERNAL_SERVER_ERROR, "Export failed");
+                }
+                // Already committed: the gzip trailer is never written, so a .gz download shows as broken
+                return;
+            }
+
+            out.close();
+            log.info("✅ Exported {} bookings", rows);
+
+        } catch (IOException e) {
+            // Usually the browser cancelling the download
+            log.warn("⚠️ Booking export interrupted: {}", e.getMessage());
+        }
+    }
+
     // ✅ ALL OTHER EXISTING METHODS - KEEP AS THEY WERE
 
     private void showUserManagement(HttpServletRequest request, HttpServletResponse response, User admin)
@@ -600,166 +622,51 @@ public class AdminController extends HttpServlet {
             throws ServletException, IOException {
 
         try {
-            List<User> allUsers = userService.getAllUsers();
-            int totalUsers = allUsers.size();
-            int normalUsers = 0;
-            int vipUsers = 0;
-            int adminUsers = 0;
-            int activeUsers = 0;
-
-            for (User user : allUsers) {
-                if (user.isAdmin()) {
-                    adminUsers++;
-                } else if (user.isVIP()) {
-                    vipUsers++;
-                } else {
-                    normalUsers++;
-                }
-
-                if (user.getStatus() == User.Status.ACTIVE) {
-                    activeUsers++;
-                }
-            }
-
-            List<Booking> allBookings = bookingService.getAllBookings();
-            int totalBookings = allBookings.size();
-            int approvedBookings = 0;
-            int pendingBookings = 0;
-            int rejectedBookings = 0;
-            int vipBookings = 0;
-
-            // ✅ MAIN FIX: Proper today's date calculation
-            int todaysBookings = 0;
-            int todayApprovals = 0;
-
-            // ✅ Get today's date properly (date only, no time)
-            java.time.LocalDate today = java.time.LocalDate.now(java.time.ZoneId.of("Asia/Kolkata"));
-            java.sql.Date todayDate = java.sql.Date.valueOf(today);
-
-            System.out.println("📅 Today's date for analytics: " + todayDate);
-            System.out.println("🌍 Current timezone: Asia/Kolkata");
-
-            for (Booking booking : allBookings) {
-                // Count by status
-                if (booking.getStatus() == Booking.Status.APPROVED) {
-                    approvedBookings++;
-                } else if (booking.getStatus() == Booking.Status.PENDING) {
-                    pendingBookings++;
-                } else if (booking.getStatus() == Booking.Status.REJECTED) {
-                    rejectedBookings++;
-                }
-
-                // Count VIP bookings
-                if (booking.getPriorityLevel() == Booking.PriorityLevel.VIP) {
-                    vipBookings++;
-                }
+            // ✅ Counters come from GROUP BY queries - no full user/booking lists in memory
+            AnalyticsSnapshot snapshot = analyticsService.getSnapshot();
 
-                // ✅ FIXED: Today's bookings calculation
-                if (booking.getBookingDate() != null) {
-                    // Convert booking date to LocalDate for comparison
-                    java.time.LocalDate bookingLocalDate = booking.getBookingDate().toLocalDate();
-
-                    if (bookingLocalDate.equals(today)) {
-                        todaysBookings++;
-                        System.out.println("📅 Found today's booking: " + booking.getBookingId() +
-                                " for date: " + booking.getBookingDate());
-                    }
-                }
-
-                // ✅ FIXED: Today's approvals calculation
-                if (booking.getApprovedAt() != null) {
-                    java.time.LocalDate approvalDate = booking.getApprovedAt().toLocalDateTime().toLocalDate();
-                    if (approvalDate.equals(today)) {
-                        todayApprovals++;
-                    }
-                }
-            }
-
-            // Calculate rates
-            double approvalRate = 0.0;
-            if (totalBookings > 0) {
-                approvalRate = (approvedBookings * 100.0) / totalBookings;
-            }
-
-            double rejectionRate = 0.0;
-            if (totalBookings > 0) {
-                rejectionRate = (rejectedBookings * 100.0) / totalBookings;
-            }
-
-            double vipBookingRate = 0.0;
-            if (totalBookings > 0) {
-                vipBookingRate = (vipBookings * 100.0) / totalBookings;
-            }
-
-            // Cabin statistics
-            int totalCabins = cabinService.getTotalCabinCount();
-            int activeCabins = cabinService.getActiveCabinCount();
-            List<Cabin> vipCabinList = cabinService.getVIPCabins();
-            int vipCabins = vipCabinList.size();
-            int maintenanceCabins = totalCabins - activeCabins;
-
-            double utilizationRate = 0.0;
-            if (totalCabins > 0) {
-                utilizationRate = (approvedBookings * 100.0) / (totalCabins * 30);
-            }
-
-            List<String> popularTimeSlots = bookingService.getPopularTimeSlots();
-            if (popularTimeSlots.isEmpty()) {
-                popularTimeSlots = Arrays.asList("09:00-10:00", "10:00-11:00", "11:00-12:00", "14:00-15:00", "15:00-16:00");
-            }
-
-            Map<String, Object> systemMetrics = new HashMap<>();
-            systemMetrics.put("averageBookingsPerUser", totalUsers > 0 ? (double) totalBookings / totalUsers : 0.0);
-            systemMetrics.put("cabinUtilizationRate", utilizationRate);
-            systemMetrics.put("vipUserPercentage", totalUsers > 0 ? (vipUsers * 100.0) / totalUsers : 0.0);
-            systemMetrics.put("adminUserPercentage", totalUsers > 0 ? (adminUsers * 100.0) / totalUsers : 0.0);
-
-            // ✅ ENHANCED: Debug logging
-            System.out.println("📊 Analytics Summary:");
-            System.out.println("   - Total Bookings: " + totalBookings);
-            System.out.println("   - Today's Date: " + todayDate);
-            System.out.println("   - Today's Bookings: " + todaysBookings);
-            System.out.println("   - Today's Approvals: " + todayApprovals);
-            System.out.println("   - Pending Bookings: " + pendingBookings);
+            log.info("📊 Analytics Summary:");
+            log.info("   - Total Bookings: {}", snapshot.getTotalBookings());
+            log.info("   - Today's Date: {}", snapshot.getSnapshotDate());
+            log.info("   - Today's Bookings: {}", snapshot.getTodaysBookings());
+            log.info("   - Today's Approvals: {}", snapshot.getTodayApprovals());
+            log.info("   - Pending Bookings: {}", snapshot.getPendingBookings());
 
             // Set attributes
             request.setAttribute("admin", admin);
-            request.setAttribute("totalUsers", totalUsers);
-            request.setAttribute("normalUsers", normalUsers);
-            request.setAttribute("vipUsers", vipUsers);
-            request.setAttribute("adminUsers", adminUsers);
-            request.setAttribute("activeUsers", activeUsers);
-            request.setAttribute("totalBookings", totalBookings);
-            request.setAttribute("approvedBookings", approvedBookings);
-            request.setAttribute("pendingBookings", pendingBookings);
-            request.setAttribute("rejectedBookings", rejectedBookings);
-            request.setAttribute("vipBookings", vipBookings);
-
-            // ✅ MAIN FIX: Correct today's activity data
-            request.setAttribute("todaysBookings", todaysBookings);  // ✅ Fixed
-            request.setAttribute("todayBookings", todaysBookings);    // ✅ Alternative name
-            request.setAttribute("todayApprovals", todayApprovals);   // ✅ New field
-
-            request.setAttribute("approvalRate", Math.round(approvalRate * 100.0) / 100.0);
-            request.setAttribute("rejectionRate", Math.round(rejectionRate * 100.0) / 100.0);
-            request.setAttribute("vipBookingRate", Math.round(vipBookingRate * 100.0) / 100.0);
-            request.setAttribute("totalCabins", totalCabins);
-            request.setAttribute("activeCabins", activeCabins);
-            request.setAttribute("vipCabins", vipCabins);
-            request.setAttribute("maintenanceCabins", maintenanceCabins);
-            request.setAttribute("popularTimeSlots", popularTimeSlots);
-            request.setAttribute("systemMetrics", systemMetrics);
-            request.setAttribute("utilizationRate", Math.round(utilizationRate * 100.0) / 100.0);
-
-            // ✅ NEW: Add current timestamp for JSP
+            request.setAttribute("totalUsers", snapshot.getTotalUsers());
+            request.setAttribute("normalUsers", snapshot.getNormalUsers());
+            request.setAttribute("vipUsers", snapshot.getVipUsers());
+            request.setAttribute("adminUsers", snapshot.getAdminUsers());
+            request.setAttribute("activeUsers", snapshot.getActiveUsers());
+            request.setAttribute("totalBookings", snapshot.getTotalBookings());
+            request.setAttribute("approvedBookings", snapshot.getApprovedBookings());
+            request.setAttribute("pendingBookings", snapshot.getPendingBookings());
+            request.setAttribute("rejectedBookings", snapshot.getRejectedBookings());
+            request.setAttribute("vipBookings", snapshot.getVipBookings());
+
+            request.setAttribute("todaysBookings", snapshot.getTodaysBookings());
+            request.setAttribute("todayBookings", snapshot.getTodaysBookings());    // ✅ Alternative name
+            request.setAttribute("todayApprovals", snapshot.getTodayApprovals());
+
+            request.setAttribute("approvalRate", snapshot.getApprovalRate());
+            request.setAttribute("rejectionRate", snapshot.getRejectionRate());
+            request.setAttribute("vipBookingRate", snapshot.getVipBookingRate());
+            request.setAttribute("totalCabins", snapshot.getTotalCabins());
+            request.setAttribute("activeCabins", snapshot.getActiveCabins());
+            request.setAttribute("vipCabins", snapshot.getVipCabins());
+            request.setAttribute("maintenanceCabins", snapshot.getMaintenanceCabins());
+            request.setAttribute("popularTimeSlots", snapshot.getPopularTimeSlots());
+            request.setAttribute("systemMetrics", snapshot.getSystemMetrics());
+            request.setAttribute("utilizationRate", snapshot.getUtilizationRate());
+
             request.setAttribute("now", new java.util.Date());
-            request.setAttribute("currentDate", todayDate);
+            request.setAttribute("currentDate", snapshot.getSnapshotDate());
 
             request.getRequestDispatcher("/admin/analytics.jsp").forward(request, response);
 
         } catch (Exception e) {
-            System.err.println("❌ Error in analytics calculation: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error in analytics calculation: {}", e.getMessage(), e);
             handleError(request, response, "Error loading analytics", e);
         }
     }
@@ -965,18 +872,25 @@ public class AdminController extends HttpServlet {
     }
 
     // ✅ UTILITY METHODS
-    private User getCurrentUser(HttpServletRequest request) {
-        HttpSession session = request.getSession(false);
-        if (session != null) {
-            return (User) session.getAttribute("user");
+    // ✅ Valid ids from the bulk form; bad values are logged and collected in invalidIds
+    private int[] parseBookingIds(String[] bookingIdParams, List<String> invalidIds) {
+        if (bookingIdParams == null) return new int[0];
+
+        List<Integer> ids = new ArrayList<>();
+        for (String idStr : bookingIdParams) {
+            try {
+                ids.add(Integer.parseInt(idStr.trim()));
+            } catch (NumberFormatException | NullPointerException e) {
+                log.error("❌ Invalid booking ID in bulk: {}", idStr);
+                invalidIds.add(String.valueOf(idStr));
+            }
         }
-        return null;
+        return ids.stream().mapToInt(Integer::intValue).toArray();
     }
 
     private void handleError(HttpServletRequest request, HttpServletResponse response,
                              String message, Exception e) throws ServletException, IOException {
-        System.err.println("❌ AdminController Error: " + message);
-        e.printStackTrace();
+        log.error("❌ AdminController Error: {}", message, e);
         request.setAttribute("error", message);
         request.getRequestDispatcher("/admin/error.jsp").forward(request, response);
     }
@@ -6,19 +6,31 @@ import com.yash.cabinbooking.serviceimpl.UserServiceImpl;
 import com.yash.cabinbooking.serviceimpl.CompanyServiceImpl;
 import com.yash.cabinbooking.model.User;
 import com.yash.cabinbooking.model.Company;
+import com.yash.cabinbooking.util.DeviceTokenUtil;
+import com.yash.cabinbooking.util.PasswordHashExecutor;
 import com.yash.cabinbooking.util.PasswordUtil; // ✅ ADDED: Import PasswordUtil
+import com.yash.cabinbooking.util.SessionUtil;
+import com.yash.cabinbooking.logging.Logger;
 
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
 import javax.servlet.ServletException;
 import javax.servlet.annotation.WebServlet;
+import javax.servlet.http.Cookie;
 import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpSession;
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
 
-@WebServlet(name = "AuthController", urlPatterns = {"/auth", "/login", "/logout", "/register"})
+@WebServlet(name = "AuthController", urlPatterns = {"/auth", "/login", "/logout", "/register"}, asyncSupported = true)
 public class AuthController extends HttpServlet {
 
+    private static final Logger log = Logger.getLogger(AuthController.class);
+
     private UserService userService;
     private CompanyService companyService;
 
@@ -26,11 +38,14 @@ public class AuthController extends HttpServlet {
     private static final String COMPANY_NAME = "Yash Technology";
     private static final int DEFAULT_COMPANY_ID = 1;
 
+    // Longest a login may wait for password verification before it gets a 503
+    private static final long LOGIN_TIMEOUT_MS = Long.getLong("cabinbooking.login.timeoutMs", 15000L);
+
     @Override
     public void init() throws ServletException {
         this.userService = new UserServiceImpl();
         this.companyService = new CompanyServiceImpl();
-        System.out.println("🔧 AuthController initialized for " + COMPANY_NAME + " (Single Company) with BCrypt Security");
+        log.info("🔧 AuthController initialized for {} (Single Company) with BCrypt Security", COMPANY_NAME);
     }
 
     @Override
@@ -38,7 +53,7 @@ public class AuthController extends HttpServlet {
             throws ServletException, IOException {
 
         String action = getActionFromRequest(request);
-        System.out.println("🌐 GET Request received: " + action);
+        log.info("🌐 GET Request received: {}", action);
 
         switch (action) {
             case "login":
@@ -61,7 +76,7 @@ public class AuthController extends HttpServlet {
             throws ServletException, IOException {
 
         String action = getActionFromRequest(request);
-        System.out.println("📝 POST Request received: " + action);
+        log.info("📝 POST Request received: {}", action);
 
         switch (action) {
             case "login":
@@ -78,13 +93,12 @@ public class AuthController extends HttpServlet {
 
     private void showLoginPage(HttpServletRequest request, HttpServletResponse response)
             throws ServletException, IOException {
-        System.out.println("🔐 Showing login page for " + COMPANY_NAME);
+        log.info("🔐 Showing login page for {}", COMPANY_NAME);
 
         // Check if user is already logged in
-        HttpSession session = request.getSession(false);
-        if (session != null && session.getAttribute("user") != null) {
-            User user = (User) session.getAttribute("user");
-            System.out.println("✅ User already logged in: " + user.getName() + ", redirecting to appropriate dashboard");
+        User user = SessionUtil.getCurrentUser(request);
+        if (user != null) {
+            log.info("✅ User already logged in: {}, redirecting to appropriate dashboard", user.getName());
 
             String redirectUrl = determineRedirectUrl(user);
             response.sendRedirect(request.getContextPath() + redirectUrl);
@@ -98,7 +112,7 @@ public class AuthController extends HttpServlet {
 
     private void showRegistrationPage(HttpServletRequest request, HttpServletResponse response)
             throws ServletException, IOException {
-        System.out.println("📝 Showing registration page for " + COMPANY_NAME);
+        log.info("📝 Showing registration page for {}", COMPANY_NAME);
 
         // ✅ SINGLE COMPANY: Get company configuration
         Company company = companyService.getCompanyConfig();
@@ -112,89 +126,204 @@ public class AuthController extends HttpServlet {
     }
 
     // ✅ SECURITY ENHANCED: Login with BCrypt password verification
+    // ✅ PERFORMANCE: BCrypt runs on PasswordHashExecutor; the request thread is released while it waits
     private void handleLogin(HttpServletRequest request, HttpServletResponse response)
             throws ServletException, IOException {
-        System.out.println("🔐 Processing secure login request for " + COMPANY_NAME);
+        log.info("🔐 Processing secure login request for {}", COMPANY_NAME);
 
         String email = request.getParameter("email");
         String password = request.getParameter("password");
 
-        System.out.println("📧 Login attempt for email: " + email);
+        log.info("📧 Login attempt for email: {}", email);
 
         // Input validation
         if (email == null || email.trim().isEmpty() ||
                 password == null || password.trim().isEmpty()) {
 
-            System.err.println("❌ Invalid login credentials provided");
+            log.info("❌ Invalid login credentials provided");
             request.setAttribute("error", "Email and password are required");
             showLoginPage(request, response);
             return;
         }
 
+        // ✅ Remembered device with the right password - no BCrypt, no executor, answer right away
+        String deviceToken = getDeviceToken(request);
+        if (deviceToken != null) {
+            User rememberedUser = userService.authenticateUserWithDeviceToken(email.trim(), password, deviceToken);
+            if (rememberedUser != null) {
+                completeLogin(request, response, rememberedUser);
+                return;
+            }
+        }
+        boolean rememberDevice = request.getParameter("rememberDevice") != null;
+
+        AsyncContext asyncContext = request.startAsync();
+        asyncContext.setTimeout(LOGIN_TIMEOUT_MS);
+        AtomicBoolean finished = new AtomicBoolean();
+        LoginTimeoutListener timeoutListener = new LoginTimeoutListener(finished);
+        asyncContext.addListener(timeoutListener);
+
         // ✅ SECURITY ENHANCEMENT: Authenticate with hashed password verification
-        User user = userService.authenticateUserWithHashedPassword(email.trim(), password);
+        CompletableFuture<User> authentication = PasswordHashExecutor.getInstance()
+                .submit(() -> userService.authenticateUserWithHashedPassword(email.trim(), password));
+
+        if (authentication == null) {
+            // Verification queue full - fail fast instead of holding the connection
+            log.warn("⚠️ Login rejected, password verification busy: {}", email);
+            finished.set(true);
+            rejectBusy(asyncContext);
+            return;
+        }
+        timeoutListener.pending = authentication;
 
-        if (user != null) {
-            // Successful login
-            System.out.println("✅ Secure login successful for: " + user.getName() +
-                    " (" + user.getUserTypeDisplay() + ") at " + COMPANY_NAME);
+        authentication.whenComplete((user, error) -> {
+            if (!finished.compareAndSet(false, true)) {
+                return; // timed out while queued - the response is already gone
+            }
+            try {
+                if (error != null) {
+                    log.error("❌ Error during secure login for {}: {}", email, error.getMessage(), error);
+                    showLoginPageAsync(asyncContext, "Login failed. Please try again.", email);
+                } else if (user != null) {
+                    if (rememberDevice) {
+                        rememberDevice((HttpServletRequest) asyncContext.getRequest(),
+                                (HttpServletResponse) asyncContext.getResponse(), user, password);
+                    }
+                    completeLogin(asyncContext, user);
+                } else {
+                    // Login failed
+                    log.info("❌ Secure login failed for email: {}", email);
+                    showLoginPageAsync(asyncContext, "Invalid email or password", email);
+                }
+            } catch (Exception e) {
+                log.error("❌ Error completing login for {}: {}", email, e.getMessage(), e);
+                asyncContext.complete();
+            }
+        });
+    }
 
-            // ✅ ENHANCED: Create comprehensive session with all required attributes
-            HttpSession session = request.getSession(true);
+    private void completeLogin(AsyncContext asyncContext, User user) throws IOException {
+        completeLogin((HttpServletRequest) asyncContext.getRequest(),
+                (HttpServletResponse) asyncContext.getResponse(), user);
+        asyncContext.complete();
+    }
 
-            // Core user attributes
-            session.setAttribute("user", user);
-            session.setAttribute("admin", user);                    // ⭐ MAIN FIX: JSP expects "admin"
-            session.setAttribute("userId", user.getUserId());
-            session.setAttribute("userType", user.getUserType());
-            session.setAttribute("userName", user.getName());
+    private void completeLogin(HttpServletRequest request, HttpServletResponse response, User user) throws IOException {
+        // Successful login
+        log.info("✅ Secure login successful for: {} ({}) at {}", user.getName(), user.getUserTypeDisplay(), COMPANY_NAME);
 
-            // Additional attributes for better UX
-            session.setAttribute("userEmail", user.getEmail());
-            session.setAttribute("isAdmin", user.isAdmin());
-            session.setAttribute("isVip", user.isVIP());
-            session.setAttribute("isSuperAdmin", user.isSuperAdmin());
+        // ✅ Compact session: one SessionPrincipal (no password hash, no duplicated flags)
+        SessionUtil.signIn(request, user);
 
-            // ✅ SINGLE COMPANY: Company-specific session attributes
-            session.setAttribute("companyName", COMPANY_NAME);
-            session.setAttribute("companyId", DEFAULT_COMPANY_ID);
+        log.info("🎉 Complete secure session created for user: {} (Type: {}) - Company: {}", user.getName(), user.getUserType(), COMPANY_NAME);
 
-            // Set session timeout (30 minutes)
-            session.setMaxInactiveInterval(30 * 60);
+        // ✅ ENHANCED: Role-based redirect logic
+        String redirectUrl = determineRedirectUrl(user);
+        log.info("🚀 Redirecting to: {}", redirectUrl);
+        response.sendRedirect(request.getContextPath() + redirectUrl);
+    }
 
-            System.out.println("🎉 Complete secure session created for user: " + user.getName() +
-                    " (Type: " + user.getUserType() + ") - Company: " + COMPANY_NAME);
+    // ✅ "Remember this device": the next login from this browser with the same password skips BCrypt
+    private void rememberDevice(HttpServletRequest request, HttpServletResponse response, User user, String password) {
+        String token = userService.issueDeviceToken(user, password);
+        if (token == null) {
+            return;
+        }
 
-            // ✅ ENHANCED: Role-based redirect logic
-            String redirectUrl = determineRedirectUrl(user);
-            System.out.println("🚀 Redirecting to: " + redirectUrl);
-            response.sendRedirect(request.getContextPath() + redirectUrl);
+        Cookie cookie = new Cookie(DeviceTokenUtil.COOKIE_NAME, token);
+        cookie.setHttpOnly(true);
+        cookie.setSecure(request.isSecure());
+        cookie.setMaxAge(DeviceTokenUtil.getMaxAgeSeconds());
+        cookie.setPath(request.getContextPath().isEmpty() ? "/" : request.getContextPath());
+        response.addCookie(cookie);
+        log.info("📱 Device remembered for user: {}", user.getName());
+    }
 
-        } else {
-            // Login failed
-            System.err.println("❌ Secure login failed for email: " + email);
-            request.setAttribute("error", "Invalid email or password");
-            request.setAttribute("email", email); // Keep email for user convenience
-            showLoginPage(request, response);
+    private static String getDeviceToken(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (DeviceTokenUtil.COOKIE_NAME.equals(cookie.getName())) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+
+    // 503 + Retry-After, with the login page as the body so a browser user sees why
+    private static void rejectBusy(AsyncContext asyncContext) {
+        HttpServletResponse response = (HttpServletResponse) asyncContext.getResponse();
+        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        response.setHeader("Retry-After", Integer.toString(PasswordHashExecutor.getInstance().getRetryAfterSeconds()));
+        String email = asyncContext.getRequest().getParameter("email");
+        showLoginPageAsync(asyncContext, "Too many sign-ins right now. Please try again in a few seconds.", email);
+    }
+
+    private static void showLoginPageAsync(AsyncContext asyncContext, String error, String email) {
+        asyncContext.getRequest().setAttribute("error", error);
+        asyncContext.getRequest().setAttribute("email", email); // Keep email for user convenience
+        asyncContext.getRequest().setAttribute("companyName", COMPANY_NAME);
+        asyncContext.dispatch("/common/login.jsp");
+    }
+
+    // A login still queued when the async timeout fires gets the same 503 as a rejected one,
+    // and its verification is cancelled so it never runs
+    private static final class LoginTimeoutListener implements AsyncListener {
+        private final AtomicBoolean finished;
+        private volatile CompletableFuture<?> pending;
+
+        LoginTimeoutListener(AtomicBoolean finished) {
+            this.finished = finished;
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            if (finished.compareAndSet(false, true)) {
+                log.warn("⚠️ Login timed out waiting for password verification");
+                CompletableFuture<?> verification = pending;
+                if (verification != null) {
+                    verification.cancel(false);
+                }
+                rejectBusy(event.getAsyncContext());
+            }
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            finished.set(true);
+            CompletableFuture<?> verification = pending;
+            if (verification != null) {
+                verification.cancel(false);
+            }
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
         }
     }
 
     // ✅ SECURITY ENHANCED: Registration with BCrypt password hashing
     private void handleRegistration(HttpServletRequest request, HttpServletResponse response)
             throws ServletException, IOException {
-        System.out.println("📝 Processing secure registration request for " + COMPANY_NAME);
+        log.info("📝 Processing secure registration request for {}", COMPANY_NAME);
 
         String name = request.getParameter("name");
         String email = request.getParameter("email");
         String password = request.getParameter("password");
         String confirmPassword = request.getParameter("confirmPassword");
 
-        System.out.println("👤 Registration attempt for: " + name + " (" + email + ") at " + COMPANY_NAME);
+        log.info("👤 Registration attempt for: {} ({}) at {}", name, email, COMPANY_NAME);
 
         // ✅ ENHANCED: Input validation with strong password requirements
         String validationError = validateRegistrationInput(name, email, password, confirmPassword);
         if (validationError != null) {
-            System.err.println("❌ Registration validation failed: " + validationError);
+            log.info("❌ Registration validation failed: {}", validationError);
             request.setAttribute("error", validationError);
             request.setAttribute("name", name);
             request.setAttribute("email", email);
@@ -204,7 +333,7 @@ public class AuthController extends HttpServlet {
 
         // Check if email already exists
         if (!userService.isEmailAvailable(email)) {
-            System.err.println("❌ Email already exists: " + email);
+            log.info("❌ Email already exists: {}", email);
             request.setAttribute("error", "Email address is already registered");
             request.setAttribute("name", name);
             showRegistrationPage(request, response);
@@ -215,10 +344,9 @@ public class AuthController extends HttpServlet {
         String hashedPassword;
         try {
             hashedPassword = PasswordUtil.hashPassword(password);
-            System.out.println("🔐 Password hashed successfully for user: " + name + " using BCrypt with salt");
+            log.info("🔐 Password hashed successfully for user: {} using BCrypt with salt", name);
         } catch (Exception e) {
-            System.err.println("❌ Password hashing failed: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Password hashing failed: {}", e.getMessage(), e);
             request.setAttribute("error", "Registration failed due to security error. Please try again.");
             request.setAttribute("name", name);
             request.setAttribute("email", email);
@@ -235,32 +363,12 @@ public class AuthController extends HttpServlet {
         boolean registrationSuccess = userService.registerUser(newUser);
 
         if (registrationSuccess) {
-            System.out.println("✅ Secure registration successful for: " + newUser.getName() +
-                    " (ID: " + newUser.getUserId() + ") at " + COMPANY_NAME + " with BCrypt password protection");
-
-            // ✅ ENHANCED: Auto-login with complete session setup
-            HttpSession session = request.getSession(true);
-
-            // Core user attributes
-            session.setAttribute("user", newUser);
-            session.setAttribute("admin", newUser);              // ⭐ Add admin attribute for consistency
-            session.setAttribute("userId", newUser.getUserId());
-            session.setAttribute("userType", newUser.getUserType());
-            session.setAttribute("userName", newUser.getName());
-
-            // Additional attributes
-            session.setAttribute("userEmail", newUser.getEmail());
-            session.setAttribute("isAdmin", newUser.isAdmin());
-            session.setAttribute("isVip", newUser.isVIP());
-            session.setAttribute("isSuperAdmin", newUser.isSuperAdmin());
-
-            // ✅ SINGLE COMPANY: Company-specific attributes
-            session.setAttribute("companyName", COMPANY_NAME);
-            session.setAttribute("companyId", DEFAULT_COMPANY_ID);
+            log.info("✅ Secure registration successful for: {} (ID: {}) at {} with BCrypt password protection", newUser.getName(), newUser.getUserId(), COMPANY_NAME);
 
-            session.setMaxInactiveInterval(30 * 60);
+            // ✅ Auto-login with the same compact session as a normal login
+            HttpSession session = SessionUtil.signIn(request, newUser);
 
-            System.out.println("🎉 Auto-login successful for " + COMPANY_NAME + ", redirecting to dashboard");
+            log.info("🎉 Auto-login successful for {}, redirecting to dashboard", COMPANY_NAME);
 
             // Set success message with security information
             session.setAttribute("successMessage",
@@ -270,7 +378,7 @@ public class AuthController extends HttpServlet {
             response.sendRedirect(request.getContextPath() + "/dashboard");
 
         } else {
-            System.err.println("❌ Registration failed for: " + email);
+            log.error("❌ Registration failed for: {}", email);
             request.setAttribute("error", "Registration failed. Please try again.");
             request.setAttribute("name", name);
             request.setAttribute("email", email);
@@ -280,18 +388,17 @@ public class AuthController extends HttpServlet {
 
     private void handleLogout(HttpServletRequest request, HttpServletResponse response)
             throws ServletException, IOException {
-        System.out.println("🚪 Processing logout request");
+        log.info("🚪 Processing logout request");
 
         HttpSession session = request.getSession(false);
         if (session != null) {
-            User user = (User) session.getAttribute("user");
+            User user = SessionUtil.getCurrentUser(request);
             if (user != null) {
-                System.out.println("👋 Logging out user: " + user.getName() +
-                        " (" + user.getUserTypeDisplay() + ") from " + COMPANY_NAME);
+                log.info("👋 Logging out user: {} ({}) from {}", user.getName(), user.getUserTypeDisplay(), COMPANY_NAME);
             }
 
             session.invalidate();
-            System.out.println("🔒 Session invalidated successfully");
+            log.info("🔒 Session invalidated successfully");
         }
 
         // Redirect to login page with logout message
@@ -321,24 +428,20 @@ public class AuthController extends HttpServlet {
     private String determineRedirectUrl(User user) {
         switch (user.getUserType()) {
             case SUPER_ADMIN:
-                System.out.println("🔱 Super Admin detected: " + user.getName() +
-                        ", redirecting to admin dashboard with full privileges");
+                log.info("🔱 Super Admin detected: {}, redirecting to admin dashboard with full privileges", user.getName());
                 return "/admin/dashboard";
 
             case ADMIN:
-                System.out.println("👨‍💼 Admin detected: " + user.getName() +
-                        ", redirecting to admin dashboard");
+                log.info("👨‍💼 Admin detected: {}, redirecting to admin dashboard", user.getName());
                 return "/admin/dashboard";
 
             case VIP:
-                System.out.println("⭐ VIP user detected: " + user.getName() +
-                        ", redirecting to VIP-enhanced dashboard");
+                log.info("⭐ VIP user detected: {}, redirecting to VIP-enhanced dashboard", user.getName());
                 return "/dashboard";
 
             case NORMAL:
             default:
-                System.out.println("👤 Normal user detected: " + user.getName() +
-                        ", redirecting to user dashboard");
+                log.info("👤 Normal user detected: {}, redirecting to user dashboard", user.getName());
                 return "/dashboard";
         }
     }
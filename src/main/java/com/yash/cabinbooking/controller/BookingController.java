@@ -8,6 +8,10 @@ import com.yash.cabinbooking.service.UserService;
 import com.yash.cabinbooking.service.CompanyService;
 import com.yash.cabinbooking.serviceimpl.*;
 import com.yash.cabinbooking.model.*;
+import com.yash.cabinbooking.util.SlotGrid;
+import com.yash.cabinbooking.util.SessionUtil;
+import com.yash.cabinbooking.util.JsonResponseWriter;
+import com.yash.cabinbooking.logging.Logger;
 
 import javax.servlet.ServletException;
 import javax.servlet.annotation.WebServlet;
@@ -17,7 +21,9 @@ import javax.servlet.http.HttpServletResponse;
 import javax.servlet.http.HttpSession;
 import java.io.IOException;
 import java.sql.Date;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.ArrayList;
 import java.text.SimpleDateFormat;
 import java.util.stream.Collectors;
@@ -25,6 +31,8 @@ import java.util.stream.Collectors;
 @WebServlet(name = "BookingController", urlPatterns = {"/booking/*", "/book", "/mybookings"})
 public class BookingController extends HttpServlet {
 
+    private static final Logger log = Logger.getLogger(BookingController.class);
+
     private BookingService bookingService;
     private UserService userService;
     private CompanyService companyService;
@@ -38,22 +46,18 @@ public class BookingController extends HttpServlet {
         this.companyService = new CompanyServiceImpl();
         // ✅ REMOVED: this.aiService = new AIRecommendationServiceImpl();
         this.cabinDAO = new CabinDaoImpl();
-        System.out.println("🔧 BookingController initialized for Yash Technology (Single Company)");
+        log.info("🔧 BookingController initialized for Yash Technology (Single Company)");
     }
 
     @Override
     protected void doGet(HttpServletRequest request, HttpServletResponse response)
             throws ServletException, IOException {
 
-        User currentUser = getCurrentUser(request);
-        if (currentUser == null) {
-            System.out.println("🔒 Unauthorized booking access, redirecting to login");
-            response.sendRedirect(request.getContextPath() + "/login");
-            return;
-        }
+        // ✅ AuthFilter has already turned away anonymous requests
+        User currentUser = SessionUtil.getCurrentUser(request);
 
         String action = getActionFromRequest(request);
-        System.out.println("🌐 Booking GET Request: " + action + " by user: " + currentUser.getName());
+        log.info("🌐 Booking GET Request: {} by user: {}", action, currentUser.getName());
 
         switch (action) {
             case "book":
@@ -71,6 +75,9 @@ public class BookingController extends HttpServlet {
             case "alternatives":
                 getAlternatives(request, response, currentUser);
                 break;
+            case "multiDayAvailability":
+                checkMultiDayAvailability(request, response, currentUser);
+                break;
             default:
                 showMyBookings(request, response, currentUser);
                 break;
@@ -81,14 +88,11 @@ public class BookingController extends HttpServlet {
     protected void doPost(HttpServletRequest request, HttpServletResponse response)
             throws ServletException, IOException {
 
-        User currentUser = getCurrentUser(request);
-        if (currentUser == null) {
-            response.sendRedirect(request.getContextPath() + "/login");
-            return;
-        }
+        // ✅ AuthFilter has already turned away anonymous requests
+        User currentUser = SessionUtil.getCurrentUser(request);
 
         String action = getActionFromRequest(request);
-        System.out.println("📝 Booking POST Request: " + action + " by user: " + currentUser.getName());
+        log.info("📝 Booking POST Request: {} by user: {}", action, currentUser.getName());
 
         switch (action) {
             case "book":
@@ -109,7 +113,7 @@ public class BookingController extends HttpServlet {
     // ✅ UPDATED: Single company booking form
     private void showBookingForm(HttpServletRequest request, HttpServletResponse response, User user)
             throws ServletException, IOException {
-        System.out.println("📝 Showing booking form for user: " + user.getName());
+        log.info("📝 Showing booking form for user: {}", user.getName());
 
         try {
             String cabinIdStr = request.getParameter("cabinId");
@@ -117,7 +121,7 @@ public class BookingController extends HttpServlet {
             // ✅ SINGLE COMPANY: Get company config instead of by ID
             Company company = companyService.getCompanyConfig();
             if (company == null) {
-                System.err.println("❌ Company configuration not found");
+                log.error("❌ Company configuration not found");
                 request.setAttribute("error", "Company configuration not available");
                 request.getRequestDispatcher("/common/error.jsp").forward(request, response);
                 return;
@@ -148,12 +152,12 @@ public class BookingController extends HttpServlet {
                     selectedCabin = cabinDAO.getCabinById(cabinId);
 
                     if (selectedCabin != null && !selectedCabin.isAccessibleForUser(user)) {
-                        System.err.println("❌ User cannot access cabin: " + cabinId);
+                        log.error("❌ User cannot access cabin: {}", cabinId);
                         selectedCabin = null;
                         request.setAttribute("error", "You don't have access to this cabin");
                     }
                 } catch (NumberFormatException e) {
-                    System.err.println("❌ Invalid cabin ID: " + cabinIdStr);
+                    log.error("❌ Invalid cabin ID: {}", cabinIdStr);
                 }
             }
 
@@ -169,15 +173,14 @@ public class BookingController extends HttpServlet {
             request.setAttribute("startTimeOptions", startTimeOptions);
             request.setAttribute("todayDate", new SimpleDateFormat("yyyy-MM-dd").format(new java.util.Date()));
 
-            System.out.println("✅ Booking form loaded successfully");
-            System.out.println("   - Available cabins: " + accessibleCabins.size());
-            System.out.println("   - Duration options: " + availableDurations.size());
+            log.info("✅ Booking form loaded successfully");
+            log.info("   - Available cabins: {}", accessibleCabins.size());
+            log.info("   - Duration options: {}", availableDurations.size());
 
             request.getRequestDispatcher("/user/booking-form.jsp").forward(request, response);
 
         } catch (Exception e) {
-            System.err.println("❌ Error loading booking form: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error loading booking form: {}", e.getMessage(), e);
             request.setAttribute("error", "Error loading booking form. Please try again.");
             request.getRequestDispatcher("/common/error.jsp").forward(request, response);
         }
@@ -185,11 +188,11 @@ public class BookingController extends HttpServlet {
 
     private void processBooking(HttpServletRequest request, HttpServletResponse response, User user)
             throws ServletException, IOException {
-        System.out.println("📅 Processing booking request for user: " + user.getName());
+        log.info("📅 Processing booking request for user: {}", user.getName());
 
         // ✅ ADD THESE DEBUG LINES:
-        System.out.println("🔍 User Type: " + user.getUserType());
-        System.out.println("🔍 Is VIP: " + user.isVIP());
+        log.info("🔍 User Type: {}", user.getUserType());
+        log.info("🔍 Is VIP: {}", user.isVIP());
 
         try {
             String cabinIdStr = request.getParameter("cabinId");
@@ -197,11 +200,11 @@ public class BookingController extends HttpServlet {
             String timeSlot = request.getParameter("timeSlot");
             String purpose = request.getParameter("purpose");
 
-            System.out.println("📋 Booking details - Cabin: " + cabinIdStr + ", Date: " + bookingDateStr + ", Time: " + timeSlot);
+            log.info("📋 Booking details - Cabin: {}, Date: {}, Time: {}", cabinIdStr, bookingDateStr, timeSlot);
 
             String validationError = validateBookingInput(cabinIdStr, bookingDateStr, timeSlot, purpose);
             if (validationError != null) {
-                System.err.println("❌ Booking validation failed: " + validationError);
+                log.info("❌ Booking validation failed: {}", validationError);
                 request.setAttribute("error", validationError);
                 showBookingForm(request, response, user);
                 return;
@@ -212,7 +215,7 @@ public class BookingController extends HttpServlet {
 
             Cabin cabin = cabinDAO.getCabinById(cabinId);
             if (cabin == null || !cabin.isAccessibleForUser(user)) {
-                System.err.println("❌ Cabin not accessible: " + cabinId);
+                log.info("❌ Cabin not accessible: {}", cabinId);
                 request.setAttribute("error", "Selected cabin is not available or accessible to you");
                 showBookingForm(request, response, user);
                 return;
@@ -220,11 +223,11 @@ public class BookingController extends HttpServlet {
 
             // ✅ NEW: Check slot availability first
             boolean slotAvailable = bookingService.isSlotAvailable(cabinId, bookingDate, timeSlot);
-            System.out.println("🔍 Slot Available: " + slotAvailable);
+            log.info("🔍 Slot Available: {}", slotAvailable);
 
             // ✅ VIP OVERRIDE LOGIC - THE MAIN FIX:
             if (user.isVIP() && !slotAvailable) {
-                System.out.println("⭐⭐⭐ VIP USER DETECTED WITH OCCUPIED SLOT - TRIGGERING OVERRIDE!");
+                log.info("⭐⭐⭐ VIP USER DETECTED WITH OCCUPIED SLOT - TRIGGERING OVERRIDE!");
 
                 // Create VIP booking object
                 Booking vipBooking = new Booking();
@@ -238,14 +241,14 @@ public class BookingController extends HttpServlet {
                 boolean vipSuccess = bookingService.forceBookingForVIP(vipBooking, user);
 
                 if (vipSuccess) {
-                    System.out.println("⭐ VIP OVERRIDE SUCCESSFUL!");
+                    log.info("⭐ VIP OVERRIDE SUCCESSFUL!");
                     HttpSession session = request.getSession();
                     session.setAttribute("successMessage",
                             "⭐ VIP Booking successful! Conflicting users have been automatically reallocated.");
                     response.sendRedirect(request.getContextPath() + "/mybookings");
                     return;
                 } else {
-                    System.err.println("❌ VIP override failed");
+                    log.error("❌ VIP override failed");
                     request.setAttribute("error", "VIP booking failed. Please contact admin.");
                     showBookingForm(request, response, user);
                     return;
@@ -254,7 +257,7 @@ public class BookingController extends HttpServlet {
 
             // ✅ NORMAL USER LOGIC - If not VIP or slot is available
             if (!slotAvailable) {
-                System.err.println("❌ Time slot not available for normal user: " + timeSlot);
+                log.info("❌ Time slot not available for normal user: {}", timeSlot);
 
                 BookingDaoImpl bookingDao = new BookingDaoImpl();
                 List<String> alternativeSlots = bookingDao.getAlternativeTimeSlots(cabinId, bookingDate, timeSlot, 3);
@@ -281,7 +284,7 @@ public class BookingController extends HttpServlet {
             boolean bookingSuccess = bookingService.createBooking(newBooking, user);
 
             if (bookingSuccess) {
-                System.out.println("✅ Booking created successfully: ID " + newBooking.getBookingId());
+                log.info("✅ Booking created successfully: ID {}", newBooking.getBookingId());
 
                 HttpSession session = request.getSession();
                 session.setAttribute("successMessage",
@@ -291,14 +294,13 @@ public class BookingController extends HttpServlet {
                 response.sendRedirect(request.getContextPath() + "/mybookings");
 
             } else {
-                System.err.println("❌ Booking creation failed");
+                log.error("❌ Booking creation failed");
                 request.setAttribute("error", "Failed to create booking. Please try again.");
                 showBookingForm(request, response, user);
             }
 
         } catch (Exception e) {
-            System.err.println("❌ Error processing booking: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error processing booking: {}", e.getMessage(), e);
             request.setAttribute("error", "Error processing booking. Please try again.");
             showBookingForm(request, response, user);
         }
@@ -307,28 +309,25 @@ public class BookingController extends HttpServlet {
 
     private void checkAvailability(HttpServletRequest request, HttpServletResponse response, User user)
             throws ServletException, IOException {
-        System.out.println("🔍 Checking availability for AJAX request");
+        log.debug("🔍 Checking availability for AJAX request");
 
         // ✅ ADD VIP CHECK HERE:
-        System.out.println("🔍 User Type: " + user.getUserType());
-        System.out.println("🔍 Is VIP: " + user.isVIP());
+        log.info("🔍 User Type: {}", user.getUserType());
+        log.info("🔍 Is VIP: {}", user.isVIP());
 
         String cabinIdStr = request.getParameter("cabinId");
         String dateStr = request.getParameter("date");
         String startTime = request.getParameter("startTime");
         String durationStr = request.getParameter("duration");
 
-        response.setContentType("application/json");
-        response.setCharacterEncoding("UTF-8");
-
         try {
             if (cabinIdStr == null || cabinIdStr.trim().isEmpty() ||
                     dateStr == null || dateStr.trim().isEmpty() ||
                     startTime == null || startTime.trim().isEmpty() ||
                     durationStr == null || durationStr.trim().isEmpty()) {
 
-                System.err.println("❌ Missing parameters in availability check");
-                response.getWriter().write("{\"available\": false, \"error\": \"Missing parameters\"}");
+                log.error("❌ Missing parameters in availability check");
+                JsonResponseWriter.write(response, AvailabilityResponse.error("Missing parameters"));
                 return;
             }
 
@@ -339,22 +338,23 @@ public class BookingController extends HttpServlet {
             String timeSlot = generateTimeSlot(startTime, duration);
 
             if (timeSlot == null) {
-                System.err.println("❌ Invalid time slot generated");
-                response.getWriter().write("{\"available\": false, \"error\": \"Invalid time slot\"}");
+                log.error("❌ Invalid time slot generated");
+                JsonResponseWriter.write(response, AvailabilityResponse.error("Invalid time slot"));
                 return;
             }
 
-            System.out.println("🔍 Checking: Cabin " + cabinId + ", Date " + date + ", Slot " + timeSlot);
+            log.debug("🔍 Checking: Cabin {}, Date {}, Slot {}", cabinId, date, timeSlot);
 
             boolean isAvailable = bookingService.isSlotAvailable(cabinId, date, timeSlot);
 
             if (isAvailable) {
-                response.getWriter().write("{\"available\": true, \"timeSlot\": \"" + timeSlot + "\"}");
+                JsonResponseWriter.writeCacheable(request, response, AvailabilityResponse.available(timeSlot));
             } else {
                 // ✅ VIP OVERRIDE FOR AJAX:
                 if (user.isVIP()) {
-                    System.out.println("⭐⭐⭐ VIP USER DETECTED IN AJAX - ALLOWING OVERRIDE!");
-                    response.getWriter().write("{\"available\": true, \"vipOverride\": true, \"message\": \"VIP Override: You can book this slot. Conflicting users will be reallocated.\", \"timeSlot\": \"" + timeSlot + "\"}");
+                    log.info("⭐⭐⭐ VIP USER DETECTED IN AJAX - ALLOWING OVERRIDE!");
+                    JsonResponseWriter.writeCacheable(request, response, AvailabilityResponse.vipOverride(timeSlot,
+                            "VIP Override: You can book this slot. Conflicting users will be reallocated."));
                     return;
                 }
 
@@ -362,19 +362,12 @@ public class BookingController extends HttpServlet {
                 BookingDaoImpl bookingDao = new BookingDaoImpl();
                 List<String> alternativeSlots = bookingDao.getAlternativeTimeSlots(cabinId, date, timeSlot, 3);
 
-                StringBuilder alternatives = new StringBuilder();
-                for (int i = 0; i < alternativeSlots.size(); i++) {
-                    if (i > 0) alternatives.append(", ");
-                    alternatives.append("\"").append(alternativeSlots.get(i)).append("\"");
-                }
-
-                response.getWriter().write("{\"available\": false, \"alternatives\": [" + alternatives + "]}");
+                JsonResponseWriter.writeCacheable(request, response, AvailabilityResponse.unavailable(alternativeSlots));
             }
 
         } catch (Exception e) {
-            System.err.println("❌ Error checking availability: " + e.getMessage());
-            e.printStackTrace();
-            response.getWriter().write("{\"available\": false, \"error\": \"Server error: " + e.getMessage() + "\"}");
+            log.error("❌ Error checking availability: {}", e.getMessage(), e);
+            JsonResponseWriter.write(response, AvailabilityResponse.error("Could not check availability. Please try again."));
         }
     }
 
@@ -383,10 +376,19 @@ public class BookingController extends HttpServlet {
     // ✅ UPDATED: Single company my bookings
     private void showMyBookings(HttpServletRequest request, HttpServletResponse response, User user)
             throws ServletException, IOException {
-        System.out.println("📋 Loading bookings for user: " + user.getName());
+        log.debug("📋 Loading bookings for user: {}", user.getName());
 
         try {
-            List<Booking> userBookings = bookingService.getUserBookings(user.getUserId());
+            // ✅ PERFORMANCE: One keyset page of bookings; tab and summary counts from a single GROUP BY
+            BookingCursor after = BookingCursor.fromToken(request.getParameter("after"));
+            BookingPage page = bookingService.getUserBookingsPage(user.getUserId(), after, BookingServiceImpl.DEFAULT_PAGE_SIZE);
+            List<Booking> userBookings = page.getBookings();
+            Map<String, Integer> counts = bookingService.getUserBookingCounts(user.getUserId());
+
+            int pendingCount = counts.getOrDefault(Booking.Status.PENDING.name(), 0);
+            int approvedCount = counts.getOrDefault(Booking.Status.APPROVED.name(), 0);
+            int rejectedCount = counts.getOrDefault(Booking.Status.REJECTED.name(), 0);
+            int totalBookings = counts.values().stream().mapToInt(Integer::intValue).sum();
 
             List<Booking> pendingBookings = userBookings.stream()
                     .filter(booking -> booking.getStatus() == Booking.Status.PENDING)
@@ -407,7 +409,7 @@ public class BookingController extends HttpServlet {
             }
 
             // ✅ SIMPLIFIED: Basic booking score
-            double bookingScore = calculateBasicBookingScore(userBookings);
+            double bookingScore = calculateBasicBookingScore(approvedCount, totalBookings);
 
             request.setAttribute("user", user);
             request.setAttribute("allBookings", userBookings);
@@ -416,19 +418,23 @@ public class BookingController extends HttpServlet {
             request.setAttribute("rejectedBookings", rejectedBookings);
             request.setAttribute("recommendedCabins", recommendedCabins);
             request.setAttribute("bookingScore", Math.round(bookingScore));
-            request.setAttribute("totalBookings", userBookings.size());
-
-            System.out.println("✅ Bookings loaded successfully");
-            System.out.println("   - Total bookings: " + userBookings.size());
-            System.out.println("   - Pending: " + pendingBookings.size());
-            System.out.println("   - Approved: " + approvedBookings.size());
-            System.out.println("   - Rejected: " + rejectedBookings.size());
+            request.setAttribute("totalBookings", totalBookings);
+            request.setAttribute("pendingCount", pendingCount);
+            request.setAttribute("approvedCount", approvedCount);
+            request.setAttribute("rejectedCount", rejectedCount);
+            request.setAttribute("nextToken", page.getNextToken());
+            request.setAttribute("isFirstPage", after == null);
+
+            log.info("✅ Bookings loaded successfully");
+            log.info("   - Total bookings: {} ({} on this page)", totalBookings, userBookings.size());
+            log.info("   - Pending: {}", pendingCount);
+            log.info("   - Approved: {}", approvedCount);
+            log.info("   - Rejected: {}", rejectedCount);
 
             request.getRequestDispatcher("/user/my-bookings.jsp").forward(request, response);
 
         } catch (Exception e) {
-            System.err.println("❌ Error loading bookings: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error loading bookings: {}", e.getMessage(), e);
             request.setAttribute("error", "Error loading your bookings. Please try again.");
             request.getRequestDispatcher("/common/error.jsp").forward(request, response);
         }
@@ -436,13 +442,13 @@ public class BookingController extends HttpServlet {
 
     private void cancelBooking(HttpServletRequest request, HttpServletResponse response, User user)
             throws ServletException, IOException {
-        System.out.println("🚫 Processing booking cancellation for user: " + user.getName());
+        log.info("🚫 Processing booking cancellation for user: {}", user.getName());
 
         String bookingIdStr = request.getParameter("bookingId");
 
         try {
             if (bookingIdStr == null || bookingIdStr.trim().isEmpty()) {
-                System.err.println("❌ No booking ID provided for cancellation");
+                log.error("❌ No booking ID provided for cancellation");
                 response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Booking ID is required");
                 return;
             }
@@ -451,19 +457,19 @@ public class BookingController extends HttpServlet {
 
             Booking booking = bookingService.getBookingById(bookingId);
             if (booking == null) {
-                System.err.println("❌ Booking not found: " + bookingId);
+                log.error("❌ Booking not found: {}", bookingId);
                 response.sendError(HttpServletResponse.SC_NOT_FOUND, "Booking not found");
                 return;
             }
 
             if (booking.getUserId() != user.getUserId() && !user.isAdmin()) {
-                System.err.println("❌ Unauthorized cancellation attempt: " + bookingId + " by user: " + user.getUserId());
+                log.info("❌ Unauthorized cancellation attempt: {} by user: {}", bookingId, user.getUserId());
                 response.sendError(HttpServletResponse.SC_FORBIDDEN, "Unauthorized");
                 return;
             }
 
             if (booking.getStatus() != Booking.Status.PENDING) {
-                System.err.println("❌ Cannot cancel non-pending booking: " + bookingId + " (Status: " + booking.getStatus() + ")");
+                log.info("❌ Cannot cancel non-pending booking: {} (Status: {})", bookingId, booking.getStatus());
                 HttpSession session = request.getSession();
                 session.setAttribute("errorMessage", "Only pending bookings can be cancelled");
                 response.sendRedirect(request.getContextPath() + "/mybookings");
@@ -474,21 +480,20 @@ public class BookingController extends HttpServlet {
 
             HttpSession session = request.getSession();
             if (cancellationSuccess) {
-                System.out.println("✅ Booking cancelled successfully: " + bookingId);
+                log.info("✅ Booking cancelled successfully: {}", bookingId);
                 session.setAttribute("successMessage", "Booking cancelled successfully");
             } else {
-                System.err.println("❌ Booking cancellation failed: " + bookingId);
+                log.error("❌ Booking cancellation failed: {}", bookingId);
                 session.setAttribute("errorMessage", "Failed to cancel booking. Please try again.");
             }
 
             response.sendRedirect(request.getContextPath() + "/mybookings");
 
         } catch (NumberFormatException e) {
-            System.err.println("❌ Invalid booking ID format: " + bookingIdStr);
+            log.error("❌ Invalid booking ID format: {}", bookingIdStr);
             response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Invalid booking ID");
         } catch (Exception e) {
-            System.err.println("❌ Error cancelling booking: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error cancelling booking: {}", e.getMessage(), e);
             HttpSession session = request.getSession();
             session.setAttribute("errorMessage", "Error cancelling booking. Please try again.");
             response.sendRedirect(request.getContextPath() + "/mybookings");
@@ -497,14 +502,12 @@ public class BookingController extends HttpServlet {
 
     private void getAlternatives(HttpServletRequest request, HttpServletResponse response, User user)
             throws ServletException, IOException {
-        System.out.println("🔄 Getting alternatives for user: " + user.getName());
+        log.debug("🔄 Getting alternatives for user: {}", user.getName());
 
         String cabinIdStr = request.getParameter("cabinId");
         String dateStr = request.getParameter("date");
         String timeSlot = request.getParameter("timeSlot");
 
-        response.setContentType("application/json");
-
         try {
             int cabinId = Integer.parseInt(cabinIdStr);
             Date date = Date.valueOf(dateStr);
@@ -512,19 +515,11 @@ public class BookingController extends HttpServlet {
             BookingDaoImpl bookingDao = new BookingDaoImpl();
             List<String> alternativeSlots = bookingDao.getAlternativeTimeSlots(cabinId, date, timeSlot, 5);
 
-            StringBuilder jsonResponse = new StringBuilder();
-            jsonResponse.append("{\"timeSlots\": [");
-            for (int i = 0; i < alternativeSlots.size(); i++) {
-                if (i > 0) jsonResponse.append(", ");
-                jsonResponse.append("\"").append(alternativeSlots.get(i)).append("\"");
-            }
-            jsonResponse.append("]}");
-
-            response.getWriter().write(jsonResponse.toString());
+            JsonResponseWriter.writeCacheable(request, response, new AlternativesResponse(alternativeSlots));
 
         } catch (Exception e) {
-            System.err.println("❌ Error getting alternatives: " + e.getMessage());
-            response.getWriter().write("{\"error\": \"Failed to get alternatives\"}");
+            log.error("❌ Error getting alternatives: {}", e.getMessage());
+            JsonResponseWriter.write(response, new ErrorResponse("Failed to get alternatives"));
         }
     }
 
@@ -532,14 +527,6 @@ public class BookingController extends HttpServlet {
     // UTILITY METHODS
     // ================================
 
-    private User getCurrentUser(HttpServletRequest request) {
-        HttpSession session = request.getSession(false);
-        if (session != null) {
-            return (User) session.getAttribute("user");
-        }
-        return null;
-    }
-
     private String getActionFromRequest(HttpServletRequest request) {
         String requestURI = request.getRequestURI();
         String contextPath = request.getContextPath();
@@ -566,35 +553,26 @@ public class BookingController extends HttpServlet {
     }
 
     private String generateTimeSlot(String startTime, int durationMinutes) {
-        try {
-            String[] parts = startTime.split(":");
-            int hours = Integer.parseInt(parts[0]);
-            int minutes = Integer.parseInt(parts[1]);
-
-            int totalMinutes = hours * 60 + minutes + durationMinutes;
-            int endHours = totalMinutes / 60;
-            int endMins = totalMinutes % 60;
-
-            if (endHours > 18) {
-                return null; // Beyond business hours
-            }
-
-            String endTime = String.format("%02d:%02d", endHours, endMins);
-            return startTime + "-" + endTime;
-
-        } catch (Exception e) {
-            System.err.println("❌ Error generating time slot: " + e.getMessage());
+        int startMinute = TimeSlot.parseMinute(startTime);
+        if (startMinute == TimeSlot.INVALID) {
+            log.error("❌ Error generating time slot: invalid start time {}", startTime);
             return null;
         }
+
+        int endMinute = startMinute + durationMinutes;
+        if (endMinute > SlotGrid.DAY_END_MINUTE) {
+            return null; // Beyond business hours
+        }
+
+        TimeSlot slot = TimeSlot.of(startMinute, endMinute);
+        return slot == null ? null : slot.toString();
     }
 
     private List<String> generateStartTimeOptions() {
         List<String> startTimes = new ArrayList<>();
 
-        for (int hour = 9; hour < 18; hour++) {
-            for (int minute = 0; minute < 60; minute += 15) {
-                startTimes.add(String.format("%02d:%02d", hour, minute));
-            }
+        for (int granule = 0; granule < SlotGrid.GRANULES; granule++) {
+            startTimes.add(SlotGrid.minuteLabel(SlotGrid.granuleToMinute(granule)));
         }
 
         return startTimes;
@@ -615,14 +593,10 @@ public class BookingController extends HttpServlet {
     }
 
     // ✅ NEW: Basic booking score calculation (replacement for AI)
-    private double calculateBasicBookingScore(List<Booking> bookings) {
-        if (bookings.isEmpty()) return 0.0;
-
-        long approvedBookings = bookings.stream()
-                .filter(b -> b.getStatus() == Booking.Status.APPROVED)
-                .count();
+    private double calculateBasicBookingScore(int approvedBookings, int totalBookings) {
+        if (totalBookings == 0) return 0.0;
 
-        double approvalRate = (double) approvedBookings / bookings.size();
+        double approvalRate = (double) approvedBookings / totalBookings;
         return Math.min(100.0, approvalRate * 100.0);
     }
 
@@ -655,6 +629,10 @@ public class BookingController extends HttpServlet {
             return "Please select a time slot";
         }
 
+        if (TimeSlot.parse(timeSlot) == null) {
+            return "Invalid time slot format";
+        }
+
         if (purpose == null || purpose.trim().isEmpty()) {
             return "Please enter the purpose of booking";
         }
@@ -667,22 +645,19 @@ public class BookingController extends HttpServlet {
     }
     private void checkMultiDayAvailability(HttpServletRequest request, HttpServletResponse response, User user)
             throws ServletException, IOException {
-        System.out.println("🔍 Checking multi-day availability for AJAX request");
+        log.debug("🔍 Checking multi-day availability for AJAX request");
 
         String cabinIdStr = request.getParameter("cabinId");
         String startDateStr = request.getParameter("startDate");
         String endDateStr = request.getParameter("endDate");
 
-        response.setContentType("application/json");
-        response.setCharacterEncoding("UTF-8");
-
         try {
             if (cabinIdStr == null || cabinIdStr.trim().isEmpty() ||
                     startDateStr == null || startDateStr.trim().isEmpty() ||
                     endDateStr == null || endDateStr.trim().isEmpty()) {
 
-                System.err.println("❌ Missing parameters in multi-day availability check");
-                response.getWriter().write("{\"available\": false, \"error\": \"Missing parameters\"}");
+                log.error("❌ Missing parameters in multi-day availability check");
+                JsonResponseWriter.write(response, AvailabilityResponse.error("Missing parameters"));
                 return;
             }
 
@@ -691,46 +666,38 @@ public class BookingController extends HttpServlet {
             Date endDate = Date.valueOf(endDateStr);
 
             // Check if date range is valid (max 30 days)
-            long diffInMillies = endDate.getTime() - startDate.getTime();
-            long diffInDays = diffInMillies / (1000 * 60 * 60 * 24);
+            long diffInDays = endDate.toLocalDate().toEpochDay() - startDate.toLocalDate().toEpochDay();
 
             if (diffInDays > 30) {
-                response.getWriter().write("{\"available\": false, \"error\": \"Maximum 30 days allowed\"}");
+                JsonResponseWriter.write(response, AvailabilityResponse.error("Maximum 30 days allowed"));
                 return;
             }
 
             if (diffInDays < 0) {
-                response.getWriter().write("{\"available\": false, \"error\": \"End date must be after start date\"}");
+                JsonResponseWriter.write(response, AvailabilityResponse.error("End date must be after start date"));
                 return;
             }
 
-            // Check availability for each day in the range
-            List<String> conflictDays = new ArrayList<>();
-            Date currentDate = new Date(startDate.getTime());
-
-            while (!currentDate.after(endDate)) {
-                if (!bookingService.isSlotAvailable(cabinId, currentDate, "09:00-18:00")) {
-                    conflictDays.add(currentDate.toString());
-                }
-                // Move to next day
-                currentDate = new Date(currentDate.getTime() + (1000 * 60 * 60 * 24));
+            // ✅ PERFORMANCE: One range lookup returns a busy bitmask per day
+            long[] occupancy = bookingService.getDailyOccupancy(cabinId, startDate, endDate);
+            if (occupancy.length != diffInDays + 1) {
+                JsonResponseWriter.write(response, AvailabilityResponse.error("Could not load availability"));
+                return;
             }
 
-            if (conflictDays.isEmpty()) {
-                response.getWriter().write("{\"available\": true}");
-            } else {
-                StringBuilder conflicts = new StringBuilder();
-                for (int i = 0; i < conflictDays.size(); i++) {
-                    if (i > 0) conflicts.append(", ");
-                    conflicts.append("\"").append(conflictDays.get(i)).append("\"");
-                }
-                response.getWriter().write("{\"available\": false, \"conflictDays\": [" + conflicts + "]}");
+            LocalDate firstDay = startDate.toLocalDate();
+            List<MultiDayAvailabilityResponse.Day> days = new ArrayList<>(occupancy.length);
+            for (int i = 0; i < occupancy.length; i++) {
+                days.add(new MultiDayAvailabilityResponse.Day(firstDay.plusDays(i).toString(),
+                        occupancy[i], ~occupancy[i] & SlotGrid.FULL_DAY_MASK));
             }
 
+            JsonResponseWriter.writeCacheable(request, response, new MultiDayAvailabilityResponse(cabinId,
+                    SlotGrid.minuteLabel(SlotGrid.DAY_START_MINUTE), SlotGrid.GRANULE_MINUTES, days));
+
         } catch (Exception e) {
-            System.err.println("❌ Error checking multi-day availability: " + e.getMessage());
-            e.printStackTrace();
-            response.getWriter().write("{\"available\": false, \"error\": \"Server error: " + e.getMessage() + "\"}");
+            log.error("❌ Error checking multi-day availability: {}", e.getMessage(), e);
+            JsonResponseWriter.write(response, AvailabilityResponse.error("Could not check availability. Please try again."));
         }
     }
 
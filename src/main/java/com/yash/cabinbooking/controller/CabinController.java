@@ -7,6 +7,8 @@ import com.yash.cabinbooking.serviceimpl.CompanyServiceImpl;
 import com.yash.cabinbooking.model.Cabin;
 import com.yash.cabinbooking.model.User;
 import com.yash.cabinbooking.model.Company;
+import com.yash.cabinbooking.util.SessionUtil;
+import com.yash.cabinbooking.logging.Logger;
 
 import javax.servlet.ServletException;
 import javax.servlet.annotation.WebServlet;
@@ -28,6 +30,8 @@ import java.util.stream.Collectors;
 })
 public class CabinController extends HttpServlet {
 
+    private static final Logger log = Logger.getLogger(CabinController.class);
+
     private CabinService cabinService;
     private CompanyService companyService;
 
@@ -35,7 +39,7 @@ public class CabinController extends HttpServlet {
     public void init() throws ServletException {
         this.cabinService = new CabinServiceImpl();
         this.companyService = new CompanyServiceImpl();
-        System.out.println("🔧 CabinController initialized for Yash Technology (Single Company)");
+        log.info("🔧 CabinController initialized for Yash Technology (Single Company)");
     }
 
     @Override
@@ -43,7 +47,7 @@ public class CabinController extends HttpServlet {
             throws ServletException, IOException {
 
         String action = getActionFromRequest(request);
-        System.out.println("🌐 Cabin GET Request: " + action);
+        log.info("🌐 Cabin GET Request: {}", action);
 
         try {
             switch (action) {
@@ -69,8 +73,7 @@ public class CabinController extends HttpServlet {
                     break;
             }
         } catch (Exception e) {
-            System.err.println("❌ Error processing cabin GET request: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error processing cabin GET request: {}", e.getMessage(), e);
             handleError(request, response, "Error processing request", e);
         }
     }
@@ -80,7 +83,7 @@ public class CabinController extends HttpServlet {
             throws ServletException, IOException {
 
         String action = getActionFromRequest(request);
-        System.out.println("📝 Cabin POST Request: " + action);
+        log.info("📝 Cabin POST Request: {}", action);
 
         // ✅ ENHANCED: Better action detection
         String formAction = request.getParameter("action");
@@ -108,14 +111,13 @@ public class CabinController extends HttpServlet {
                     processStatusUpdate(request, response);
                     break;
                 default:
-                    System.err.println("❌ Unknown action: " + action);
+                    log.error("❌ Unknown action: {}", action);
                     setErrorMessage(request, "Invalid action: " + action);
                     response.sendRedirect(request.getContextPath() + "/admin/manage-cabins");
                     break;
             }
         } catch (Exception e) {
-            System.err.println("❌ Error processing cabin POST request: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error processing cabin POST request: {}", e.getMessage(), e);
             handleError(request, response, "Error processing request", e);
         }
     }
@@ -124,38 +126,29 @@ public class CabinController extends HttpServlet {
 
     private void showAddCabinForm(HttpServletRequest request, HttpServletResponse response)
             throws ServletException, IOException {
-        System.out.println("📝 Showing add cabin form");
+        log.info("📝 Showing add cabin form");
 
-        User currentUser = getCurrentUser(request);
-        if (currentUser == null || !currentUser.isAdmin()) {
-            response.sendRedirect(request.getContextPath() + "/login");
-            return;
-        }
+        User currentUser = SessionUtil.getCurrentUser(request);
 
         try {
             Company company = companyService.getCompanyConfig();
             request.setAttribute("company", company);
             request.setAttribute("admin", currentUser);
 
-            System.out.println("✅ Add cabin form loaded for " + (company != null ? company.getName() : "Yash Technology"));
+            log.info("✅ Add cabin form loaded for {}", (company != null ? company.getName() : "Yash Technology"));
             request.getRequestDispatcher("/admin/add-cabin.jsp").forward(request, response);
 
         } catch (Exception e) {
-            System.err.println("❌ Error loading add cabin form: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error loading add cabin form: {}", e.getMessage(), e);
             handleError(request, response, "Error loading add cabin form", e);
         }
     }
 
     private void showCabinManagement(HttpServletRequest request, HttpServletResponse response)
             throws ServletException, IOException {
-        System.out.println("📋 Showing cabin management dashboard");
+        log.info("📋 Showing cabin management dashboard");
 
-        User currentUser = getCurrentUser(request);
-        if (currentUser == null || !currentUser.isAdmin()) {
-            response.sendRedirect(request.getContextPath() + "/login");
-            return;
-        }
+        User currentUser = SessionUtil.getCurrentUser(request);
 
         try {
             String statusFilter = request.getParameter("status");
@@ -168,9 +161,9 @@ public class CabinController extends HttpServlet {
                     cabins = cabins.stream()
                             .filter(cabin -> cabin.getStatus() == status)
                             .collect(Collectors.toList());
-                    System.out.println("📋 Filtered cabins by status: " + status);
+                    log.info("📋 Filtered cabins by status: {}", status);
                 } catch (IllegalArgumentException e) {
-                    System.err.println("❌ Invalid status filter: " + statusFilter);
+                    log.error("❌ Invalid status filter: {}", statusFilter);
                 }
             }
 
@@ -189,25 +182,20 @@ public class CabinController extends HttpServlet {
             request.setAttribute("activeCabins", activeCabins);
             request.setAttribute("vipCabins", vipCabins.size());
 
-            System.out.println("✅ Cabin management loaded with " + cabins.size() + " cabins");
+            log.info("✅ Cabin management loaded with {} cabins", cabins.size());
             request.getRequestDispatcher("/admin/manage-cabins.jsp").forward(request, response);
 
         } catch (Exception e) {
-            System.err.println("❌ Error loading cabin management: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error loading cabin management: {}", e.getMessage(), e);
             handleError(request, response, "Error loading cabin management", e);
         }
     }
 
     private void showEditCabinForm(HttpServletRequest request, HttpServletResponse response)
             throws ServletException, IOException {
-        System.out.println("✏️ Showing edit cabin form");
+        log.info("✏️ Showing edit cabin form");
 
-        User currentUser = getCurrentUser(request);
-        if (currentUser == null || !currentUser.isAdmin()) {
-            response.sendRedirect(request.getContextPath() + "/login");
-            return;
-        }
+        User currentUser = SessionUtil.getCurrentUser(request);
 
         try {
             String cabinIdStr = request.getParameter("cabinId");
@@ -232,12 +220,12 @@ public class CabinController extends HttpServlet {
             request.setAttribute("cabin", cabin);
             request.setAttribute("company", company);
 
-            System.out.println("✅ Edit form loaded for cabin: " + cabin.getName());
+            log.info("✅ Edit form loaded for cabin: {}", cabin.getName());
             request.getRequestDispatcher("/admin/edit-cabin.jsp").forward(request, response);
 
         } catch (Exception e) {
             // ✅ FIXED: Single catch block for all exceptions
-            System.err.println("❌ Error loading edit cabin form: " + e.getMessage());
+            log.error("❌ Error loading edit cabin form: {}", e.getMessage());
             setErrorMessage(request, "Error loading edit form. Please check the cabin ID.");
             response.sendRedirect(request.getContextPath() + "/admin/manage-cabins");
         }
@@ -245,7 +233,7 @@ public class CabinController extends HttpServlet {
 
     private void showCabinDetails(HttpServletRequest request, HttpServletResponse response)
             throws ServletException, IOException {
-        System.out.println("👁️ Showing cabin details");
+        log.info("👁️ Showing cabin details");
 
         try {
             String cabinIdStr = request.getParameter("cabinId");
@@ -264,24 +252,24 @@ public class CabinController extends HttpServlet {
 
             List<Cabin> similarCabins = cabinService.getSimilarCabins(cabinId);
 
-            User currentUser = getCurrentUser(request);
+            User currentUser = SessionUtil.getCurrentUser(request);
             request.setAttribute("cabin", cabin);
             request.setAttribute("similarCabins", similarCabins);
             request.setAttribute("user", currentUser);
 
-            System.out.println("✅ Cabin details loaded: " + cabin.getName());
+            log.info("✅ Cabin details loaded: {}", cabin.getName());
             request.getRequestDispatcher("/cabin/details.jsp").forward(request, response);
 
         } catch (Exception e) {
             // ✅ FIXED: Single catch block
-            System.err.println("❌ Error loading cabin details: " + e.getMessage());
+            log.error("❌ Error loading cabin details: {}", e.getMessage());
             response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Invalid cabin ID or cabin not found");
         }
     }
 
     private void searchCabins(HttpServletRequest request, HttpServletResponse response)
             throws ServletException, IOException {
-        System.out.println("🔍 Processing cabin search");
+        log.info("🔍 Processing cabin search");
 
         try {
             String searchType = request.getParameter("type");
@@ -302,7 +290,7 @@ public class CabinController extends HttpServlet {
                         cabins = cabinService.getCabinsByLocation(searchValue);
                         break;
                     default:
-                        System.err.println("❌ Invalid search type: " + searchType);
+                        log.error("❌ Invalid search type: {}", searchType);
                         break;
                 }
             }
@@ -312,12 +300,11 @@ public class CabinController extends HttpServlet {
             request.setAttribute("searchValue", searchValue);
             request.setAttribute("resultCount", cabins.size());
 
-            System.out.println("✅ Search completed: " + cabins.size() + " results");
+            log.info("✅ Search completed: {} results", cabins.size());
             request.getRequestDispatcher("/cabin/search-results.jsp").forward(request, response);
 
         } catch (Exception e) {
-            System.err.println("❌ Error processing cabin search: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error processing cabin search: {}", e.getMessage(), e);
             handleError(request, response, "Error processing search", e);
         }
     }
@@ -326,13 +313,7 @@ public class CabinController extends HttpServlet {
 
     private void processAddCabin(HttpServletRequest request, HttpServletResponse response)
             throws ServletException, IOException {
-        System.out.println("➕ Processing add cabin request");
-
-        User currentUser = getCurrentUser(request);
-        if (currentUser == null || !currentUser.isAdmin()) {
-            response.sendRedirect(request.getContextPath() + "/login");
-            return;
-        }
+        log.info("➕ Processing add cabin request");
 
         try {
             String name = request.getParameter("name");
@@ -372,7 +353,7 @@ public class CabinController extends HttpServlet {
 
             if (success) {
                 setSuccessMessage(request, "Cabin '" + cabin.getName() + "' added successfully!");
-                System.out.println("✅ Cabin added successfully: " + cabin.getName() + " (ID: " + cabin.getCabinId() + ")");
+                log.info("✅ Cabin added successfully: {} (ID: {})", cabin.getName(), cabin.getCabinId());
                 response.sendRedirect(request.getContextPath() + "/admin/manage-cabins");
             } else {
                 setErrorMessage(request, "Failed to add cabin. Please try again.");
@@ -381,7 +362,7 @@ public class CabinController extends HttpServlet {
 
         } catch (Exception e) {
             // ✅ FIXED: Single catch block for all exceptions
-            System.err.println("❌ Error processing add cabin: " + e.getMessage());
+            log.error("❌ Error processing add cabin: {}", e.getMessage());
             setErrorMessage(request, "Error adding cabin. Please check all input values.");
             response.sendRedirect(request.getContextPath() + "/admin/add-cabin");
         }
@@ -389,13 +370,7 @@ public class CabinController extends HttpServlet {
 
     private void processEditCabin(HttpServletRequest request, HttpServletResponse response)
             throws ServletException, IOException {
-        System.out.println("✏️ Processing edit cabin request");
-
-        User currentUser = getCurrentUser(request);
-        if (currentUser == null || !currentUser.isAdmin()) {
-            response.sendRedirect(request.getContextPath() + "/login");
-            return;
-        }
+        log.info("✏️ Processing edit cabin request");
 
         try {
             String cabinIdStr = request.getParameter("cabinId");
@@ -440,7 +415,7 @@ public class CabinController extends HttpServlet {
 
             if (success) {
                 setSuccessMessage(request, "Cabin '" + cabin.getName() + "' updated successfully!");
-                System.out.println("✅ Cabin updated successfully: " + cabin.getName());
+                log.info("✅ Cabin updated successfully: {}", cabin.getName());
             } else {
                 setErrorMessage(request, "Failed to update cabin. Please try again.");
             }
@@ -449,7 +424,7 @@ public class CabinController extends HttpServlet {
 
         } catch (Exception e) {
             // ✅ FIXED: Single catch block for all exceptions
-            System.err.println("❌ Error processing edit cabin: " + e.getMessage());
+            log.error("❌ Error processing edit cabin: {}", e.getMessage());
             setErrorMessage(request, "Error updating cabin. Please check all input values.");
             response.sendRedirect(request.getContextPath() + "/admin/manage-cabins");
         }
@@ -457,13 +432,7 @@ public class CabinController extends HttpServlet {
 
     private void processDeleteCabin(HttpServletRequest request, HttpServletResponse response)
             throws ServletException, IOException {
-        System.out.println("🗑️ Processing delete cabin request");
-
-        User currentUser = getCurrentUser(request);
-        if (currentUser == null || !currentUser.isAdmin()) {
-            response.sendRedirect(request.getContextPath() + "/login");
-            return;
-        }
+        log.info("🗑️ Processing delete cabin request");
 
         try {
             String cabinIdStr = request.getParameter("cabinId");
@@ -483,7 +452,7 @@ public class CabinController extends HttpServlet {
 
             if (success) {
                 setSuccessMessage(request, "Cabin '" + cabinName + "' deleted successfully!");
-                System.out.println("✅ Cabin deleted successfully: " + cabinName);
+                log.info("✅ Cabin deleted successfully: {}", cabinName);
             } else {
                 setErrorMessage(request, "Failed to delete cabin. It may have active bookings.");
             }
@@ -492,7 +461,7 @@ public class CabinController extends HttpServlet {
 
         } catch (Exception e) {
             // ✅ FIXED: Single catch block for all exceptions
-            System.err.println("❌ Error processing delete cabin: " + e.getMessage());
+            log.error("❌ Error processing delete cabin: {}", e.getMessage());
             setErrorMessage(request, "Error deleting cabin. Please check the cabin ID.");
             response.sendRedirect(request.getContextPath() + "/admin/manage-cabins");
         }
@@ -500,19 +469,13 @@ public class CabinController extends HttpServlet {
 
     private void processStatusUpdate(HttpServletRequest request, HttpServletResponse response)
             throws ServletException, IOException {
-        System.out.println("🔄 Processing cabin status update");
-
-        User currentUser = getCurrentUser(request);
-        if (currentUser == null || !currentUser.isAdmin()) {
-            response.sendRedirect(request.getContextPath() + "/login");
-            return;
-        }
+        log.info("🔄 Processing cabin status update");
 
         try {
             String cabinIdStr = request.getParameter("cabinId");
             String statusStr = request.getParameter("status");
 
-            System.out.println("📋 Status update parameters - cabinId: " + cabinIdStr + ", status: " + statusStr);
+            log.info("📋 Status update parameters - cabinId: {}, status: {}", cabinIdStr, statusStr);
 
             if (cabinIdStr == null || statusStr == null) {
                 setErrorMessage(request, "Cabin ID and status are required");
@@ -531,17 +494,17 @@ public class CabinController extends HttpServlet {
 
             if (success) {
                 setSuccessMessage(request, "Cabin '" + cabinName + "' status updated to " + status + " successfully!");
-                System.out.println("✅ Cabin status updated: " + cabinName + " to " + status);
+                log.info("✅ Cabin status updated: {} to {}", cabinName, status);
             } else {
                 setErrorMessage(request, "Failed to update cabin status. Please try again.");
-                System.err.println("❌ Failed to update cabin status for: " + cabinName);
+                log.error("❌ Failed to update cabin status for: {}", cabinName);
             }
 
             response.sendRedirect(request.getContextPath() + "/admin/manage-cabins");
 
         } catch (Exception e) {
             // ✅ FIXED: Single catch block for all exceptions
-            System.err.println("❌ Error processing status update: " + e.getMessage());
+            log.error("❌ Error processing status update: {}", e.getMessage());
             setErrorMessage(request, "Error updating cabin status. Please check the parameters.");
             response.sendRedirect(request.getContextPath() + "/admin/manage-cabins");
         }
@@ -549,25 +512,13 @@ public class CabinController extends HttpServlet {
 
     // ==================== UTILITY METHODS ====================
 
-    private User getCurrentUser(HttpServletRequest request) {
-        try {
-            HttpSession session = request.getSession(false);
-            if (session != null) {
-                return (User) session.getAttribute("user");
-            }
-        } catch (Exception e) {
-            System.err.println("❌ Error getting current user: " + e.getMessage());
-        }
-        return null;
-    }
-
     private String getActionFromRequest(HttpServletRequest request) {
         try {
             String requestURI = request.getRequestURI();
             String contextPath = request.getContextPath();
             String path = requestURI.substring(contextPath.length());
 
-            System.out.println("🔍 Processing path: " + path);
+            log.info("🔍 Processing path: {}", path);
 
             // Handle specific admin cabin routes
             if (path.equals("/admin/update-cabin-status")) {
@@ -591,7 +542,7 @@ public class CabinController extends HttpServlet {
             return path.isEmpty() ? "manage-cabins" : path.substring(1);
 
         } catch (Exception e) {
-            System.err.println("❌ Error extracting action: " + e.getMessage());
+            log.error("❌ Error extracting action: {}", e.getMessage());
             return "manage-cabins";
         }
     }
@@ -599,13 +550,13 @@ public class CabinController extends HttpServlet {
     private void setSuccessMessage(HttpServletRequest request, String message) {
         HttpSession session = request.getSession();
         session.setAttribute("successMessage", message);
-        System.out.println("✅ Success message set: " + message);
+        log.info("✅ Success message set: {}", message);
     }
 
     private void setErrorMessage(HttpServletRequest request, String message) {
         HttpSession session = request.getSession();
         session.setAttribute("errorMessage", message);
-        System.out.println("❌ Error message set: " + message);
+        log.info("❌ Error message set: {}", message);
     }
 
     private void handleError(HttpServletRequest request, HttpServletResponse response,
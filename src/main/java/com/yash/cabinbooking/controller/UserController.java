@@ -7,13 +7,14 @@ import com.yash.cabinbooking.serviceimpl.*;
 import com.yash.cabinbooking.model.*;
 import com.yash.cabinbooking.dao.CabinDao;
 import com.yash.cabinbooking.daoimpl.CabinDaoImpl;
+import com.yash.cabinbooking.util.SessionUtil;
+import com.yash.cabinbooking.logging.Logger;
 
 import javax.servlet.ServletException;
 import javax.servlet.annotation.WebServlet;
 import javax.servlet.http.HttpServlet;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
-import javax.servlet.http.HttpSession;
 import java.io.IOException;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -21,6 +22,8 @@ import java.util.stream.Collectors;
 @WebServlet(name = "UserController", urlPatterns = {"/dashboard", "/profile", "/company/*"})
 public class UserController extends HttpServlet {
 
+    private static final Logger log = Logger.getLogger(UserController.class);
+
     private UserService userService;
     private CompanyService companyService;
     private BookingService bookingService;
@@ -34,22 +37,18 @@ public class UserController extends HttpServlet {
         this.bookingService = new BookingServiceImpl();
         // ✅ REMOVED: this.aiService = new AIRecommendationServiceImpl();
         this.cabinDAO = new CabinDaoImpl();
-        System.out.println("🔧 UserController initialized for Yash Technology (Single Company)");
+        log.info("🔧 UserController initialized for Yash Technology (Single Company)");
     }
 
     @Override
     protected void doGet(HttpServletRequest request, HttpServletResponse response)
             throws ServletException, IOException {
 
-        User currentUser = getCurrentUser(request);
-        if (currentUser == null) {
-            System.out.println("🔒 Unauthorized access attempt, redirecting to login");
-            response.sendRedirect(request.getContextPath() + "/login");
-            return;
-        }
+        // ✅ AuthFilter has already turned away anonymous requests
+        User currentUser = SessionUtil.getCurrentUser(request);
 
         String action = getActionFromRequest(request);
-        System.out.println("🌐 GET Request: " + action + " by user: " + currentUser.getName());
+        log.info("🌐 GET Request: {} by user: {}", action, currentUser.getName());
 
         switch (action) {
             case "dashboard":
@@ -71,14 +70,11 @@ public class UserController extends HttpServlet {
     protected void doPost(HttpServletRequest request, HttpServletResponse response)
             throws ServletException, IOException {
 
-        User currentUser = getCurrentUser(request);
-        if (currentUser == null) {
-            response.sendRedirect(request.getContextPath() + "/login");
-            return;
-        }
+        // ✅ AuthFilter has already turned away anonymous requests
+        User currentUser = SessionUtil.getCurrentUser(request);
 
         String action = getActionFromRequest(request);
-        System.out.println("📝 POST Request: " + action + " by user: " + currentUser.getName());
+        log.info("📝 POST Request: {} by user: {}", action, currentUser.getName());
 
         switch (action) {
             case "profile":
@@ -93,13 +89,13 @@ public class UserController extends HttpServlet {
     // ✅ UPDATED: Single company dashboard
     private void showDashboard(HttpServletRequest request, HttpServletResponse response, User user)
             throws ServletException, IOException {
-        System.out.println("🏠 Loading dashboard for user: " + user.getName());
+        log.debug("🏠 Loading dashboard for user: {}", user.getName());
 
         try {
             // ✅ SINGLE COMPANY: Get company configuration instead of by ID
             Company userCompany = companyService.getCompanyConfig();
             if (userCompany == null) {
-                System.err.println("❌ Company configuration not found, creating default");
+                log.error("❌ Company configuration not found, creating default");
                 userCompany = createDefaultCompany();
             }
 
@@ -142,17 +138,16 @@ public class UserController extends HttpServlet {
             request.setAttribute("approvedBookings", (int) approvedBookings);
             request.setAttribute("bookingScore", Math.round(bookingScore));
 
-            System.out.println("✅ Dashboard data loaded successfully");
-            System.out.println("   - Accessible cabins: " + accessibleCabins.size());
-            System.out.println("   - Recommended cabins: " + recommendedCabins.size());
-            System.out.println("   - Recent bookings: " + recentBookings.size());
-            System.out.println("   - User booking score: " + Math.round(bookingScore));
+            log.info("✅ Dashboard data loaded successfully");
+            log.info("   - Accessible cabins: {}", accessibleCabins.size());
+            log.info("   - Recommended cabins: {}", recommendedCabins.size());
+            log.info("   - Recent bookings: {}", recentBookings.size());
+            log.info("   - User booking score: {}", Math.round(bookingScore));
 
             request.getRequestDispatcher("/user/dashboard.jsp").forward(request, response);
 
         } catch (Exception e) {
-            System.err.println("❌ Error loading dashboard: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error loading dashboard: {}", e.getMessage(), e);
             request.setAttribute("error", "Error loading dashboard. Please try again.");
             request.getRequestDispatcher("/common/error.jsp").forward(request, response);
         }
@@ -161,7 +156,10 @@ public class UserController extends HttpServlet {
     // ✅ UPDATED: Single company profile
     private void showProfile(HttpServletRequest request, HttpServletResponse response, User user)
             throws ServletException, IOException {
-        System.out.println("👤 Loading profile for user: " + user.getName());
+        log.debug("👤 Loading profile for user: {}", user.getName());
+
+        // Status and member-since are not kept in the session
+        user = loadFullProfile(user);
 
         try {
             // ✅ SINGLE COMPANY: Get company configuration
@@ -186,13 +184,12 @@ public class UserController extends HttpServlet {
             request.setAttribute("totalBookings", totalBookings);
             request.setAttribute("approvedBookings", (int) approvedBookings);
 
-            System.out.println("✅ Profile data loaded for user: " + user.getName());
+            log.info("✅ Profile data loaded for user: {}", user.getName());
 
             request.getRequestDispatcher("/user/profile.jsp").forward(request, response);
 
         } catch (Exception e) {
-            System.err.println("❌ Error loading profile: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error loading profile: {}", e.getMessage(), e);
             request.setAttribute("error", "Error loading profile. Please try again.");
             request.getRequestDispatcher("/common/error.jsp").forward(request, response);
         }
@@ -201,7 +198,10 @@ public class UserController extends HttpServlet {
     // ✅ UPDATED: Single company profile update
     private void updateProfile(HttpServletRequest request, HttpServletResponse response, User user)
             throws ServletException, IOException {
-        System.out.println("✏️ Updating profile for user: " + user.getName());
+        log.info("✏️ Updating profile for user: {}", user.getName());
+
+        // The session only holds id, name, email and role - update the full record
+        user = loadFullProfile(user);
 
         String name = request.getParameter("name");
         String email = request.getParameter("email");
@@ -216,14 +216,14 @@ public class UserController extends HttpServlet {
             // Update basic profile information
             if (name != null && !name.trim().isEmpty() && !name.equals(user.getName())) {
                 user.setName(name.trim());
-                System.out.println("📝 Name updated to: " + name);
+                log.info("📝 Name updated to: {}", name);
             }
 
             // Update email if changed
             if (email != null && !email.trim().isEmpty() && !email.equals(user.getEmail())) {
                 if (userService.isEmailAvailable(email.trim())) {
                     user.setEmail(email.trim().toLowerCase());
-                    System.out.println("📧 Email updated to: " + email);
+                    log.info("📧 Email updated to: {}", email);
                 } else {
                     errorMessage = "Email address is already in use";
                     updateSuccess = false;
@@ -243,7 +243,7 @@ public class UserController extends HttpServlet {
                                 user.getUserId(), currentPassword, newPassword);
 
                         if (passwordChanged) {
-                            System.out.println("🔑 Password updated successfully");
+                            log.info("🔑 Password updated successfully");
                         } else {
                             errorMessage = "Current password is incorrect";
                             updateSuccess = false;
@@ -263,12 +263,9 @@ public class UserController extends HttpServlet {
                 updateSuccess = userService.updateUserProfile(user);
                 if (updateSuccess) {
                     // Update session with new user data
-                    HttpSession session = request.getSession();
-                    session.setAttribute("user", user);
-                    session.setAttribute("userName", user.getName());
-                    session.setAttribute("userEmail", user.getEmail());
+                    SessionUtil.refresh(request, user);
 
-                    System.out.println("✅ Profile updated successfully for: " + user.getName());
+                    log.info("✅ Profile updated successfully for: {}", user.getName());
                     request.setAttribute("successMessage", "Profile updated successfully!");
                 } else {
                     errorMessage = "Failed to update profile. Please try again.";
@@ -276,7 +273,7 @@ public class UserController extends HttpServlet {
             }
 
             if (errorMessage != null) {
-                System.err.println("❌ Profile update failed: " + errorMessage);
+                log.error("❌ Profile update failed: {}", errorMessage);
                 request.setAttribute("error", errorMessage);
             }
 
@@ -284,8 +281,7 @@ public class UserController extends HttpServlet {
             showProfile(request, response, user);
 
         } catch (Exception e) {
-            System.err.println("❌ Error updating profile: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error updating profile: {}", e.getMessage(), e);
             request.setAttribute("error", "Error updating profile. Please try again.");
             showProfile(request, response, user);
         }
@@ -294,7 +290,7 @@ public class UserController extends HttpServlet {
     // ✅ UPDATED: Single company browsing (simplified)
     private void handleCompanyBrowsing(HttpServletRequest request, HttpServletResponse response, User user)
             throws ServletException, IOException {
-        System.out.println("🏢 Handling company browsing for user: " + user.getName());
+        log.info("🏢 Handling company browsing for user: {}", user.getName());
 
         try {
             // ✅ SINGLE COMPANY: Always show Yash Technology cabins
@@ -311,13 +307,12 @@ public class UserController extends HttpServlet {
             request.setAttribute("cabins", companyCabins);
             request.setAttribute("recommendedCabins", recommendedCabins);
 
-            System.out.println("🏠 Loaded " + companyCabins.size() + " cabins for " + company.getName());
+            log.info("🏠 Loaded {} cabins for {}", companyCabins.size(), company.getName());
 
             request.getRequestDispatcher("/user/company-cabins.jsp").forward(request, response);
 
         } catch (Exception e) {
-            System.err.println("❌ Error handling company browsing: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error handling company browsing: {}", e.getMessage(), e);
             request.setAttribute("error", "Error loading company information");
             request.getRequestDispatcher("/common/error.jsp").forward(request, response);
         }
@@ -327,12 +322,9 @@ public class UserController extends HttpServlet {
     // UTILITY METHODS
     // ================================
 
-    private User getCurrentUser(HttpServletRequest request) {
-        HttpSession session = request.getSession(false);
-        if (session != null) {
-            return (User) session.getAttribute("user");
-        }
-        return null;
+    private User loadFullProfile(User sessionUser) {
+        User fullUser = userService.getUserById(sessionUser.getUserId());
+        return fullUser != null ? fullUser : sessionUser;
     }
 
     private String getActionFromRequest(HttpServletRequest request) {
@@ -378,7 +370,7 @@ public class UserController extends HttpServlet {
                         .collect(Collectors.toList());
             }
         } catch (Exception e) {
-            System.err.println("❌ Error getting recommended cabins: " + e.getMessage());
+            log.error("❌ Error getting recommended cabins: {}", e.getMessage());
             return new java.util.ArrayList<>();
         }
     }
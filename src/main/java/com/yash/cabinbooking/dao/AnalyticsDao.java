@@ -0,0 +1,88 @@
+package com.yash.cabinbooking.dao;
+
+import java.sql.Date;
+import java.util.Map;
+
+public interface AnalyticsDao {
+
+    // ================================
+    // USER COUNTERS
+    // ================================
+
+    /**
+     * Count users per user_type (NORMAL, VIP, ADMIN, SUPER_ADMIN)
+     * @return Map of user type to count
+     */
+    Map<String, Integer> getUserCountsByType();
+
+    /**
+     * Count users per status (ACTIVE, INACTIVE)
+     * @return Map of status to count
+     */
+    Map<String, Integer> getUserCountsByStatus();
+
+    // ================================
+    // BOOKING COUNTERS
+    // ================================
+
+    /**
+     * Count bookings per status (PENDING, APPROVED, REJECTED, CANCELLED)
+     * @return Map of status to count
+     */
+    Map<String, Integer> getBookingCountsByStatus();
+
+    /**
+     * Count bookings per priority level (NORMAL, HIGH, VIP)
+     * @return Map of priority level to count
+     */
+    Map<String, Integer> getBookingCountsByPriority();
+
+    /**
+     * Count bookings scheduled for a date and approvals made on that date
+     * @param date Target date (IST)
+     * @return int[] {bookingsOnDate, approvalsOnDate}
+     */
+    int[] getBookingActivityForDate(Date date);
+
+    /**
+     * Count bookings per booking_date, from a date onwards
+     * @param fromDate First date to include
+     * @return Map of booking date to count
+     */
+    Map<Date, Integer> getBookingCountsByDate(Date fromDate);
+
+    /**
+     * Count approvals per approval day (IST), from a date onwards
+     * @param fromDate First date to include
+     * @return Map of approval date to count
+     */
+    Map<Date, Integer> getApprovalCountsByDate(Date fromDate);
+
+    /**
+     * Total minutes of APPROVED bookings per cabin
+     * @return Map of cabin ID to booked minutes
+     */
+    Map<Integer, Long> getApprovedMinutesByCabin();
+
+    /**
+     * Cabin and duration of every PENDING booking
+     * @return Map of booking ID to {cabinId, minutes}
+     */
+    Map<Integer, int[]> getPendingBookingMinutes();
+
+    // ================================
+    // CABIN COUNTERS
+    // ================================
+
+    /**
+     * Count cabins per status
+     * @return Map of status to count
+     */
+    Map<String, Integer> getCabinCountsByStatus();
+
+    /**
+     * Count VIP-only cabins per status
+     * @return Map of status to count
+     */
+    Map<String, Integer> getVIPCabinCountsByStatus();
+}
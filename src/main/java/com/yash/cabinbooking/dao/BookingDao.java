@@ -1,8 +1,15 @@
 package com.yash.cabinbooking.dao;
 
 import com.yash.cabinbooking.model.Booking;
+import com.yash.cabinbooking.model.BookingChange;
+import com.yash.cabinbooking.model.BookingCursor;
+import com.yash.cabinbooking.model.BookingExportFilter;
+import com.yash.cabinbooking.model.BookingPage;
+import com.yash.cabinbooking.model.CabinUtilization;
+import java.io.IOException;
 import java.sql.Date;
 import java.util.List;
+import java.util.Map;
 
 public interface BookingDao {
 
@@ -51,6 +58,16 @@ public interface BookingDao {
      */
     boolean updateBooking(Booking booking);
 
+    /**
+     * Move a booking to another cabin and approve it, under the target cabin-day lock
+     * with the same re-check as createBooking
+     * @param booking Booking as last read; on success its cabin and approval fields are updated
+     * @param newCabinId Cabin to move it to
+     * @param approvedBy Admin user ID
+     * @return false if the new cabin is taken for the slot or the booking changed since it was read
+     */
+    boolean moveBookingToCabin(Booking booking, int newCabinId, int approvedBy);
+
     /**
      * Cancel/delete a booking (soft delete)
      * @param bookingId Booking to cancel
@@ -96,6 +113,13 @@ public interface BookingDao {
      */
     List<Booking> getBookingsByDateRange(Date startDate, Date endDate);
 
+    /**
+     * Per-cabin booking count and booked minutes for one date (PENDING and APPROVED)
+     * @param date Target date
+     * @return Map of cabin ID to utilization (cabins with no bookings are absent)
+     */
+    Map<Integer, CabinUtilization> getCabinUtilizationForDate(Date date);
+
     /**
      * Approve a pending booking
      * @param bookingId Booking to approve
@@ -112,6 +136,31 @@ public interface BookingDao {
      */
     boolean rejectBooking(int bookingId, int approvedBy);
 
+    /**
+     * Approve many pending bookings in one transaction
+     * @param bookingIds Bookings to approve
+     * @param approvedBy Admin user ID
+     * @return Per-id outcome, parallel to bookingIds (false if not PENDING or on failure)
+     */
+    boolean[] approveBookings(int[] bookingIds, int approvedBy);
+
+    /**
+     * Reject many pending bookings in one transaction
+     * @param bookingIds Bookings to reject
+     * @param rejectedBy Admin user ID
+     * @return Per-id outcome, parallel to bookingIds (false if not PENDING or on failure)
+     */
+    boolean[] rejectBookings(int[] bookingIds, int rejectedBy);
+
+    /**
+     * Create a VIP booking, moving overlapping non-VIP bookings to a free accessible
+     * cabin (or rejecting them when none is free) - all in one transaction
+     * @param vipBooking VIP booking to create (priority, status and approval already set)
+     * @return The moved and rejected bookings, before and after (empty if nothing overlapped),
+     *         or null if nothing was committed
+     */
+    List<BookingChange> createVIPBookingWithPreemption(Booking vipBooking);
+
     // ================================
     // TIME SLOT MANAGEMENT
     // ================================
@@ -166,6 +215,15 @@ public interface BookingDao {
      */
     List<String> generateTimeSlotsForDuration(int durationMinutes);
 
+    /**
+     * Get per-day occupancy for a cabin over a date range in one lookup
+     * @param cabinId Cabin identifier
+     * @param startDate First day of the range (inclusive)
+     * @param endDate Last day of the range (inclusive)
+     * @return One SlotGrid bitmask per day, index 0 = startDate; set bits are booked 15 minute granules
+     */
+    long[] getDailyOccupancy(int cabinId, Date startDate, Date endDate);
+
     // ================================
     // ANALYTICS & REPORTING
     // ================================
@@ -183,6 +241,14 @@ public interface BookingDao {
      */
     List<String> getPopularTimeSlots();
 
+    /**
+     * Time-decayed popularity of every cabin in one query. Each approved booking
+     * contributes exp(-age / tau), so a booking halfLifeDays old counts half.
+     * @param halfLifeDays Age at which a booking's weight has halved
+     * @return Map of cabin ID to popularity score (cabins without bookings are absent)
+     */
+    Map<Integer, Double> getCabinPopularityScores(double halfLifeDays);
+
     /**
      * Get bookings by purpose for pattern analysis
      * @param purpose Purpose keyword to search
@@ -213,6 +279,68 @@ public interface BookingDao {
      */
     List<Booking> getUrgentBookings();
 
+    // ================================
+    // KEYSET PAGINATION (newest first, by created_at then booking_id)
+    // ================================
+
+    /**
+     * One page of all bookings
+     * @param after Cursor from the previous page, or null for the first page
+     * @param pageSize Maximum number of bookings on the page
+     * @return Page of bookings with the cursor for the next page
+     */
+    BookingPage getBookingsPage(BookingCursor after, int pageSize);
+
+    /**
+     * One page of bookings with the given status
+     * @param status Booking status (PENDING, APPROVED, REJECTED, CANCELLED)
+     * @param after Cursor from the previous page, or null for the first page
+     * @param pageSize Maximum number of bookings on the page
+     * @return Page of bookings with the cursor for the next page
+     */
+    BookingPage getBookingsByStatusPage(String status, BookingCursor after, int pageSize);
+
+    /**
+     * One page of VIP priority bookings
+     * @param after Cursor from the previous page, or null for the first page
+     * @param pageSize Maximum number of bookings on the page
+     * @return Page of bookings with the cursor for the next page
+     */
+    BookingPage getVIPBookingsPage(BookingCursor after, int pageSize);
+
+    /**
+     * One page of a user's bookings
+     * @param userId User identifier
+     * @param after Cursor from the previous page, or null for the first page
+     * @param pageSize Maximum number of bookings on the page
+     * @return Page of bookings with the cursor for the next page
+     */
+    BookingPage getBookingsByUserPage(int userId, BookingCursor after, int pageSize);
+
+    /**
+     * Booking counts per status for one user, in a single GROUP BY
+     * @param userId User identifier
+     * @return Status name -> count (statuses without bookings are absent)
+     */
+    Map<String, Integer> getBookingCountsByUser(int userId);
+
+    // ================================
+    // EXPORT
+    // ================================
+
+    /**
+     * Stream bookings matching the filter to the sink, ordered by booking ID.
+     * Rows are read with a forward-only streaming ResultSet, so memory use does
+     * not depend on how many bookings match. The pooled connection is held for
+     * the whole stream; an export running longer than cabinbooking.export.maxDurationMs
+     * (default 5 minutes) is cancelled with an IOException.
+     * @param filter Export criteria (null fields are ignored)
+     * @param sink Receives each booking as it is read
+     * @return Number of bookings streamed, or -1 on a database error
+     * @throws IOException if the sink fails (e.g. the client disconnected)
+     */
+    long streamBookings(BookingExportFilter filter, BookingSink sink) throws IOException;
+
     /**
      * Get booking count for a specific user
      * @param userId User identifier
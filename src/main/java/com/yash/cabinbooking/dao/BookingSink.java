@@ -0,0 +1,15 @@
+package com.yash.cabinbooking.dao;
+
+import com.yash.cabinbooking.model.Booking;
+
+import java.io.IOException;
+
+/**
+ * Receives bookings one at a time from BookingDao.streamBookings().
+ * The booking must not be kept after accept() returns.
+ */
+@FunctionalInterface
+public interface BookingSink {
+
+    void accept(Booking booking) throws IOException;
+}
@@ -19,6 +19,7 @@ public interface CabinDao {
     List<Cabin> getAccessibleCabins(User user);
     List<Cabin> getVIPOnlyCabins(); // ✅ Already exists
     List<Cabin> getCabinsByCapacity(int minCapacity, int maxCapacity);
+    List<Cabin> getCabinsByLocation(String location);
 
     // AI related operations (simplified)
     List<Cabin> getCabinsWithAmenities(String amenities);
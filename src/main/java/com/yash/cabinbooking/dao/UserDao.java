@@ -9,11 +9,13 @@ public interface UserDao {
     // ✅ ENHANCED: Authentication operations with BCrypt support
     User authenticateUser(String email, String password);
     User getUserByEmailForAuth(String email); // ✅ NEW: For BCrypt authentication
+    User getUserByIdForAuth(int userId);      // Uncached, with password hash - for password changes
     boolean emailExists(String email);
 
-    // CRUD operations
+    // CRUD operations (getUserById/getUserByEmail are cached and return users without the password)
     boolean createUser(User user);
     User getUserById(int userId);
+    User reloadUserById(int userId);          // Bypasses the cache (and refreshes it) - for the auth status check
     User getUserByEmail(String email);
     List<User> getAllUsers();
 
@@ -0,0 +1,233 @@
+package com.yash.cabinbooking.daoimpl;
+
+import com.yash.cabinbooking.dao.AnalyticsDao;
+import com.yash.cabinbooking.model.TimeSlot;
+import com.yash.cabinbooking.util.DbUtil;
+import com.yash.cabinbooking.logging.Logger;
+import java.sql.*;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class AnalyticsDaoImpl implements AnalyticsDao {
+
+    private static final Logger log = Logger.getLogger(AnalyticsDaoImpl.class);
+
+    @Override
+    public Map<String, Integer> getUserCountsByType() {
+        return countByGroup("SELECT user_type, COUNT(*) FROM users GROUP BY user_type", "users by type");
+    }
+
+    @Override
+    public Map<String, Integer> getUserCountsByStatus() {
+        return countByGroup("SELECT status, COUNT(*) FROM users GROUP BY status", "users by status");
+    }
+
+    @Override
+    public Map<String, Integer> getBookingCountsByStatus() {
+        return countByGroup("SELECT status, COUNT(*) FROM bookings GROUP BY status", "bookings by status");
+    }
+
+    @Override
+    public Map<String, Integer> getBookingCountsByPriority() {
+        return countByGroup("SELECT priority_level, COUNT(*) FROM bookings GROUP BY priority_level", "bookings by priority");
+    }
+
+    @Override
+    public int[] getBookingActivityForDate(Date date) {
+        // Session timezone is IST, so the DATE bounds below are IST midnights
+        String sql = "SELECT " +
+                "COALESCE(SUM(booking_date = ?), 0) AS bookings_on_date, " +
+                "COALESCE(SUM(approved_at >= ? AND approved_at < DATE_ADD(?, INTERVAL 1 DAY)), 0) AS approvals_on_date " +
+                "FROM bookings " +
+                "WHERE booking_date = ? OR (approved_at >= ? AND approved_at < DATE_ADD(?, INTERVAL 1 DAY))";
+
+        int[] activity = new int[2];
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+
+        try {
+            conn = DbUtil.getConnection();
+            if (conn == null) return activity;
+
+            pstmt = conn.prepareStatement(sql);
+            for (int i = 1; i <= 6; i++) {
+                pstmt.setDate(i, date);
+            }
+            rs = pstmt.executeQuery();
+
+            if (rs.next()) {
+                activity[0] = rs.getInt("bookings_on_date");
+                activity[1] = rs.getInt("approvals_on_date");
+            }
+
+            log.debug("📅 Activity for {}: {} bookings, {} approvals", date, activity[0], activity[1]);
+
+        } catch (SQLException e) {
+            log.error("❌ Error getting booking activity for date: {}", e.getMessage(), e);
+        } finally {
+            DbUtil.closeAllResources(conn, pstmt, rs);
+        }
+
+        return activity;
+    }
+
+    @Override
+    public Map<Date, Integer> getBookingCountsByDate(Date fromDate) {
+        String sql = "SELECT booking_date, COUNT(*) FROM bookings WHERE booking_date >= ? GROUP BY booking_date";
+        return countByDate(sql, fromDate, "bookings by date");
+    }
+
+    @Override
+    public Map<Date, Integer> getApprovalCountsByDate(Date fromDate) {
+        String sql = "SELECT DATE(approved_at), COUNT(*) FROM bookings WHERE approved_at >= ? GROUP BY DATE(approved_at)";
+        return countByDate(sql, fromDate, "approvals by date");
+    }
+
+    @Override
+    public Map<Integer, Long> getApprovedMinutesByCabin() {
+        // Slots are stored as "HH:MM-HH:MM" text, so group by slot and add the durations up here
+        String sql = "SELECT cabin_id, time_slot, COUNT(*) FROM bookings WHERE status = 'APPROVED' GROUP BY cabin_id, time_slot";
+
+        Map<Integer, Long> minutesByCabin = new LinkedHashMap<>();
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+
+        try {
+            conn = DbUtil.getConnection();
+            if (conn == null) return minutesByCabin;
+
+            pstmt = conn.prepareStatement(sql);
+            rs = pstmt.executeQuery();
+
+            while (rs.next()) {
+                long minutes = (long) slotDurationMinutes(rs.getString(2)) * rs.getInt(3);
+                minutesByCabin.merge(rs.getInt(1), minutes, Long::sum);
+            }
+
+            log.debug("📊 Approved minutes for {} cabins", minutesByCabin.size());
+
+        } catch (SQLException e) {
+            log.error("❌ Error summing approved minutes by cabin: {}", e.getMessage(), e);
+        } finally {
+            DbUtil.closeAllResources(conn, pstmt, rs);
+        }
+
+        return minutesByCabin;
+    }
+
+    @Override
+    public Map<Integer, int[]> getPendingBookingMinutes() {
+        String sql = "SELECT booking_id, cabin_id, time_slot FROM bookings WHERE status = 'PENDING'";
+
+        Map<Integer, int[]> pending = new HashMap<>();
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+
+        try {
+            conn = DbUtil.getConnection();
+            if (conn == null) return pending;
+
+            pstmt = conn.prepareStatement(sql);
+            rs = pstmt.executeQuery();
+
+            while (rs.next()) {
+                pending.put(rs.getInt(1), new int[]{rs.getInt(2), slotDurationMinutes(rs.getString(3))});
+            }
+
+            log.debug("📊 {} pending bookings loaded", pending.size());
+
+        } catch (SQLException e) {
+            log.error("❌ Error loading pending bookings: {}", e.getMessage(), e);
+        } finally {
+            DbUtil.closeAllResources(conn, pstmt, rs);
+        }
+
+        return pending;
+    }
+
+    @Override
+    public Map<String, Integer> getCabinCountsByStatus() {
+        return countByGroup("SELECT status, COUNT(*) FROM cabins GROUP BY status", "cabins by status");
+    }
+
+    @Override
+    public Map<String, Integer> getVIPCabinCountsByStatus() {
+        return countByGroup("SELECT status, COUNT(*) FROM cabins WHERE is_vip_only = TRUE GROUP BY status", "VIP cabins by status");
+    }
+
+    // ================================
+    // PRIVATE UTILITY METHODS
+    // ================================
+
+    // Runs "SELECT key, COUNT(*) ... GROUP BY key" and returns key -> count
+    private Map<String, Integer> countByGroup(String sql, String description) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+
+        try {
+            conn = DbUtil.getConnection();
+            if (conn == null) return counts;
+
+            pstmt = conn.prepareStatement(sql);
+            rs = pstmt.executeQuery();
+
+            while (rs.next()) {
+                String key = rs.getString(1);
+                counts.put(key == null ? "UNKNOWN" : key.toUpperCase(), rs.getInt(2));
+            }
+
+            log.debug("📊 Counted {}: {}", description, counts);
+
+        } catch (SQLException e) {
+            log.error("❌ Error counting {}: {}", description, e.getMessage(), e);
+        } finally {
+            DbUtil.closeAllResources(conn, pstmt, rs);
+        }
+
+        return counts;
+    }
+
+    // Runs "SELECT date, COUNT(*) ... WHERE x >= ? GROUP BY date" and returns date -> count
+    private Map<Date, Integer> countByDate(String sql, Date fromDate, String description) {
+        Map<Date, Integer> counts = new LinkedHashMap<>();
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+
+        try {
+            conn = DbUtil.getConnection();
+            if (conn == null) return counts;
+
+            pstmt = conn.prepareStatement(sql);
+            pstmt.setDate(1, fromDate);
+            rs = pstmt.executeQuery();
+
+            while (rs.next()) {
+                Date date = rs.getDate(1);
+                if (date != null) {
+                    counts.put(date, rs.getInt(2));
+                }
+            }
+
+            log.debug("📊 Counted {}: {} days", description, counts.size());
+
+        } catch (SQLException e) {
+            log.error("❌ Error counting {}: {}", description, e.getMessage(), e);
+        } finally {
+            DbUtil.closeAllResources(conn, pstmt, rs);
+        }
+
+        return counts;
+    }
+
+    private int slotDurationMinutes(String timeSlot) {
+        int slot = TimeSlot.parsePacked(timeSlot);
+        return slot == TimeSlot.INVALID ? 0 : TimeSlot.endOf(slot) - TimeSlot.startOf(slot);
+    }
+}
@@ -1,14 +1,32 @@
 package com.yash.cabinbooking.daoimpl;
 
+import com.yash.cabinbooking.cache.AvailabilityIndex;
 import com.yash.cabinbooking.dao.BookingDao;
+import com.yash.cabinbooking.dao.BookingSink;
 import com.yash.cabinbooking.model.Booking;
+import com.yash.cabinbooking.model.BookingChange;
+import com.yash.cabinbooking.model.BookingCursor;
+import com.yash.cabinbooking.model.BookingExportFilter;
+import com.yash.cabinbooking.model.BookingPage;
+import com.yash.cabinbooking.model.CabinUtilization;
+import com.yash.cabinbooking.model.TimeSlot;
 import com.yash.cabinbooking.util.DbUtil;
+import com.yash.cabinbooking.util.SlotGrid;
+import com.yash.cabinbooking.logging.Logger;
+import java.io.IOException;
 import java.sql.*;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class BookingDaoImpl implements BookingDao {
 
+    private static final Logger log = Logger.getLogger(BookingDaoImpl.class);
+
     // ✅ FIXED: Updated base SQL with rejection fields
     private static final String BASE_SELECT_SQL =
             "SELECT b.booking_id, b.user_id, b.cabin_id, b.booking_date, b.time_slot, b.purpose, " +
@@ -19,27 +37,79 @@ public class BookingDaoImpl implements BookingDao {
                     "LEFT JOIN users u ON b.user_id = u.user_id " +
                     "LEFT JOIN cabins c ON b.cabin_id = c.cabin_id ";
 
+    // ✅ PERFORMANCE: Shared in-memory interval index, written through on every booking change
+    private static final AvailabilityIndex availabilityIndex = AvailabilityIndex.getInstance();
+
+    // Attempts per reservation transaction: a deadlock victim is retried once
+    private static final int MAX_TX_ATTEMPTS = 2;
+
+    // ✅ CONCURRENCY: Check-and-insert runs in one transaction under a per cabin-day row lock
     @Override
     public boolean createBooking(Booking booking) {
-        String sql = "INSERT INTO bookings (user_id, cabin_id, booking_date, time_slot, purpose, booking_type, status, priority_level) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+        TimeSlot slot = parseTimeSlot(booking.getTimeSlot());
+        if (slot == null) {
+            log.error("❌ Invalid time slot format: {}", booking.getTimeSlot());
+            return false;
+        }
+
+        // Fast path: a conflict visible in the index is reported without taking any lock
+        if (!isSlotAvailable(booking.getCabinId(), booking.getBookingDate(), booking.getTimeSlot())) {
+            log.info("❌ Time slot not available: {} on {}", booking.getTimeSlot(), booking.getBookingDate());
+            return false;
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return insertBookingUnderLock(booking, slot.getStartMinute(), slot.getEndMinute());
+            } catch (SQLException e) {
+                if (isDeadlock(e) && attempt < MAX_TX_ATTEMPTS) {
+                    log.warn("🔁 Deadlock creating booking for cabin {} on {}, retrying", booking.getCabinId(), booking.getBookingDate());
+                    continue;
+                }
+                if (isLockTimeout(e) || isDeadlock(e)) {
+                    log.warn("⏳ Cabin {} on {} is busy, booking not created: {}", booking.getCabinId(), booking.getBookingDate(), e.getMessage());
+                    return false;
+                }
+                log.error("❌ SQL Error in createBooking: {}", e.getMessage(), e);
+                if (e.getErrorCode() == 1062) {
+                    log.info("🔄 Time slot already booked: {}", booking.getTimeSlot());
+                }
+                return false;
+            }
+        }
+    }
+
+    /**
+     * One attempt at the locked check-and-insert of createBooking
+     * @return true if inserted, false if the slot was taken or no connection was available
+     * @throws SQLException after rolling back, so the caller can retry a deadlock
+     */
+    private boolean insertBookingUnderLock(Booking booking, int startMinute, int endMinute) throws SQLException {
+        String sql = "INSERT INTO bookings (user_id, cabin_id, booking_date, time_slot, start_minute, end_minute, purpose, booking_type, status, priority_level) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
 
         Connection conn = null;
         PreparedStatement pstmt = null;
+        ResultSet generatedKeys = null;
 
         try {
             conn = DbUtil.getConnection();
             if (conn == null) {
-                System.err.println("❌ Database connection failed in createBooking");
+                log.error("❌ Database connection failed in createBooking");
                 return false;
             }
 
-            if (!isValidTimeSlotFormat(booking.getTimeSlot())) {
-                System.err.println("❌ Invalid time slot format: " + booking.getTimeSlot());
-                return false;
-            }
+            // The lock row is created outside the transaction, so the transaction only ever takes it exclusively
+            ensureLockRows(conn, Collections.singletonList(booking.getCabinId()), booking.getBookingDate());
+            conn.setAutoCommit(false);
 
-            if (!isSlotAvailable(booking.getCabinId(), booking.getBookingDate(), booking.getTimeSlot())) {
-                System.err.println("❌ Time slot not available: " + booking.getTimeSlot() + " on " + booking.getBookingDate());
+            // Concurrent reservations for the same cabin-day queue here; other days are unaffected
+            lockCabinDay(conn, booking.getCabinId(), booking.getBookingDate());
+
+            // Authoritative re-check against committed rows while holding the lock
+            if (hasOverlappingBooking(conn, booking.getCabinId(), booking.getBookingDate(), startMinute, endMinute, 0)) {
+                conn.rollback();
+                availabilityIndex.invalidate(booking.getCabinId(), booking.getBookingDate());
+                log.info("🔄 Time slot was just taken by another booking: {} on {}", booking.getTimeSlot(), booking.getBookingDate());
                 return false;
             }
 
@@ -48,33 +118,42 @@ public class BookingDaoImpl implements BookingDao {
             pstmt.setInt(2, booking.getCabinId());
             pstmt.setDate(3, booking.getBookingDate());
             pstmt.setString(4, booking.getTimeSlot());
-            pstmt.setString(5, booking.getPurpose());
-            pstmt.setString(6, booking.getBookingType().name());
-            pstmt.setString(7, booking.getStatus().name());
-            pstmt.setString(8, booking.getPriorityLevel().name());
+            pstmt.setInt(5, startMinute);
+            pstmt.setInt(6, endMinute);
+            pstmt.setString(7, booking.getPurpose());
+            pstmt.setString(8, booking.getBookingType().name());
+            pstmt.setString(9, booking.getStatus().name());
+            pstmt.setString(10, booking.getPriorityLevel().name());
 
             int rowsAffected = pstmt.executeUpdate();
 
             if (rowsAffected > 0) {
-                ResultSet generatedKeys = pstmt.getGeneratedKeys();
+                generatedKeys = pstmt.getGeneratedKeys();
                 if (generatedKeys.next()) {
                     booking.setBookingId(generatedKeys.getInt(1));
                 }
-                System.out.println("✅ Booking created successfully: ID " + booking.getBookingId() + " for user " + booking.getUserId());
+                conn.commit();
+                indexBooking(booking);
+                log.debug("✅ Booking created successfully: ID {} for user {}", booking.getBookingId(), booking.getUserId());
                 return true;
             }
 
+            conn.rollback();
+            return false;
+
         } catch (SQLException e) {
-            System.err.println("❌ SQL Error in createBooking: " + e.getMessage());
-            if (e.getErrorCode() == 1062) {
-                System.err.println("🔄 Time slot already booked: " + booking.getTimeSlot());
-            }
-            e.printStackTrace();
+            rollbackQuietly(conn);
+            throw e;
         } finally {
+            if (generatedKeys != null) {
+                try {
+                    generatedKeys.close();
+                } catch (SQLException ignored) {
+                    // closed with the statement anyway
+                }
+            }
             DbUtil.closeAllResources(conn, pstmt, null);
         }
-
-        return false;
     }
 
     @Override
@@ -95,16 +174,15 @@ public class BookingDaoImpl implements BookingDao {
 
             if (rs.next()) {
                 Booking booking = mapResultSetToBooking(rs);
-                System.out.println("✅ Booking found: ID " + bookingId);
+                log.debug("✅ Booking found: ID {}", bookingId);
                 return booking;
             } else {
-                System.out.println("❌ Booking not found with ID: " + bookingId);
+                log.debug("❌ Booking not found with ID: {}", bookingId);
                 return null;
             }
 
         } catch (SQLException e) {
-            System.err.println("❌ Error getting booking by ID: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error getting booking by ID: {}", e.getMessage(), e);
         } finally {
             DbUtil.closeAllResources(conn, pstmt, rs);
         }
@@ -125,7 +203,7 @@ public class BookingDaoImpl implements BookingDao {
         try {
             conn = DbUtil.getConnection();
             if (conn == null) {
-                System.err.println("❌ Database connection failed in getAllBookings");
+                log.error("❌ Database connection failed in getAllBookings");
                 return bookings;
             }
 
@@ -137,16 +215,15 @@ public class BookingDaoImpl implements BookingDao {
                     Booking booking = mapResultSetToBooking(rs);
                     bookings.add(booking);
                 } catch (SQLException e) {
-                    System.err.println("⚠️ Error mapping booking row: " + e.getMessage());
+                    log.warn("⚠️ Error mapping booking row: {}", e.getMessage());
                     // Continue with next row
                 }
             }
 
-            System.out.println("✅ Retrieved " + bookings.size() + " bookings from database");
+            log.debug("✅ Retrieved {} bookings from database", bookings.size());
 
         } catch (SQLException e) {
-            System.err.println("❌ Error getting all bookings: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error getting all bookings: {}", e.getMessage(), e);
         } finally {
             DbUtil.closeAllResources(conn, pstmt, rs);
         }
@@ -175,11 +252,10 @@ public class BookingDaoImpl implements BookingDao {
                 bookings.add(mapResultSetToBooking(rs));
             }
 
-            System.out.println("✅ Retrieved " + bookings.size() + " recent bookings");
+            log.debug("✅ Retrieved {} recent bookings", bookings.size());
 
         } catch (SQLException e) {
-            System.err.println("❌ Error getting recent bookings: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error getting recent bookings: {}", e.getMessage(), e);
         } finally {
             DbUtil.closeAllResources(conn, pstmt, rs);
         }
@@ -208,11 +284,10 @@ public class BookingDaoImpl implements BookingDao {
                 bookings.add(mapResultSetToBooking(rs));
             }
 
-            System.out.println("✅ Retrieved " + bookings.size() + " bookings for user: " + userId);
+            log.debug("✅ Retrieved {} bookings for user: {}", bookings.size(), userId);
 
         } catch (SQLException e) {
-            System.err.println("❌ Error getting bookings by user: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error getting bookings by user: {}", e.getMessage(), e);
         } finally {
             DbUtil.closeAllResources(conn, pstmt, rs);
         }
@@ -241,11 +316,10 @@ public class BookingDaoImpl implements BookingDao {
                 bookings.add(mapResultSetToBooking(rs));
             }
 
-            System.out.println("✅ Retrieved " + bookings.size() + " bookings for cabin: " + cabinId);
+            log.debug("✅ Retrieved {} bookings for cabin: {}", bookings.size(), cabinId);
 
         } catch (SQLException e) {
-            System.err.println("❌ Error getting bookings by cabin: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error getting bookings by cabin: {}", e.getMessage(), e);
         } finally {
             DbUtil.closeAllResources(conn, pstmt, rs);
         }
@@ -257,10 +331,13 @@ public class BookingDaoImpl implements BookingDao {
     @Override
     public boolean updateBooking(Booking booking) {
         String sql = "UPDATE bookings SET user_id = ?, cabin_id = ?, booking_date = ?, time_slot = ?, " +
+                "start_minute = ?, end_minute = ?, " +
                 "purpose = ?, booking_type = ?, status = ?, priority_level = ?, " +
                 "approved_by = ?, approved_at = ?, rejected_by = ?, rejected_at = ? " +
                 "WHERE booking_id = ?";
 
+        TimeSlot slot = parseTimeSlot(booking.getTimeSlot());
+
         Connection conn = null;
         PreparedStatement pstmt = null;
 
@@ -273,49 +350,56 @@ public class BookingDaoImpl implements BookingDao {
             pstmt.setInt(2, booking.getCabinId());
             pstmt.setDate(3, booking.getBookingDate());
             pstmt.setString(4, booking.getTimeSlot());
-            pstmt.setString(5, booking.getPurpose());
-            pstmt.setString(6, booking.getBookingType().name());
-            pstmt.setString(7, booking.getStatus().name());
-            pstmt.setString(8, booking.getPriorityLevel().name());
+            if (slot != null) {
+                pstmt.setInt(5, slot.getStartMinute());
+                pstmt.setInt(6, slot.getEndMinute());
+            } else {
+                pstmt.setNull(5, Types.SMALLINT);
+                pstmt.setNull(6, Types.SMALLINT);
+            }
+            pstmt.setString(7, booking.getPurpose());
+            pstmt.setString(8, booking.getBookingType().name());
+            pstmt.setString(9, booking.getStatus().name());
+            pstmt.setString(10, booking.getPriorityLevel().name());
 
             // ✅ Handle nullable approved fields
             if (booking.getApprovedBy() > 0) {
-                pstmt.setInt(9, booking.getApprovedBy());
+                pstmt.setInt(11, booking.getApprovedBy());
             } else {
-                pstmt.setNull(9, Types.INTEGER);
+                pstmt.setNull(11, Types.INTEGER);
             }
 
             if (booking.getApprovedAt() != null) {
-                pstmt.setTimestamp(10, booking.getApprovedAt());
+                pstmt.setTimestamp(12, booking.getApprovedAt());
             } else {
-                pstmt.setNull(10, Types.TIMESTAMP);
+                pstmt.setNull(12, Types.TIMESTAMP);
             }
 
             // ✅ Handle nullable rejected fields
             if (booking.getRejectedBy() > 0) {
-                pstmt.setInt(11, booking.getRejectedBy());
+                pstmt.setInt(13, booking.getRejectedBy());
             } else {
-                pstmt.setNull(11, Types.INTEGER);
+                pstmt.setNull(13, Types.INTEGER);
             }
 
             if (booking.getRejectedAt() != null) {
-                pstmt.setTimestamp(12, booking.getRejectedAt());
+                pstmt.setTimestamp(14, booking.getRejectedAt());
             } else {
-                pstmt.setNull(12, Types.TIMESTAMP);
+                pstmt.setNull(14, Types.TIMESTAMP);
             }
 
-            pstmt.setInt(13, booking.getBookingId());
+            pstmt.setInt(15, booking.getBookingId());
 
             int rowsAffected = pstmt.executeUpdate();
 
             if (rowsAffected > 0) {
-                System.out.println("✅ Booking updated successfully: " + booking.getBookingId());
+                indexBooking(booking);
+                log.debug("✅ Booking updated successfully: {}", booking.getBookingId());
                 return true;
             }
 
         } catch (SQLException e) {
-            System.err.println("❌ Error updating booking: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error updating booking: {}", e.getMessage(), e);
         } finally {
             DbUtil.closeAllResources(conn, pstmt, null);
         }
@@ -323,6 +407,96 @@ public class BookingDaoImpl implements BookingDao {
         return false;
     }
 
+    @Override
+    public boolean moveBookingToCabin(Booking booking, int newCabinId, int approvedBy) {
+        TimeSlot slot = parseTimeSlot(booking.getTimeSlot());
+        if (slot == null || booking.getBookingDate() == null) {
+            log.error("❌ Cannot move booking {} with time slot {}", booking.getBookingId(), booking.getTimeSlot());
+            return false;
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return moveBookingUnderLock(booking, newCabinId, approvedBy, slot.getStartMinute(), slot.getEndMinute());
+            } catch (SQLException e) {
+                if (isDeadlock(e) && attempt < MAX_TX_ATTEMPTS) {
+                    log.warn("🔁 Deadlock moving booking {} to cabin {}, retrying", booking.getBookingId(), newCabinId);
+                    continue;
+                }
+                if (isLockTimeout(e) || isDeadlock(e)) {
+                    log.warn("⏳ Cabin {} on {} is busy, booking {} not moved: {}", newCabinId, booking.getBookingDate(), booking.getBookingId(), e.getMessage());
+                    return false;
+                }
+                log.error("❌ SQL Error moving booking {}: {}", booking.getBookingId(), e.getMessage(), e);
+                return false;
+            }
+        }
+    }
+
+    /**
+     * One attempt at the locked check-and-update of moveBookingToCabin
+     * @throws SQLException after rolling back, so the caller can retry a deadlock
+     */
+    private boolean moveBookingUnderLock(Booking booking, int newCabinId, int approvedBy,
+                                         int startMinute, int endMinute) throws SQLException {
+        // The cabin and status it was read with must still hold, or someone else changed it meanwhile
+        String sql = "UPDATE bookings SET cabin_id = ?, status = 'APPROVED', approved_by = ?, approved_at = ? " +
+                "WHERE booking_id = ? AND cabin_id = ? AND status = ?";
+
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+
+        try {
+            conn = DbUtil.getConnection();
+            if (conn == null) {
+                log.error("❌ Database connection failed in moveBookingToCabin");
+                return false;
+            }
+
+            // Same protocol as createBooking: lock row created outside, taken exclusively inside
+            ensureLockRows(conn, Collections.singletonList(newCabinId), booking.getBookingDate());
+            conn.setAutoCommit(false);
+            lockCabinDay(conn, newCabinId, booking.getBookingDate());
+
+            if (hasOverlappingBooking(conn, newCabinId, booking.getBookingDate(), startMinute, endMinute, booking.getBookingId())) {
+                conn.rollback();
+                availabilityIndex.invalidate(newCabinId, booking.getBookingDate());
+                log.info("🔄 Cabin {} is taken for {} on {}, booking {} not moved", newCabinId, booking.getTimeSlot(), booking.getBookingDate(), booking.getBookingId());
+                return false;
+            }
+
+            Timestamp approvedAt = new Timestamp(System.currentTimeMillis());
+            pstmt = conn.prepareStatement(sql);
+            pstmt.setInt(1, newCabinId);
+            pstmt.setInt(2, approvedBy);
+            pstmt.setTimestamp(3, approvedAt);
+            pstmt.setInt(4, booking.getBookingId());
+            pstmt.setInt(5, booking.getCabinId());
+            pstmt.setString(6, booking.getStatus().name());
+
+            if (pstmt.executeUpdate() == 0) {
+                conn.rollback();
+                log.info("🔄 Booking {} changed since it was read, not moved", booking.getBookingId());
+                return false;
+            }
+            conn.commit();
+
+            booking.setCabinId(newCabinId);
+            booking.setStatus(Booking.Status.APPROVED);
+            booking.setApprovedBy(approvedBy);
+            booking.setApprovedAt(approvedAt);
+            indexBooking(booking);
+            log.debug("✅ Booking {} moved to cabin {}", booking.getBookingId(), newCabinId);
+            return true;
+
+        } catch (SQLException e) {
+            rollbackQuietly(conn);
+            throw e;
+        } finally {
+            DbUtil.closeAllResources(conn, pstmt, null);
+        }
+    }
+
     @Override
     public boolean deleteBooking(int bookingId) {
         String sql = "UPDATE bookings SET status = 'CANCELLED' WHERE booking_id = ?";
@@ -340,13 +514,13 @@ public class BookingDaoImpl implements BookingDao {
             int rowsAffected = pstmt.executeUpdate();
 
             if (rowsAffected > 0) {
-                System.out.println("✅ Booking cancelled successfully: " + bookingId);
+                availabilityIndex.bookingInactive(bookingId);
+                log.debug("✅ Booking cancelled successfully: {}", bookingId);
                 return true;
             }
 
         } catch (SQLException e) {
-            System.err.println("❌ Error deleting booking: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error deleting booking: {}", e.getMessage(), e);
         } finally {
             DbUtil.closeAllResources(conn, pstmt, null);
         }
@@ -376,11 +550,10 @@ public class BookingDaoImpl implements BookingDao {
                 bookings.add(mapResultSetToBooking(rs));
             }
 
-            System.out.println("⏳ Retrieved " + bookings.size() + " pending bookings for admin review");
+            log.debug("⏳ Retrieved {} pending bookings for admin review", bookings.size());
 
         } catch (SQLException e) {
-            System.err.println("❌ Error getting pending bookings: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error getting pending bookings: {}", e.getMessage(), e);
         } finally {
             DbUtil.closeAllResources(conn, pstmt, rs);
         }
@@ -410,11 +583,10 @@ public class BookingDaoImpl implements BookingDao {
                 bookings.add(mapResultSetToBooking(rs));
             }
 
-            System.out.println("✅ Retrieved " + bookings.size() + " approved bookings");
+            log.debug("✅ Retrieved {} approved bookings", bookings.size());
 
         } catch (SQLException e) {
-            System.err.println("❌ Error getting approved bookings: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error getting approved bookings: {}", e.getMessage(), e);
         } finally {
             DbUtil.closeAllResources(conn, pstmt, rs);
         }
@@ -445,11 +617,10 @@ public class BookingDaoImpl implements BookingDao {
                 bookings.add(mapResultSetToBooking(rs));
             }
 
-            System.out.println("📅 Retrieved " + bookings.size() + " bookings for date: " + date);
+            log.debug("📅 Retrieved {} bookings for date: {}", bookings.size(), date);
 
         } catch (SQLException e) {
-            System.err.println("❌ Error getting bookings by date: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error getting bookings by date: {}", e.getMessage(), e);
         } finally {
             DbUtil.closeAllResources(conn, pstmt, rs);
         }
@@ -457,6 +628,47 @@ public class BookingDaoImpl implements BookingDao {
         return bookings;
     }
 
+    @Override
+    public Map<Integer, CabinUtilization> getCabinUtilizationForDate(Date date) {
+        // ✅ PERFORMANCE: One grouped query builds the whole day's histogram - one row per cabin,
+        // minutes summed from the stored slot bounds instead of parsing time_slot per row
+        String sql = "SELECT cabin_id, COUNT(*) AS booking_count, " +
+                "COALESCE(SUM(end_minute - start_minute), 0) AS booked_minutes " +
+                "FROM bookings " +
+                "WHERE booking_date = ? AND status IN ('PENDING', 'APPROVED') " +
+                "GROUP BY cabin_id";
+
+        Map<Integer, CabinUtilization> histogram = new HashMap<>();
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+
+        try {
+            conn = DbUtil.getConnection();
+            if (conn == null) return histogram;
+
+            pstmt = conn.prepareStatement(sql);
+            pstmt.setDate(1, date);
+            rs = pstmt.executeQuery();
+
+            while (rs.next()) {
+                int cabinId = rs.getInt("cabin_id");
+                CabinUtilization utilization = new CabinUtilization(cabinId, date);
+                utilization.addBookings(rs.getInt("booking_count"), rs.getInt("booked_minutes"));
+                histogram.put(cabinId, utilization);
+            }
+
+            log.debug("📊 Utilization histogram for {}: {} cabins in use", date, histogram.size());
+
+        } catch (SQLException e) {
+            log.error("❌ Error building utilization histogram: {}", e.getMessage(), e);
+        } finally {
+            DbUtil.closeAllResources(conn, pstmt, rs);
+        }
+
+        return histogram;
+    }
+
     @Override
     public List<Booking> getBookingsByDateRange(Date startDate, Date endDate) {
         String sql = BASE_SELECT_SQL +
@@ -481,11 +693,10 @@ public class BookingDaoImpl implements BookingDao {
                 bookings.add(mapResultSetToBooking(rs));
             }
 
-            System.out.println("📅 Retrieved " + bookings.size() + " bookings from " + startDate + " to " + endDate);
+            log.debug("📅 Retrieved {} bookings from {} to {}", bookings.size(), startDate, endDate);
 
         } catch (SQLException e) {
-            System.err.println("❌ Error getting bookings by date range: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error getting bookings by date range: {}", e.getMessage(), e);
         } finally {
             DbUtil.closeAllResources(conn, pstmt, rs);
         }
@@ -511,16 +722,16 @@ public class BookingDaoImpl implements BookingDao {
             int rowsAffected = pstmt.executeUpdate();
 
             if (rowsAffected > 0) {
-                System.out.println("✅ Booking approved successfully: " + bookingId + " by admin: " + approvedBy);
+                // PENDING and APPROVED both hold the slot, so the indexed interval stays as it is
+                log.debug("✅ Booking approved successfully: {} by admin: {}", bookingId, approvedBy);
                 return true;
             } else {
-                System.out.println("❌ Booking approval failed - may already be processed: " + bookingId);
+                log.debug("❌ Booking approval failed - may already be processed: {}", bookingId);
                 return false;
             }
 
         } catch (SQLException e) {
-            System.err.println("❌ Error approving booking: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error approving booking: {}", e.getMessage(), e);
         } finally {
             DbUtil.closeAllResources(conn, pstmt, null);
         }
@@ -547,16 +758,16 @@ public class BookingDaoImpl implements BookingDao {
             int rowsAffected = pstmt.executeUpdate();
 
             if (rowsAffected > 0) {
-                System.out.println("❌ Booking rejected successfully: " + bookingId + " by admin: " + rejectedBy);
+                availabilityIndex.bookingInactive(bookingId);
+                log.debug("❌ Booking rejected successfully: {} by admin: {}", bookingId, rejectedBy);
                 return true;
             } else {
-                System.out.println("❌ Booking rejection failed - may already be processed: " + bookingId);
+                log.debug("❌ Booking rejection failed - may already be processed: {}", bookingId);
                 return false;
             }
 
         } catch (SQLException e) {
-            System.err.println("❌ Error rejecting booking: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error rejecting booking: {}", e.getMessage(), e);
         } finally {
             DbUtil.closeAllResources(conn, pstmt, null);
         }
@@ -564,63 +775,432 @@ public class BookingDaoImpl implements BookingDao {
         return false;
     }
 
+    // ✅ PERFORMANCE: Bulk approval - one connection, one batch, one commit
     @Override
-    public boolean isSlotAvailable(int cabinId, Date date, String timeSlot) {
-        if (timeSlot == null || timeSlot.trim().isEmpty()) {
-            System.err.println("❌ Empty time slot provided for availability check");
-            return false;
+    public boolean[] approveBookings(int[] bookingIds, int approvedBy) {
+        String sql = "UPDATE bookings SET status = 'APPROVED', approved_by = ?, approved_at = CURRENT_TIMESTAMP WHERE booking_id = ? AND status = 'PENDING'";
+
+        boolean[] results = updatePendingBookingsInBatch(sql, bookingIds, approvedBy, "approve");
+        // PENDING and APPROVED both hold the slot, so the availability index needs no update
+        return results;
+    }
+
+    // ✅ PERFORMANCE: Bulk rejection - one connection, one batch, one commit
+    @Override
+    public boolean[] rejectBookings(int[] bookingIds, int rejectedBy) {
+        String sql = "UPDATE bookings SET status = 'REJECTED', rejected_by = ?, rejected_at = CURRENT_TIMESTAMP WHERE booking_id = ? AND status = 'PENDING'";
+
+        boolean[] results = updatePendingBookingsInBatch(sql, bookingIds, rejectedBy, "reject");
+        for (int i = 0; i < bookingIds.length; i++) {
+            if (results[i]) {
+                availabilityIndex.bookingInactive(bookingIds[i]);
+            }
         }
+        return results;
+    }
 
-        if (!isValidTimeSlotFormat(timeSlot)) {
-            System.err.println("❌ Invalid time slot format: " + timeSlot);
-            return false;
+    // Result of one preemption attempt; RETRY means the data changed between planning and locking
+    private enum PreemptionOutcome { DONE, FAILED, RETRY }
+
+    // ✅ CONCURRENCY: VIP preemption - bulk reads, in-memory reallocation, one batch, one commit
+    @Override
+    public List<BookingChange> createVIPBookingWithPreemption(Booking vipBooking) {
+        TimeSlot vipSlot = parseTimeSlot(vipBooking.getTimeSlot());
+        if (vipSlot == null) {
+            log.error("❌ Invalid time slot format: {}", vipBooking.getTimeSlot());
+            return null;
         }
 
-        String sql = "SELECT COUNT(*) FROM bookings WHERE cabin_id = ? AND booking_date = ? AND status IN ('PENDING', 'APPROVED') AND " +
-                "((SUBSTRING(time_slot, 1, 5) < SUBSTRING(?, 7, 5)) AND (SUBSTRING(time_slot, 7, 5) > SUBSTRING(?, 1, 5)))";
+        for (int attempt = 1; ; attempt++) {
+            List<BookingChange> changes = new ArrayList<>();
+            PreemptionOutcome outcome;
+            try {
+                outcome = preemptUnderLocks(vipBooking, vipSlot, changes);
+            } catch (SQLException e) {
+                if (isDeadlock(e) && attempt < MAX_TX_ATTEMPTS) {
+                    log.warn("🔁 Deadlock during VIP preemption for cabin {} on {}, retrying", vipBooking.getCabinId(), vipBooking.getBookingDate());
+                    continue;
+                }
+                if (isLockTimeout(e) || isDeadlock(e)) {
+                    log.error("⏳ VIP preemption rolled back, cabins busy: {}", e.getMessage());
+                } else {
+                    log.error("❌ VIP preemption rolled back: {}", e.getMessage(), e);
+                }
+                return null;
+            }
+
+            if (outcome == PreemptionOutcome.RETRY && attempt < MAX_TX_ATTEMPTS) {
+                log.warn("🔁 Bookings changed while VIP preemption waited for its locks, planning again");
+                continue;
+            }
+            if (outcome == PreemptionOutcome.RETRY) {
+                log.error("⏳ VIP preemption gave up - cabin {} on {} keeps changing", vipBooking.getCabinId(), vipBooking.getBookingDate());
+            }
+            return outcome == PreemptionOutcome.DONE ? changes : null;
+        }
+    }
+
+    /**
+     * One attempt at the VIP preemption.
+     *
+     * The reallocation is planned from auto-commit reads, which only decide which
+     * cabin-days to lock: the VIP cabin plus the cabins that receive a moved booking,
+     * in cabin_id order. The transaction then re-reads conflicts and occupancy - its
+     * first consistent read, so the snapshot is taken after the locks are held - and
+     * goes ahead only if the plan is unchanged.
+     *
+     * @param changes Receives the moved and rejected bookings once the transaction is committed
+     * @throws SQLException after rolling back, so the caller can retry a deadlock
+     */
+    private PreemptionOutcome preemptUnderLocks(Booking vipBooking, TimeSlot vipSlot, List<BookingChange> changes)
+            throws SQLException {
+        int vipCabinId = vipBooking.getCabinId();
+        Date date = vipBooking.getBookingDate();
+        int vipStart = vipSlot.getStartMinute();
+        int vipEnd = vipSlot.getEndMinute();
+
+        String cabinSql = "SELECT cabin_id, name, is_vip_only FROM cabins WHERE status = 'ACTIVE' AND cabin_id <> ? " +
+                "ORDER BY is_vip_only DESC, name";
+        String updateSql = "UPDATE bookings SET cabin_id = ?, status = ? " +
+                "WHERE booking_id = ? AND status IN ('PENDING', 'APPROVED')";
+        String insertSql = "INSERT INTO bookings (user_id, cabin_id, booking_date, time_slot, start_minute, end_minute, " +
+                "purpose, booking_type, status, priority_level, approved_by, approved_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
 
         Connection conn = null;
         PreparedStatement pstmt = null;
         ResultSet rs = null;
 
+        List<Object[]> conflicts = null;
+        List<int[]> reallocations = new ArrayList<>();   // {bookingId, newCabinId, start, end}
+        List<Integer> rejections = new ArrayList<>();
+
         try {
             conn = DbUtil.getConnection();
-            if (conn == null) {
-                System.err.println("❌ Database connection failed in isSlotAvailable");
-                return false;
-            }
+            if (conn == null) return PreemptionOutcome.FAILED;
 
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setInt(1, cabinId);
-            pstmt.setDate(2, date);
-            pstmt.setString(3, timeSlot);
-            pstmt.setString(4, timeSlot);
+            // 1. Plan in auto-commit mode: candidate cabins, conflicts, occupancy, reallocation
+            List<int[]> candidateCabins = new ArrayList<>();   // {cabinId, isVipOnly}
+            pstmt = conn.prepareStatement(cabinSql);
+            pstmt.setInt(1, vipCabinId);
             rs = pstmt.executeQuery();
+            while (rs.next()) {
+                candidateCabins.add(new int[]{rs.getInt("cabin_id"), rs.getBoolean("is_vip_only") ? 1 : 0});
+            }
+            rs.close();
+            pstmt.close();
+
+            List<Object[]> plannedConflicts = readConflicts(conn, vipCabinId, date, vipStart, vipEnd);
+            if (plannedConflicts == null) return PreemptionOutcome.FAILED;
+
+            List<int[]> plannedMoves = new ArrayList<>();
+            List<Integer> plannedRejections = new ArrayList<>();
+            if (!plannedConflicts.isEmpty()) {
+                planReallocation(plannedConflicts, candidateCabins, readOccupancy(conn, date, null),
+                        plannedMoves, plannedRejections);
+            }
+
+            // 2. Lock the VIP cabin and the receiving cabins, sorted so every transaction locks in the same order
+            List<Integer> targetCabinIds = new ArrayList<>();
+            for (int[] move : plannedMoves) {
+                if (!targetCabinIds.contains(move[1])) {
+                    targetCabinIds.add(move[1]);
+                }
+            }
+            List<Integer> lockedCabinIds = new ArrayList<>(targetCabinIds);
+            lockedCabinIds.add(vipCabinId);
+            Collections.sort(lockedCabinIds);
+
+            ensureLockRows(conn, lockedCabinIds, date);
+            conn.setAutoCommit(false);
+            lockCabinDays(conn, lockedCabinIds, date);
+
+            // 3. Re-plan from current data, restricted to the locked cabins; any difference means start over
+            conflicts = readConflicts(conn, vipCabinId, date, vipStart, vipEnd);
+            if (conflicts == null) {
+                conn.rollback();
+                return PreemptionOutcome.FAILED;
+            }
+            if (!conflicts.isEmpty()) {
+                List<int[]> lockedCandidates = new ArrayList<>();
+                for (int[] cabin : candidateCabins) {
+                    if (targetCabinIds.contains(cabin[0])) {
+                        lockedCandidates.add(cabin);
+                    }
+                }
+                Map<Integer, List<int[]>> busy = targetCabinIds.isEmpty()
+                        ? new HashMap<>() : readOccupancy(conn, date, targetCabinIds);
+                planReallocation(conflicts, lockedCandidates, busy, reallocations, rejections);
+            }
+            if (!samePlan(plannedMoves, reallocations) || !plannedRejections.equals(rejections)) {
+                conn.rollback();
+                return PreemptionOutcome.RETRY;
+            }
+
+            // 4. Apply all moves and rejections as one batch
+            if (!reallocations.isEmpty() || !rejections.isEmpty()) {
+                pstmt = conn.prepareStatement(updateSql);
+                for (int[] move : reallocations) {
+                    pstmt.setInt(1, move[1]);
+                    pstmt.setString(2, Booking.Status.APPROVED.name());
+                    pstmt.setInt(3, move[0]);
+                    pstmt.addBatch();
+                }
+                for (int bookingId : rejections) {
+                    pstmt.setInt(1, vipCabinId);
+                    pstmt.setString(2, Booking.Status.REJECTED.name());
+                    pstmt.setInt(3, bookingId);
+                    pstmt.addBatch();
+                }
+                for (int count : pstmt.executeBatch()) {
+                    if (count == 0) {
+                        conn.rollback();
+                        return PreemptionOutcome.RETRY;
+                    }
+                }
+                pstmt.close();
+            }
+
+            // 5. The VIP booking itself
+            pstmt = conn.prepareStatement(insertSql, Statement.RETURN_GENERATED_KEYS);
+            pstmt.setInt(1, vipBooking.getUserId());
+            pstmt.setInt(2, vipCabinId);
+            pstmt.setDate(3, date);
+            pstmt.setString(4, vipBooking.getTimeSlot());
+            pstmt.setInt(5, vipStart);
+            pstmt.setInt(6, vipEnd);
+            pstmt.setString(7, vipBooking.getPurpose());
+            pstmt.setString(8, vipBooking.getBookingType().name());
+            pstmt.setString(9, vipBooking.getStatus().name());
+            pstmt.setString(10, vipBooking.getPriorityLevel().name());
+            if (vipBooking.getApprovedBy() > 0) {
+                pstmt.setInt(11, vipBooking.getApprovedBy());
+            } else {
+                pstmt.setNull(11, Types.INTEGER);
+            }
+            if (vipBooking.getApprovedAt() != null) {
+                pstmt.setTimestamp(12, vipBooking.getApprovedAt());
+            } else {
+                pstmt.setNull(12, Types.TIMESTAMP);
+            }
+            pstmt.executeUpdate();
 
+            rs = pstmt.getGeneratedKeys();
             if (rs.next()) {
-                int count = rs.getInt(1);
-                boolean available = (count == 0);
-                System.out.println("🔍 Enhanced availability check - Cabin: " + cabinId + ", Date: " + date + ", Time: " + timeSlot + " -> " + (available ? "✅ AVAILABLE" : "❌ CONFLICT"));
-                return available;
+                vipBooking.setBookingId(rs.getInt(1));
             }
 
+            conn.commit();
+
         } catch (SQLException e) {
-            System.err.println("❌ Error checking slot availability: " + e.getMessage());
-            e.printStackTrace();
+            rollbackQuietly(conn);
+            throw e;
         } finally {
             DbUtil.closeAllResources(conn, pstmt, rs);
         }
 
-        return false;
+        // Committed - bring the availability index up to date
+        for (int[] move : reallocations) {
+            availabilityIndex.bookingActive(move[0], move[1], date, move[2], move[3]);
+        }
+        for (int bookingId : rejections) {
+            availabilityIndex.bookingInactive(bookingId);
+        }
+        indexBooking(vipBooking);
+
+        // Report what happened to each displaced booking, for the callers' metrics
+        Map<Integer, Integer> newCabinIds = new HashMap<>();
+        for (int[] move : reallocations) {
+            newCabinIds.put(move[0], move[1]);
+        }
+        for (Object[] conflict : conflicts) {
+            Booking before = (Booking) conflict[4];
+            Booking after = displacedCopy(before);
+            Integer newCabinId = newCabinIds.get(before.getBookingId());
+            if (newCabinId != null) {
+                after.setCabinId(newCabinId);
+                after.setStatus(Booking.Status.APPROVED);
+            } else {
+                after.setStatus(Booking.Status.REJECTED);
+            }
+            changes.add(new BookingChange(before, after));
+        }
+
+        log.debug("⭐ VIP booking {} created - {} booking(s) reallocated, {} rejected", vipBooking.getBookingId(), reallocations.size(), rejections.size());
+        return PreemptionOutcome.DONE;
+    }
+
+    /**
+     * Bookings overlapping the VIP slot in its cabin, with their owner's type
+     * @return {bookingId, start, end, ownerMayUseVipCabins, booking} per conflict in start order,
+     *         or null when the slot is already held by another VIP booking; booking holds the
+     *         fields the metrics need (cabin, date, status, priority, duration)
+     */
+    private List<Object[]> readConflicts(Connection conn, int vipCabinId, Date date, int vipStart, int vipEnd)
+            throws SQLException {
+        String sql = "SELECT b.booking_id, b.start_minute, b.end_minute, b.status, b.priority_level, u.user_type " +
+                "FROM bookings b LEFT JOIN users u ON b.user_id = u.user_id " +
+                "WHERE b.cabin_id = ? AND b.booking_date = ? AND b.status IN ('PENDING', 'APPROVED') " +
+                "AND b.start_minute < ? AND b.end_minute > ? " +
+                "ORDER BY b.start_minute, b.booking_id";
+
+        List<Object[]> conflicts = new ArrayList<>();
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setInt(1, vipCabinId);
+            pstmt.setDate(2, date);
+            pstmt.setInt(3, vipEnd);
+            pstmt.setInt(4, vipStart);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    Booking.PriorityLevel priority = Booking.PriorityLevel.fromString(rs.getString("priority_level"));
+                    if (priority == Booking.PriorityLevel.VIP) {
+                        log.error("❌ VIP preemption aborted - slot already held by VIP booking {}", rs.getInt("booking_id"));
+                        return null;
+                    }
+                    String ownerType = rs.getString("user_type");
+                    boolean ownerMayUseVipCabins = "VIP".equals(ownerType) || "ADMIN".equals(ownerType) || "SUPER_ADMIN".equals(ownerType);
+                    int start = rs.getInt("start_minute");
+                    int end = rs.getInt("end_minute");
+
+                    Booking booking = new Booking();
+                    booking.setBookingId(rs.getInt("booking_id"));
+                    booking.setCabinId(vipCabinId);
+                    booking.setBookingDate(date);
+                    booking.setStatus(Booking.Status.fromString(rs.getString("status")));
+                    booking.setPriorityLevel(priority);
+                    booking.setDurationMinutes(end - start);
+
+                    conflicts.add(new Object[]{booking.getBookingId(), start, end, ownerMayUseVipCabins, booking});
+                }
+            }
+        }
+        return conflicts;
+    }
+
+    /**
+     * Active bookings of the day per cabin
+     * @param cabinIds Cabins to read, or null for every cabin
+     */
+    private Map<Integer, List<int[]>> readOccupancy(Connection conn, Date date, List<Integer> cabinIds)
+            throws SQLException {
+        StringBuilder sql = new StringBuilder("SELECT cabin_id, start_minute, end_minute FROM bookings " +
+                "WHERE booking_date = ? AND status IN ('PENDING', 'APPROVED')");
+        if (cabinIds != null) {
+            sql.append(" AND cabin_id IN (");
+            for (int i = 0; i < cabinIds.size(); i++) {
+                sql.append(i == 0 ? "?" : ", ?");
+            }
+            sql.append(')');
+        }
+
+        Map<Integer, List<int[]>> busy = new HashMap<>();
+        try (PreparedStatement pstmt = conn.prepareStatement(sql.toString())) {
+            pstmt.setDate(1, date);
+            if (cabinIds != null) {
+                int index = 2;
+                for (int cabinId : cabinIds) {
+                    pstmt.setInt(index++, cabinId);
+                }
+            }
+            try (ResultSet rs = pstmt.executeQuery()) {
+                while (rs.next()) {
+                    int start = rs.getInt("start_minute");
+                    if (rs.wasNull()) continue;
+                    busy.computeIfAbsent(rs.getInt("cabin_id"), k -> new ArrayList<>())
+                            .add(new int[]{start, rs.getInt("end_minute")});
+                }
+            }
+        }
+        return busy;
+    }
+
+    /**
+     * Reallocate in memory: each conflict goes to the first accessible cabin that is free
+     * for its own slot, or is rejected. Deterministic, so the same data gives the same plan.
+     */
+    private static void planReallocation(List<Object[]> conflicts, List<int[]> candidateCabins,
+                                         Map<Integer, List<int[]>> busy, List<int[]> moves, List<Integer> rejections) {
+        for (Object[] conflict : conflicts) {
+            int bookingId = (Integer) conflict[0];
+            int start = (Integer) conflict[1];
+            int end = (Integer) conflict[2];
+            boolean ownerMayUseVipCabins = (Boolean) conflict[3];
+
+            int newCabinId = 0;
+            for (int[] cabin : candidateCabins) {
+                if (cabin[1] == 1 && !ownerMayUseVipCabins) continue;
+                if (isFree(busy.get(cabin[0]), start, end)) {
+                    newCabinId = cabin[0];
+                    break;
+                }
+            }
+
+            if (newCabinId > 0) {
+                busy.computeIfAbsent(newCabinId, k -> new ArrayList<>()).add(new int[]{start, end});
+                moves.add(new int[]{bookingId, newCabinId, start, end});
+            } else {
+                rejections.add(bookingId);
+            }
+        }
+    }
+
+    private static Booking displacedCopy(Booking before) {
+        Booking copy = new Booking();
+        copy.setBookingId(before.getBookingId());
+        copy.setCabinId(before.getCabinId());
+        copy.setBookingDate(before.getBookingDate());
+        copy.setStatus(before.getStatus());
+        copy.setPriorityLevel(before.getPriorityLevel());
+        copy.setDurationMinutes(before.getDurationMinutes());
+        return copy;
+    }
+
+    private static boolean samePlan(List<int[]> planned, List<int[]> actual) {
+        if (planned.size() != actual.size()) return false;
+        for (int i = 0; i < planned.size(); i++) {
+            if (!Arrays.equals(planned.get(i), actual.get(i))) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isSlotAvailable(int cabinId, Date date, String timeSlot) {
+        if (timeSlot == null || timeSlot.trim().isEmpty()) {
+            log.error("❌ Empty time slot provided for availability check");
+            return false;
+        }
+
+        TimeSlot slot = parseTimeSlot(timeSlot);
+        if (slot == null) {
+            log.error("❌ Invalid time slot format: {}", timeSlot);
+            return false;
+        }
+
+        AvailabilityIndex.DaySchedule schedule = getDaySchedule(cabinId, date);
+        if (schedule == null) {
+            return false;
+        }
+
+        boolean available = !schedule.overlaps(slot.getStartMinute(), slot.getEndMinute());
+        log.debug("🔍 Enhanced availability check - Cabin: {}, Date: {}, Time: {} -> {}", cabinId, date, timeSlot, (available ? "✅ AVAILABLE" : "❌ CONFLICT"));
+        return available;
     }
 
     @Override
     public List<Booking> getConflictingBookings(int cabinId, Date date, String timeSlot) {
+        List<Booking> conflicts = new ArrayList<>();
+
+        TimeSlot slot = parseTimeSlot(timeSlot);
+        if (slot == null) {
+            log.error("❌ Invalid time slot format: {}", timeSlot);
+            return conflicts;
+        }
+
+        // ✅ PERFORMANCE: Range predicates on the (cabin_id, booking_date, status, start_minute, end_minute) index
         String sql = BASE_SELECT_SQL +
-                "WHERE b.cabin_id = ? AND b.booking_date = ? AND b.status IN ('PENDING', 'APPROVED') AND " +
-                "((SUBSTRING(b.time_slot, 1, 5) < SUBSTRING(?, 7, 5)) AND (SUBSTRING(b.time_slot, 7, 5) > SUBSTRING(?, 1, 5)))";
+                "WHERE b.cabin_id = ? AND b.booking_date = ? AND b.status IN ('PENDING', 'APPROVED') " +
+                "AND b.start_minute < ? AND b.end_minute > ? " +
+                "ORDER BY b.start_minute";
 
-        List<Booking> conflicts = new ArrayList<>();
         Connection conn = null;
         PreparedStatement pstmt = null;
         ResultSet rs = null;
@@ -632,19 +1212,18 @@ public class BookingDaoImpl implements BookingDao {
             pstmt = conn.prepareStatement(sql);
             pstmt.setInt(1, cabinId);
             pstmt.setDate(2, date);
-            pstmt.setString(3, timeSlot);
-            pstmt.setString(4, timeSlot);
+            pstmt.setInt(3, slot.getEndMinute());
+            pstmt.setInt(4, slot.getStartMinute());
             rs = pstmt.executeQuery();
 
             while (rs.next()) {
                 conflicts.add(mapResultSetToBooking(rs));
             }
 
-            System.out.println("⚠️ Found " + conflicts.size() + " conflicting bookings");
+            log.warn("⚠️ Found {} conflicting bookings", conflicts.size());
 
         } catch (SQLException e) {
-            System.err.println("❌ Error getting conflicting bookings: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error getting conflicting bookings: {}", e.getMessage(), e);
         } finally {
             DbUtil.closeAllResources(conn, pstmt, rs);
         }
@@ -657,58 +1236,13 @@ public class BookingDaoImpl implements BookingDao {
 
     @Override
     public List<String> getAvailableTimeSlots(int cabinId, Date date, int durationMinutes) {
-        List<String> availableSlots = new ArrayList<>();
-
-        int startHour = 9;
-        int endHour = 18;
-        int interval = 15;
-
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        ResultSet rs = null;
-
-        try {
-            conn = DbUtil.getConnection();
-            if (conn == null) return availableSlots;
-
-            String sql = "SELECT time_slot FROM bookings WHERE cabin_id = ? AND booking_date = ? AND status IN ('PENDING', 'APPROVED')";
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setInt(1, cabinId);
-            pstmt.setDate(2, date);
-            rs = pstmt.executeQuery();
-
-            List<String> bookedSlots = new ArrayList<>();
-            while (rs.next()) {
-                bookedSlots.add(rs.getString("time_slot"));
-            }
-
-            for (int hour = startHour; hour < endHour; hour++) {
-                for (int minute = 0; minute < 60; minute += interval) {
-                    String startTime = String.format("%02d:%02d", hour, minute);
+        AvailabilityIndex.DaySchedule schedule = getDaySchedule(cabinId, date);
+        if (schedule == null) return new ArrayList<>();
 
-                    int totalMinutes = hour * 60 + minute + durationMinutes;
-                    int endHourCalc = totalMinutes / 60;
-                    int endMinute = totalMinutes % 60;
+        // ✅ PERFORMANCE: Free slots come straight from the day's occupancy bitmask
+        List<String> availableSlots = SlotGrid.freeSlots(schedule.getOccupancyMask(), durationMinutes);
 
-                    if (endHourCalc <= endHour && (endHourCalc < endHour || endMinute == 0)) {
-                        String endTime = String.format("%02d:%02d", endHourCalc, endMinute);
-                        String timeSlot = startTime + "-" + endTime;
-
-                        if (!hasTimeConflict(timeSlot, bookedSlots)) {
-                            availableSlots.add(timeSlot);
-                        }
-                    }
-                }
-            }
-
-            System.out.println("🕐 Generated " + availableSlots.size() + " available slots for " + durationMinutes + " minutes duration");
-
-        } catch (SQLException e) {
-            System.err.println("❌ Error getting available time slots: " + e.getMessage());
-            e.printStackTrace();
-        } finally {
-            DbUtil.closeAllResources(conn, pstmt, rs);
-        }
+        log.debug("🕐 Generated {} available slots for {} minutes duration", availableSlots.size(), durationMinutes);
 
         return availableSlots;
     }
@@ -722,22 +1256,19 @@ public class BookingDaoImpl implements BookingDao {
         }
 
         try {
-            int duration = calculateSlotDuration(requestedSlot);
-            if (duration <= 0) {
-                duration = 60;
-            }
+            TimeSlot requested = TimeSlot.parse(requestedSlot);
+            int duration = requested == null ? 60 : requested.getDurationMinutes();
 
-            List<String> availableSlots = getAvailableTimeSlots(cabinId, date, duration);
+            AvailabilityIndex.DaySchedule schedule = getDaySchedule(cabinId, date);
+            if (schedule == null) return alternatives;
 
-            for (int i = 0; i < Math.min(maxAlternatives, availableSlots.size()); i++) {
-                alternatives.add(availableSlots.get(i));
-            }
+            // ✅ PERFORMANCE: Stop after maxAlternatives instead of building the whole day
+            alternatives.addAll(SlotGrid.freeSlots(schedule.getOccupancyMask(), duration, maxAlternatives));
 
-            System.out.println("🔄 Found " + alternatives.size() + " alternative time slots for " + duration + " minutes");
+            log.debug("🔄 Found {} alternative time slots for {} minutes", alternatives.size(), duration);
 
         } catch (Exception e) {
-            System.err.println("❌ Error getting alternative time slots: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error getting alternative time slots: {}", e.getMessage(), e);
         }
 
         return alternatives;
@@ -759,28 +1290,86 @@ public class BookingDaoImpl implements BookingDao {
 
     @Override
     public List<String> generateTimeSlotsForDuration(int durationMinutes) {
-        List<String> timeSlots = new ArrayList<>();
+        // An empty day: every slot on the grid is free
+        return SlotGrid.freeSlots(0L, durationMinutes);
+    }
 
-        int startHour = 9;
-        int endHour = 18;
-        int interval = 15;
+    @Override
+    public long[] getDailyOccupancy(int cabinId, Date startDate, Date endDate) {
+        LocalDate first = startDate.toLocalDate();
+        int days = (int) (endDate.toLocalDate().toEpochDay() - first.toEpochDay() + 1);
+        if (days <= 0) return new long[0];
+
+        long[] occupancy = new long[days];
+
+        // ✅ PERFORMANCE: Answer from the availability index when every day is already cached
+        boolean allCached = true;
+        for (int i = 0; i < days; i++) {
+            AvailabilityIndex.DaySchedule schedule = availabilityIndex.get(cabinId, Date.valueOf(first.plusDays(i)));
+            if (schedule == null) {
+                allCached = false;
+                break;
+            }
+            occupancy[i] = schedule.getOccupancyMask();
+        }
+        if (allCached) {
+            log.debug("📅 Daily occupancy for cabin {} served from index ({} days)", cabinId, days);
+            return occupancy;
+        }
 
-        for (int hour = startHour; hour < endHour; hour++) {
-            for (int minute = 0; minute < 60; minute += interval) {
-                String startTime = String.format("%02d:%02d", hour, minute);
+        // Otherwise one query for the whole range, which also warms the index day by day
+        String sql = "SELECT booking_id, booking_date, start_minute, end_minute FROM bookings " +
+                "WHERE cabin_id = ? AND booking_date BETWEEN ? AND ? AND status IN ('PENDING', 'APPROVED') " +
+                "AND start_minute IS NOT NULL";
+
+        List<List<Integer>> bookingIds = new ArrayList<>(days);
+        List<List<Integer>> starts = new ArrayList<>(days);
+        List<List<Integer>> ends = new ArrayList<>(days);
+        for (int i = 0; i < days; i++) {
+            bookingIds.add(new ArrayList<>());
+            starts.add(new ArrayList<>());
+            ends.add(new ArrayList<>());
+        }
 
-                int totalMinutes = hour * 60 + minute + durationMinutes;
-                int endHourCalc = totalMinutes / 60;
-                int endMinute = totalMinutes % 60;
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
 
-                if (endHourCalc <= endHour && (endHourCalc < endHour || endMinute == 0)) {
-                    String endTime = String.format("%02d:%02d", endHourCalc, endMinute);
-                    timeSlots.add(startTime + "-" + endTime);
-                }
+        try {
+            conn = DbUtil.getConnection();
+            if (conn == null) return new long[0];
+
+            long loadToken = availabilityIndex.beginLoad();
+
+            pstmt = conn.prepareStatement(sql);
+            pstmt.setInt(1, cabinId);
+            pstmt.setDate(2, startDate);
+            pstmt.setDate(3, endDate);
+            rs = pstmt.executeQuery();
+
+            while (rs.next()) {
+                int day = (int) (rs.getDate("booking_date").toLocalDate().toEpochDay() - first.toEpochDay());
+                bookingIds.get(day).add(rs.getInt("booking_id"));
+                starts.get(day).add(rs.getInt("start_minute"));
+                ends.get(day).add(rs.getInt("end_minute"));
             }
+
+            for (int i = 0; i < days; i++) {
+                AvailabilityIndex.DaySchedule schedule = availabilityIndex.install(cabinId, Date.valueOf(first.plusDays(i)),
+                        loadToken, bookingIds.get(i), starts.get(i), ends.get(i));
+                occupancy[i] = schedule.getOccupancyMask();
+            }
+
+            log.debug("📅 Loaded daily occupancy for cabin {} from {} to {}", cabinId, startDate, endDate);
+
+        } catch (SQLException e) {
+            log.error("❌ Error getting daily occupancy: {}", e.getMessage(), e);
+            return new long[0];
+        } finally {
+            DbUtil.closeAllResources(conn, pstmt, rs);
         }
 
-        return timeSlots;
+        return occupancy;
     }
 
     @Override
@@ -806,11 +1395,10 @@ public class BookingDaoImpl implements BookingDao {
                 history.add(mapResultSetToBooking(rs));
             }
 
-            System.out.println("📊 Retrieved " + history.size() + " booking history records for user: " + userId);
+            log.debug("📊 Retrieved {} booking history records for user: {}", history.size(), userId);
 
         } catch (SQLException e) {
-            System.err.println("❌ Error getting user booking history: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error getting user booking history: {}", e.getMessage(), e);
         } finally {
             DbUtil.closeAllResources(conn, pstmt, rs);
         }
@@ -843,14 +1431,13 @@ public class BookingDaoImpl implements BookingDao {
                 String timeSlot = rs.getString("time_slot");
                 int count = rs.getInt("booking_count");
                 timeSlots.add(timeSlot);
-                System.out.println("⭐ Popular time slot: " + timeSlot + " (" + count + " bookings)");
+                log.debug("⭐ Popular time slot: {} ({} bookings)", timeSlot, count);
             }
 
-            System.out.println("🕐 Retrieved " + timeSlots.size() + " popular time slots");
+            log.debug("🕐 Retrieved {} popular time slots", timeSlots.size());
 
         } catch (SQLException e) {
-            System.err.println("❌ Error getting popular time slots: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error getting popular time slots: {}", e.getMessage(), e);
         } finally {
             DbUtil.closeAllResources(conn, pstmt, rs);
         }
@@ -858,6 +1445,45 @@ public class BookingDaoImpl implements BookingDao {
         return timeSlots;
     }
 
+    @Override
+    public Map<Integer, Double> getCabinPopularityScores(double halfLifeDays) {
+        // ✅ PERFORMANCE: One aggregate over approved bookings instead of loading every cabin's history
+        String sql = "SELECT cabin_id, SUM(EXP(-TIMESTAMPDIFF(SECOND, created_at, NOW()) / ?)) AS popularity " +
+                "FROM bookings " +
+                "WHERE status = 'APPROVED' AND created_at IS NOT NULL " +
+                "GROUP BY cabin_id";
+
+        Map<Integer, Double> scores = new HashMap<>();
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+
+        try {
+            conn = DbUtil.getConnection();
+            if (conn == null) return scores;
+
+            // exp(-age / tau) halves every halfLifeDays when tau = halfLife / ln 2
+            double tauSeconds = Math.max(halfLifeDays, 0.01) * 86400.0 / Math.log(2);
+
+            pstmt = conn.prepareStatement(sql);
+            pstmt.setDouble(1, tauSeconds);
+            rs = pstmt.executeQuery();
+
+            while (rs.next()) {
+                scores.put(rs.getInt("cabin_id"), rs.getDouble("popularity"));
+            }
+
+            log.debug("⭐ Computed popularity for {} cabins", scores.size());
+
+        } catch (SQLException e) {
+            log.error("❌ Error computing cabin popularity: {}", e.getMessage(), e);
+        } finally {
+            DbUtil.closeAllResources(conn, pstmt, rs);
+        }
+
+        return scores;
+    }
+
     @Override
     public List<Booking> getBookingsByPurpose(String purpose) {
         String sql = BASE_SELECT_SQL +
@@ -881,11 +1507,10 @@ public class BookingDaoImpl implements BookingDao {
                 bookings.add(mapResultSetToBooking(rs));
             }
 
-            System.out.println("🎯 Retrieved " + bookings.size() + " bookings with purpose: " + purpose);
+            log.debug("🎯 Retrieved {} bookings with purpose: {}", bookings.size(), purpose);
 
         } catch (SQLException e) {
-            System.err.println("❌ Error getting bookings by purpose: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error getting bookings by purpose: {}", e.getMessage(), e);
         } finally {
             DbUtil.closeAllResources(conn, pstmt, rs);
         }
@@ -916,11 +1541,10 @@ public class BookingDaoImpl implements BookingDao {
                 bookings.add(mapResultSetToBooking(rs));
             }
 
-            System.out.println("📊 Retrieved " + bookings.size() + " bookings with status: " + status);
+            log.debug("📊 Retrieved {} bookings with status: {}", bookings.size(), status);
 
         } catch (SQLException e) {
-            System.err.println("❌ Error getting bookings by status: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error getting bookings by status: {}", e.getMessage(), e);
         } finally {
             DbUtil.closeAllResources(conn, pstmt, rs);
         }
@@ -950,11 +1574,10 @@ public class BookingDaoImpl implements BookingDao {
                 bookings.add(mapResultSetToBooking(rs));
             }
 
-            System.out.println("⭐ Retrieved " + bookings.size() + " VIP bookings");
+            log.debug("⭐ Retrieved {} VIP bookings", bookings.size());
 
         } catch (SQLException e) {
-            System.err.println("❌ Error getting VIP bookings: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error getting VIP bookings: {}", e.getMessage(), e);
         } finally {
             DbUtil.closeAllResources(conn, pstmt, rs);
         }
@@ -985,11 +1608,10 @@ public class BookingDaoImpl implements BookingDao {
                 bookings.add(mapResultSetToBooking(rs));
             }
 
-            System.out.println("🚨 Retrieved " + bookings.size() + " urgent bookings requiring attention");
+            log.debug("🚨 Retrieved {} urgent bookings requiring attention", bookings.size());
 
         } catch (SQLException e) {
-            System.err.println("❌ Error getting urgent bookings: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error getting urgent bookings: {}", e.getMessage(), e);
         } finally {
             DbUtil.closeAllResources(conn, pstmt, rs);
         }
@@ -997,6 +1619,145 @@ public class BookingDaoImpl implements BookingDao {
         return bookings;
     }
 
+    // ================================
+    // KEYSET PAGINATION
+    // ================================
+
+    @Override
+    public BookingPage getBookingsPage(BookingCursor after, int pageSize) {
+        return queryBookingPage(null, null, after, pageSize);
+    }
+
+    @Override
+    public BookingPage getBookingsByStatusPage(String status, BookingCursor after, int pageSize) {
+        return queryBookingPage("b.status = ?", status, after, pageSize);
+    }
+
+    @Override
+    public BookingPage getVIPBookingsPage(BookingCursor after, int pageSize) {
+        return queryBookingPage("b.priority_level = ?", Booking.PriorityLevel.VIP.name(), after, pageSize);
+    }
+
+    @Override
+    public BookingPage getBookingsByUserPage(int userId, BookingCursor after, int pageSize) {
+        return queryBookingPage("b.user_id = ?", userId, after, pageSize);
+    }
+
+    @Override
+    public Map<String, Integer> getBookingCountsByUser(int userId) {
+        String sql = "SELECT status, COUNT(*) FROM bookings WHERE user_id = ? GROUP BY status";
+
+        Map<String, Integer> counts = new HashMap<>();
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+
+        try {
+            conn = DbUtil.getConnection();
+            if (conn == null) return counts;
+
+            pstmt = conn.prepareStatement(sql);
+            pstmt.setInt(1, userId);
+            rs = pstmt.executeQuery();
+
+            while (rs.next()) {
+                counts.put(rs.getString(1), rs.getInt(2));
+            }
+
+        } catch (SQLException e) {
+            log.error("❌ Error getting booking counts by user: {}", e.getMessage(), e);
+        } finally {
+            DbUtil.closeAllResources(conn, pstmt, rs);
+        }
+
+        return counts;
+    }
+
+    // ================================
+    // EXPORT
+    // ================================
+
+    // ✅ A streaming export pins one pooled connection until the last row is read; past this
+    // it is cut off so a slow or stalled download cannot hold the connection indefinitely
+    private static final long EXPORT_MAX_DURATION_MS = Long.getLong("cabinbooking.export.maxDurationMs", 300000L);
+    private static final long EXPORT_MAX_DURATION_NANOS = EXPORT_MAX_DURATION_MS * 1_000_000L;
+
+    @Override
+    public long streamBookings(BookingExportFilter filter, BookingSink sink) throws IOException {
+        StringBuilder sql = new StringBuilder(BASE_SELECT_SQL).append("WHERE 1 = 1 ");
+        List<Object> params = new ArrayList<>();
+
+        if (filter != null) {
+            if (filter.getStartDate() != null) {
+                sql.append("AND b.booking_date >= ? ");
+                params.add(filter.getStartDate());
+            }
+            if (filter.getEndDate() != null) {
+                sql.append("AND b.booking_date <= ? ");
+                params.add(filter.getEndDate());
+            }
+            if (filter.getCabinId() != null) {
+                sql.append("AND b.cabin_id = ? ");
+                params.add(filter.getCabinId());
+            }
+            if (filter.getStatus() != null) {
+                sql.append("AND b.status = ? ");
+                params.add(filter.getStatus().name());
+            }
+            if (filter.getPriorityLevel() != null) {
+                sql.append("AND b.priority_level = ? ");
+                params.add(filter.getPriorityLevel().name());
+            }
+        }
+        // Primary key order needs no sort buffer on the server
+        sql.append("ORDER BY b.booking_id");
+
+        long count = 0;
+        long deadline = System.nanoTime() + EXPORT_MAX_DURATION_NANOS;
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+
+        try {
+            conn = DbUtil.getConnection();
+            if (conn == null) return -1;
+
+            // ✅ PERFORMANCE: Forward-only, read-only and fetch size MIN_VALUE make
+            // Connector/J stream rows one by one instead of buffering the whole result
+            pstmt = conn.prepareStatement(sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            pstmt.setFetchSize(Integer.MIN_VALUE);
+            for (int i = 0; i < params.size(); i++) {
+                pstmt.setObject(i + 1, params.get(i));
+            }
+            rs = pstmt.executeQuery();
+
+            while (rs.next()) {
+                try {
+                    if (System.nanoTime() - deadline > 0) {
+                        throw new IOException("Export took longer than " + EXPORT_MAX_DURATION_MS + " ms");
+                    }
+                    sink.accept(mapResultSetToBooking(rs));
+                } catch (IOException e) {
+                    // Client went away - stop the server instead of draining the rest of the rows on close
+                    log.warn("⚠️ Booking export aborted after {} rows: {}", count, e.getMessage());
+                    cancelQuietly(pstmt);
+                    throw e;
+                }
+                count++;
+            }
+
+            log.debug("📤 Streamed {} bookings for export {}", count, filter);
+
+        } catch (SQLException e) {
+            log.error("❌ Error streaming bookings for export: {}", e.getMessage(), e);
+            return -1;
+        } finally {
+            DbUtil.closeAllResources(conn, pstmt, rs);
+        }
+
+        return count;
+    }
+
     @Override
     public int getBookingCountByUser(int userId) {
         String sql = "SELECT COUNT(*) FROM bookings WHERE user_id = ?";
@@ -1018,8 +1779,7 @@ public class BookingDaoImpl implements BookingDao {
             }
 
         } catch (SQLException e) {
-            System.err.println("❌ Error getting booking count by user: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error getting booking count by user: {}", e.getMessage(), e);
         } finally {
             DbUtil.closeAllResources(conn, pstmt, rs);
         }
@@ -1048,8 +1808,7 @@ public class BookingDaoImpl implements BookingDao {
             }
 
         } catch (SQLException e) {
-            System.err.println("❌ Error getting booking count by cabin: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error getting booking count by cabin: {}", e.getMessage(), e);
         } finally {
             DbUtil.closeAllResources(conn, pstmt, rs);
         }
@@ -1077,8 +1836,7 @@ public class BookingDaoImpl implements BookingDao {
             }
 
         } catch (SQLException e) {
-            System.err.println("❌ Error getting total booking count: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error getting total booking count: {}", e.getMessage(), e);
         } finally {
             DbUtil.closeAllResources(conn, pstmt, rs);
         }
@@ -1090,100 +1848,321 @@ public class BookingDaoImpl implements BookingDao {
     // PRIVATE UTILITY METHODS
     // ================================
 
-    private boolean hasTimeConflict(String newSlot, List<String> existingSlots) {
-        try {
-            String[] newTimes = newSlot.split("-");
-            if (newTimes.length != 2) return true;
+    /**
+     * Keyset page query: rows strictly older than the cursor, newest first.
+     * Each filter has a matching (filter, created_at, booking_id) index, so a page
+     * is an index range scan of pageSize + 1 rows however deep the history goes.
+     * @param filterSql Extra predicate with one "?" (or null for none)
+     * @param filterValue Value bound to the filter's "?"
+     */
+    private BookingPage queryBookingPage(String filterSql, Object filterValue, BookingCursor after, int pageSize) {
+        if (pageSize <= 0) return BookingPage.empty();
+
+        StringBuilder sql = new StringBuilder(BASE_SELECT_SQL);
+        String joiner = "WHERE ";
+        if (filterSql != null) {
+            sql.append(joiner).append(filterSql).append(' ');
+            joiner = "AND ";
+        }
+        if (after != null) {
+            sql.append(joiner).append("(b.created_at < ? OR (b.created_at = ? AND b.booking_id < ?)) ");
+        }
+        sql.append("ORDER BY b.created_at DESC, b.booking_id DESC LIMIT ?");
 
-            String newStart = newTimes[0];
-            String newEnd = newTimes[1];
+        List<Booking> bookings = new ArrayList<>();
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
 
-            for (String existingSlot : existingSlots) {
-                String[] existingTimes = existingSlot.split("-");
-                if (existingTimes.length != 2) continue;
+        try {
+            conn = DbUtil.getConnection();
+            if (conn == null) return BookingPage.empty();
 
-                String existingStart = existingTimes[0];
-                String existingEnd = existingTimes[1];
+            pstmt = conn.prepareStatement(sql.toString());
+            int index = 1;
+            if (filterSql != null) {
+                pstmt.setObject(index++, filterValue);
+            }
+            if (after != null) {
+                pstmt.setTimestamp(index++, after.getLastCreatedAt());
+                pstmt.setTimestamp(index++, after.getLastCreatedAt());
+                pstmt.setInt(index++, after.getLastBookingId());
+            }
+            // One extra row tells us whether another page exists
+            pstmt.setInt(index, pageSize + 1);
+            rs = pstmt.executeQuery();
 
-                if (timeOverlaps(newStart, newEnd, existingStart, existingEnd)) {
-                    return true;
-                }
+            while (rs.next()) {
+                bookings.add(mapResultSetToBooking(rs));
             }
 
-            return false;
+        } catch (SQLException e) {
+            log.error("❌ Error getting booking page: {}", e.getMessage(), e);
+            return BookingPage.empty();
+        } finally {
+            DbUtil.closeAllResources(conn, pstmt, rs);
+        }
 
-        } catch (Exception e) {
-            System.err.println("❌ Error checking time conflict: " + e.getMessage());
-            return true;
+        BookingCursor next = null;
+        if (bookings.size() > pageSize) {
+            bookings.remove(pageSize);
+            next = BookingCursor.after(bookings.get(pageSize - 1));
         }
-    }
 
-    private boolean timeOverlaps(String start1, String end1, String start2, String end2) {
-        try {
-            int start1Minutes = timeToMinutes(start1);
-            int end1Minutes = timeToMinutes(end1);
-            int start2Minutes = timeToMinutes(start2);
-            int end2Minutes = timeToMinutes(end2);
+        log.debug("📄 Booking page [{} {}]: {} rows, more available: {}", filterSql, filterValue, bookings.size(), next != null);
+        return new BookingPage(bookings, next);
+    }
 
-            return (start1Minutes < end2Minutes && end1Minutes > start2Minutes);
+    /**
+     * Cached booked intervals for a cabin-day, loading them from the database on a miss
+     * @return DaySchedule or null if the day could not be loaded
+     */
+    private AvailabilityIndex.DaySchedule getDaySchedule(int cabinId, Date date) {
+        if (date == null) return null;
 
-        } catch (Exception e) {
-            return true;
+        AvailabilityIndex.DaySchedule schedule = availabilityIndex.get(cabinId, date);
+        if (schedule != null) {
+            return schedule;
         }
-    }
 
-    private int timeToMinutes(String time) {
+        // Covered by idx_bookings_cabin_day_range - no table rows are read
+        String sql = "SELECT booking_id, start_minute, end_minute FROM bookings " +
+                "WHERE cabin_id = ? AND booking_date = ? AND status IN ('PENDING', 'APPROVED') AND start_minute IS NOT NULL";
+
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+
         try {
-            String[] parts = time.split(":");
-            int hours = Integer.parseInt(parts[0]);
-            int minutes = Integer.parseInt(parts[1]);
-            return hours * 60 + minutes;
-        } catch (Exception e) {
-            return 0;
+            conn = DbUtil.getConnection();
+            if (conn == null) {
+                log.error("❌ Database connection failed while loading availability");
+                return null;
+            }
+
+            long loadToken = availabilityIndex.beginLoad();
+
+            pstmt = conn.prepareStatement(sql);
+            pstmt.setInt(1, cabinId);
+            pstmt.setDate(2, date);
+            rs = pstmt.executeQuery();
+
+            List<Integer> bookingIds = new ArrayList<>();
+            List<Integer> starts = new ArrayList<>();
+            List<Integer> ends = new ArrayList<>();
+            while (rs.next()) {
+                bookingIds.add(rs.getInt("booking_id"));
+                starts.add(rs.getInt("start_minute"));
+                ends.add(rs.getInt("end_minute"));
+            }
+
+            log.debug("📥 Loaded {} booked intervals for cabin {} on {}", bookingIds.size(), cabinId, date);
+            return availabilityIndex.install(cabinId, date, loadToken, bookingIds, starts, ends);
+
+        } catch (SQLException e) {
+            log.error("❌ Error loading cabin availability: {}", e.getMessage(), e);
+        } finally {
+            DbUtil.closeAllResources(conn, pstmt, rs);
         }
+
+        return null;
     }
 
-    private int calculateSlotDuration(String timeSlot) {
+    /**
+     * Run "UPDATE ... SET ..., by = ? WHERE booking_id = ? AND status = 'PENDING'" for every id
+     * as one JDBC batch in one transaction. Ids that are no longer PENDING come back false;
+     * an SQL error rolls the whole batch back and every id comes back false.
+     */
+    private boolean[] updatePendingBookingsInBatch(String sql, int[] bookingIds, int adminId, String operation) {
+        boolean[] results = new boolean[bookingIds == null ? 0 : bookingIds.length];
+        if (results.length == 0) return results;
+
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+
         try {
-            String[] times = timeSlot.split("-");
-            if (times.length != 2) return 60;
+            conn = DbUtil.getConnection();
+            if (conn == null) return results;
 
-            int startMinutes = timeToMinutes(times[0]);
-            int endMinutes = timeToMinutes(times[1]);
-            return endMinutes - startMinutes;
-        } catch (Exception e) {
-            return 60;
+            conn.setAutoCommit(false);
+
+            pstmt = conn.prepareStatement(sql);
+            for (int bookingId : bookingIds) {
+                pstmt.setInt(1, adminId);
+                pstmt.setInt(2, bookingId);
+                pstmt.addBatch();
+            }
+
+            int[] counts = pstmt.executeBatch();
+            conn.commit();
+
+            int successCount = 0;
+            for (int i = 0; i < counts.length && i < results.length; i++) {
+                results[i] = counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO;
+                if (results[i]) successCount++;
+            }
+
+            log.debug("✅ Bulk {}: {}/{} bookings updated by admin: {}", operation, successCount, bookingIds.length, adminId);
+
+        } catch (SQLException e) {
+            rollbackQuietly(conn);
+            Arrays.fill(results, false);
+            log.error("❌ Bulk {} rolled back: {}", operation, e.getMessage(), e);
+        } finally {
+            DbUtil.closeAllResources(conn, pstmt, null);
         }
+
+        return results;
     }
 
-    private boolean isValidTimeSlotFormat(String timeSlot) {
-        if (timeSlot == null || timeSlot.trim().isEmpty()) {
-            return false;
+    /**
+     * Make sure the cabin_day_locks rows exist, creating only the missing ones.
+     * Must run in auto-commit mode before the transaction starts: an INSERT IGNORE
+     * inside it would take a shared lock on an existing row that the later
+     * FOR UPDATE has to upgrade, and two transactions doing that deadlock.
+     */
+    private void ensureLockRows(Connection conn, List<Integer> cabinIds, Date date) throws SQLException {
+        StringBuilder placeholders = new StringBuilder();
+        for (int i = 0; i < cabinIds.size(); i++) {
+            placeholders.append(i == 0 ? "?" : ", ?");
         }
 
-        String pattern = "^([0-1]?[0-9]|2[0-3]):[0-5][0-9]-([0-1]?[0-9]|2[0-3]):[0-5][0-9]$";
+        List<Integer> missing = new ArrayList<>(cabinIds);
+        try (PreparedStatement select = conn.prepareStatement(
+                "SELECT cabin_id FROM cabin_day_locks WHERE booking_date = ? AND cabin_id IN (" + placeholders + ")")) {
+            select.setDate(1, date);
+            int index = 2;
+            for (int cabinId : cabinIds) {
+                select.setInt(index++, cabinId);
+            }
+            try (ResultSet rs = select.executeQuery()) {
+                while (rs.next()) {
+                    missing.remove(Integer.valueOf(rs.getInt(1)));
+                }
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
 
-        if (!timeSlot.matches(pattern)) {
-            return false;
+        try (PreparedStatement insert = conn.prepareStatement(
+                "INSERT IGNORE INTO cabin_day_locks (cabin_id, booking_date) VALUES (?, ?)")) {
+            for (int cabinId : missing) {
+                insert.setInt(1, cabinId);
+                insert.setDate(2, date);
+                insert.addBatch();
+            }
+            insert.executeBatch();
         }
+    }
 
-        try {
-            String[] times = timeSlot.split("-");
-            int startMinutes = timeToMinutes(times[0]);
-            int endMinutes = timeToMinutes(times[1]);
+    /**
+     * Take the row lock that serialises reservations for one cabin-day.
+     * Must be called inside a transaction, after ensureLockRows(); the lock is released on commit/rollback.
+     */
+    private void lockCabinDay(Connection conn, int cabinId, Date date) throws SQLException {
+        try (PreparedStatement lock = conn.prepareStatement(
+                "SELECT cabin_id FROM cabin_day_locks WHERE cabin_id = ? AND booking_date = ? FOR UPDATE")) {
+            lock.setInt(1, cabinId);
+            lock.setDate(2, date);
+            lock.executeQuery().close();
+        }
+    }
 
-            if (endMinutes <= startMinutes) {
-                return false;
+    /**
+     * Lock several cabin-days at once, after ensureLockRows()
+     * @param cabinIds Cabins to lock, sorted ascending - all multi-cabin lockers use the same order
+     */
+    private void lockCabinDays(Connection conn, List<Integer> cabinIds, Date date) throws SQLException {
+        try (PreparedStatement lock = conn.prepareStatement(
+                "SELECT cabin_id FROM cabin_day_locks WHERE cabin_id = ? AND booking_date = ? FOR UPDATE")) {
+            for (int cabinId : cabinIds) {
+                lock.setInt(1, cabinId);
+                lock.setDate(2, date);
+                lock.executeQuery().close();
             }
+        }
+    }
 
-            if ((endMinutes - startMinutes) > 480) {
+    private static boolean isFree(List<int[]> intervals, int startMinute, int endMinute) {
+        if (intervals == null) return true;
+        for (int[] interval : intervals) {
+            if (interval[0] < endMinute && interval[1] > startMinute) {
                 return false;
             }
+        }
+        return true;
+    }
 
-            return true;
+    /**
+     * Overlap check straight from the bookings table (bypasses the in-memory index).
+     * A range probe on idx_bookings_cabin_day_range that stops at the first overlap.
+     * @param excludeBookingId Booking to ignore, e.g. the one being moved; 0 for none
+     */
+    private boolean hasOverlappingBooking(Connection conn, int cabinId, Date date, int startMinute, int endMinute,
+                                          int excludeBookingId) throws SQLException {
+        String sql = "SELECT booking_id FROM bookings WHERE cabin_id = ? AND booking_date = ? " +
+                "AND status IN ('PENDING', 'APPROVED') AND start_minute < ? AND end_minute > ? AND booking_id <> ? LIMIT 1";
+
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setInt(1, cabinId);
+            pstmt.setDate(2, date);
+            pstmt.setInt(3, endMinute);
+            pstmt.setInt(4, startMinute);
+            pstmt.setInt(5, excludeBookingId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
 
-        } catch (Exception e) {
-            return false;
+    // 1205 = lock wait timeout, 3572 = NOWAIT lock not available
+    private static boolean isLockTimeout(SQLException e) {
+        return e.getErrorCode() == 1205 || e.getErrorCode() == 3572;
+    }
+
+    // 1213 = chosen as deadlock victim; the transaction was rolled back and may simply be run again
+    private static boolean isDeadlock(SQLException e) {
+        return e.getErrorCode() == 1213 || "40001".equals(e.getSQLState());
+    }
+
+    private static void rollbackQuietly(Connection conn) {
+        if (conn == null) return;
+        try {
+            if (!conn.getAutoCommit()) {
+                conn.rollback();
+            }
+        } catch (SQLException e) {
+            log.error("❌ Rollback failed: {}", e.getMessage());
+        }
+    }
+
+    // ✅ Keep the availability index in step with a booking's current state
+    private void indexBooking(Booking booking) {
+        if (booking.getBookingId() <= 0) return;
+
+        Booking.Status status = booking.getStatus();
+        TimeSlot slot = parseTimeSlot(booking.getTimeSlot());
+        if ((status == Booking.Status.PENDING || status == Booking.Status.APPROVED)
+                && booking.getBookingDate() != null && slot != null) {
+            availabilityIndex.bookingActive(booking.getBookingId(), booking.getCabinId(), booking.getBookingDate(),
+                    slot.getStartMinute(), slot.getEndMinute());
+        } else {
+            availabilityIndex.bookingInactive(booking.getBookingId());
+        }
+    }
+
+    // Well-formed slot of at most 8 hours, or null
+    private TimeSlot parseTimeSlot(String timeSlot) {
+        TimeSlot slot = TimeSlot.parse(timeSlot);
+        return slot != null && slot.getDurationMinutes() <= TimeSlot.MAX_DURATION_MINUTES ? slot : null;
+    }
+
+    private void cancelQuietly(Statement stmt) {
+        try {
+            stmt.cancel();
+        } catch (SQLException e) {
+            log.warn("⚠️ Could not cancel query: {}", e.getMessage());
         }
     }
 
@@ -1203,7 +2182,7 @@ public class BookingDaoImpl implements BookingDao {
             try {
                 booking.setBookingType(Booking.BookingType.valueOf(bookingTypeStr));
             } catch (IllegalArgumentException e) {
-                System.err.println("⚠️ Invalid booking type: " + bookingTypeStr + ", defaulting to SINGLE_DAY");
+                log.warn("⚠️ Invalid booking type: {}, defaulting to SINGLE_DAY", bookingTypeStr);
                 booking.setBookingType(Booking.BookingType.SINGLE_DAY);
             }
         } else {
@@ -1244,7 +2223,7 @@ public class BookingDaoImpl implements BookingDao {
             }
         } catch (SQLException e) {
             // Columns might not exist in some queries - handle gracefully
-            System.out.println("⚠️ Rejected fields not available in this query (this is normal for some operations)");
+            log.warn("⚠️ Rejected fields not available in this query (this is normal for some operations)");
         }
 
         // Set display fields if available
@@ -1,15 +1,25 @@
 package com.yash.cabinbooking.daoimpl;
 
+import com.yash.cabinbooking.cache.CabinCatalog;
 import com.yash.cabinbooking.dao.CabinDao;
 import com.yash.cabinbooking.model.Cabin;
 import com.yash.cabinbooking.model.User;
 import com.yash.cabinbooking.util.DbUtil;
+import com.yash.cabinbooking.logging.Logger;
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.List;
 
 public class CabinDaoImpl implements CabinDao {
 
+    private static final Logger log = Logger.getLogger(CabinDaoImpl.class);
+
+    private static final String SELECT_ALL_CABINS_SQL =
+            "SELECT cabin_id, company_id, name, capacity, amenities, is_vip_only, location, status, created_at FROM cabins ORDER BY name";
+
+    // ✅ PERFORMANCE: Whole cabins table cached in memory, replaced on every cabin write
+    private static final CabinCatalog cabinCatalog = CabinCatalog.getInstance();
+
     // ✅ KEEP ALL YOUR EXISTING METHODS AS THEY ARE
 
     @Override
@@ -40,13 +50,13 @@ public class CabinDaoImpl implements CabinDao {
                     cabin.setCabinId(generatedKeys.getInt(1));
                     cabin.setCompanyId(1); // Set company_id in cabin object
                 }
-                System.out.println("✅ Cabin created successfully: " + cabin.getName() + " (ID: " + cabin.getCabinId() + ")");
+                cabinCatalog.invalidate();
+                log.debug("✅ Cabin created successfully: {} (ID: {})", cabin.getName(), cabin.getCabinId());
                 return true;
             }
 
         } catch (SQLException e) {
-            System.err.println("❌ SQL Error in createCabin: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ SQL Error in createCabin: {}", e.getMessage(), e);
         } finally {
             DbUtil.closeAllResources(conn, pstmt, null);
         }
@@ -56,108 +66,33 @@ public class CabinDaoImpl implements CabinDao {
 
     // ✅ NEW: Add cabin method for AdminController
     public boolean addCabin(Cabin cabin) {
-        System.out.println("➕ Adding new cabin: " + cabin.getName());
+        log.debug("➕ Adding new cabin: {}", cabin.getName());
         return createCabin(cabin); // Use existing createCabin method
     }
 
     @Override
     public Cabin getCabinById(int cabinId) {
-        String sql = "SELECT cabin_id, company_id, name, capacity, amenities, is_vip_only, location, status, created_at FROM cabins WHERE cabin_id = ?";
-
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        ResultSet rs = null;
+        CabinCatalog.Snapshot snapshot = catalog();
+        if (snapshot == null) return null;
 
-        try {
-            conn = DbUtil.getConnection();
-            if (conn == null) return null;
-
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setInt(1, cabinId);
-            rs = pstmt.executeQuery();
-
-            if (rs.next()) {
-                Cabin cabin = mapResultSetToCabin(rs);
-                System.out.println("✅ Cabin found: " + cabin.getName() + " (ID: " + cabinId + ")");
-                return cabin;
-            } else {
-                System.out.println("❌ Cabin not found with ID: " + cabinId);
-                return null;
-            }
-
-        } catch (SQLException e) {
-            System.err.println("❌ Error getting cabin by ID: " + e.getMessage());
-            e.printStackTrace();
-        } finally {
-            DbUtil.closeAllResources(conn, pstmt, rs);
+        Cabin cabin = snapshot.getById(cabinId);
+        if (cabin == null) {
+            log.debug("❌ Cabin not found with ID: {}", cabinId);
         }
-
-        return null;
+        return cabin;
     }
 
     @Override
     public List<Cabin> getAllCabins() {
-        String sql = "SELECT cabin_id, company_id, name, capacity, amenities, is_vip_only, location, status, created_at FROM cabins ORDER BY name";
-
-        List<Cabin> cabins = new ArrayList<>();
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        ResultSet rs = null;
-
-        try {
-            conn = DbUtil.getConnection();
-            if (conn == null) return cabins;
-
-            pstmt = conn.prepareStatement(sql);
-            rs = pstmt.executeQuery();
-
-            while (rs.next()) {
-                cabins.add(mapResultSetToCabin(rs));
-            }
-
-            System.out.println("✅ Retrieved " + cabins.size() + " cabins from database");
-
-        } catch (SQLException e) {
-            System.err.println("❌ Error getting all cabins: " + e.getMessage());
-            e.printStackTrace();
-        } finally {
-            DbUtil.closeAllResources(conn, pstmt, rs);
-        }
-
-        return cabins;
+        CabinCatalog.Snapshot snapshot = catalog();
+        return snapshot == null ? new ArrayList<>() : snapshot.getAll();
     }
 
     // ✅ ADDED: Get all active cabins (fixes CompanyServiceImpl error)
     @Override
     public List<Cabin> getAllActiveCabins() {
-        String sql = "SELECT cabin_id, company_id, name, capacity, amenities, is_vip_only, location, status, created_at FROM cabins WHERE status = 'ACTIVE' ORDER BY name";
-
-        List<Cabin> cabins = new ArrayList<>();
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        ResultSet rs = null;
-
-        try {
-            conn = DbUtil.getConnection();
-            if (conn == null) return cabins;
-
-            pstmt = conn.prepareStatement(sql);
-            rs = pstmt.executeQuery();
-
-            while (rs.next()) {
-                cabins.add(mapResultSetToCabin(rs));
-            }
-
-            System.out.println("✅ Retrieved " + cabins.size() + " active cabins");
-
-        } catch (SQLException e) {
-            System.err.println("❌ Error getting active cabins: " + e.getMessage());
-            e.printStackTrace();
-        } finally {
-            DbUtil.closeAllResources(conn, pstmt, rs);
-        }
-
-        return cabins;
+        CabinCatalog.Snapshot snapshot = catalog();
+        return snapshot == null ? new ArrayList<>() : snapshot.getByStatus(Cabin.Status.ACTIVE);
     }
 
     @Override
@@ -184,13 +119,13 @@ public class CabinDaoImpl implements CabinDao {
             int rowsAffected = pstmt.executeUpdate();
 
             if (rowsAffected > 0) {
-                System.out.println("✅ Cabin updated successfully: " + cabin.getName());
+                cabinCatalog.invalidate();
+                log.debug("✅ Cabin updated successfully: {}", cabin.getName());
                 return true;
             }
 
         } catch (SQLException e) {
-            System.err.println("❌ Error updating cabin: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error updating cabin: {}", e.getMessage(), e);
         } finally {
             DbUtil.closeAllResources(conn, pstmt, null);
         }
@@ -215,7 +150,7 @@ public class CabinDaoImpl implements CabinDao {
             rs = pstmt.executeQuery();
 
             if (rs.next() && rs.getInt(1) > 0) {
-                System.err.println("❌ Cannot delete cabin " + cabinId + " - has " + rs.getInt(1) + " active bookings");
+                log.error("❌ Cannot delete cabin {} - has {} active bookings", cabinId, rs.getInt(1));
                 return false;
             }
 
@@ -232,20 +167,20 @@ public class CabinDaoImpl implements CabinDao {
             int rowsAffected = pstmt.executeUpdate();
 
             if (rowsAffected > 0) {
-                System.out.println("✅ Cabin deleted permanently from database: " + cabinId);
+                cabinCatalog.invalidate();
+                log.debug("✅ Cabin deleted permanently from database: {}", cabinId);
                 return true;
             } else {
-                System.err.println("❌ No cabin found with ID: " + cabinId);
+                log.error("❌ No cabin found with ID: {}", cabinId);
                 return false;
             }
 
         } catch (SQLException e) {
-            System.err.println("❌ Error deleting cabin: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error deleting cabin: {}", e.getMessage(), e);
 
             if (e.getMessage().contains("foreign key constraint") ||
                     e.getMessage().contains("Cannot delete or update a parent row")) {
-                System.err.println("⚠️ Foreign key constraint violation - cabin has related records");
+                log.warn("⚠️ Foreign key constraint violation - cabin has related records");
             }
         } finally {
             DbUtil.closeAllResources(conn, pstmt, rs);
@@ -257,142 +192,38 @@ public class CabinDaoImpl implements CabinDao {
     // ✅ UPDATED: Available cabins without company ID parameter
     @Override
     public List<Cabin> getAvailableCabins() {
-        String sql = "SELECT cabin_id, company_id, name, capacity, amenities, is_vip_only, location, status, created_at FROM cabins WHERE status = 'ACTIVE' ORDER BY name";
-
-        List<Cabin> cabins = new ArrayList<>();
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        ResultSet rs = null;
-
-        try {
-            conn = DbUtil.getConnection();
-            if (conn == null) return cabins;
-
-            pstmt = conn.prepareStatement(sql);
-            rs = pstmt.executeQuery();
-
-            while (rs.next()) {
-                cabins.add(mapResultSetToCabin(rs));
-            }
-
-            System.out.println("✅ Retrieved " + cabins.size() + " available cabins");
-
-        } catch (SQLException e) {
-            System.err.println("❌ Error getting available cabins: " + e.getMessage());
-            e.printStackTrace();
-        } finally {
-            DbUtil.closeAllResources(conn, pstmt, rs);
-        }
-
-        return cabins;
+        CabinCatalog.Snapshot snapshot = catalog();
+        return snapshot == null ? new ArrayList<>() : snapshot.getByStatus(Cabin.Status.ACTIVE);
     }
 
     // ✅ UPDATED: Accessible cabins without company ID parameter
     @Override
     public List<Cabin> getAccessibleCabins(User user) {
-        String sql;
-
-        if (user.isVIP() || user.isAdmin()) {
-            // VIP and Admin users can access all cabins
-            sql = "SELECT cabin_id, company_id, name, capacity, amenities, is_vip_only, location, status, created_at FROM cabins WHERE status = 'ACTIVE' ORDER BY is_vip_only DESC, name";
-        } else {
-            // Normal users can only access non-VIP cabins
-            sql = "SELECT cabin_id, company_id, name, capacity, amenities, is_vip_only, location, status, created_at FROM cabins WHERE status = 'ACTIVE' AND is_vip_only = FALSE ORDER BY name";
-        }
-
-        List<Cabin> cabins = new ArrayList<>();
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        ResultSet rs = null;
-
-        try {
-            conn = DbUtil.getConnection();
-            if (conn == null) return cabins;
-
-            pstmt = conn.prepareStatement(sql);
-            rs = pstmt.executeQuery();
-
-            while (rs.next()) {
-                cabins.add(mapResultSetToCabin(rs));
-            }
-
-            System.out.println("✅ Retrieved " + cabins.size() + " accessible cabins for " + user.getUserTypeDisplay() + ": " + user.getName());
+        CabinCatalog.Snapshot snapshot = catalog();
+        if (snapshot == null) return new ArrayList<>();
 
-        } catch (SQLException e) {
-            System.err.println("❌ Error getting accessible cabins: " + e.getMessage());
-            e.printStackTrace();
-        } finally {
-            DbUtil.closeAllResources(conn, pstmt, rs);
-        }
-
-        return cabins;
+        // VIP and Admin users can access all cabins (VIP-only first), normal users only non-VIP cabins
+        return snapshot.getAccessible(user.isVIP() || user.isAdmin());
     }
 
     // ✅ UPDATED: VIP cabins without company ID parameter (fixes CompanyServiceImpl error)
     @Override
     public List<Cabin> getVIPOnlyCabins() {
-        String sql = "SELECT cabin_id, company_id, name, capacity, amenities, is_vip_only, location, status, created_at FROM cabins WHERE is_vip_only = TRUE AND status = 'ACTIVE' ORDER BY name";
-
-        List<Cabin> cabins = new ArrayList<>();
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        ResultSet rs = null;
-
-        try {
-            conn = DbUtil.getConnection();
-            if (conn == null) return cabins;
-
-            pstmt = conn.prepareStatement(sql);
-            rs = pstmt.executeQuery();
-
-            while (rs.next()) {
-                cabins.add(mapResultSetToCabin(rs));
-            }
-
-            System.out.println("✅ Retrieved " + cabins.size() + " VIP-only cabins");
-
-        } catch (SQLException e) {
-            System.err.println("❌ Error getting VIP cabins: " + e.getMessage());
-            e.printStackTrace();
-        } finally {
-            DbUtil.closeAllResources(conn, pstmt, rs);
-        }
-
-        return cabins;
+        CabinCatalog.Snapshot snapshot = catalog();
+        return snapshot == null ? new ArrayList<>() : snapshot.getActiveVipOnly();
     }
 
     @Override
     public List<Cabin> getCabinsByCapacity(int minCapacity, int maxCapacity) {
-        String sql = "SELECT cabin_id, company_id, name, capacity, amenities, is_vip_only, location, status, created_at FROM cabins WHERE capacity BETWEEN ? AND ? AND status = 'ACTIVE' ORDER BY capacity, name";
-
-        List<Cabin> cabins = new ArrayList<>();
-        Connection conn = null;
-        PreparedStatement pstmt = null;
-        ResultSet rs = null;
-
-        try {
-            conn = DbUtil.getConnection();
-            if (conn == null) return cabins;
-
-            pstmt = conn.prepareStatement(sql);
-            pstmt.setInt(1, minCapacity);
-            pstmt.setInt(2, maxCapacity);
-            rs = pstmt.executeQuery();
-
-            while (rs.next()) {
-                cabins.add(mapResultSetToCabin(rs));
-            }
-
-            System.out.println("✅ Retrieved " + cabins.size() + " cabins with capacity " + minCapacity + "-" + maxCapacity);
-
-        } catch (SQLException e) {
-            System.err.println("❌ Error getting cabins by capacity: " + e.getMessage());
-            e.printStackTrace();
-        } finally {
-            DbUtil.closeAllResources(conn, pstmt, rs);
-        }
+        CabinCatalog.Snapshot snapshot = catalog();
+        return snapshot == null ? new ArrayList<>() : snapshot.getActiveByCapacity(minCapacity, maxCapacity);
+    }
 
-        return cabins;
+    @Override
+    public List<Cabin> getCabinsByLocation(String location) {
+        CabinCatalog.Snapshot snapshot = catalog();
+        if (snapshot == null || location == null) return new ArrayList<>();
+        return snapshot.getActiveByLocation(location.trim());
     }
 
     @Override
@@ -416,11 +247,10 @@ public class CabinDaoImpl implements CabinDao {
                 cabins.add(mapResultSetToCabin(rs));
             }
 
-            System.out.println("🔍 Retrieved " + cabins.size() + " cabins with amenity: " + amenities);
+            log.debug("🔍 Retrieved {} cabins with amenity: {}", cabins.size(), amenities);
 
         } catch (SQLException e) {
-            System.err.println("❌ Error getting cabins with amenities: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error getting cabins with amenities: {}", e.getMessage(), e);
         } finally {
             DbUtil.closeAllResources(conn, pstmt, rs);
         }
@@ -455,11 +285,10 @@ public class CabinDaoImpl implements CabinDao {
                 cabins.add(cabin);
             }
 
-            System.out.println("🌟 Retrieved " + cabins.size() + " popular cabins");
+            log.debug("🌟 Retrieved {} popular cabins", cabins.size());
 
         } catch (SQLException e) {
-            System.err.println("❌ Error getting popular cabins: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error getting popular cabins: {}", e.getMessage(), e);
         } finally {
             DbUtil.closeAllResources(conn, pstmt, rs);
         }
@@ -496,11 +325,10 @@ public class CabinDaoImpl implements CabinDao {
                 cabins.add(mapResultSetToCabin(rs));
             }
 
-            System.out.println("🔗 Retrieved " + cabins.size() + " similar cabins for cabin: " + cabinId);
+            log.debug("🔗 Retrieved {} similar cabins for cabin: {}", cabins.size(), cabinId);
 
         } catch (SQLException e) {
-            System.err.println("❌ Error getting similar cabins: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error getting similar cabins: {}", e.getMessage(), e);
         } finally {
             DbUtil.closeAllResources(conn, pstmt, rs);
         }
@@ -527,16 +355,16 @@ public class CabinDaoImpl implements CabinDao {
             int rowsAffected = pstmt.executeUpdate();
 
             if (rowsAffected > 0) {
-                System.out.println("✅ Cabin status updated successfully: " + cabinId + " to " + status);
+                cabinCatalog.invalidate();
+                log.debug("✅ Cabin status updated successfully: {} to {}", cabinId, status);
                 return true;
             } else {
-                System.err.println("❌ No cabin found with ID: " + cabinId);
+                log.error("❌ No cabin found with ID: {}", cabinId);
                 return false;
             }
 
         } catch (SQLException e) {
-            System.err.println("❌ Error updating cabin status: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error updating cabin status: {}", e.getMessage(), e);
         } finally {
             DbUtil.closeAllResources(conn, pstmt, null);
         }
@@ -558,7 +386,7 @@ public class CabinDaoImpl implements CabinDao {
      */
     @Override
     public List<Cabin> getCabinsByCompany(int companyId) {
-        System.out.println("🤖 AI Service: Getting cabins for company: " + companyId + " (Single Company Mode)");
+        log.debug("🤖 AI Service: Getting cabins for company: {} (Single Company Mode)", companyId);
         // For single company, return all active cabins regardless of companyId
         return getAllActiveCabins();
     }
@@ -569,7 +397,7 @@ public class CabinDaoImpl implements CabinDao {
      */
     @Override
     public List<Cabin> getAccessibleCabins(int companyId, User user) {
-        System.out.println("🤖 AI Service: Getting accessible cabins for company: " + companyId + ", user: " + user.getName());
+        log.debug("🤖 AI Service: Getting accessible cabins for company: {}, user: {}", companyId, user.getName());
         // Delegate to existing method - company ID is ignored
         return getAccessibleCabins(user);
     }
@@ -580,13 +408,45 @@ public class CabinDaoImpl implements CabinDao {
      */
     @Override
     public List<Cabin> getVIPOnlyCabins(int companyId) {
-        System.out.println("🤖 AI Service: Getting VIP cabins for company: " + companyId + " (Single Company Mode)");
+        log.debug("🤖 AI Service: Getting VIP cabins for company: {} (Single Company Mode)", companyId);
         // Delegate to existing method - company ID is ignored
         return getVIPOnlyCabins();
     }
 
     // PRIVATE UTILITY METHODS
 
+    // Catalog snapshot, loading the cabins table on first use; null if the database is unreachable
+    private CabinCatalog.Snapshot catalog() {
+        CabinCatalog.Snapshot snapshot = cabinCatalog.get();
+        if (snapshot != null) return snapshot;
+
+        long loadToken = cabinCatalog.beginLoad();
+        Connection conn = null;
+        PreparedStatement pstmt = null;
+        ResultSet rs = null;
+
+        try {
+            conn = DbUtil.getConnection();
+            if (conn == null) return null;
+
+            pstmt = conn.prepareStatement(SELECT_ALL_CABINS_SQL);
+            rs = pstmt.executeQuery();
+
+            List<Cabin> cabins = new ArrayList<>();
+            while (rs.next()) {
+                cabins.add(mapResultSetToCabin(rs));
+            }
+            return cabinCatalog.install(loadToken, cabins);
+
+        } catch (SQLException e) {
+            log.error("❌ Error loading cabin catalog: {}", e.getMessage(), e);
+        } finally {
+            DbUtil.closeAllResources(conn, pstmt, rs);
+        }
+
+        return null;
+    }
+
     private Cabin mapResultSetToCabin(ResultSet rs) throws SQLException {
         Cabin cabin = new Cabin();
         cabin.setCabinId(rs.getInt("cabin_id"));
@@ -3,10 +3,13 @@ package com.yash.cabinbooking.daoimpl;
 import com.yash.cabinbooking.dao.CompanyDao;
 import com.yash.cabinbooking.model.Company;
 import com.yash.cabinbooking.util.DbUtil;
+import com.yash.cabinbooking.logging.Logger;
 import java.sql.*;
 
 public class CompanyDaoImpl implements CompanyDao {
 
+    private static final Logger log = Logger.getLogger(CompanyDaoImpl.class);
+
     @Override
     public Company getCompanyConfig() {
         String sql = "SELECT company_name, company_location, company_contact, company_status, updated_at FROM company_config LIMIT 1";
@@ -18,7 +21,7 @@ public class CompanyDaoImpl implements CompanyDao {
         try {
             conn = DbUtil.getConnection();
             if (conn == null) {
-                System.err.println("❌ Database connection failed in getCompanyConfig");
+                log.error("❌ Database connection failed in getCompanyConfig");
                 return Company.getDefaultCompany(); // Return default if DB fails
             }
 
@@ -27,16 +30,15 @@ public class CompanyDaoImpl implements CompanyDao {
 
             if (rs.next()) {
                 Company company = mapResultSetToCompany(rs);
-                System.out.println("✅ Company config loaded: " + company.getCompanyName());
+                log.debug("✅ Company config loaded: {}", company.getCompanyName());
                 return company;
             } else {
-                System.out.println("⚠️ No company config found, returning default");
+                log.warn("⚠️ No company config found, returning default");
                 return Company.getDefaultCompany();
             }
 
         } catch (SQLException e) {
-            System.err.println("❌ SQL Error in getCompanyConfig: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ SQL Error in getCompanyConfig: {}", e.getMessage(), e);
             return Company.getDefaultCompany(); // Return default on error
         } finally {
             DbUtil.closeAllResources(conn, pstmt, rs);
@@ -53,7 +55,7 @@ public class CompanyDaoImpl implements CompanyDao {
         try {
             conn = DbUtil.getConnection();
             if (conn == null) {
-                System.err.println("❌ Database connection failed in updateCompanyConfig");
+                log.error("❌ Database connection failed in updateCompanyConfig");
                 return false;
             }
 
@@ -66,16 +68,15 @@ public class CompanyDaoImpl implements CompanyDao {
             int rowsAffected = pstmt.executeUpdate();
 
             if (rowsAffected > 0) {
-                System.out.println("✅ Company config updated successfully: " + company.getCompanyName());
+                log.debug("✅ Company config updated successfully: {}", company.getCompanyName());
                 return true;
             } else {
-                System.out.println("⚠️ No company config record found to update");
+                log.warn("⚠️ No company config record found to update");
                 return false;
             }
 
         } catch (SQLException e) {
-            System.err.println("❌ SQL Error in updateCompanyConfig: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ SQL Error in updateCompanyConfig: {}", e.getMessage(), e);
         } finally {
             DbUtil.closeAllResources(conn, pstmt, null);
         }
@@ -101,12 +102,12 @@ public class CompanyDaoImpl implements CompanyDao {
             if (rs.next()) {
                 String status = rs.getString("company_status");
                 boolean isActive = "ACTIVE".equals(status);
-                System.out.println("📊 Company status check: " + (isActive ? "ACTIVE" : "INACTIVE"));
+                log.debug("📊 Company status check: {}", (isActive ? "ACTIVE" : "INACTIVE"));
                 return isActive;
             }
 
         } catch (SQLException e) {
-            System.err.println("❌ Error checking company status: " + e.getMessage());
+            log.error("❌ Error checking company status: {}", e.getMessage());
         } finally {
             DbUtil.closeAllResources(conn, pstmt, rs);
         }
@@ -131,12 +132,12 @@ public class CompanyDaoImpl implements CompanyDao {
 
             if (rs.next()) {
                 int count = rs.getInt(1);
-                System.out.println("📊 Total active cabins: " + count);
+                log.debug("📊 Total active cabins: {}", count);
                 return count;
             }
 
         } catch (SQLException e) {
-            System.err.println("❌ Error getting total cabin count: " + e.getMessage());
+            log.error("❌ Error getting total cabin count: {}", e.getMessage());
         } finally {
             DbUtil.closeAllResources(conn, pstmt, rs);
         }
@@ -170,11 +171,11 @@ public class CompanyDaoImpl implements CompanyDao {
             pstmt.setString(1, status);
 
             int rowsAffected = pstmt.executeUpdate();
-            System.out.println("✅ Company status updated to: " + status);
+            log.debug("✅ Company status updated to: {}", status);
             return rowsAffected > 0;
 
         } catch (SQLException e) {
-            System.err.println("❌ Error updating company status: " + e.getMessage());
+            log.error("❌ Error updating company status: {}", e.getMessage());
         } finally {
             DbUtil.closeAllResources(conn, pstmt, null);
         }
@@ -1,9 +1,12 @@
 package com.yash.cabinbooking.daoimpl;
 
+import com.yash.cabinbooking.cache.UserCache;
+import com.yash.cabinbooking.cache.UserStatusCache;
 import com.yash.cabinbooking.dao.UserDao;
 import com.yash.cabinbooking.model.User;
 import com.yash.cabinbooking.util.DbUtil;
 import com.yash.cabinbooking.util.PasswordUtil; // ✅ ADDED: Import PasswordUtil
+import com.yash.cabinbooking.logging.Logger;
 
 import java.sql.*;
 import java.util.ArrayList;
@@ -12,10 +15,16 @@ import java.util.List;
 
 public class UserDaoImpl implements UserDao {
 
+    private static final Logger log = Logger.getLogger(UserDaoImpl.class);
+
+    // ✅ Lookups by id/email are served from here; every write below invalidates the user
+    private static final UserCache userCache = UserCache.getInstance();
+    private static final UserStatusCache userStatusCache = UserStatusCache.getInstance();
+
     // ✅ LEGACY: Keep for backward compatibility (but recommend using BCrypt method)
     @Override
     public User authenticateUser(String email, String password) {
-        System.out.println("🔐 Legacy authentication for: " + email + " (Consider using BCrypt)");
+        log.debug("🔐 Legacy authentication for: {} (Consider using BCrypt)", email);
 
         String sql = "SELECT user_id, name, email, password, user_type, default_company_id, status, created_at " +
                 "FROM users WHERE email = ? AND password = ? AND status = 'ACTIVE'";
@@ -27,7 +36,7 @@ public class UserDaoImpl implements UserDao {
         try {
             conn = DbUtil.getConnection();
             if (conn == null) {
-                System.err.println("❌ Database connection failed in authenticateUser");
+                log.error("❌ Database connection failed in authenticateUser");
                 return null;
             }
 
@@ -39,16 +48,15 @@ public class UserDaoImpl implements UserDao {
 
             if (rs.next()) {
                 User user = mapResultSetToUser(rs);
-                System.out.println("✅ Legacy user authenticated successfully: " + email + " (Type: " + user.getUserType() + ")");
+                log.debug("✅ Legacy user authenticated successfully: {} (Type: {})", email, user.getUserType());
                 return user;
             } else {
-                System.out.println("❌ Legacy authentication failed for email: " + email);
+                log.debug("❌ Legacy authentication failed for email: {}", email);
                 return null;
             }
 
         } catch (SQLException e) {
-            System.err.println("❌ SQL Error in authenticateUser: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ SQL Error in authenticateUser: {}", e.getMessage(), e);
             return null;
         } finally {
             DbUtil.closeAllResources(conn, pstmt, rs);
@@ -58,7 +66,7 @@ public class UserDaoImpl implements UserDao {
     // ✅ NEW: Get user by email for BCrypt authentication
     @Override
     public User getUserByEmailForAuth(String email) {
-        System.out.println("🔐 Getting user for BCrypt authentication: " + email);
+        log.debug("🔐 Getting user for BCrypt authentication: {}", email);
 
         String sql = "SELECT user_id, name, email, password, user_type, default_company_id, status, created_at " +
                 "FROM users WHERE email = ? AND status = 'ACTIVE'";
@@ -70,7 +78,7 @@ public class UserDaoImpl implements UserDao {
         try {
             conn = DbUtil.getConnection();
             if (conn == null) {
-                System.err.println("❌ Database connection failed in getUserByEmailForAuth");
+                log.error("❌ Database connection failed in getUserByEmailForAuth");
                 return null;
             }
 
@@ -80,16 +88,15 @@ public class UserDaoImpl implements UserDao {
 
             if (rs.next()) {
                 User user = mapResultSetToUser(rs);
-                System.out.println("✅ User found for authentication: " + email);
+                log.debug("✅ User found for authentication: {}", email);
                 return user;
             } else {
-                System.out.println("❌ User not found or inactive: " + email);
+                log.debug("❌ User not found or inactive: {}", email);
                 return null;
             }
 
         } catch (SQLException e) {
-            System.err.println("❌ SQL Error in getUserByEmailForAuth: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ SQL Error in getUserByEmailForAuth: {}", e.getMessage(), e);
             return null;
         } finally {
             DbUtil.closeAllResources(conn, pstmt, rs);
@@ -114,13 +121,12 @@ public class UserDaoImpl implements UserDao {
 
             if (rs.next()) {
                 int count = rs.getInt(1);
-                System.out.println("🔍 Email check for " + email + ": " + (count > 0 ? "EXISTS" : "AVAILABLE"));
+                log.debug("🔍 Email check for {}: {}", email, (count > 0 ? "EXISTS" : "AVAILABLE"));
                 return count > 0;
             }
 
         } catch (SQLException e) {
-            System.err.println("❌ Error checking email existence: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error checking email existence: {}", e.getMessage(), e);
         } finally {
             DbUtil.closeAllResources(conn, pstmt, rs);
         }
@@ -131,7 +137,7 @@ public class UserDaoImpl implements UserDao {
     // ✅ ENHANCED: createUser now handles both plain text and BCrypt hashed passwords
     @Override
     public boolean createUser(User user) {
-        System.out.println("👤 Creating user: " + user.getEmail() + " with secure password");
+        log.debug("👤 Creating user: {} with secure password", user.getEmail());
 
         String sql = "INSERT INTO users (name, email, password, user_type, default_company_id, status) " +
                 "VALUES (?, ?, ?, ?, ?, ?)";
@@ -142,14 +148,14 @@ public class UserDaoImpl implements UserDao {
         try {
             conn = DbUtil.getConnection();
             if (conn == null) {
-                System.err.println("❌ Database connection failed in createUser");
+                log.error("❌ Database connection failed in createUser");
                 return false;
             }
 
             // ✅ ENHANCED: Hash password if not already hashed
             String password = user.getPassword();
             if (!PasswordUtil.isBCryptHash(password)) {
-                System.out.println("⚠️ Plain text password detected, hashing with BCrypt");
+                log.warn("⚠️ Plain text password detected, hashing with BCrypt");
                 password = PasswordUtil.hashPassword(password);
             }
 
@@ -169,20 +175,17 @@ public class UserDaoImpl implements UserDao {
                     user.setUserId(generatedKeys.getInt(1));
                 }
 
-                System.out.println("✅ User created successfully with secure password: " + user.getEmail() +
-                        " (ID: " + user.getUserId() + ", Type: " + user.getUserType() + ")");
+                log.debug("✅ User created successfully with secure password: {} (ID: {}, Type: {})", user.getEmail(), user.getUserId(), user.getUserType());
                 return true;
             }
 
         } catch (SQLException e) {
-            System.err.println("❌ SQL Error in createUser: " + e.getMessage());
+            log.error("❌ SQL Error in createUser: {}", e.getMessage(), e);
             if (e.getErrorCode() == 1062) { // Duplicate key error
-                System.err.println("🔄 Email already exists: " + user.getEmail());
+                log.error("🔄 Email already exists: {}", user.getEmail());
             }
-            e.printStackTrace();
         } catch (Exception e) {
-            System.err.println("❌ Error hashing password during user creation: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error hashing password during user creation: {}", e.getMessage(), e);
         } finally {
             DbUtil.closeAllResources(conn, pstmt, null);
         }
@@ -192,6 +195,47 @@ public class UserDaoImpl implements UserDao {
 
     @Override
     public User getUserById(int userId) {
+        User cached = userCache.getById(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long loadToken = userCache.beginLoad();
+        User user = loadUserById(userId);
+        userCache.put(loadToken, user);
+        return user == null ? null : withoutPassword(user);
+    }
+
+    @Override
+    public User getUserByEmail(String email) {
+        User cached = userCache.getByEmail(email);
+        if (cached != null) {
+            return cached;
+        }
+
+        long loadToken = userCache.beginLoad();
+        User user = loadUserByEmail(email);
+        userCache.put(loadToken, user);
+        return user == null ? null : withoutPassword(user);
+    }
+
+    // ✅ Always reads the database and refreshes the cached copy, so AuthFilter sees
+    // status and role changes made outside the app within its own TTL, not UserCache's
+    @Override
+    public User reloadUserById(int userId) {
+        long loadToken = userCache.beginLoad();
+        User user = loadUserById(userId);
+        userCache.put(loadToken, user);
+        return user == null ? null : withoutPassword(user);
+    }
+
+    // ✅ Uncached, includes the password hash - for password changes only
+    @Override
+    public User getUserByIdForAuth(int userId) {
+        return loadUserById(userId);
+    }
+
+    private User loadUserById(int userId) {
         String sql = "SELECT user_id, name, email, password, user_type, default_company_id, status, created_at " +
                 "FROM users WHERE user_id = ?";
 
@@ -209,16 +253,15 @@ public class UserDaoImpl implements UserDao {
 
             if (rs.next()) {
                 User user = mapResultSetToUser(rs);
-                System.out.println("✅ User found by ID: " + userId + " (" + user.getName() + ")");
+                log.debug("✅ User found by ID: {} ({})", userId, user.getName());
                 return user;
             } else {
-                System.out.println("❌ User not found with ID: " + userId);
+                log.debug("❌ User not found with ID: {}", userId);
                 return null;
             }
 
         } catch (SQLException e) {
-            System.err.println("❌ Error getting user by ID: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error getting user by ID: {}", e.getMessage(), e);
         } finally {
             DbUtil.closeAllResources(conn, pstmt, rs);
         }
@@ -226,8 +269,7 @@ public class UserDaoImpl implements UserDao {
         return null;
     }
 
-    @Override
-    public User getUserByEmail(String email) {
+    private User loadUserByEmail(String email) {
         String sql = "SELECT user_id, name, email, password, user_type, default_company_id, status, created_at " +
                 "FROM users WHERE email = ?";
 
@@ -245,16 +287,15 @@ public class UserDaoImpl implements UserDao {
 
             if (rs.next()) {
                 User user = mapResultSetToUser(rs);
-                System.out.println("✅ User found by email: " + email);
+                log.debug("✅ User found by email: {}", email);
                 return user;
             } else {
-                System.out.println("❌ User not found with email: " + email);
+                log.debug("❌ User not found with email: {}", email);
                 return null;
             }
 
         } catch (SQLException e) {
-            System.err.println("❌ Error getting user by email: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error getting user by email: {}", e.getMessage(), e);
         } finally {
             DbUtil.closeAllResources(conn, pstmt, rs);
         }
@@ -283,11 +324,10 @@ public class UserDaoImpl implements UserDao {
                 users.add(mapResultSetToUser(rs));
             }
 
-            System.out.println("✅ Retrieved " + users.size() + " users from database");
+            log.debug("✅ Retrieved {} users from database", users.size());
 
         } catch (SQLException e) {
-            System.err.println("❌ Error getting all users: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error getting all users: {}", e.getMessage(), e);
         } finally {
             DbUtil.closeAllResources(conn, pstmt, rs);
         }
@@ -316,11 +356,10 @@ public class UserDaoImpl implements UserDao {
                 users.add(mapResultSetToUser(rs));
             }
 
-            System.out.println("✅ Retrieved " + users.size() + " active users");
+            log.debug("✅ Retrieved {} active users", users.size());
 
         } catch (SQLException e) {
-            System.err.println("❌ Error getting active users: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error getting active users: {}", e.getMessage(), e);
         } finally {
             DbUtil.closeAllResources(conn, pstmt, rs);
         }
@@ -351,14 +390,14 @@ public class UserDaoImpl implements UserDao {
             int rowsAffected = pstmt.executeUpdate();
 
             if (rowsAffected > 0) {
-                System.out.println("✅ User updated successfully: " + user.getEmail() +
-                        " (Type: " + user.getUserType() + ")");
+                userCache.invalidate(user.getUserId());
+                userStatusCache.invalidate(user.getUserId());
+                log.debug("✅ User updated successfully: {} (Type: {})", user.getEmail(), user.getUserType());
                 return true;
             }
 
         } catch (SQLException e) {
-            System.err.println("❌ Error updating user: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error updating user: {}", e.getMessage(), e);
         } finally {
             DbUtil.closeAllResources(conn, pstmt, null);
         }
@@ -384,13 +423,14 @@ public class UserDaoImpl implements UserDao {
             int rowsAffected = pstmt.executeUpdate();
 
             if (rowsAffected > 0) {
-                System.out.println("✅ User deactivated successfully: " + userId);
+                userCache.invalidate(userId);
+                userStatusCache.invalidate(userId);
+                log.debug("✅ User deactivated successfully: {}", userId);
                 return true;
             }
 
         } catch (SQLException e) {
-            System.err.println("❌ Error deleting user: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error deleting user: {}", e.getMessage(), e);
         } finally {
             DbUtil.closeAllResources(conn, pstmt, null);
         }
@@ -401,7 +441,7 @@ public class UserDaoImpl implements UserDao {
     // ✅ ENHANCED: updateUserPassword now accepts both plain text and BCrypt hashes
     @Override
     public boolean updateUserPassword(int userId, String newPassword) {
-        System.out.println("🔑 Updating password for user: " + userId);
+        log.debug("🔑 Updating password for user: {}", userId);
 
         String sql = "UPDATE users SET password = ? WHERE user_id = ?";
 
@@ -415,10 +455,10 @@ public class UserDaoImpl implements UserDao {
             // ✅ ENHANCED: Hash password if not already hashed
             String passwordToStore = newPassword;
             if (!PasswordUtil.isBCryptHash(newPassword)) {
-                System.out.println("🔐 Hashing plain text password for user: " + userId);
+                log.debug("🔐 Hashing plain text password for user: {}", userId);
                 passwordToStore = PasswordUtil.hashPassword(newPassword);
             } else {
-                System.out.println("✅ BCrypt hash detected, storing directly for user: " + userId);
+                log.debug("✅ BCrypt hash detected, storing directly for user: {}", userId);
             }
 
             pstmt = conn.prepareStatement(sql);
@@ -428,19 +468,19 @@ public class UserDaoImpl implements UserDao {
             int rowsAffected = pstmt.executeUpdate();
 
             if (rowsAffected > 0) {
-                System.out.println("✅ Secure password updated for user: " + userId);
+                userCache.invalidate(userId);
+                userStatusCache.invalidate(userId);
+                log.debug("✅ Secure password updated for user: {}", userId);
                 return true;
             } else {
-                System.out.println("❌ Password update failed for user: " + userId);
+                log.debug("❌ Password update failed for user: {}", userId);
                 return false;
             }
 
         } catch (SQLException e) {
-            System.err.println("❌ SQL Error updating password: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ SQL Error updating password: {}", e.getMessage(), e);
         } catch (Exception e) {
-            System.err.println("❌ Error hashing password: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error hashing password: {}", e.getMessage(), e);
         } finally {
             DbUtil.closeAllResources(conn, pstmt, null);
         }
@@ -484,11 +524,10 @@ public class UserDaoImpl implements UserDao {
                 users.add(mapResultSetToUser(rs));
             }
 
-            System.out.println("✅ Retrieved " + users.size() + " admin users");
+            log.debug("✅ Retrieved {} admin users", users.size());
 
         } catch (SQLException e) {
-            System.err.println("❌ Error getting admin users: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error getting admin users: {}", e.getMessage(), e);
         } finally {
             DbUtil.closeAllResources(conn, pstmt, rs);
         }
@@ -518,11 +557,10 @@ public class UserDaoImpl implements UserDao {
                 users.add(mapResultSetToUser(rs));
             }
 
-            System.out.println("✅ Retrieved " + users.size() + " " + userType + " users");
+            log.debug("✅ Retrieved {} {} users", users.size(), userType);
 
         } catch (SQLException e) {
-            System.err.println("❌ Error getting users by type: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error getting users by type: {}", e.getMessage(), e);
         } finally {
             DbUtil.closeAllResources(conn, pstmt, rs);
         }
@@ -548,13 +586,12 @@ public class UserDaoImpl implements UserDao {
 
             if (rs.next()) {
                 int count = rs.getInt(1);
-                System.out.println("📊 User " + userId + " has " + count + " bookings");
+                log.debug("📊 User {} has {} bookings", userId, count);
                 return count;
             }
 
         } catch (SQLException e) {
-            System.err.println("❌ Error getting user booking count: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error getting user booking count: {}", e.getMessage(), e);
         } finally {
             DbUtil.closeAllResources(conn, pstmt, rs);
         }
@@ -579,13 +616,12 @@ public class UserDaoImpl implements UserDao {
 
             if (rs.next()) {
                 int count = rs.getInt(1);
-                System.out.println("📊 Total users: " + count);
+                log.debug("📊 Total users: {}", count);
                 return count;
             }
 
         } catch (SQLException e) {
-            System.err.println("❌ Error getting total user count: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error getting total user count: {}", e.getMessage(), e);
         } finally {
             DbUtil.closeAllResources(conn, pstmt, rs);
         }
@@ -610,13 +646,12 @@ public class UserDaoImpl implements UserDao {
 
             if (rs.next()) {
                 int count = rs.getInt(1);
-                System.out.println("📊 Active users: " + count);
+                log.debug("📊 Active users: {}", count);
                 return count;
             }
 
         } catch (SQLException e) {
-            System.err.println("❌ Error getting active user count: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error getting active user count: {}", e.getMessage(), e);
         } finally {
             DbUtil.closeAllResources(conn, pstmt, rs);
         }
@@ -645,11 +680,10 @@ public class UserDaoImpl implements UserDao {
                 users.add(mapResultSetToUser(rs));
             }
 
-            System.out.println("✅ Retrieved " + users.size() + " users for admin dashboard");
+            log.debug("✅ Retrieved {} users for admin dashboard", users.size());
 
         } catch (SQLException e) {
-            System.err.println("❌ Error getting users for admin: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error getting users for admin: {}", e.getMessage(), e);
         } finally {
             DbUtil.closeAllResources(conn, pstmt, rs);
         }
@@ -675,13 +709,14 @@ public class UserDaoImpl implements UserDao {
             int rowsAffected = pstmt.executeUpdate();
 
             if (rowsAffected > 0) {
-                System.out.println("✅ User type updated: " + userId + " to " + newType);
+                userCache.invalidate(userId);
+                userStatusCache.invalidate(userId);
+                log.debug("✅ User type updated: {} to {}", userId, newType);
                 return true;
             }
 
         } catch (SQLException e) {
-            System.err.println("❌ Error updating user type: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error updating user type: {}", e.getMessage(), e);
         } finally {
             DbUtil.closeAllResources(conn, pstmt, null);
         }
@@ -711,8 +746,7 @@ public class UserDaoImpl implements UserDao {
             }
 
         } catch (SQLException e) {
-            System.err.println("❌ Error checking user status: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error checking user status: {}", e.getMessage(), e);
         } finally {
             DbUtil.closeAllResources(conn, pstmt, rs);
         }
@@ -739,12 +773,13 @@ public class UserDaoImpl implements UserDao {
             pstmt.setInt(2, userId);
 
             int rowsAffected = pstmt.executeUpdate();
-            System.out.println("✅ User " + userId + " status updated to: " + status);
+            userCache.invalidate(userId);
+            userStatusCache.invalidate(userId);
+            log.debug("✅ User {} status updated to: {}", userId, status);
             return rowsAffected > 0;
 
         } catch (SQLException e) {
-            System.err.println("❌ Error updating user status: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error updating user status: {}", e.getMessage(), e);
         } finally {
             DbUtil.closeAllResources(conn, pstmt, null);
         }
@@ -752,6 +787,13 @@ public class UserDaoImpl implements UserDao {
         return false;
     }
 
+    // Callers of the cached lookups never see the password hash, cached or not
+    private User withoutPassword(User user) {
+        User copy = new User(user);
+        copy.setPassword(null);
+        return copy;
+    }
+
     // ✅ ENHANCED: Safe enum conversion with fallbacks
     private User mapResultSetToUser(ResultSet rs) throws SQLException {
         User user = new User();
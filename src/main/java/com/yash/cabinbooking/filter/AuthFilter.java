@@ -0,0 +1,207 @@
+package com.yash.cabinbooking.filter;
+
+import com.yash.cabinbooking.cache.UserStatusCache;
+import com.yash.cabinbooking.model.ActionResponse;
+import com.yash.cabinbooking.model.SessionPrincipal;
+import com.yash.cabinbooking.model.User;
+import com.yash.cabinbooking.service.UserService;
+import com.yash.cabinbooking.serviceimpl.UserServiceImpl;
+import com.yash.cabinbooking.util.JsonResponseWriter;
+import com.yash.cabinbooking.util.SessionUtil;
+import com.yash.cabinbooking.logging.Logger;
+
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletException;
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+import javax.servlet.annotation.WebFilter;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
+import java.io.IOException;
+
+/**
+ * Authentication and role checks for every request, before any servlet or JSP runs.
+ *
+ * The URL rules live in RULES below and nowhere else - controllers no longer
+ * check for a user or an admin themselves. For each protected request the
+ * filter reads the SessionPrincipal, then confirms with UserStatusCache that
+ * the user is still ACTIVE and still has the same role (a demoted admin loses
+ * /admin/* within the cache TTL, a deactivated user is signed out).
+ *
+ * Only REQUEST dispatches are filtered; controllers forwarding to their JSPs
+ * (and the async login dispatch) are not checked twice.
+ */
+@WebFilter(filterName = "AuthFilter", urlPatterns = "/*", asyncSupported = true)
+public class AuthFilter implements Filter {
+
+    private static final Logger log = Logger.getLogger(AuthFilter.class);
+
+    private enum Access { PUBLIC, AUTHENTICATED, ADMIN }
+
+    // ✅ First match wins; a pattern ending in "/*" covers the folder, anything else is exact.
+    // Paths not listed need a signed-in user.
+    private static final Rule[] RULES = {
+            new Rule("/", Access.PUBLIC),
+            new Rule("/login", Access.PUBLIC),
+            new Rule("/auth", Access.PUBLIC),
+            new Rule("/logout", Access.PUBLIC),
+            new Rule("/register", Access.PUBLIC),
+            new Rule("/common/*", Access.PUBLIC),
+            new Rule("/css/*", Access.PUBLIC),
+            new Rule("/js/*", Access.PUBLIC),
+            new Rule("/images/*", Access.PUBLIC),
+            new Rule("/favicon.ico", Access.PUBLIC),
+            new Rule("/admin/*", Access.ADMIN)
+    };
+
+    private UserService userService;
+    private UserStatusCache statusCache;
+
+    @Override
+    public void init(FilterConfig filterConfig) throws ServletException {
+        this.userService = new UserServiceImpl();
+        this.statusCache = UserStatusCache.getInstance();
+        log.info("🔧 AuthFilter initialized with {} access rules", RULES.length);
+    }
+
+    @Override
+    public void doFilter(ServletRequest req, ServletResponse res, FilterChain chain)
+            throws IOException, ServletException {
+
+        HttpServletRequest request = (HttpServletRequest) req;
+        HttpServletResponse response = (HttpServletResponse) res;
+
+        String path = getPath(request);
+        Access access = accessFor(path);
+        if (access == Access.PUBLIC) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        SessionPrincipal principal = SessionUtil.getPrincipal(request);
+        if (principal == null) {
+            log.info("🔒 Anonymous request to {} turned away", path);
+            deny(request, response, HttpServletResponse.SC_UNAUTHORIZED, "Please log in");
+            return;
+        }
+
+        principal = checkStatus(request, principal);
+        if (principal == null) {
+            deny(request, response, HttpServletResponse.SC_UNAUTHORIZED, "Your account is no longer active");
+            return;
+        }
+
+        if (access == Access.ADMIN && !principal.isAdmin()) {
+            log.warn("⚠️ Unauthorized admin access attempt to {} by user: {}", path, principal.getUserId());
+            deny(request, response, HttpServletResponse.SC_FORBIDDEN, "Unauthorized access");
+            return;
+        }
+
+        chain.doFilter(request, response);
+    }
+
+    @Override
+    public void destroy() {
+        log.info("📊 Final user status cache stats: {}", statusCache.getStatsSummary());
+    }
+
+    // ================================
+    // PRIVATE UTILITY METHODS
+    // ================================
+
+    /**
+     * @return The principal to use for this request - refreshed if the role changed - or null
+     *         after ending the session of a deactivated or deleted user
+     */
+    private SessionPrincipal checkStatus(HttpServletRequest request, SessionPrincipal principal) {
+        UserStatusCache.Entry status = statusCache.get(principal.getUserId());
+        User loaded = null;
+
+        if (status == null) {
+            long loadToken = statusCache.beginLoad();
+            // Not getUserById: UserCache could serve a copy up to its own TTL old
+            loaded = userService.reloadUser(principal.getUserId());
+            status = statusCache.put(loadToken, loaded);
+        }
+
+        if (status == null || !status.isActive()) {
+            log.warn("⚠️ Ending session of inactive or deleted user: {}", principal.getUserId());
+            HttpSession session = request.getSession(false);
+            if (session != null) {
+                session.invalidate();
+            }
+            return null;
+        }
+
+        if (status.getUserType() != principal.getUserType()) {
+            // Promoted or demoted since login - the session follows the database
+            if (loaded == null) {
+                loaded = userService.reloadUser(principal.getUserId());
+            }
+            if (loaded != null) {
+                log.info("🔄 Role of user {} changed from {} to {}", principal.getUserId(), principal.getUserType(), loaded.getUserType());
+                SessionUtil.refresh(request, loaded);
+                return SessionPrincipal.from(loaded);
+            }
+        }
+        return principal;
+    }
+
+    // JSON callers get a status code and a JSON body, browsers are sent to the login page
+    private static void deny(HttpServletRequest request, HttpServletResponse response, int status, String message)
+            throws IOException {
+        if (expectsJson(request)) {
+            JsonResponseWriter.write(response, status, ActionResponse.failed(message));
+        } else {
+            response.sendRedirect(request.getContextPath() + "/login");
+        }
+    }
+
+    private static boolean expectsJson(HttpServletRequest request) {
+        if ("XMLHttpRequest".equals(request.getHeader("X-Requested-With"))) {
+            return true;
+        }
+        String accept = request.getHeader("Accept");
+        return accept != null && accept.contains("application/json") && !accept.contains("text/html");
+    }
+
+    private static String getPath(HttpServletRequest request) {
+        String path = request.getServletPath();
+        String pathInfo = request.getPathInfo();
+        if (pathInfo != null) {
+            path = path + pathInfo;
+        }
+        return path.isEmpty() ? "/" : path;
+    }
+
+    private static Access accessFor(String path) {
+        for (Rule rule : RULES) {
+            if (rule.matches(path)) {
+                return rule.access;
+            }
+        }
+        return Access.AUTHENTICATED;
+    }
+
+    private static final class Rule {
+        private final String prefix;
+        private final boolean folder;
+        private final Access access;
+
+        Rule(String pattern, Access access) {
+            this.folder = pattern.endsWith("/*");
+            this.prefix = folder ? pattern.substring(0, pattern.length() - 2) : pattern;
+            this.access = access;
+        }
+
+        boolean matches(String path) {
+            if (!folder) {
+                return path.equals(prefix);
+            }
+            return path.equals(prefix) || (path.startsWith(prefix) && path.charAt(prefix.length()) == '/');
+        }
+    }
+}
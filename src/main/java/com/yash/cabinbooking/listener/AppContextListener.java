@@ -0,0 +1,48 @@
+package com.yash.cabinbooking.listener;
+
+import com.yash.cabinbooking.cache.BookingMetricsAggregator;
+import com.yash.cabinbooking.util.DbUtil;
+import com.yash.cabinbooking.util.PasswordHashExecutor;
+import com.yash.cabinbooking.util.SchemaMigrator;
+import com.yash.cabinbooking.logging.AsyncLogAppender;
+import com.yash.cabinbooking.logging.Logger;
+
+import javax.servlet.ServletContextEvent;
+import javax.servlet.ServletContextListener;
+import javax.servlet.annotation.WebListener;
+
+@WebListener
+public class AppContextListener implements ServletContextListener {
+
+    private static final Logger log = Logger.getLogger(AppContextListener.class);
+
+    @Override
+    public void contextInitialized(ServletContextEvent sce) {
+        log.info("🚀 Cabinest application starting");
+
+        // ✅ Bring the schema up to date before anything queries it
+        if (!SchemaMigrator.migrate()) {
+            log.error("❌ Database schema is not up to date - booking writes may fail");
+        }
+
+        // ✅ Warm-start dashboard counters from the last snapshot, then rebuild from the database
+        BookingMetricsAggregator.getInstance().start();
+    }
+
+    @Override
+    public void contextDestroyed(ServletContextEvent sce) {
+        log.info("🛑 Cabinest application stopping");
+
+        // Final snapshot is written while the pool is still open
+        BookingMetricsAggregator.getInstance().shutdown();
+
+        // Queued logins still need the database
+        PasswordHashExecutor.getInstance().shutdown();
+
+        // ✅ Release pooled connections so redeploys don't leak sockets
+        DbUtil.shutdownPool();
+
+        // ✅ Flush queued log lines and stop the writer thread last
+        AsyncLogAppender.getInstance().shutdown();
+    }
+}
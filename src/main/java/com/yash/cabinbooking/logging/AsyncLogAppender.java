@@ -0,0 +1,237 @@
+package com.yash.cabinbooking.logging;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Writes log events to stdout / stderr from one background thread.
+ *
+ * Callers publish into a fixed-size ring buffer with a single CAS - they never
+ * block on the console. When the buffer is full a DEBUG/INFO event is dropped
+ * and counted (the writer reports drops), so a burst of chatter can never stall a
+ * request. WARN and ERROR are what production runs at, so they are never dropped:
+ * with a full buffer they are written on the calling thread instead.
+ * WARN and ERROR go to stderr, DEBUG and INFO to stdout.
+ *
+ * The writer parks without a timeout when the buffer is empty and a producer
+ * unparks it, so an idle application has no polling thread.
+ *
+ * Tunable with system properties:
+ *   cabinbooking.log.async      (default true) - false writes on the calling thread (debugging, tests)
+ *   cabinbooking.log.bufferSize (default 8192) - ring capacity, rounded up to a power of two
+ */
+public final class AsyncLogAppender {
+
+    private static final DateTimeFormatter TIME_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+
+    private static final AsyncLogAppender INSTANCE = new AsyncLogAppender();
+
+    private final boolean async = Boolean.parseBoolean(System.getProperty("cabinbooking.log.async", "true"));
+
+    private final AtomicReferenceArray<Event> ring;
+    private final int mask;
+
+    // ✅ tail = next slot to claim (producers), head = next slot to write (writer thread only)
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+
+    private volatile boolean running = true;
+    // Set by the writer just before it parks; producers unpark it only then
+    private volatile boolean writerParked = false;
+    private final Thread writer;
+
+    private AsyncLogAppender() {
+        int capacity = Integer.highestOneBit(Math.max(Integer.getInteger("cabinbooking.log.bufferSize", 8192) - 1, 1)) << 1;
+        this.ring = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+
+        if (async) {
+            writer = new Thread(this::drainLoop, "cabinbooking-log-writer");
+            writer.setDaemon(true);
+            writer.start();
+        } else {
+            writer = null;
+        }
+    }
+
+    public static AsyncLogAppender getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Queue an event for the writer thread
+     * @return false if the buffer was full and the event was dropped
+     */
+    boolean append(Event event) {
+        // Synchronous mode, or late events after shutdown()
+        if (!async || !running) {
+            synchronized (this) {
+                write(event);
+            }
+            return true;
+        }
+
+        while (true) {
+            long slot = tail.get();
+            if (slot - head.get() >= ring.length()) {
+                // Warnings and errors are never lost - when the ring is full they go out on the calling thread
+                if (event.level.ordinal() >= LogLevel.WARN.ordinal()) {
+                    synchronized (this) {
+                        write(event);
+                    }
+                    return true;
+                }
+                dropped.incrementAndGet();
+                return false;
+            }
+            if (tail.compareAndSet(slot, slot + 1)) {
+                ring.set((int) slot & mask, event);
+                if (writerParked) {
+                    LockSupport.unpark(writer);
+                }
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Stop the writer thread after flushing everything queued so far
+     */
+    public void shutdown() {
+        if (!async || !running) return;
+
+        running = false;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(2000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ================================
+    // STATISTICS
+    // ================================
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    public long getWrittenCount() {
+        return written.get();
+    }
+
+    public int getPendingCount() {
+        return (int) (tail.get() - head.get());
+    }
+
+    // ================================
+    // WRITER THREAD
+    // ================================
+
+    private void drainLoop() {
+        long reportedDrops = 0;
+
+        while (running || head.get() != tail.get()) {
+            int batch = drainBatch();
+
+            long drops = dropped.get();
+            if (drops != reportedDrops) {
+                System.err.println(TIME_FORMAT.format(Instant.now()) + " WARN  [cabinbooking-log-writer] logging - " +
+                        (drops - reportedDrops) + " log events dropped (buffer full)");
+                reportedDrops = drops;
+            }
+
+            if (batch == 0) {
+                if (!running) {
+                    // A producer claimed a slot but has not published yet - give it a moment
+                    Thread.yield();
+                } else {
+                    parkUntilPublished();
+                }
+            }
+        }
+        System.out.flush();
+        System.err.flush();
+    }
+
+    // Announce the park, then look once more: a producer either sees writerParked and
+    // unparks (the permit makes park() return at once) or published before the re-check
+    private void parkUntilPublished() {
+        writerParked = true;
+        if (running && ring.get((int) head.get() & mask) == null) {
+            LockSupport.park(this);
+        }
+        writerParked = false;
+    }
+
+    private int drainBatch() {
+        int count = 0;
+        long next = head.get();
+        Event event;
+        while ((event = ring.get((int) next & mask)) != null) {
+            ring.set((int) next & mask, null);
+            head.lazySet(++next);
+            write(event);
+            count++;
+        }
+        if (count > 0) {
+            System.out.flush();
+            System.err.flush();
+        }
+        return count;
+    }
+
+    private void write(Event event) {
+        StringBuilder line = new StringBuilder(event.message.length() + 80)
+                .append(TIME_FORMAT.format(Instant.ofEpochMilli(event.timestamp)))
+                .append(' ').append(event.level.name());
+        for (int i = event.level.name().length(); i < 5; i++) {
+            line.append(' ');
+        }
+        line.append(" [").append(event.thread).append("] ")
+                .append(event.category).append(" - ")
+                .append(event.message);
+
+        if (event.thrown != null) {
+            StringWriter trace = new StringWriter();
+            event.thrown.printStackTrace(new PrintWriter(trace));
+            line.append(System.lineSeparator()).append(trace.toString().stripTrailing());
+        }
+
+        if (event.level.ordinal() >= LogLevel.WARN.ordinal()) {
+            System.err.println(line);
+        } else {
+            System.out.println(line);
+        }
+        written.incrementAndGet();
+    }
+
+    static final class Event {
+        private final long timestamp;
+        private final LogLevel level;
+        private final String category;
+        private final String thread;
+        private final String message;
+        private final Throwable thrown;
+
+        Event(long timestamp, LogLevel level, String category, String thread, String message, Throwable thrown) {
+            this.timestamp = timestamp;
+            this.level = level;
+            this.category = category;
+            this.thread = thread;
+            this.message = message;
+            this.thrown = thrown;
+        }
+    }
+}
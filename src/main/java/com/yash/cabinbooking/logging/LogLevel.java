@@ -0,0 +1,25 @@
+package com.yash.cabinbooking.logging;
+
+/**
+ * Log levels, least to most severe. OFF disables a category entirely.
+ */
+public enum LogLevel {
+    DEBUG,
+    INFO,
+    WARN,
+    ERROR,
+    OFF;
+
+    /**
+     * Parse a level name (case-insensitive)
+     * @return LogLevel or the fallback for a missing or unknown name
+     */
+    public static LogLevel fromString(String name, LogLevel fallback) {
+        if (name == null || name.trim().isEmpty()) return fallback;
+        try {
+            return LogLevel.valueOf(name.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return fallback;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.yash.cabinbooking.logging;
+
+/**
+ * Leveled logger for one category (the class name below com.yash.cabinbooking,
+ * e.g. "daoimpl.BookingDaoImpl").
+ *
+ * Messages use "{}" placeholders, filled in only when the level is enabled, so a
+ * disabled call costs one int comparison - no string building and no lock.
+ * A Throwable passed after the placeholder arguments is logged with its stack trace.
+ * Enabled events are handed to AsyncLogAppender; the caller never writes to stdout.
+ *
+ * Levels are read once per category from system properties, most specific first:
+ *   cabinbooking.log.level.daoimpl.BookingDaoImpl=DEBUG   (one class)
+ *   cabinbooking.log.level.daoimpl=INFO                   (one package)
+ *   cabinbooking.log.level=WARN                           (everything; default WARN)
+ */
+public final class Logger {
+
+    private static final String BASE_PACKAGE = "com.yash.cabinbooking.";
+    private static final String LEVEL_PROPERTY = "cabinbooking.log.level";
+    private static final LogLevel DEFAULT_LEVEL = LogLevel.WARN;
+
+    private static final int DEBUG = LogLevel.DEBUG.ordinal();
+    private static final int INFO = LogLevel.INFO.ordinal();
+    private static final int WARN = LogLevel.WARN.ordinal();
+    private static final int ERROR = LogLevel.ERROR.ordinal();
+
+    private final String category;
+    private final int threshold;
+
+    private Logger(String category, LogLevel level) {
+        this.category = category;
+        this.threshold = level.ordinal();
+    }
+
+    public static Logger getLogger(Class<?> type) {
+        String name = type.getName();
+        String category = name.startsWith(BASE_PACKAGE) ? name.substring(BASE_PACKAGE.length()) : name;
+        return new Logger(category, resolveLevel(category));
+    }
+
+    // ================================
+    // LEVEL CHECKS
+    // ================================
+
+    public boolean isDebugEnabled() { return threshold <= DEBUG; }
+    public boolean isInfoEnabled() { return threshold <= INFO; }
+    public boolean isWarnEnabled() { return threshold <= WARN; }
+    public boolean isErrorEnabled() { return threshold <= ERROR; }
+
+    public String getCategory() {
+        return category;
+    }
+
+    // ================================
+    // DEBUG
+    // ================================
+
+    public void debug(String message) {
+        if (threshold <= DEBUG) emit(LogLevel.DEBUG, message, null);
+    }
+
+    public void debug(String format, Object arg) {
+        if (threshold <= DEBUG) emit(LogLevel.DEBUG, format, new Object[]{arg});
+    }
+
+    public void debug(String format, Object arg1, Object arg2) {
+        if (threshold <= DEBUG) emit(LogLevel.DEBUG, format, new Object[]{arg1, arg2});
+    }
+
+    public void debug(String format, Object arg1, Object arg2, Object arg3) {
+        if (threshold <= DEBUG) emit(LogLevel.DEBUG, format, new Object[]{arg1, arg2, arg3});
+    }
+
+    public void debug(String format, Object... args) {
+        if (threshold <= DEBUG) emit(LogLevel.DEBUG, format, args);
+    }
+
+    // ================================
+    // INFO
+    // ================================
+
+    public void info(String message) {
+        if (threshold <= INFO) emit(LogLevel.INFO, message, null);
+    }
+
+    public void info(String format, Object arg) {
+        if (threshold <= INFO) emit(LogLevel.INFO, format, new Object[]{arg});
+    }
+
+    public void info(String format, Object arg1, Object arg2) {
+        if (threshold <= INFO) emit(LogLevel.INFO, format, new Object[]{arg1, arg2});
+    }
+
+    public void info(String format, Object arg1, Object arg2, Object arg3) {
+        if (threshold <= INFO) emit(LogLevel.INFO, format, new Object[]{arg1, arg2, arg3});
+    }
+
+    public void info(String format, Object... args) {
+        if (threshold <= INFO) emit(LogLevel.INFO, format, args);
+    }
+
+    // ================================
+    // WARN
+    // ================================
+
+    public void warn(String message) {
+        if (threshold <= WARN) emit(LogLevel.WARN, message, null);
+    }
+
+    public void warn(String format, Object arg) {
+        if (threshold <= WARN) emit(LogLevel.WARN, format, new Object[]{arg});
+    }
+
+    public void warn(String format, Object arg1, Object arg2) {
+        if (threshold <= WARN) emit(LogLevel.WARN, format, new Object[]{arg1, arg2});
+    }
+
+    public void warn(String format, Object arg1, Object arg2, Object arg3) {
+        if (threshold <= WARN) emit(LogLevel.WARN, format, new Object[]{arg1, arg2, arg3});
+    }
+
+    public void warn(String format, Object... args) {
+        if (threshold <= WARN) emit(LogLevel.WARN, format, args);
+    }
+
+    // ================================
+    // ERROR
+    // ================================
+
+    public void error(String message) {
+        if (threshold <= ERROR) emit(LogLevel.ERROR, message, null);
+    }
+
+    public void error(String format, Object arg) {
+        if (threshold <= ERROR) emit(LogLevel.ERROR, format, new Object[]{arg});
+    }
+
+    public void error(String format, Object arg1, Object arg2) {
+        if (threshold <= ERROR) emit(LogLevel.ERROR, format, new Object[]{arg1, arg2});
+    }
+
+    public void error(String format, Object arg1, Object arg2, Object arg3) {
+        if (threshold <= ERROR) emit(LogLevel.ERROR, format, new Object[]{arg1, arg2, arg3});
+    }
+
+    public void error(String format, Object... args) {
+        if (threshold <= ERROR) emit(LogLevel.ERROR, format, args);
+    }
+
+    // ================================
+    // PRIVATE UTILITY METHODS
+    // ================================
+
+    private void emit(LogLevel level, String format, Object[] args) {
+        String message = String.valueOf(format);
+        Throwable thrown = null;
+
+        if (format != null && args != null && args.length > 0) {
+            StringBuilder sb = new StringBuilder(format.length() + 32);
+            int argIndex = 0;
+            int from = 0;
+            int at;
+            while (argIndex < args.length && (at = format.indexOf("{}", from)) >= 0) {
+                sb.append(format, from, at).append(args[argIndex++]);
+                from = at + 2;
+            }
+            sb.append(format, from, format.length());
+            message = sb.toString();
+
+            // A trailing Throwable without a placeholder is the exception to log
+            Object last = args[args.length - 1];
+            if (argIndex < args.length && last instanceof Throwable) {
+                thrown = (Throwable) last;
+            }
+        }
+
+        AsyncLogAppender.getInstance().append(
+                new AsyncLogAppender.Event(System.currentTimeMillis(), level, category,
+                        Thread.currentThread().getName(), message, thrown));
+    }
+
+    private static LogLevel resolveLevel(String category) {
+        String key = category;
+        while (true) {
+            String configured = System.getProperty(LEVEL_PROPERTY + "." + key);
+            if (configured != null) {
+                return LogLevel.fromString(configured, DEFAULT_LEVEL);
+            }
+            int dot = key.lastIndexOf('.');
+            if (dot < 0) break;
+            key = key.substring(0, dot);
+        }
+        return LogLevel.fromString(System.getProperty(LEVEL_PROPERTY), DEFAULT_LEVEL);
+    }
+}
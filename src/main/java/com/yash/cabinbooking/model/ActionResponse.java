@@ -0,0 +1,70 @@
+package com.yash.cabinbooking.model;
+
+import java.util.List;
+
+/**
+ * JSON body of the admin AJAX actions (approve, reject, bulk approve / reject):
+ *   {"success": true, "message": "..."}
+ *   {"success": true, "message": "...", "succeededIds": [..], "failedIds": [..]}
+ * failedIds lists every submitted id that was not updated; values that are not
+ * numbers at all are echoed back as the strings that were sent.
+ *   {"success": false, "error": "..."}
+ */
+public final class ActionResponse {
+
+    private final boolean success;
+    private final String message;
+    private final String error;
+    private final int[] succeededIds;
+    private final Object[] failedIds;
+
+    private ActionResponse(boolean success, String message, String error, int[] succeededIds, Object[] failedIds) {
+        this.success = success;
+        this.message = message;
+        this.error = error;
+        this.succeededIds = succeededIds;
+        this.failedIds = failedIds;
+    }
+
+    public static ActionResponse ok(String message) {
+        return new ActionResponse(true, message, null, null, null);
+    }
+
+    public static ActionResponse failed(String error) {
+        return new ActionResponse(false, null, error, null, null);
+    }
+
+    /**
+     * Result of a bulk action
+     * @param message Summary for the admin
+     * @param bookingIds Ids that were processed
+     * @param results results[i] is true if bookingIds[i] succeeded
+     * @param invalidIds Submitted values that were not booking ids, reported as failed
+     */
+    public static ActionResponse bulk(String message, int[] bookingIds, boolean[] results, List<String> invalidIds) {
+        int succeededCount = 0;
+        for (int i = 0; i < bookingIds.length; i++) {
+            if (i < results.length && results[i]) succeededCount++;
+        }
+
+        int[] succeeded = new int[succeededCount];
+        Object[] failed = new Object[bookingIds.length - succeededCount + invalidIds.size()];
+        int s = 0;
+        int f = 0;
+        for (int i = 0; i < bookingIds.length; i++) {
+            if (i < results.length && results[i]) {
+                succeeded[s++] = bookingIds[i];
+            } else {
+                failed[f++] = bookingIds[i];
+            }
+        }
+        for (String invalidId : invalidIds) {
+            failed[f++] = invalidId;
+        }
+        return new ActionResponse(true, message, null, succeeded, failed);
+    }
+
+    public boolean isSuccess() { return success; }
+    public String getMessage() { return message; }
+    public String getError() { return error; }
+}
@@ -0,0 +1,17 @@
+package com.yash.cabinbooking.model;
+
+import java.util.List;
+
+/**
+ * JSON body of /booking/alternatives: {"timeSlots": ["11:00-12:00", ...]}
+ */
+public final class AlternativesResponse {
+
+    private final List<String> timeSlots;
+
+    public AlternativesResponse(List<String> timeSlots) {
+        this.timeSlots = timeSlots;
+    }
+
+    public List<String> getTimeSlots() { return timeSlots; }
+}
@@ -0,0 +1,213 @@
+package com.yash.cabinbooking.model;
+
+import java.sql.Date;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable point-in-time view of the admin analytics counters.
+ * Built from GROUP BY counts, so it never holds individual users or bookings.
+ */
+public final class AnalyticsSnapshot {
+
+    // User counters
+    private final int totalUsers;
+    private final int normalUsers;
+    private final int vipUsers;
+    private final int adminUsers;
+    private final int activeUsers;
+
+    // Booking counters
+    private final int totalBookings;
+    private final int approvedBookings;
+    private final int pendingBookings;
+    private final int rejectedBookings;
+    private final int cancelledBookings;
+    private final int vipBookings;
+    private final int todaysBookings;
+    private final int todayApprovals;
+
+    // Cabin counters
+    private final int totalCabins;
+    private final int activeCabins;
+    private final int vipCabins;
+
+    private final List<String> popularTimeSlots;
+    private final Date snapshotDate;
+    private final long generatedAt;
+
+    public AnalyticsSnapshot(Map<String, Integer> usersByType, Map<String, Integer> usersByStatus,
+                             Map<String, Integer> bookingsByStatus, Map<String, Integer> bookingsByPriority,
+                             int todaysBookings, int todayApprovals,
+                             Map<String, Integer> cabinsByStatus, Map<String, Integer> vipCabinsByStatus,
+                             List<String> popularTimeSlots, Date snapshotDate) {
+        this.normalUsers = count(usersByType, "NORMAL");
+        this.vipUsers = count(usersByType, "VIP");
+        this.adminUsers = count(usersByType, "ADMIN") + count(usersByType, "SUPER_ADMIN");
+        this.totalUsers = sum(usersByType);
+        this.activeUsers = count(usersByStatus, "ACTIVE");
+
+        this.totalBookings = sum(bookingsByStatus);
+        this.approvedBookings = count(bookingsByStatus, "APPROVED");
+        this.pendingBookings = count(bookingsByStatus, "PENDING");
+        this.rejectedBookings = count(bookingsByStatus, "REJECTED");
+        this.cancelledBookings = count(bookingsByStatus, "CANCELLED");
+        this.vipBookings = count(bookingsByPriority, "VIP");
+        this.todaysBookings = todaysBookings;
+        this.todayApprovals = todayApprovals;
+
+        this.totalCabins = sum(cabinsByStatus);
+        this.activeCabins = count(cabinsByStatus, "ACTIVE");
+        this.vipCabins = count(vipCabinsByStatus, "ACTIVE");
+
+        this.popularTimeSlots = Collections.unmodifiableList(popularTimeSlots);
+        this.snapshotDate = snapshotDate;
+        this.generatedAt = System.currentTimeMillis();
+    }
+
+    private static int count(Map<String, Integer> counts, String key) {
+        Integer value = counts.get(key);
+        return value == null ? 0 : value;
+    }
+
+    private static int sum(Map<String, Integer> counts) {
+        int total = 0;
+        for (int value : counts.values()) {
+            total += value;
+        }
+        return total;
+    }
+
+    private static double percentage(int part, int whole) {
+        return whole > 0 ? (part * 100.0) / whole : 0.0;
+    }
+
+    private static double round2(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+
+    // Getters - users
+    public int getTotalUsers() {
+        return totalUsers;
+    }
+
+    public int getNormalUsers() {
+        return normalUsers;
+    }
+
+    public int getVipUsers() {
+        return vipUsers;
+    }
+
+    public int getAdminUsers() {
+        return adminUsers;
+    }
+
+    public int getActiveUsers() {
+        return activeUsers;
+    }
+
+    // Getters - bookings
+    public int getTotalBookings() {
+        return totalBookings;
+    }
+
+    public int getApprovedBookings() {
+        return approvedBookings;
+    }
+
+    public int getPendingBookings() {
+        return pendingBookings;
+    }
+
+    public int getRejectedBookings() {
+        return rejectedBookings;
+    }
+
+    public int getCancelledBookings() {
+        return cancelledBookings;
+    }
+
+    public int getVipBookings() {
+        return vipBookings;
+    }
+
+    public int getTodaysBookings() {
+        return todaysBookings;
+    }
+
+    public int getTodayApprovals() {
+        return todayApprovals;
+    }
+
+    // Getters - cabins
+    public int getTotalCabins() {
+        return totalCabins;
+    }
+
+    public int getActiveCabins() {
+        return activeCabins;
+    }
+
+    public int getVipCabins() {
+        return vipCabins;
+    }
+
+    public int getMaintenanceCabins() {
+        return totalCabins - activeCabins;
+    }
+
+    // Derived rates (percentages, rounded to 2 decimals)
+    public double getApprovalRate() {
+        return round2(percentage(approvedBookings, totalBookings));
+    }
+
+    public double getRejectionRate() {
+        return round2(percentage(rejectedBookings, totalBookings));
+    }
+
+    public double getVipBookingRate() {
+        return round2(percentage(vipBookings, totalBookings));
+    }
+
+    // Approved bookings against a 30 day capacity of one booking per cabin per day
+    public double getUtilizationRate() {
+        return round2(percentage(approvedBookings, totalCabins * 30));
+    }
+
+    public Map<String, Object> getSystemMetrics() {
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("averageBookingsPerUser", totalUsers > 0 ? (double) totalBookings / totalUsers : 0.0);
+        metrics.put("cabinUtilizationRate", percentage(approvedBookings, totalCabins * 30));
+        metrics.put("vipUserPercentage", percentage(vipUsers, totalUsers));
+        metrics.put("adminUserPercentage", percentage(adminUsers, totalUsers));
+        return Collections.unmodifiableMap(metrics);
+    }
+
+    public List<String> getPopularTimeSlots() {
+        return popularTimeSlots;
+    }
+
+    public Date getSnapshotDate() {
+        return snapshotDate;
+    }
+
+    public long getGeneratedAt() {
+        return generatedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "AnalyticsSnapshot{" +
+                "date=" + snapshotDate +
+                ", users=" + totalUsers +
+                ", bookings=" + totalBookings +
+                ", pending=" + pendingBookings +
+                ", today=" + todaysBookings +
+                ", todayApprovals=" + todayApprovals +
+                ", cabins=" + totalCabins +
+                '}';
+    }
+}
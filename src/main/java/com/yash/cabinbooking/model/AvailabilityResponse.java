@@ -0,0 +1,52 @@
+package com.yash.cabinbooking.model;
+
+import java.util.List;
+
+/**
+ * JSON body of the single-slot availability check (/booking/availability).
+ * Null fields are left out, so each case keeps its original shape:
+ *   {"available": true, "timeSlot": "10:00-11:00"}
+ *   {"available": true, "vipOverride": true, "message": "...", "timeSlot": "..."}
+ *   {"available": false, "alternatives": ["11:00-12:00", ...]}
+ *   {"available": false, "error": "..."}
+ */
+public final class AvailabilityResponse {
+
+    private final boolean available;
+    private final Boolean vipOverride;
+    private final String message;
+    private final String timeSlot;
+    private final List<String> alternatives;
+    private final String error;
+
+    private AvailabilityResponse(boolean available, Boolean vipOverride, String message, String timeSlot,
+                                 List<String> alternatives, String error) {
+        this.available = available;
+        this.vipOverride = vipOverride;
+        this.message = message;
+        this.timeSlot = timeSlot;
+        this.alternatives = alternatives;
+        this.error = error;
+    }
+
+    public static AvailabilityResponse available(String timeSlot) {
+        return new AvailabilityResponse(true, null, null, timeSlot, null, null);
+    }
+
+    public static AvailabilityResponse vipOverride(String timeSlot, String message) {
+        return new AvailabilityResponse(true, Boolean.TRUE, message, timeSlot, null, null);
+    }
+
+    public static AvailabilityResponse unavailable(List<String> alternatives) {
+        return new AvailabilityResponse(false, null, null, null, alternatives, null);
+    }
+
+    public static AvailabilityResponse error(String error) {
+        return new AvailabilityResponse(false, null, null, null, null, error);
+    }
+
+    public boolean isAvailable() { return available; }
+    public String getTimeSlot() { return timeSlot; }
+    public List<String> getAlternatives() { return alternatives; }
+    public String getError() { return error; }
+}
@@ -1,13 +1,15 @@
 package com.yash.cabinbooking.model;
 
+import com.yash.cabinbooking.logging.Logger;
+
 import java.sql.Date;
 import java.sql.Timestamp;
-import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
 
 
 public class Booking {
 
+    private static final Logger log = Logger.getLogger(Booking.class);
+
     // ✅ DATABASE ALIGNED: Booking types matching your table
     public enum BookingType {
         SINGLE_DAY("Single Day", "One-time booking for a single day"),
@@ -122,6 +124,7 @@ public class Booking {
     private int durationMinutes;    // Calculated from timeSlot
     private String startTime;       // Extracted from timeSlot (e.g., "09:00")
     private String endTime;         // Extracted from timeSlot (e.g., "10:30")
+    private TimeSlot slot;          // Parsed timeSlot, null if malformed
 
     // ✅ DISPLAY FIELDS (for UI - not in database)
     private String userName;        // From users table join
@@ -142,7 +145,7 @@ public class Booking {
         this.status = Status.PENDING;
         this.priorityLevel = PriorityLevel.NORMAL;
         this.durationMinutes = 0;
-        System.out.println("📅 New Booking object created for " + COMPANY_NAME);
+        log.debug("📅 New Booking object created for {}", COMPANY_NAME);
     }
 
     // Constructor for new booking creation
@@ -154,7 +157,7 @@ public class Booking {
         this.timeSlot = timeSlot;
         this.purpose = purpose;
         calculateTimeFields();
-        System.out.println("📅 New booking created - User: " + userId + ", Duration: " + durationMinutes + " min");
+        log.debug("📅 New booking created - User: {}, Duration: {} min", userId, durationMinutes);
     }
 
     // Constructor with booking type and priority
@@ -169,7 +172,7 @@ public class Booking {
         this.bookingType = bookingType;
         this.priorityLevel = priorityLevel;
         calculateTimeFields();
-        System.out.println("📅 Enhanced booking created - Type: " + bookingType + ", Priority: " + priorityLevel);
+        log.debug("📅 Enhanced booking created - Type: {}, Priority: {}", bookingType, priorityLevel);
     }
 
     // ✅ UPDATED: Full constructor (from database) - WITH REJECTION FIELDS
@@ -192,76 +195,41 @@ public class Booking {
         this.rejectedBy = rejectedBy;       // ✅ ADDED
         this.rejectedAt = rejectedAt;       // ✅ ADDED
         calculateTimeFields();
-        System.out.println("💾 Booking loaded from database: " + bookingId + " (" + durationMinutes + " min)");
+        log.debug("💾 Booking loaded from database: {} ({} min)", bookingId, durationMinutes);
     }
 
     // ================================
-    // TIME CALCULATION METHODS (UNCHANGED)
+    // TIME CALCULATION METHODS
     // ================================
 
     // Auto-calculate duration and time fields from timeSlot
     private void calculateTimeFields() {
-        if (timeSlot != null && timeSlot.contains("-")) {
-            try {
-                String[] times = timeSlot.split("-");
-                this.startTime = times[0].trim();
-                this.endTime = times[1].trim();
-
-                // Calculate duration in minutes
-                LocalTime start = LocalTime.parse(startTime, DateTimeFormatter.ofPattern("HH:mm"));
-                LocalTime end = LocalTime.parse(endTime, DateTimeFormatter.ofPattern("HH:mm"));
-                this.durationMinutes = (int) java.time.Duration.between(start, end).toMinutes();
-
-            } catch (Exception e) {
-                System.err.println("⚠️ Error parsing time slot: " + timeSlot);
-                this.durationMinutes = 60; // Default to 1 hour
-                this.startTime = "09:00";
-                this.endTime = "10:00";
-            }
+        this.slot = TimeSlot.parse(timeSlot);
+        if (slot != null) {
+            this.startTime = slot.getStartLabel();
+            this.endTime = slot.getEndLabel();
+            this.durationMinutes = slot.getDurationMinutes();
+        } else if (timeSlot != null && timeSlot.contains("-")) {
+            log.warn("⚠️ Error parsing time slot: {}", timeSlot);
+            this.durationMinutes = 60; // Default to 1 hour
+            this.startTime = "09:00";
+            this.endTime = "10:00";
         }
     }
 
     // ================================
-    // VALIDATION METHODS (UNCHANGED)
+    // VALIDATION METHODS
     // ================================
 
     // Validate time slot format and duration
     public boolean isValidTimeSlot() {
-        if (timeSlot == null || !timeSlot.contains("-")) {
-            return false;
-        }
-
-        try {
-            String[] times = timeSlot.split("-");
-            LocalTime start = LocalTime.parse(times[0].trim(), DateTimeFormatter.ofPattern("HH:mm"));
-            LocalTime end = LocalTime.parse(times[1].trim(), DateTimeFormatter.ofPattern("HH:mm"));
-
-            // Valid if end is after start and duration is reasonable (15 min to 8 hours)
-            long duration = java.time.Duration.between(start, end).toMinutes();
-            return duration >= 15 && duration <= 480;
-
-        } catch (Exception e) {
-            return false;
-        }
+        // Valid if end is after start and duration is reasonable (15 min to 8 hours)
+        return slot != null && slot.hasBookableDuration();
     }
 
     // Check if booking is within business hours
     public boolean isWithinBusinessHours() {
-        if (startTime == null || endTime == null) {
-            return false;
-        }
-
-        try {
-            LocalTime start = LocalTime.parse(startTime, DateTimeFormatter.ofPattern("HH:mm"));
-            LocalTime end = LocalTime.parse(endTime, DateTimeFormatter.ofPattern("HH:mm"));
-            LocalTime businessStart = LocalTime.of(9, 0);  // 9:00 AM
-            LocalTime businessEnd = LocalTime.of(18, 0);   // 6:00 PM
-
-            return !start.isBefore(businessStart) && !end.isAfter(businessEnd);
-
-        } catch (Exception e) {
-            return false;
-        }
+        return slot != null && slot.isWithinBusinessHours();
     }
 
     // Check if this booking overlaps with another booking
@@ -269,18 +237,7 @@ public class Booking {
         if (other == null || !this.bookingDate.equals(other.bookingDate)) {
             return false;
         }
-
-        try {
-            LocalTime thisStart = LocalTime.parse(this.startTime, DateTimeFormatter.ofPattern("HH:mm"));
-            LocalTime thisEnd = LocalTime.parse(this.endTime, DateTimeFormatter.ofPattern("HH:mm"));
-            LocalTime otherStart = LocalTime.parse(other.startTime, DateTimeFormatter.ofPattern("HH:mm"));
-            LocalTime otherEnd = LocalTime.parse(other.endTime, DateTimeFormatter.ofPattern("HH:mm"));
-
-            return thisStart.isBefore(otherEnd) && thisEnd.isAfter(otherStart);
-
-        } catch (Exception e) {
-            return false;
-        }
+        return slot != null && slot.overlaps(other.slot);
     }
 
     // ================================
@@ -379,6 +336,7 @@ public class Booking {
     public void setBookingDate(Date bookingDate) { this.bookingDate = bookingDate; }
 
     public String getTimeSlot() { return timeSlot; }
+    public TimeSlot getSlot() { return slot; }
     public void setTimeSlot(String timeSlot) {
         this.timeSlot = timeSlot;
         calculateTimeFields(); // Auto-recalculate when timeSlot changes
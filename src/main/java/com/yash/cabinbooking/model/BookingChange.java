@@ -0,0 +1,24 @@
+package com.yash.cabinbooking.model;
+
+/**
+ * One booking changed by a DAO operation, as it was before and as it is after.
+ * Only the fields the operation read or wrote are set (id, cabin, date, status,
+ * priority, duration).
+ */
+public final class BookingChange {
+
+    private final Booking before;
+    private final Booking after;
+
+    public BookingChange(Booking before, Booking after) {
+        this.before = before;
+        this.after = after;
+    }
+
+    public Booking getBefore() { return before; }
+    public Booking getAfter() { return after; }
+
+    public boolean isCabinChanged() {
+        return before.getCabinId() != after.getCabinId();
+    }
+}
@@ -0,0 +1,56 @@
+package com.yash.cabinbooking.model;
+
+import java.sql.Timestamp;
+
+/**
+ * Keyset pagination position: the (created_at, booking_id) of the last booking
+ * on the previous page. The next page holds bookings strictly older than it.
+ *
+ * Travels in URLs as "createdAtMillis.bookingId" (see toToken / fromToken).
+ */
+public final class BookingCursor {
+
+    private final Timestamp lastCreatedAt;
+    private final int lastBookingId;
+
+    public BookingCursor(Timestamp lastCreatedAt, int lastBookingId) {
+        this.lastCreatedAt = lastCreatedAt;
+        this.lastBookingId = lastBookingId;
+    }
+
+    // Cursor positioned after the given booking
+    public static BookingCursor after(Booking booking) {
+        return new BookingCursor(booking.getCreatedAt(), booking.getBookingId());
+    }
+
+    /**
+     * Parse a token produced by toToken()
+     * @return BookingCursor or null for a missing or malformed token (= first page)
+     */
+    public static BookingCursor fromToken(String token) {
+        if (token == null || token.isEmpty()) return null;
+
+        int dot = token.indexOf('.');
+        if (dot <= 0 || dot == token.length() - 1) return null;
+
+        try {
+            long createdAtMillis = Long.parseLong(token.substring(0, dot));
+            int bookingId = Integer.parseInt(token.substring(dot + 1));
+            return new BookingCursor(new Timestamp(createdAtMillis), bookingId);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    public String toToken() {
+        return lastCreatedAt.getTime() + "." + lastBookingId;
+    }
+
+    public Timestamp getLastCreatedAt() { return lastCreatedAt; }
+    public int getLastBookingId() { return lastBookingId; }
+
+    @Override
+    public String toString() {
+        return "BookingCursor{" + lastCreatedAt + ", #" + lastBookingId + '}';
+    }
+}
@@ -0,0 +1,41 @@
+package com.yash.cabinbooking.model;
+
+import java.sql.Date;
+
+/**
+ * Optional criteria for a booking export. Null fields are not filtered on.
+ */
+public class BookingExportFilter {
+
+    private Date startDate;                        // booking_date >= startDate
+    private Date endDate;                          // booking_date <= endDate
+    private Integer cabinId;
+    private Booking.Status status;
+    private Booking.PriorityLevel priorityLevel;
+
+    public Date getStartDate() { return startDate; }
+    public void setStartDate(Date startDate) { this.startDate = startDate; }
+
+    public Date getEndDate() { return endDate; }
+    public void setEndDate(Date endDate) { this.endDate = endDate; }
+
+    public Integer getCabinId() { return cabinId; }
+    public void setCabinId(Integer cabinId) { this.cabinId = cabinId; }
+
+    public Booking.Status getStatus() { return status; }
+    public void setStatus(Booking.Status status) { this.status = status; }
+
+    public Booking.PriorityLevel getPriorityLevel() { return priorityLevel; }
+    public void setPriorityLevel(Booking.PriorityLevel priorityLevel) { this.priorityLevel = priorityLevel; }
+
+    @Override
+    public String toString() {
+        return "BookingExportFilter{" +
+                "startDate=" + startDate +
+                ", endDate=" + endDate +
+                ", cabinId=" + cabinId +
+                ", status=" + status +
+                ", priorityLevel=" + priorityLevel +
+                '}';
+    }
+}
@@ -0,0 +1,38 @@
+package com.yash.cabinbooking.model;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One page of bookings, newest first, plus the cursor for the next (older) page.
+ */
+public final class BookingPage {
+
+    private final List<Booking> bookings;
+    private final BookingCursor nextCursor;   // null on the last page
+
+    public BookingPage(List<Booking> bookings, BookingCursor nextCursor) {
+        this.bookings = Collections.unmodifiableList(bookings);
+        this.nextCursor = nextCursor;
+    }
+
+    public static BookingPage empty() {
+        return new BookingPage(Collections.emptyList(), null);
+    }
+
+    public List<Booking> getBookings() { return bookings; }
+    public BookingCursor getNextCursor() { return nextCursor; }
+
+    public boolean hasMore() {
+        return nextCursor != null;
+    }
+
+    // For JSP links - null on the last page
+    public String getNextToken() {
+        return nextCursor == null ? null : nextCursor.toToken();
+    }
+
+    public int size() {
+        return bookings.size();
+    }
+}
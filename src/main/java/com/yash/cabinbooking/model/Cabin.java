@@ -1,9 +1,13 @@
 package com.yash.cabinbooking.model;
 
+import com.yash.cabinbooking.logging.Logger;
+
 import java.sql.Timestamp;
 
 public class Cabin {
 
+    private static final Logger log = Logger.getLogger(Cabin.class);
+
     public enum Status {
         ACTIVE, MAINTENANCE, INACTIVE
     }
@@ -26,7 +30,7 @@ public class Cabin {
         this.companyId = DEFAULT_COMPANY_ID; // ✅ Default to company ID 1
         this.status = Status.ACTIVE;
         this.isVipOnly = false;
-        System.out.println("🏠 New Cabin object created for Yash Technology");
+        log.debug("🏠 New Cabin object created for Yash Technology");
     }
 
     // ✅ UPDATED: Constructor without companyId (single company)
@@ -38,7 +42,7 @@ public class Cabin {
         this.amenities = amenities;
         this.isVipOnly = isVipOnly;
         this.location = location;
-        System.out.println("🏠 Cabin created: " + name + " (Capacity: " + capacity + ")");
+        log.debug("🏠 Cabin created: {} (Capacity: {})", name, capacity);
     }
 
     // Legacy constructor (for backward compatibility)
@@ -51,7 +55,7 @@ public class Cabin {
         this.amenities = amenities;
         this.isVipOnly = isVipOnly;
         this.location = location;
-        System.out.println("🏠 Cabin created: " + name + " (Capacity: " + capacity + ")");
+        log.debug("🏠 Cabin created: {} (Capacity: {})", name, capacity);
     }
 
     // Full Constructor (from database)
@@ -66,7 +70,20 @@ public class Cabin {
         this.location = location;
         this.status = status;
         this.createdAt = createdAt;
-        System.out.println("💾 Cabin loaded from database: " + name);
+        log.debug("💾 Cabin loaded from database: {}", name);
+    }
+
+    // Copy constructor - CabinCatalog hands out copies so cached cabins are never shared
+    public Cabin(Cabin other) {
+        this.cabinId = other.cabinId;
+        this.companyId = other.companyId;
+        this.name = other.name;
+        this.capacity = other.capacity;
+        this.amenities = other.amenities;
+        this.isVipOnly = other.isVipOnly;
+        this.location = other.location;
+        this.status = other.status;
+        this.createdAt = other.createdAt;
     }
 
     // Getters and Setters
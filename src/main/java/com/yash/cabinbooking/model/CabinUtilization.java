@@ -0,0 +1,53 @@
+package com.yash.cabinbooking.model;
+
+import java.sql.Date;
+
+/**
+ * How much of one business day a cabin is held for (PENDING + APPROVED bookings).
+ * One entry of the per-date cabin histogram returned by BookingDao.
+ */
+public class CabinUtilization {
+
+    public static final int BUSINESS_DAY_MINUTES = 9 * 60; // 09:00 - 18:00
+
+    private final int cabinId;
+    private final Date date;
+    private int bookingCount;
+    private int bookedMinutes;
+
+    public CabinUtilization(int cabinId, Date date) {
+        this.cabinId = cabinId;
+        this.date = date;
+    }
+
+    // Add bookings and the minutes they hold in total
+    public void addBookings(int count, int minutes) {
+        this.bookingCount += count;
+        this.bookedMinutes += minutes;
+    }
+
+    // Underbooked means below BOTH thresholds: few bookings and few booked minutes
+    public boolean isUnderbooked(int maxBookings, int maxMinutes) {
+        return bookingCount < maxBookings && bookedMinutes < maxMinutes;
+    }
+
+    public double getUtilizationPercent() {
+        return Math.min(100.0, (bookedMinutes * 100.0) / BUSINESS_DAY_MINUTES);
+    }
+
+    // Getters
+    public int getCabinId() { return cabinId; }
+    public Date getDate() { return date; }
+    public int getBookingCount() { return bookingCount; }
+    public int getBookedMinutes() { return bookedMinutes; }
+
+    @Override
+    public String toString() {
+        return "CabinUtilization{" +
+                "cabinId=" + cabinId +
+                ", date=" + date +
+                ", bookings=" + bookingCount +
+                ", minutes=" + bookedMinutes +
+                '}';
+    }
+}
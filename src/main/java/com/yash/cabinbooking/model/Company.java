@@ -1,9 +1,13 @@
 package com.yash.cabinbooking.model;
 
+import com.yash.cabinbooking.logging.Logger;
+
 import java.sql.Timestamp;
 
 public class Company {
 
+    private static final Logger log = Logger.getLogger(Company.class);
+
     public enum Status {
         ACTIVE, INACTIVE
     }
@@ -27,7 +31,7 @@ public class Company {
         this.companyLocation = DEFAULT_LOCATION;
         this.companyContact = DEFAULT_CONTACT;
         this.companyStatus = Status.ACTIVE;
-        System.out.println("🏢 Yash Technology Company object created");
+        log.debug("🏢 Yash Technology Company object created");
     }
 
     // Constructor for company config updates
@@ -37,7 +41,7 @@ public class Company {
         this.companyLocation = companyLocation;
         this.companyContact = companyContact;
         this.companyStatus = Status.ACTIVE;
-        System.out.println("🏢 Company config updated: " + companyName);
+        log.debug("🏢 Company config updated: {}", companyName);
     }
 
     // Full Constructor (from company_config table)
@@ -49,7 +53,7 @@ public class Company {
         this.companyContact = companyContact;
         this.companyStatus = companyStatus;
         this.updatedAt = updatedAt;
-        System.out.println("💾 Company loaded from config: " + companyName);
+        log.debug("💾 Company loaded from config: {}", companyName);
     }
 
     // Static method to get default company instance
@@ -0,0 +1,16 @@
+package com.yash.cabinbooking.model;
+
+/**
+ * JSON body for a failed AJAX call that has no more specific shape: {"error": "..."}.
+ * The message is for the user - never an exception message.
+ */
+public final class ErrorResponse {
+
+    private final String error;
+
+    public ErrorResponse(String error) {
+        this.error = error;
+    }
+
+    public String getError() { return error; }
+}
@@ -0,0 +1,56 @@
+package com.yash.cabinbooking.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JSON body of /booking/multiDayAvailability: one busy / free bitmask per day
+ * (bit i = the i-th granule after dayStart), the days that have any booking,
+ * and whether the whole range is free.
+ */
+public final class MultiDayAvailabilityResponse {
+
+    private final int cabinId;
+    private final String dayStart;
+    private final int granuleMinutes;
+    private final List<Day> days;
+    private final List<String> conflictDays;
+    private final boolean available;
+
+    public MultiDayAvailabilityResponse(int cabinId, String dayStart, int granuleMinutes, List<Day> days) {
+        this.cabinId = cabinId;
+        this.dayStart = dayStart;
+        this.granuleMinutes = granuleMinutes;
+        this.days = days;
+
+        List<String> conflicts = new ArrayList<>();
+        for (Day day : days) {
+            if (day.busyMask != 0) {
+                conflicts.add(day.date);
+            }
+        }
+        this.conflictDays = conflicts;
+        this.available = conflicts.isEmpty();
+    }
+
+    public int getCabinId() { return cabinId; }
+    public List<Day> getDays() { return days; }
+    public List<String> getConflictDays() { return conflictDays; }
+    public boolean isAvailable() { return available; }
+
+    public static final class Day {
+        private final String date;
+        private final long busyMask;
+        private final long freeMask;
+
+        public Day(String date, long busyMask, long freeMask) {
+            this.date = date;
+            this.busyMask = busyMask;
+            this.freeMask = freeMask;
+        }
+
+        public String getDate() { return date; }
+        public long getBusyMask() { return busyMask; }
+        public long getFreeMask() { return freeMask; }
+    }
+}
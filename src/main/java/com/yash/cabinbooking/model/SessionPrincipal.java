@@ -0,0 +1,99 @@
+package com.yash.cabinbooking.model;
+
+import java.io.Serializable;
+
+/**
+ * The signed-in user as kept in the HTTP session - id, display name, email and
+ * role only. Never holds the password hash, and is the only attribute login
+ * stores, so a session stays a few hundred bytes and can be written to a
+ * session store or replicated cheaply.
+ *
+ * Immutable: a profile or role change replaces it (SessionUtil.refresh).
+ * The getters match User's, so JSPs can use ${sessionScope.user.name},
+ * ${sessionScope.user.admin} etc. unchanged.
+ */
+public final class SessionPrincipal implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int userId;
+    private final String name;
+    private final String email;
+    private final User.UserType userType;
+    private final int companyId;
+
+    private SessionPrincipal(int userId, String name, String email, User.UserType userType, int companyId) {
+        this.userId = userId;
+        this.name = name;
+        this.email = email;
+        this.userType = userType != null ? userType : User.UserType.NORMAL;
+        this.companyId = companyId;
+    }
+
+    public static SessionPrincipal from(User user) {
+        return new SessionPrincipal(user.getUserId(), user.getName(), user.getEmail(),
+                user.getUserType(), user.getDefaultCompanyId());
+    }
+
+    /**
+     * A User with the principal's fields (no password, status or createdAt),
+     * for the services and DAOs that take a User
+     */
+    public User toUser() {
+        User user = new User();
+        user.setUserId(userId);
+        user.setName(name);
+        user.setEmail(email);
+        user.setUserType(userType);
+        user.setDefaultCompanyId(companyId);
+        return user;
+    }
+
+    // Getters
+    public int getUserId() {
+        return userId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public User.UserType getUserType() {
+        return userType;
+    }
+
+    public int getCompanyId() {
+        return companyId;
+    }
+
+    // ✅ Role checks, same rules as User
+    public boolean isVIP() {
+        return userType == User.UserType.VIP;
+    }
+
+    public boolean isAdmin() {
+        return userType == User.UserType.ADMIN || userType == User.UserType.SUPER_ADMIN;
+    }
+
+    public boolean isSuperAdmin() {
+        return userType == User.UserType.SUPER_ADMIN;
+    }
+
+    public String getUserTypeDisplay() {
+        switch (userType) {
+            case VIP: return "VIP User";
+            case ADMIN: return "Administrator";
+            case SUPER_ADMIN: return "Super Administrator";
+            default: return "Normal User";
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SessionPrincipal{userId=" + userId + ", email='" + email + "', userType=" + userType + "}";
+    }
+}
@@ -0,0 +1,233 @@
+package com.yash.cabinbooking.model;
+
+import com.yash.cabinbooking.util.SlotGrid;
+
+/**
+ * Immutable "HH:MM-HH:MM" time slot, stored as start and end minute-of-day
+ * packed into one int (start in the high 16 bits, end in the low 16 bits).
+ *
+ * Every 15-minute aligned slot of up to MAX_DURATION_MINUTES is created once
+ * (flyweight), so parse() and of() return a shared instance for them and
+ * allocate nothing. parsePacked() never allocates, whatever the input - use it
+ * in loops over result sets.
+ */
+public final class TimeSlot implements Comparable<TimeSlot> {
+
+    public static final int INVALID = -1;
+
+    public static final int GRANULE_MINUTES = 15;
+    public static final int MIN_DURATION_MINUTES = 15;
+    public static final int MAX_DURATION_MINUTES = 8 * 60;
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    // ✅ Flyweight table: [start granule][length in granules]
+    private static final int DAY_GRANULES = MINUTES_PER_DAY / GRANULE_MINUTES;
+    private static final int MAX_LENGTH_GRANULES = MAX_DURATION_MINUTES / GRANULE_MINUTES;
+    private static final TimeSlot[][] ALIGNED = new TimeSlot[DAY_GRANULES][MAX_LENGTH_GRANULES + 1];
+
+    static {
+        for (int start = 0; start < DAY_GRANULES; start++) {
+            for (int length = 1; length <= MAX_LENGTH_GRANULES; length++) {
+                int startMinute = start * GRANULE_MINUTES;
+                int endMinute = startMinute + length * GRANULE_MINUTES;
+                if (endMinute >= MINUTES_PER_DAY) break;
+                ALIGNED[start][length] = new TimeSlot(pack(startMinute, endMinute));
+            }
+        }
+    }
+
+    private final int packed;
+    private final String label;
+
+    private TimeSlot(int packed) {
+        this.packed = packed;
+        this.label = SlotGrid.minuteLabel(startOf(packed)) + "-" + SlotGrid.minuteLabel(endOf(packed));
+    }
+
+    // ================================
+    // FACTORIES
+    // ================================
+
+    /**
+     * Slot for [startMinute, endMinute) within one day
+     * @return Shared instance for aligned slots, null if the range is not a valid slot
+     */
+    public static TimeSlot of(int startMinute, int endMinute) {
+        if (startMinute < 0 || endMinute >= MINUTES_PER_DAY || endMinute <= startMinute) {
+            return null;
+        }
+        return fromPacked(pack(startMinute, endMinute));
+    }
+
+    /**
+     * Parse "HH:MM-HH:MM" (single-digit hours and blanks around the dash allowed)
+     * @return TimeSlot or null if the text is not a valid slot
+     */
+    public static TimeSlot parse(CharSequence text) {
+        int packed = parsePacked(text);
+        return packed == INVALID ? null : fromPacked(packed);
+    }
+
+    /**
+     * Parse "HH:MM-HH:MM" without allocating
+     * @return Packed start/end minutes (see startOf/endOf) or INVALID
+     */
+    public static int parsePacked(CharSequence text) {
+        if (text == null) return INVALID;
+
+        int length = text.length();
+        int i = skipBlanks(text, 0, length);
+
+        long start = parseTime(text, i, length);
+        if (start < 0) return INVALID;
+        i = skipBlanks(text, (int) start, length);
+
+        if (i >= length || text.charAt(i) != '-') return INVALID;
+        i = skipBlanks(text, i + 1, length);
+
+        long end = parseTime(text, i, length);
+        if (end < 0) return INVALID;
+        i = skipBlanks(text, (int) end, length);
+        if (i != length) return INVALID;
+
+        int startMinute = (int) (start >>> 32);
+        int endMinute = (int) (end >>> 32);
+        return endMinute > startMinute ? pack(startMinute, endMinute) : INVALID;
+    }
+
+    /**
+     * Parse a single "HH:MM" time without allocating
+     * @return Minute of the day or INVALID
+     */
+    public static int parseMinute(CharSequence text) {
+        if (text == null) return INVALID;
+
+        int length = text.length();
+        long time = parseTime(text, skipBlanks(text, 0, length), length);
+        if (time < 0 || skipBlanks(text, (int) time, length) != length) return INVALID;
+        return (int) (time >>> 32);
+    }
+
+    public static int startOf(int packed) {
+        return packed >>> 16;
+    }
+
+    public static int endOf(int packed) {
+        return packed & 0xFFFF;
+    }
+
+    // ================================
+    // ACCESSORS & RULES
+    // ================================
+
+    public int getStartMinute() {
+        return startOf(packed);
+    }
+
+    public int getEndMinute() {
+        return endOf(packed);
+    }
+
+    public int getDurationMinutes() {
+        return endOf(packed) - startOf(packed);
+    }
+
+    public int getPacked() {
+        return packed;
+    }
+
+    // Interned "HH:MM"
+    public String getStartLabel() {
+        return SlotGrid.minuteLabel(startOf(packed));
+    }
+
+    public String getEndLabel() {
+        return SlotGrid.minuteLabel(endOf(packed));
+    }
+
+    // 15 minutes to 8 hours
+    public boolean hasBookableDuration() {
+        int duration = getDurationMinutes();
+        return duration >= MIN_DURATION_MINUTES && duration <= MAX_DURATION_MINUTES;
+    }
+
+    // 09:00 - 18:00
+    public boolean isWithinBusinessHours() {
+        return startOf(packed) >= SlotGrid.DAY_START_MINUTE && endOf(packed) <= SlotGrid.DAY_END_MINUTE;
+    }
+
+    public boolean overlaps(TimeSlot other) {
+        return other != null && overlaps(other.getStartMinute(), other.getEndMinute());
+    }
+
+    public boolean overlaps(int startMinute, int endMinute) {
+        return startOf(packed) < endMinute && endOf(packed) > startMinute;
+    }
+
+    @Override
+    public int compareTo(TimeSlot other) {
+        return Integer.compare(packed, other.packed);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof TimeSlot && ((TimeSlot) o).packed == packed);
+    }
+
+    @Override
+    public int hashCode() {
+        return packed;
+    }
+
+    // Canonical "HH:MM-HH:MM"
+    @Override
+    public String toString() {
+        return label;
+    }
+
+    // ================================
+    // PRIVATE UTILITY METHODS
+    // ================================
+
+    private static int pack(int startMinute, int endMinute) {
+        return (startMinute << 16) | endMinute;
+    }
+
+    private static TimeSlot fromPacked(int packed) {
+        int start = startOf(packed);
+        int duration = endOf(packed) - start;
+        if (start % GRANULE_MINUTES == 0 && duration % GRANULE_MINUTES == 0 && duration <= MAX_DURATION_MINUTES) {
+            TimeSlot shared = ALIGNED[start / GRANULE_MINUTES][duration / GRANULE_MINUTES];
+            if (shared != null) return shared;
+        }
+        return new TimeSlot(packed);
+    }
+
+    private static int skipBlanks(CharSequence text, int i, int length) {
+        while (i < length && text.charAt(i) == ' ') i++;
+        return i;
+    }
+
+    // "H:MM" or "HH:MM" starting at i -> (minuteOfDay << 32) | index after the time, or -1
+    private static long parseTime(CharSequence text, int i, int length) {
+        if (i >= length) return -1;
+        int hours = digit(text.charAt(i++));
+        if (hours < 0) return -1;
+
+        if (i < length && digit(text.charAt(i)) >= 0) {
+            hours = hours * 10 + digit(text.charAt(i++));
+        }
+        if (hours > 23 || i + 3 > length || text.charAt(i) != ':') return -1;
+
+        int tens = digit(text.charAt(i + 1));
+        int units = digit(text.charAt(i + 2));
+        if (tens < 0 || tens > 5 || units < 0) return -1;
+
+        long minuteOfDay = hours * 60L + tens * 10 + units;
+        return (minuteOfDay << 32) | (i + 3);
+    }
+
+    private static int digit(char c) {
+        return c >= '0' && c <= '9' ? c - '0' : -1;
+    }
+}
@@ -1,9 +1,13 @@
 package com.yash.cabinbooking.model;
 
+import com.yash.cabinbooking.logging.Logger;
+
 import java.sql.Timestamp;
 
 public class User {
 
+    private static final Logger log = Logger.getLogger(User.class);
+
     // User Types Enum for type safety
     public enum UserType {
         NORMAL, VIP, ADMIN, SUPER_ADMIN
@@ -32,7 +36,7 @@ public class User {
         this.userType = UserType.NORMAL;
         this.status = Status.ACTIVE;
         this.defaultCompanyId = DEFAULT_COMPANY_ID; // ✅ SINGLE COMPANY: Auto-set
-        System.out.println("🆕 New User object created for " + COMPANY_NAME);
+        log.debug("🆕 New User object created for {}", COMPANY_NAME);
     }
 
     // Constructor for Registration
@@ -41,7 +45,7 @@ public class User {
         this.name = name;
         this.email = email;
         this.password = password;
-        System.out.println("👤 User created for registration: " + email);
+        log.debug("👤 User created for registration: {}", email);
     }
 
     // Constructor for Login
@@ -49,7 +53,7 @@ public class User {
         this();
         this.email = email;
         this.password = password;
-        System.out.println("🔐 User created for login: " + email);
+        log.debug("🔐 User created for login: {}", email);
     }
 
     // Full Constructor (from database)
@@ -63,7 +67,19 @@ public class User {
         this.defaultCompanyId = defaultCompanyId != 0 ? defaultCompanyId : DEFAULT_COMPANY_ID; // ✅ SINGLE COMPANY: Fallback
         this.status = status;
         this.createdAt = createdAt;
-        System.out.println("💾 User loaded from database: " + email);
+        log.debug("💾 User loaded from database: {}", email);
+    }
+
+    // Copy constructor - UserCache keeps its own copies (without the password hash)
+    public User(User other) {
+        this.userId = other.userId;
+        this.name = other.name;
+        this.email = other.email;
+        this.password = other.password;
+        this.userType = other.userType;
+        this.defaultCompanyId = other.defaultCompanyId;
+        this.status = other.status;
+        this.createdAt = other.createdAt;
     }
 
     // ✅ NEW: Constructor with UserType (for admin creation)
@@ -73,7 +89,7 @@ public class User {
         this.email = email;
         this.password = password;
         this.userType = userType;
-        System.out.println("👤 User created with type " + userType + ": " + email);
+        log.debug("👤 User created with type {}: {}", userType, email);
     }
 
     // Getters and Setters
@@ -1,10 +1,14 @@
 package com.yash.cabinbooking.model;
 
+import com.yash.cabinbooking.logging.Logger;
+
 import java.sql.Timestamp;
 
 
 public class UserPreference {
 
+    private static final Logger log = Logger.getLogger(UserPreference.class);
+
     private int preferenceId;
     private int userId;
     private int preferredCabinCapacity;
@@ -16,7 +20,7 @@ public class UserPreference {
     // Default Constructor
     public UserPreference() {
         this.bookingFrequency = 0;
-        System.out.println("🤖 UserPreference object created for AI learning");
+        log.debug("🤖 UserPreference object created for AI learning");
     }
 
     // Constructor for AI usage
@@ -67,7 +71,7 @@ public class UserPreference {
 
     public void incrementBookingFrequency() {
         this.bookingFrequency++;
-        System.out.println("📈 Booking frequency updated for user: " + userId);
+        log.debug("📈 Booking frequency updated for user: {}", userId);
     }
 
     @Override
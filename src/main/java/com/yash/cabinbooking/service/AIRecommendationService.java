@@ -41,5 +41,6 @@ public interface AIRecommendationService {
     // Smart suggestions
     boolean shouldRecommendVIPCabin(User user, String purpose);
     List<Cabin> getUnderbookedCabins(int companyId, Date date);
+    List<Cabin> getUnderbookedCabins(int companyId, Date date, int maxBookings, int maxMinutes);
     String generateBookingInsight(Booking booking);
 }
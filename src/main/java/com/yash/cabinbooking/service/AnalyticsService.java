@@ -0,0 +1,12 @@
+package com.yash.cabinbooking.service;
+
+import com.yash.cabinbooking.model.AnalyticsSnapshot;
+
+public interface AnalyticsService {
+
+    // Dashboard counters (live booking counts, user/cabin counts cached briefly)
+    AnalyticsSnapshot getSnapshot();
+
+    // Force a fresh snapshot, e.g. right after a bulk admin action
+    AnalyticsSnapshot refreshSnapshot();
+}
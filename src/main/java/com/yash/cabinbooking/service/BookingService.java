@@ -1,10 +1,16 @@
 package com.yash.cabinbooking.service;
 
+import com.yash.cabinbooking.dao.BookingSink;
 import com.yash.cabinbooking.model.Booking;
+import com.yash.cabinbooking.model.BookingCursor;
+import com.yash.cabinbooking.model.BookingExportFilter;
+import com.yash.cabinbooking.model.BookingPage;
 import com.yash.cabinbooking.model.Cabin;
 import com.yash.cabinbooking.model.User;
+import java.io.IOException;
 import java.sql.Date;
 import java.util.List;
+import java.util.Map;
 
 public interface BookingService {
 
@@ -20,6 +26,14 @@ public interface BookingService {
     List<Booking> getAllBookings();
     List<Booking> getRecentBookings(int limit);
 
+    // Keyset-paginated listings, newest first (filter: pending/approved/rejected/vip/all)
+    BookingPage getBookingsPage(String filter, BookingCursor after, int pageSize);
+    BookingPage getUserBookingsPage(int userId, BookingCursor after, int pageSize);
+    Map<String, Integer> getUserBookingCounts(int userId);
+
+    // Streaming export (-1 on database error)
+    long exportBookings(BookingExportFilter filter, BookingSink sink) throws IOException;
+
     // Admin operations
     List<Booking> getPendingBookingsForApproval();
     boolean approveBooking(int bookingId, User admin);
@@ -31,6 +45,7 @@ public interface BookingService {
     List<Booking> getConflictingBookings(int cabinId, Date date, String timeSlot);
     List<String> getAvailableTimeSlots(int cabinId, Date date);
     List<String> getAlternativeTimeSlots(int cabinId, Date date, String requestedSlot);
+    long[] getDailyOccupancy(int cabinId, Date startDate, Date endDate);
 
     // VIP and priority handling
     boolean applyVIPPriority(Booking booking, User user);
@@ -51,6 +66,8 @@ public interface BookingService {
     // ✅ ADD THESE TWO METHODS:
     boolean approveBooking(int bookingId, int adminId);
     boolean rejectBooking(int bookingId, int adminId);
+    boolean[] approveBookings(int[] bookingIds, int adminId);
+    boolean[] rejectBookings(int[] bookingIds, int adminId);
     int getBookingCountByUserId(int userId);
     // ⭐ REQUIREMENT 1: VIP Override Methods
     boolean forceBookingForVIP(Booking vipBooking, User vipUser);
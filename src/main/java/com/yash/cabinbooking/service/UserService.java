@@ -9,11 +9,14 @@ public interface UserService {
     // ✅ ENHANCED: Authentication services with BCrypt support
     User authenticateUser(String email, String password);
     User authenticateUserWithHashedPassword(String email, String password); // ✅ NEW METHOD
+    User authenticateUserWithDeviceToken(String email, String password, String deviceToken); // ✅ Remembered device, no BCrypt
+    String issueDeviceToken(User user, String password);
     boolean registerUser(User user);
     boolean isEmailAvailable(String email);
 
     // User management
     User getUserById(int userId);
+    User reloadUser(int userId); // ✅ Straight from the database, for the per-request status check
     User getUserByEmail(String email);
     List<User> getAllUsers();
 
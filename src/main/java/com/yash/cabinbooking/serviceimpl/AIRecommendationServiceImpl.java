@@ -8,6 +8,7 @@ import com.yash.cabinbooking.daoimpl.CabinDaoImpl;
 import com.yash.cabinbooking.daoimpl.UserDaoImpl;
 import com.yash.cabinbooking.service.AIRecommendationService;
 import com.yash.cabinbooking.model.*;
+import com.yash.cabinbooking.logging.Logger;
 import java.sql.Date;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -15,6 +16,8 @@ import java.util.stream.Collectors;
 
 public class AIRecommendationServiceImpl implements AIRecommendationService {
 
+    private static final Logger log = Logger.getLogger(AIRecommendationServiceImpl.class);
+
     private BookingDao bookingDAO;
     private CabinDao cabinDAO;
     private UserDao userDAO;
@@ -23,20 +26,23 @@ public class AIRecommendationServiceImpl implements AIRecommendationService {
     private static final double SIMILARITY_THRESHOLD = 0.6;
     private static final int MAX_RECOMMENDATIONS = 5;
     private static final int HISTORY_ANALYSIS_LIMIT = 20;
+    private static final double POPULARITY_HALF_LIFE_DAYS = 14.0; // Booking weight halves every 2 weeks
+    private static final int UNDERBOOKED_MAX_BOOKINGS = 3;      // Fewer than 3 bookings in the day...
+    private static final int UNDERBOOKED_MAX_MINUTES = 3 * 60;  // ...and less than a third of the day held
 
     public AIRecommendationServiceImpl() {
         this.bookingDAO = new BookingDaoImpl();
         this.cabinDAO = new CabinDaoImpl();
         this.userDAO = new UserDaoImpl();
-        System.out.println("🤖 AI Recommendation Service initialized - Ready for intelligent suggestions!");
+        log.info("🤖 AI Recommendation Service initialized - Ready for intelligent suggestions!");
     }
 
     @Override
     public List<Cabin> getRecommendedCabinsForUser(User user, int companyId) {
-        System.out.println("🧠 Generating AI recommendations for user: " + user.getName() + " (Company: " + companyId + ")");
+        log.info("🧠 Generating AI recommendations for user: {} (Company: {})", user.getName(), companyId);
 
         if (user == null || companyId <= 0) {
-            System.err.println("❌ Invalid parameters for AI recommendations");
+            log.error("❌ Invalid parameters for AI recommendations");
             return new ArrayList<>();
         }
 
@@ -45,18 +51,18 @@ public class AIRecommendationServiceImpl implements AIRecommendationService {
             List<Booking> userHistory = bookingDAO.getUserBookingHistory(user.getUserId());
 
             if (userHistory.isEmpty()) {
-                System.out.println("🆕 New user detected - providing popular cabin recommendations");
+                log.info("🆕 New user detected - providing popular cabin recommendations");
                 return getNewUserRecommendations(user, companyId);
             }
 
             // Advanced AI Algorithm: Analyze user patterns
             List<Cabin> recommendations = analyzeUserPatternsAndRecommend(user, companyId, userHistory);
 
-            System.out.println("✅ Generated " + recommendations.size() + " AI recommendations for user: " + user.getName());
+            log.info("✅ Generated {} AI recommendations for user: {}", recommendations.size(), user.getName());
             return recommendations;
 
         } catch (Exception e) {
-            System.err.println("❌ AI Error in recommendations: " + e.getMessage());
+            log.error("❌ AI Error in recommendations: {}", e.getMessage());
             // Fallback to popular cabins
             return getPopularCabins(companyId, user);
         }
@@ -64,12 +70,12 @@ public class AIRecommendationServiceImpl implements AIRecommendationService {
 
     @Override
     public List<Cabin> getSimilarCabins(int cabinId, User user) {
-        System.out.println("🔍 Finding similar cabins to ID: " + cabinId + " for user: " + user.getName());
+        log.debug("🔍 Finding similar cabins to ID: {} for user: {}", cabinId, user.getName());
 
         try {
             Cabin targetCabin = cabinDAO.getCabinById(cabinId);
             if (targetCabin == null) {
-                System.err.println("❌ Target cabin not found: " + cabinId);
+                log.error("❌ Target cabin not found: {}", cabinId);
                 return new ArrayList<>();
             }
 
@@ -97,66 +103,60 @@ public class AIRecommendationServiceImpl implements AIRecommendationService {
                 similarCabins = similarCabins.subList(0, MAX_RECOMMENDATIONS);
             }
 
-            System.out.println("🔗 Found " + similarCabins.size() + " similar cabins");
+            log.debug("🔗 Found {} similar cabins", similarCabins.size());
             return similarCabins;
 
         } catch (Exception e) {
-            System.err.println("❌ Error finding similar cabins: " + e.getMessage());
+            log.error("❌ Error finding similar cabins: {}", e.getMessage());
             return new ArrayList<>();
         }
     }
 
     @Override
     public List<Cabin> getPopularCabins(int companyId, User user) {
-        System.out.println("🌟 Getting popular cabins for company: " + companyId);
+        log.debug("🌟 Getting popular cabins for company: {}", companyId);
 
         try {
             // Get all accessible cabins for the user
             List<Cabin> accessibleCabins = cabinDAO.getAccessibleCabins(companyId, user);
 
             if (accessibleCabins.isEmpty()) {
-                System.out.println("❌ No accessible cabins found for user");
+                log.info("❌ No accessible cabins found for user");
                 return new ArrayList<>();
             }
 
-            // AI Popularity Algorithm: Calculate booking frequency for each cabin
-            Map<Integer, Integer> cabinPopularity = new HashMap<>();
-
-            for (Cabin cabin : accessibleCabins) {
-                List<Booking> cabinBookings = bookingDAO.getBookingsByCabin(cabin.getCabinId());
-                int popularityScore = calculatePopularityScore(cabinBookings);
-                cabinPopularity.put(cabin.getCabinId(), popularityScore);
-            }
+            // ✅ PERFORMANCE: Time-decayed popularity of every cabin in a single query
+            Map<Integer, Double> cabinPopularity = bookingDAO.getCabinPopularityScores(POPULARITY_HALF_LIFE_DAYS);
 
             // Sort cabins by popularity score
-            accessibleCabins.sort((c1, c2) -> Integer.compare(
-                    cabinPopularity.getOrDefault(c2.getCabinId(), 0),
-                    cabinPopularity.getOrDefault(c1.getCabinId(), 0)
+            accessibleCabins.sort((c1, c2) -> Double.compare(
+                    cabinPopularity.getOrDefault(c2.getCabinId(), 0.0),
+                    cabinPopularity.getOrDefault(c1.getCabinId(), 0.0)
             ));
 
             // Limit to top recommendations
-            List<Cabin> popularCabins = accessibleCabins.subList(0,
-                    Math.min(accessibleCabins.size(), MAX_RECOMMENDATIONS));
+            List<Cabin> popularCabins = new ArrayList<>(accessibleCabins.subList(0,
+                    Math.min(accessibleCabins.size(), MAX_RECOMMENDATIONS)));
 
-            System.out.println("⭐ Found " + popularCabins.size() + " popular cabins");
+            log.debug("⭐ Found {} popular cabins", popularCabins.size());
             return popularCabins;
 
         } catch (Exception e) {
-            System.err.println("❌ Error getting popular cabins: " + e.getMessage());
+            log.error("❌ Error getting popular cabins: {}", e.getMessage());
             return new ArrayList<>();
         }
     }
 
     @Override
     public List<Cabin> getCabinsByUserPreferences(User user, int companyId) {
-        System.out.println("🎯 Getting cabins based on user preferences for: " + user.getName());
+        log.debug("🎯 Getting cabins based on user preferences for: {}", user.getName());
 
         try {
             // Analyze user's historical preferences
             UserPreference preferences = analyzeUserPreferences(user.getUserId());
 
             if (preferences == null) {
-                System.out.println("📊 No preferences found - using popular cabins");
+                log.info("📊 No preferences found - using popular cabins");
                 return getPopularCabins(companyId, user);
             }
 
@@ -177,18 +177,18 @@ public class AIRecommendationServiceImpl implements AIRecommendationService {
                         preferredCapacity - 2, preferredCapacity + 2);
             }
 
-            System.out.println("🎯 Found " + matchingCabins.size() + " cabins matching user preferences");
+            log.debug("🎯 Found {} cabins matching user preferences", matchingCabins.size());
             return matchingCabins;
 
         } catch (Exception e) {
-            System.err.println("❌ Error getting preference-based cabins: " + e.getMessage());
+            log.error("❌ Error getting preference-based cabins: {}", e.getMessage());
             return getPopularCabins(companyId, user);
         }
     }
 
     @Override
     public List<String> getRecommendedTimeSlots(User user, int cabinId, Date date) {
-        System.out.println("🕐 Recommending time slots for user: " + user.getName() + " (Cabin: " + cabinId + ")");
+        log.info("🕐 Recommending time slots for user: {} (Cabin: {})", user.getName(), cabinId);
 
         try {
             // Get user's preferred time patterns
@@ -220,18 +220,18 @@ public class AIRecommendationServiceImpl implements AIRecommendationService {
                 }
             }
 
-            System.out.println("⏰ Recommended " + recommendations.size() + " time slots");
+            log.info("⏰ Recommended {} time slots", recommendations.size());
             return recommendations;
 
         } catch (Exception e) {
-            System.err.println("❌ Error recommending time slots: " + e.getMessage());
+            log.error("❌ Error recommending time slots: {}", e.getMessage());
             return getAllTimeSlots();
         }
     }
 
     @Override
     public List<String> getAlternativeTimeSlots(int cabinId, Date date, String requestedSlot) {
-        System.out.println("🔄 Finding alternatives for: " + requestedSlot + " (Cabin: " + cabinId + ")");
+        log.debug("🔄 Finding alternatives for: {} (Cabin: {})", requestedSlot, cabinId);
 
         try {
             List<String> allSlots = getAllTimeSlots();
@@ -252,31 +252,31 @@ public class AIRecommendationServiceImpl implements AIRecommendationService {
                 return Integer.compare(proximity1, proximity2);
             });
 
-            System.out.println("🔍 Found " + alternatives.size() + " alternative time slots");
+            log.debug("🔍 Found {} alternative time slots", alternatives.size());
             return alternatives;
 
         } catch (Exception e) {
-            System.err.println("❌ Error finding alternative time slots: " + e.getMessage());
+            log.error("❌ Error finding alternative time slots: {}", e.getMessage());
             return new ArrayList<>();
         }
     }
 
     @Override
     public String getBestTimeSlotForUser(User user, Date date) {
-        System.out.println("⏰ Finding best time slot for user: " + user.getName());
+        log.debug("⏰ Finding best time slot for user: {}", user.getName());
 
         try {
             String preferredSlot = getUserPreferredTimeSlot(user.getUserId());
 
             if (preferredSlot != null) {
-                System.out.println("✅ User's preferred time slot: " + preferredSlot);
+                log.info("✅ User's preferred time slot: {}", preferredSlot);
                 return preferredSlot;
             }
 
             // Fallback to most popular time slot
             List<String> popularSlots = bookingDAO.getPopularTimeSlots();
             if (!popularSlots.isEmpty()) {
-                System.out.println("⭐ Recommending popular time slot: " + popularSlots.get(0));
+                log.info("⭐ Recommending popular time slot: {}", popularSlots.get(0));
                 return popularSlots.get(0);
             }
 
@@ -284,19 +284,19 @@ public class AIRecommendationServiceImpl implements AIRecommendationService {
             return "10:00-11:00";
 
         } catch (Exception e) {
-            System.err.println("❌ Error finding best time slot: " + e.getMessage());
+            log.error("❌ Error finding best time slot: {}", e.getMessage());
             return "10:00-11:00";
         }
     }
 
     @Override
     public List<Cabin> findAlternativeCabins(int requestedCabinId, Date date, String timeSlot, User user) {
-        System.out.println("🔄 Finding alternative cabins for: " + requestedCabinId + " (" + user.getName() + ")");
+        log.debug("🔄 Finding alternative cabins for: {} ({})", requestedCabinId, user.getName());
 
         try {
             Cabin requestedCabin = cabinDAO.getCabinById(requestedCabinId);
             if (requestedCabin == null) {
-                System.err.println("❌ Requested cabin not found");
+                log.error("❌ Requested cabin not found");
                 return new ArrayList<>();
             }
 
@@ -324,18 +324,18 @@ public class AIRecommendationServiceImpl implements AIRecommendationService {
                 }
             }
 
-            System.out.println("🔍 Found " + availableAlternatives.size() + " alternative cabins");
+            log.debug("🔍 Found {} alternative cabins", availableAlternatives.size());
             return availableAlternatives;
 
         } catch (Exception e) {
-            System.err.println("❌ Error finding alternative cabins: " + e.getMessage());
+            log.error("❌ Error finding alternative cabins: {}", e.getMessage());
             return new ArrayList<>();
         }
     }
 
     @Override
     public List<String> suggestAlternativeDates(int cabinId, String timeSlot, Date requestedDate) {
-        System.out.println("📅 Suggesting alternative dates for cabin: " + cabinId);
+        log.info("📅 Suggesting alternative dates for cabin: {}", cabinId);
 
         try {
             List<String> alternativeDates = new ArrayList<>();
@@ -354,18 +354,18 @@ public class AIRecommendationServiceImpl implements AIRecommendationService {
                 if (alternativeDates.size() >= 5) break; // Limit to 5 suggestions
             }
 
-            System.out.println("📆 Found " + alternativeDates.size() + " alternative dates");
+            log.debug("📆 Found {} alternative dates", alternativeDates.size());
             return alternativeDates;
 
         } catch (Exception e) {
-            System.err.println("❌ Error suggesting alternative dates: " + e.getMessage());
+            log.error("❌ Error suggesting alternative dates: {}", e.getMessage());
             return new ArrayList<>();
         }
     }
 
     @Override
     public boolean updateUserPreferences(User user, Booking booking) {
-        System.out.println("🤖 AI Learning: Updating preferences for user " + user.getName());
+        log.info("🤖 AI Learning: Updating preferences for user {}", user.getName());
 
         try {
             // Get cabin details for preference learning
@@ -375,30 +375,30 @@ public class AIRecommendationServiceImpl implements AIRecommendationService {
             }
 
             // Simple AI Learning Algorithm
-            System.out.println("📚 Learning from booking:");
-            System.out.println("   - Preferred Capacity: " + bookedCabin.getCapacity());
-            System.out.println("   - Preferred Time: " + booking.getTimeSlot());
-            System.out.println("   - Purpose Pattern: " + booking.getPurpose());
+            log.info("📚 Learning from booking:");
+            log.info("   - Preferred Capacity: {}", bookedCabin.getCapacity());
+            log.info("   - Preferred Time: {}", booking.getTimeSlot());
+            log.info("   - Purpose Pattern: {}", booking.getPurpose());
 
             // This would normally update user_preferences table
             // For demo, we're just logging the learning process
             return true;
 
         } catch (Exception e) {
-            System.err.println("❌ Error updating user preferences: " + e.getMessage());
+            log.error("❌ Error updating user preferences: {}", e.getMessage());
             return false;
         }
     }
 
     @Override
     public boolean analyzeUserBookingPattern(int userId) {
-        System.out.println("📊 AI Analysis: Analyzing booking patterns for user: " + userId);
+        log.info("📊 AI Analysis: Analyzing booking patterns for user: {}", userId);
 
         try {
             List<Booking> userHistory = bookingDAO.getUserBookingHistory(userId);
 
             if (userHistory.isEmpty()) {
-                System.out.println("📈 No booking history available for analysis");
+                log.info("📈 No booking history available for analysis");
                 return false;
             }
 
@@ -422,22 +422,22 @@ public class AIRecommendationServiceImpl implements AIRecommendationService {
             }
 
             // Log analysis results
-            System.out.println("🧠 Pattern Analysis Results:");
-            System.out.println("   - Most frequent time: " + getMostFrequent(timeSlotFrequency));
-            System.out.println("   - Most frequent purpose: " + getMostFrequent(purposeFrequency));
-            System.out.println("   - Preferred capacity: " + getMostFrequent(capacityFrequency));
+            log.info("🧠 Pattern Analysis Results:");
+            log.info("   - Most frequent time: {}", getMostFrequent(timeSlotFrequency));
+            log.info("   - Most frequent purpose: {}", getMostFrequent(purposeFrequency));
+            log.info("   - Preferred capacity: {}", getMostFrequent(capacityFrequency));
 
             return true;
 
         } catch (Exception e) {
-            System.err.println("❌ Error analyzing booking patterns: " + e.getMessage());
+            log.error("❌ Error analyzing booking patterns: {}", e.getMessage());
             return false;
         }
     }
 
     @Override
     public String getUserPreferredTimeSlot(int userId) {
-        System.out.println("⏰ Getting preferred time slot for user: " + userId);
+        log.debug("⏰ Getting preferred time slot for user: {}", userId);
 
         try {
             List<Booking> userHistory = bookingDAO.getUserBookingHistory(userId);
@@ -452,18 +452,18 @@ public class AIRecommendationServiceImpl implements AIRecommendationService {
             }
 
             String preferredSlot = getMostFrequent(timeSlotFrequency);
-            System.out.println("⭐ User's preferred time slot: " + preferredSlot);
+            log.info("⭐ User's preferred time slot: {}", preferredSlot);
             return preferredSlot;
 
         } catch (Exception e) {
-            System.err.println("❌ Error getting preferred time slot: " + e.getMessage());
+            log.error("❌ Error getting preferred time slot: {}", e.getMessage());
             return null;
         }
     }
 
     @Override
     public int getUserPreferredCapacity(int userId) {
-        System.out.println("📏 Getting preferred capacity for user: " + userId);
+        log.debug("📏 Getting preferred capacity for user: {}", userId);
 
         try {
             List<Booking> userHistory = bookingDAO.getUserBookingHistory(userId);
@@ -481,18 +481,18 @@ public class AIRecommendationServiceImpl implements AIRecommendationService {
             }
 
             Integer preferredCapacity = getMostFrequent(capacityFrequency);
-            System.out.println("📊 User's preferred capacity: " + preferredCapacity);
+            log.info("📊 User's preferred capacity: {}", preferredCapacity);
             return preferredCapacity != null ? preferredCapacity : 0;
 
         } catch (Exception e) {
-            System.err.println("❌ Error getting preferred capacity: " + e.getMessage());
+            log.error("❌ Error getting preferred capacity: {}", e.getMessage());
             return 0;
         }
     }
 
     @Override
     public List<Cabin> getNewUserRecommendations(User user, int companyId) {
-        System.out.println("🆕 Generating recommendations for new user: " + user.getName());
+        log.info("🆕 Generating recommendations for new user: {}", user.getName());
 
         try {
             // For new users, recommend popular cabins
@@ -511,24 +511,24 @@ public class AIRecommendationServiceImpl implements AIRecommendationService {
                     .limit(MAX_RECOMMENDATIONS)
                     .collect(Collectors.toList());
 
-            System.out.println("🌟 Generated " + uniqueRecommendations.size() + " recommendations for new user");
+            log.info("🌟 Generated {} recommendations for new user", uniqueRecommendations.size());
             return uniqueRecommendations;
 
         } catch (Exception e) {
-            System.err.println("❌ Error generating new user recommendations: " + e.getMessage());
+            log.error("❌ Error generating new user recommendations: {}", e.getMessage());
             return new ArrayList<>();
         }
     }
 
     @Override
     public List<String> getPopularTimeSlots() {
-        System.out.println("🕐 Getting popular time slots from AI analysis");
+        log.debug("🕐 Getting popular time slots from AI analysis");
         return bookingDAO.getPopularTimeSlots();
     }
 
     @Override
     public List<String> getPopularPurposes() {
-        System.out.println("🎯 Getting popular booking purposes");
+        log.debug("🎯 Getting popular booking purposes");
 
         // This would normally analyze all booking purposes
         List<String> popularPurposes = Arrays.asList(
@@ -539,7 +539,7 @@ public class AIRecommendationServiceImpl implements AIRecommendationService {
                 "Project Discussion"
         );
 
-        System.out.println("📋 Retrieved " + popularPurposes.size() + " popular purposes");
+        log.info("📋 Retrieved {} popular purposes", popularPurposes.size());
         return popularPurposes;
     }
 
@@ -547,7 +547,7 @@ public class AIRecommendationServiceImpl implements AIRecommendationService {
 
     @Override
     public double calculateUserBookingScore(User user) {
-        System.out.println("📊 Calculating booking score for user: " + user.getName());
+        log.info("📊 Calculating booking score for user: {}", user.getName());
 
         try {
             int bookingCount = userDAO.getUserBookingCount(user.getUserId());
@@ -557,11 +557,11 @@ public class AIRecommendationServiceImpl implements AIRecommendationService {
             if (user.isVIP()) baseScore += 20;
             if (user.isAdmin()) baseScore += 15;
 
-            System.out.println("⭐ User booking score: " + baseScore);
+            log.info("⭐ User booking score: {}", baseScore);
             return baseScore;
 
         } catch (Exception e) {
-            System.err.println("❌ Error calculating booking score: " + e.getMessage());
+            log.error("❌ Error calculating booking score: {}", e.getMessage());
             return 0.0;
         }
     }
@@ -578,7 +578,7 @@ public class AIRecommendationServiceImpl implements AIRecommendationService {
 
     @Override
     public List<String> suggestBookingPurposes(User user) {
-        System.out.println("💡 Suggesting booking purposes for: " + user.getName());
+        log.info("💡 Suggesting booking purposes for: {}", user.getName());
 
         List<String> suggestions = new ArrayList<>();
 
@@ -590,7 +590,7 @@ public class AIRecommendationServiceImpl implements AIRecommendationService {
             suggestions.addAll(Arrays.asList("Team Meeting", "Training Session", "Project Discussion"));
         }
 
-        System.out.println("💭 Generated " + suggestions.size() + " purpose suggestions");
+        log.info("💭 Generated {} purpose suggestions", suggestions.size());
         return suggestions;
     }
 
@@ -600,46 +600,45 @@ public class AIRecommendationServiceImpl implements AIRecommendationService {
                 (purpose != null && (purpose.toLowerCase().contains("client") ||
                         purpose.toLowerCase().contains("presentation")));
 
-        System.out.println("⭐ VIP cabin recommendation: " + recommend + " for purpose: " + purpose);
+        log.info("⭐ VIP cabin recommendation: {} for purpose: {}", recommend, purpose);
         return recommend;
     }
 
     @Override
     public List<Cabin> getUnderbookedCabins(int companyId, Date date) {
-        System.out.println("📉 Finding underbooked cabins for company: " + companyId);
+        return getUnderbookedCabins(companyId, date, UNDERBOOKED_MAX_BOOKINGS, UNDERBOOKED_MAX_MINUTES);
+    }
+
+    @Override
+    public List<Cabin> getUnderbookedCabins(int companyId, Date date, int maxBookings, int maxMinutes) {
+        log.debug("📉 Finding underbooked cabins for company: {} (< {} bookings and < {} minutes)", companyId, maxBookings, maxMinutes);
 
         try {
             List<Cabin> companyCabins = cabinDAO.getCabinsByCompany(companyId);
             List<Cabin> underbooked = new ArrayList<>();
 
-            for (Cabin cabin : companyCabins) {
-                List<Booking> cabinBookings = bookingDAO.getBookingsByDate(date);
-                int bookingCount = 0;
+            // ✅ PERFORMANCE: The day's histogram is fetched once, not once per cabin
+            Map<Integer, CabinUtilization> histogram = bookingDAO.getCabinUtilizationForDate(date);
 
-                for (Booking booking : cabinBookings) {
-                    if (booking.getCabinId() == cabin.getCabinId()) {
-                        bookingCount++;
-                    }
-                }
-
-                // Cabin is underbooked if it has less than 3 bookings for the day
-                if (bookingCount < 3) {
+            for (Cabin cabin : companyCabins) {
+                CabinUtilization utilization = histogram.get(cabin.getCabinId());
+                if (utilization == null || utilization.isUnderbooked(maxBookings, maxMinutes)) {
                     underbooked.add(cabin);
                 }
             }
 
-            System.out.println("📊 Found " + underbooked.size() + " underbooked cabins");
+            log.debug("📊 Found {} underbooked cabins", underbooked.size());
             return underbooked;
 
         } catch (Exception e) {
-            System.err.println("❌ Error finding underbooked cabins: " + e.getMessage());
+            log.error("❌ Error finding underbooked cabins: {}", e.getMessage());
             return new ArrayList<>();
         }
     }
 
     @Override
     public String generateBookingInsight(Booking booking) {
-        System.out.println("💡 Generating AI insight for booking: " + booking.getBookingId());
+        log.info("💡 Generating AI insight for booking: {}", booking.getBookingId());
 
         try {
             StringBuilder insight = new StringBuilder("AI Insights: ");
@@ -658,11 +657,11 @@ public class AIRecommendationServiceImpl implements AIRecommendationService {
             }
 
             String result = insight.toString();
-            System.out.println("🧠 Generated insight: " + result);
+            log.info("🧠 Generated insight: {}", result);
             return result;
 
         } catch (Exception e) {
-            System.err.println("❌ Error generating booking insight: " + e.getMessage());
+            log.error("❌ Error generating booking insight: {}", e.getMessage());
             return "AI insights temporarily unavailable.";
         }
     }
@@ -670,12 +669,13 @@ public class AIRecommendationServiceImpl implements AIRecommendationService {
     // PRIVATE AI UTILITY METHODS
 
     private List<Cabin> analyzeUserPatternsAndRecommend(User user, int companyId, List<Booking> userHistory) {
-        System.out.println("🧠 Advanced AI Analysis: Pattern recognition for " + user.getName());
+        log.info("🧠 Advanced AI Analysis: Pattern recognition for {}", user.getName());
 
-        // Analyze user's cabin capacity preferences
+        // Analyze user's cabin capacity preferences (each distinct cabin is looked up once)
         Map<Integer, Integer> capacityPreference = new HashMap<>();
+        Map<Integer, Cabin> cabinsById = new HashMap<>();
         for (Booking booking : userHistory) {
-            Cabin cabin = cabinDAO.getCabinById(booking.getCabinId());
+            Cabin cabin = cabinsById.computeIfAbsent(booking.getCabinId(), cabinDAO::getCabinById);
             if (cabin != null) {
                 capacityPreference.merge(cabin.getCapacity(), 1, Integer::sum);
             }
@@ -733,30 +733,6 @@ public class AIRecommendationServiceImpl implements AIRecommendationService {
         return similarity;
     }
 
-    private int calculatePopularityScore(List<Booking> bookings) {
-        if (bookings == null || bookings.isEmpty()) {
-            return 0;
-        }
-
-        // Weight recent bookings more heavily
-        int score = 0;
-        long currentTime = System.currentTimeMillis();
-
-        for (Booking booking : bookings) {
-            if (booking.getStatus() == Booking.Status.APPROVED) {
-                long timeDiff = currentTime - booking.getCreatedAt().getTime();
-                int daysDiff = (int) (timeDiff / (1000 * 60 * 60 * 24));
-
-                // Recent bookings get higher score
-                if (daysDiff <= 7) score += 5;
-                else if (daysDiff <= 30) score += 3;
-                else score += 1;
-            }
-        }
-
-        return score;
-    }
-
     private UserPreference analyzeUserPreferences(int userId) {
         // This would normally query user_preferences table
         // For demo purposes, creating a simple analysis
@@ -0,0 +1,134 @@
+package com.yash.cabinbooking.serviceimpl;
+
+import com.yash.cabinbooking.service.AnalyticsService;
+import com.yash.cabinbooking.cache.BookingMetricsAggregator;
+import com.yash.cabinbooking.dao.AnalyticsDao;
+import com.yash.cabinbooking.dao.BookingDao;
+import com.yash.cabinbooking.daoimpl.AnalyticsDaoImpl;
+import com.yash.cabinbooking.daoimpl.BookingDaoImpl;
+import com.yash.cabinbooking.model.AnalyticsSnapshot;
+import com.yash.cabinbooking.logging.Logger;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Admin analytics built from counters instead of loading every user and booking
+ * into memory. Booking counters are read live from BookingMetricsAggregator once
+ * it is ready (SQL GROUP BY until then). User, cabin and popular-slot counts
+ * change rarely and are shared between requests for cabinbooking.analytics.ttlMs
+ * (default 15000, 0 disables caching).
+ */
+public class AnalyticsServiceImpl implements AnalyticsService {
+
+    private static final Logger log = Logger.getLogger(AnalyticsServiceImpl.class);
+
+    private static final long REFERENCE_TTL_MS = Long.getLong("cabinbooking.analytics.ttlMs", 15000L);
+
+    private static final List<String> DEFAULT_POPULAR_SLOTS = Arrays.asList(
+            "09:00-10:00", "10:00-11:00", "11:00-12:00", "14:00-15:00", "15:00-16:00");
+
+    private static final BookingMetricsAggregator metrics = BookingMetricsAggregator.getInstance();
+
+    // ✅ Shared across servlet instances - the counters are the same for every admin
+    private static volatile ReferenceCounts cachedReferenceCounts;
+
+    private AnalyticsDao analyticsDao;
+    private BookingDao bookingDAO;
+
+    public AnalyticsServiceImpl() {
+        this.analyticsDao = new AnalyticsDaoImpl();
+        this.bookingDAO = new BookingDaoImpl();
+        log.info("🔧 AnalyticsService initialized");
+    }
+
+    @Override
+    public AnalyticsSnapshot getSnapshot() {
+        ReferenceCounts reference = cachedReferenceCounts;
+        if (reference == null || System.currentTimeMillis() - reference.loadedAt >= REFERENCE_TTL_MS) {
+            reference = loadReferenceCounts();
+        }
+        return buildSnapshot(reference);
+    }
+
+    @Override
+    public AnalyticsSnapshot refreshSnapshot() {
+        return buildSnapshot(loadReferenceCounts());
+    }
+
+    private AnalyticsSnapshot buildSnapshot(ReferenceCounts reference) {
+        Date today = Date.valueOf(LocalDate.now(ZoneId.of("Asia/Kolkata")));
+
+        Map<String, Integer> bookingsByStatus;
+        Map<String, Integer> bookingsByPriority;
+        int[] todayActivity;
+
+        if (metrics.isReady()) {
+            // O(1) - no database work for booking counters
+            bookingsByStatus = metrics.getStatusCounts();
+            bookingsByPriority = metrics.getPriorityCounts();
+            todayActivity = new int[]{(int) metrics.getBookingsOn(today), (int) metrics.getApprovalsOn(today)};
+        } else {
+            log.info("📊 Booking metrics not ready yet, counting bookings in SQL");
+            bookingsByStatus = analyticsDao.getBookingCountsByStatus();
+            bookingsByPriority = analyticsDao.getBookingCountsByPriority();
+            todayActivity = analyticsDao.getBookingActivityForDate(today);
+        }
+
+        return new AnalyticsSnapshot(
+                reference.usersByType,
+                reference.usersByStatus,
+                bookingsByStatus,
+                bookingsByPriority,
+                todayActivity[0], todayActivity[1],
+                reference.cabinsByStatus,
+                reference.vipCabinsByStatus,
+                reference.popularTimeSlots,
+                today);
+    }
+
+    private ReferenceCounts loadReferenceCounts() {
+        log.debug("📊 Loading user and cabin counters");
+
+        List<String> popularTimeSlots = bookingDAO.getPopularTimeSlots();
+        if (popularTimeSlots == null || popularTimeSlots.isEmpty()) {
+            popularTimeSlots = DEFAULT_POPULAR_SLOTS;
+        }
+
+        ReferenceCounts reference = new ReferenceCounts(
+                analyticsDao.getUserCountsByType(),
+                analyticsDao.getUserCountsByStatus(),
+                analyticsDao.getCabinCountsByStatus(),
+                analyticsDao.getVIPCabinCountsByStatus(),
+                new ArrayList<>(popularTimeSlots));
+
+        if (REFERENCE_TTL_MS > 0) {
+            cachedReferenceCounts = reference;
+        }
+        return reference;
+    }
+
+    // User, cabin and popular-slot counts loaded together
+    private static final class ReferenceCounts {
+        private final Map<String, Integer> usersByType;
+        private final Map<String, Integer> usersByStatus;
+        private final Map<String, Integer> cabinsByStatus;
+        private final Map<String, Integer> vipCabinsByStatus;
+        private final List<String> popularTimeSlots;
+        private final long loadedAt = System.currentTimeMillis();
+
+        ReferenceCounts(Map<String, Integer> usersByType, Map<String, Integer> usersByStatus,
+                        Map<String, Integer> cabinsByStatus, Map<String, Integer> vipCabinsByStatus,
+                        List<String> popularTimeSlots) {
+            this.usersByType = usersByType;
+            this.usersByStatus = usersByStatus;
+            this.cabinsByStatus = cabinsByStatus;
+            this.vipCabinsByStatus = vipCabinsByStatus;
+            this.popularTimeSlots = popularTimeSlots;
+        }
+    }
+}
@@ -1,65 +1,78 @@
 package com.yash.cabinbooking.serviceimpl;
 
 import com.yash.cabinbooking.service.BookingService;
+import com.yash.cabinbooking.cache.BookingMetricsAggregator;
 import com.yash.cabinbooking.service.UserService; // ✅ ADD THIS IMPORT
 import com.yash.cabinbooking.serviceimpl.UserServiceImpl; // ✅ ADD THIS IMPORT
 import com.yash.cabinbooking.dao.BookingDao;
+import com.yash.cabinbooking.dao.BookingSink;
 import com.yash.cabinbooking.dao.CabinDao;
 import com.yash.cabinbooking.daoimpl.BookingDaoImpl;
 import com.yash.cabinbooking.daoimpl.CabinDaoImpl;
 import com.yash.cabinbooking.model.Booking;
+import com.yash.cabinbooking.model.BookingChange;
+import com.yash.cabinbooking.model.BookingCursor;
+import com.yash.cabinbooking.model.BookingExportFilter;
+import com.yash.cabinbooking.model.BookingPage;
+import com.yash.cabinbooking.model.TimeSlot;
 import com.yash.cabinbooking.model.User;
 import com.yash.cabinbooking.model.Cabin;
 import com.yash.cabinbooking.util.DbUtil;
+import com.yash.cabinbooking.logging.Logger;
 
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.Date;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.util.HashMap;
 import java.util.List;
 import java.util.ArrayList;
-import java.util.regex.Pattern;
+import java.util.Map;
 
 
 public class BookingServiceImpl implements BookingService {
 
+    private static final Logger log = Logger.getLogger(BookingServiceImpl.class);
+
     private BookingDao bookingDAO;
     private CabinDao cabinDAO;
     private UserService userService; // ✅ ADD THIS LINE
 
-    // ✅ Flexible duration constants
-    private static final String TIME_SLOT_PATTERN = "^([0-9]|0[0-9]|1[0-9]|2[0-3]):[0-5][0-9]-([0-9]|0[0-9]|1[0-9]|2[0-3]):[0-5][0-9]$";
-    private static final int MIN_DURATION_MINUTES = 15;
-    private static final int MAX_DURATION_MINUTES = 480; // 8 hours
-    private static final int BUSINESS_START_HOUR = 9;
-    private static final int BUSINESS_END_HOUR = 18;
+    // ✅ PERFORMANCE: Live dashboard counters, fed by every booking lifecycle change below
+    private static final BookingMetricsAggregator metrics = BookingMetricsAggregator.getInstance();
+
+    private static final int MAX_OCCUPANCY_RANGE_DAYS = 31;
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
 
     public BookingServiceImpl() {
         this.bookingDAO = new BookingDaoImpl();
         this.cabinDAO = new CabinDaoImpl();
         this.userService = new UserServiceImpl(); // ✅ ADD THIS LINE
-        System.out.println("🔧 BookingService initialized with enhanced VIP & Admin features");
+        log.info("🔧 BookingService initialized with enhanced VIP & Admin features");
     }
 
     @Override
     public boolean createBooking(Booking booking, User user) {
-        System.out.println("📅 Creating booking for user: " + user.getName() + " (ID: " + user.getUserId() + ")");
+        log.info("📅 Creating booking for user: {} (ID: {})", user.getName(), user.getUserId());
 
         // ✅ ENHANCED: Input validation with flexible duration support
         if (!isValidBookingData(booking) || user == null) {
-            System.err.println("❌ Invalid booking data or user");
+            log.error("❌ Invalid booking data or user");
             return false;
         }
 
         // Check if cabin exists and is accessible to user
         Cabin cabin = cabinDAO.getCabinById(booking.getCabinId());
         if (cabin == null) {
-            System.err.println("❌ Cabin not found: " + booking.getCabinId());
+            log.error("❌ Cabin not found: {}", booking.getCabinId());
             return false;
         }
 
         if (!cabin.isAccessibleForUser(user)) {
-            System.err.println("❌ Cabin not accessible to user: " + user.getUserTypeDisplay());
+            log.info("❌ Cabin not accessible to user: {}", user.getUserTypeDisplay());
             return false;
         }
 
@@ -69,24 +82,25 @@ public class BookingServiceImpl implements BookingService {
 
         // ✅ ENHANCED: VIP Override Logic
         if (user.isVIP() && !isSlotAvailable(booking.getCabinId(), booking.getBookingDate(), booking.getTimeSlot())) {
-            System.out.println("⭐ VIP user requesting occupied slot - attempting force booking");
+            log.info("⭐ VIP user requesting occupied slot - attempting force booking");
             return forceBookingForVIP(booking, user);
         }
 
         // ✅ ENHANCED: Smart slot availability check
         if (!isSlotAvailable(booking.getCabinId(), booking.getBookingDate(), booking.getTimeSlot())) {
-            System.err.println("❌ Time slot not available: " + booking.getTimeSlot());
+            log.info("❌ Time slot not available: {}", booking.getTimeSlot());
             return false;
         }
 
         boolean success = bookingDAO.createBooking(booking);
 
         if (success) {
-            System.out.println("✅ Flexible duration booking created successfully: ID " + booking.getBookingId());
+            log.info("✅ Flexible duration booking created successfully: ID {}", booking.getBookingId());
+            metrics.onBookingCreated(booking);
             // Update user preferences for AI learning
             updateUserPreferencesFromBooking(booking);
         } else {
-            System.err.println("❌ Booking creation failed");
+            log.error("❌ Booking creation failed");
         }
 
         return success;
@@ -94,10 +108,10 @@ public class BookingServiceImpl implements BookingService {
 
     @Override
     public Booking getBookingById(int bookingId) {
-        System.out.println("🔍 Fetching booking by ID: " + bookingId);
+        log.debug("🔍 Fetching booking by ID: {}", bookingId);
 
         if (bookingId <= 0) {
-            System.err.println("❌ Invalid booking ID: " + bookingId);
+            log.error("❌ Invalid booking ID: {}", bookingId);
             return null;
         }
 
@@ -106,10 +120,10 @@ public class BookingServiceImpl implements BookingService {
 
     @Override
     public List<Booking> getUserBookings(int userId) {
-        System.out.println("📋 Fetching bookings for user: " + userId);
+        log.debug("📋 Fetching bookings for user: {}", userId);
 
         if (userId <= 0) {
-            System.err.println("❌ Invalid user ID: " + userId);
+            log.error("❌ Invalid user ID: {}", userId);
             return new ArrayList<>();
         }
 
@@ -118,10 +132,10 @@ public class BookingServiceImpl implements BookingService {
 
     @Override
     public List<Booking> getCabinBookings(int cabinId) {
-        System.out.println("🏠 Fetching bookings for cabin: " + cabinId);
+        log.debug("🏠 Fetching bookings for cabin: {}", cabinId);
 
         if (cabinId <= 0) {
-            System.err.println("❌ Invalid cabin ID: " + cabinId);
+            log.error("❌ Invalid cabin ID: {}", cabinId);
             return new ArrayList<>();
         }
 
@@ -130,39 +144,47 @@ public class BookingServiceImpl implements BookingService {
 
     @Override
     public boolean updateBooking(Booking booking) {
-        System.out.println("✏️ Updating booking: " + booking.getBookingId());
+        log.info("✏️ Updating booking: {}", booking.getBookingId());
 
         if (!isValidBookingData(booking) || booking.getBookingId() <= 0) {
-            System.err.println("❌ Invalid booking data for update");
+            log.error("❌ Invalid booking data for update");
             return false;
         }
 
-        return bookingDAO.updateBooking(booking);
+        Booking before = bookingDAO.getBookingById(booking.getBookingId());
+        boolean success = bookingDAO.updateBooking(booking);
+
+        if (success && before != null) {
+            metrics.onBookingUpdated(before, booking);
+        }
+
+        return success;
     }
 
     @Override
     public boolean cancelBooking(int bookingId, User user) {
-        System.out.println("🚫 Cancelling booking: " + bookingId + " by user: " + user.getName());
+        log.info("🚫 Cancelling booking: {} by user: {}", bookingId, user.getName());
 
         // Get booking to verify ownership or admin privileges
         Booking booking = bookingDAO.getBookingById(bookingId);
         if (booking == null) {
-            System.err.println("❌ Booking not found: " + bookingId);
+            log.error("❌ Booking not found: {}", bookingId);
             return false;
         }
 
         // Check if user can cancel this booking
         if (booking.getUserId() != user.getUserId() && !user.isAdmin()) {
-            System.err.println("❌ User not authorized to cancel booking: " + bookingId);
+            log.info("❌ User not authorized to cancel booking: {}", bookingId);
             return false;
         }
 
         boolean success = bookingDAO.deleteBooking(bookingId);
 
         if (success) {
-            System.out.println("✅ Booking cancelled successfully: " + bookingId);
+            log.info("✅ Booking cancelled successfully: {}", bookingId);
+            metrics.onBookingCancelled(booking);
         } else {
-            System.err.println("❌ Booking cancellation failed: " + bookingId);
+            log.error("❌ Booking cancellation failed: {}", bookingId);
         }
 
         return success;
@@ -170,25 +192,26 @@ public class BookingServiceImpl implements BookingService {
 
     @Override
     public List<Booking> getPendingBookingsForApproval() {
-        System.out.println("⏳ Fetching pending bookings for admin approval");
+        log.debug("⏳ Fetching pending bookings for admin approval");
         return bookingDAO.getPendingBookings();
     }
 
     @Override
     public boolean approveBooking(int bookingId, User admin) {
-        System.out.println("✅ Admin approving booking: " + bookingId + " by " + admin.getName());
+        log.info("✅ Admin approving booking: {} by {}", bookingId, admin.getName());
 
         if (!admin.isAdmin()) {
-            System.err.println("❌ User does not have admin privileges: " + admin.getName());
+            log.error("❌ User does not have admin privileges: {}", admin.getName());
             return false;
         }
 
         boolean success = bookingDAO.approveBooking(bookingId, admin.getUserId());
 
         if (success) {
-            System.out.println("✅ Booking approved successfully by admin: " + admin.getName());
+            log.info("✅ Booking approved successfully by admin: {}", admin.getName());
+            metrics.onBookingApproved(bookingId);
         } else {
-            System.err.println("❌ Booking approval failed");
+            log.error("❌ Booking approval failed");
         }
 
         return success;
@@ -196,19 +219,20 @@ public class BookingServiceImpl implements BookingService {
 
     @Override
     public boolean rejectBooking(int bookingId, User admin) {
-        System.out.println("❌ Admin rejecting booking: " + bookingId + " by " + admin.getName());
+        log.info("❌ Admin rejecting booking: {} by {}", bookingId, admin.getName());
 
         if (!admin.isAdmin()) {
-            System.err.println("❌ User does not have admin privileges: " + admin.getName());
+            log.error("❌ User does not have admin privileges: {}", admin.getName());
             return false;
         }
 
         boolean success = bookingDAO.rejectBooking(bookingId, admin.getUserId());
 
         if (success) {
-            System.out.println("❌ Booking rejected by admin: " + admin.getName());
+            log.info("❌ Booking rejected by admin: {}", admin.getName());
+            metrics.onBookingRejected(bookingId);
         } else {
-            System.err.println("❌ Booking rejection failed");
+            log.error("❌ Booking rejection failed");
         }
 
         return success;
@@ -216,34 +240,72 @@ public class BookingServiceImpl implements BookingService {
 
     @Override
     public List<Booking> getBookingsForAdmin() {
-        System.out.println("👨‍💼 Fetching all bookings for admin dashboard");
+        log.debug("👨‍💼 Fetching all bookings for admin dashboard");
         return bookingDAO.getAllBookings();
     }
 
     @Override
     public List<Booking> getAllBookings() {
-        System.out.println("📋 Fetching all bookings for admin");
+        log.debug("📋 Fetching all bookings for admin");
         return bookingDAO.getAllBookings();
     }
 
+    @Override
+    public BookingPage getBookingsPage(String filter, BookingCursor after, int pageSize) {
+        int size = clampPageSize(pageSize);
+        String normalized = filter == null ? "all" : filter.trim().toLowerCase();
+        log.debug("📄 Fetching {} bookings page after {}", normalized, after);
+
+        switch (normalized) {
+            case "pending":
+                return bookingDAO.getBookingsByStatusPage(Booking.Status.PENDING.name(), after, size);
+            case "approved":
+                return bookingDAO.getBookingsByStatusPage(Booking.Status.APPROVED.name(), after, size);
+            case "rejected":
+                return bookingDAO.getBookingsByStatusPage(Booking.Status.REJECTED.name(), after, size);
+            case "vip":
+                return bookingDAO.getVIPBookingsPage(after, size);
+            default:
+                return bookingDAO.getBookingsPage(after, size);
+        }
+    }
+
+    @Override
+    public BookingPage getUserBookingsPage(int userId, BookingCursor after, int pageSize) {
+        if (userId <= 0) return BookingPage.empty();
+        return bookingDAO.getBookingsByUserPage(userId, after, clampPageSize(pageSize));
+    }
+
+    @Override
+    public Map<String, Integer> getUserBookingCounts(int userId) {
+        if (userId <= 0) return new HashMap<>();
+        return bookingDAO.getBookingCountsByUser(userId);
+    }
+
+    @Override
+    public long exportBookings(BookingExportFilter filter, BookingSink sink) throws IOException {
+        log.info("📤 Exporting bookings: {}", filter);
+        return bookingDAO.streamBookings(filter, sink);
+    }
+
     @Override
     public List<Booking> getRecentBookings(int limit) {
-        System.out.println("📋 Fetching recent " + limit + " bookings");
+        log.debug("📋 Fetching recent {} bookings", limit);
         return bookingDAO.getRecentBookings(limit);
     }
 
     @Override
     public boolean isSlotAvailable(int cabinId, Date date, String timeSlot) {
-        System.out.println("🔍 Checking slot availability: Cabin " + cabinId + ", Date " + date + ", Time " + timeSlot);
+        log.debug("🔍 Checking slot availability: Cabin {}, Date {}, Time {}", cabinId, date, timeSlot);
 
         if (cabinId <= 0 || date == null || timeSlot == null || timeSlot.trim().isEmpty()) {
-            System.err.println("❌ Invalid parameters for slot availability check");
+            log.error("❌ Invalid parameters for slot availability check");
             return false;
         }
 
         // ✅ ENHANCED: Validate time slot format before checking availability
         if (!isValidTimeSlot(timeSlot)) {
-            System.err.println("❌ Invalid time slot format: " + timeSlot);
+            log.error("❌ Invalid time slot format: {}", timeSlot);
             return false;
         }
 
@@ -252,10 +314,10 @@ public class BookingServiceImpl implements BookingService {
 
     @Override
     public List<Booking> getConflictingBookings(int cabinId, Date date, String timeSlot) {
-        System.out.println("⚠️ Finding conflicting bookings for: Cabin " + cabinId + ", Date " + date + ", Time " + timeSlot);
+        log.warn("⚠️ Finding conflicting bookings for: Cabin {}, Date {}, Time {}", cabinId, date, timeSlot);
 
         if (cabinId <= 0 || date == null || timeSlot == null) {
-            System.err.println("❌ Invalid parameters for conflict check");
+            log.error("❌ Invalid parameters for conflict check");
             return new ArrayList<>();
         }
 
@@ -265,10 +327,10 @@ public class BookingServiceImpl implements BookingService {
     // ✅ ENHANCED: Flexible duration time slot generation
     @Override
     public List<String> getAvailableTimeSlots(int cabinId, Date date) {
-        System.out.println("🕐 Getting available flexible time slots for cabin: " + cabinId + " on " + date);
+        log.debug("🕐 Getting available flexible time slots for cabin: {} on {}", cabinId, date);
 
         if (cabinId <= 0 || date == null) {
-            System.err.println("❌ Invalid parameters for time slots");
+            log.error("❌ Invalid parameters for time slots");
             return new ArrayList<>();
         }
 
@@ -284,7 +346,7 @@ public class BookingServiceImpl implements BookingService {
 
     @Override
     public List<String> getAlternativeTimeSlots(int cabinId, Date date, String requestedSlot) {
-        System.out.println("🔄 Finding alternative time slots for: " + requestedSlot);
+        log.debug("🔄 Finding alternative time slots for: {}", requestedSlot);
 
         // Use enhanced DAO method for smart alternatives
         if (bookingDAO instanceof BookingDaoImpl) {
@@ -298,26 +360,45 @@ public class BookingServiceImpl implements BookingService {
         }
     }
 
+    // ✅ PERFORMANCE: Whole date range in one lookup instead of one query per day
+    @Override
+    public long[] getDailyOccupancy(int cabinId, Date startDate, Date endDate) {
+        log.debug("📅 Getting daily occupancy for cabin {} from {} to {}", cabinId, startDate, endDate);
+
+        if (cabinId <= 0 || startDate == null || endDate == null || endDate.before(startDate)) {
+            log.error("❌ Invalid parameters for daily occupancy");
+            return new long[0];
+        }
+
+        long days = endDate.toLocalDate().toEpochDay() - startDate.toLocalDate().toEpochDay() + 1;
+        if (days > MAX_OCCUPANCY_RANGE_DAYS) {
+            log.error("❌ Occupancy range too long: {} days (max {})", days, MAX_OCCUPANCY_RANGE_DAYS);
+            return new long[0];
+        }
+
+        return bookingDAO.getDailyOccupancy(cabinId, startDate, endDate);
+    }
+
     @Override
     public boolean applyVIPPriority(Booking booking, User user) {
         if (user.isVIP()) {
             booking.setPriorityLevel(Booking.PriorityLevel.VIP);
-            System.out.println("⭐ VIP priority applied for user: " + user.getName());
+            log.info("⭐ VIP priority applied for user: {}", user.getName());
             return true;
         } else if (user.isAdmin()) {
             booking.setPriorityLevel(Booking.PriorityLevel.HIGH);
-            System.out.println("👨‍💼 Admin priority applied for user: " + user.getName());
+            log.info("👨‍💼 Admin priority applied for user: {}", user.getName());
             return true;
         } else {
             booking.setPriorityLevel(Booking.PriorityLevel.NORMAL);
-            System.out.println("🟢 Normal priority set for user: " + user.getName());
+            log.info("🟢 Normal priority set for user: {}", user.getName());
             return false;
         }
     }
 
     @Override
     public List<Booking> getVIPPriorityBookings() {
-        System.out.println("⭐ Fetching VIP priority bookings");
+        log.debug("⭐ Fetching VIP priority bookings");
 
         List<Booking> allBookings = bookingDAO.getAllBookings();
         List<Booking> vipBookings = new ArrayList<>();
@@ -328,34 +409,34 @@ public class BookingServiceImpl implements BookingService {
             }
         }
 
-        System.out.println("✅ Found " + vipBookings.size() + " VIP priority bookings");
+        log.debug("✅ Found {} VIP priority bookings", vipBookings.size());
         return vipBookings;
     }
 
     @Override
     public boolean canOverrideBooking(User user, Booking existingBooking) {
-        System.out.println("🔐 Checking booking override permissions for user: " + user.getName());
+        log.debug("🔐 Checking booking override permissions for user: {}", user.getName());
 
         if (user.isAdmin()) {
-            System.out.println("✅ Admin can override any booking");
+            log.info("✅ Admin can override any booking");
             return true;
         }
 
         if (user.isVIP() && existingBooking.getPriorityLevel() == Booking.PriorityLevel.NORMAL) {
-            System.out.println("⭐ VIP can override normal priority booking");
+            log.info("⭐ VIP can override normal priority booking");
             return true;
         }
 
-        System.out.println("❌ User cannot override this booking");
+        log.info("❌ User cannot override this booking");
         return false;
     }
 
     @Override
     public List<Booking> getBookingsByDateRange(Date startDate, Date endDate) {
-        System.out.println("📅 Fetching bookings from " + startDate + " to " + endDate);
+        log.debug("📅 Fetching bookings from {} to {}", startDate, endDate);
 
         if (startDate == null || endDate == null) {
-            System.err.println("❌ Invalid date range");
+            log.error("❌ Invalid date range");
             return new ArrayList<>();
         }
 
@@ -364,30 +445,30 @@ public class BookingServiceImpl implements BookingService {
 
     @Override
     public List<String> getPopularTimeSlots() {
-        System.out.println("🌟 Fetching popular time slots");
+        log.debug("🌟 Fetching popular time slots");
         return bookingDAO.getPopularTimeSlots();
     }
 
     @Override
     public int getTotalBookingsCount() {
-        System.out.println("📊 Getting total bookings count");
+        log.debug("📊 Getting total bookings count");
         List<Booking> allBookings = bookingDAO.getAllBookings();
         return allBookings.size();
     }
 
     @Override
     public int getPendingBookingsCount() {
-        System.out.println("⏳ Getting pending bookings count");
+        log.debug("⏳ Getting pending bookings count");
         List<Booking> pendingBookings = bookingDAO.getPendingBookings();
         return pendingBookings.size();
     }
 
     @Override
     public List<Booking> getUserBookingHistory(int userId) {
-        System.out.println("📊 Fetching booking history for user: " + userId);
+        log.debug("📊 Fetching booking history for user: {}", userId);
 
         if (userId <= 0) {
-            System.err.println("❌ Invalid user ID for history");
+            log.error("❌ Invalid user ID for history");
             return new ArrayList<>();
         }
 
@@ -396,10 +477,10 @@ public class BookingServiceImpl implements BookingService {
 
     @Override
     public List<Booking> getBookingsByPurpose(String purpose) {
-        System.out.println("🎯 Fetching bookings by purpose: " + purpose);
+        log.debug("🎯 Fetching bookings by purpose: {}", purpose);
 
         if (purpose == null || purpose.trim().isEmpty()) {
-            System.err.println("❌ Invalid purpose for search");
+            log.error("❌ Invalid purpose for search");
             return new ArrayList<>();
         }
 
@@ -408,10 +489,10 @@ public class BookingServiceImpl implements BookingService {
 
     @Override
     public boolean updateUserPreferencesFromBooking(Booking booking) {
-        System.out.println("🤖 Updating user preferences from booking for AI learning");
+        log.info("🤖 Updating user preferences from booking for AI learning");
 
         if (booking == null) {
-            System.err.println("❌ Invalid booking for preference update");
+            log.error("❌ Invalid booking for preference update");
             return false;
         }
 
@@ -419,9 +500,7 @@ public class BookingServiceImpl implements BookingService {
             // Get cabin details for preference learning
             Cabin cabin = cabinDAO.getCabinById(booking.getCabinId());
             if (cabin != null) {
-                System.out.println("📈 Learning user preferences: Capacity " + cabin.getCapacity() +
-                        ", Time " + booking.getTimeSlot() +
-                        ", Purpose: " + booking.getPurpose());
+                log.info("📈 Learning user preferences: Capacity {}, Time {}, Purpose: {}", cabin.getCapacity(), booking.getTimeSlot(), booking.getPurpose());
 
                 // This will be integrated with AI service later
                 // For now, just log the learning activity
@@ -429,7 +508,7 @@ public class BookingServiceImpl implements BookingService {
             }
 
         } catch (Exception e) {
-            System.err.println("❌ Error updating user preferences: " + e.getMessage());
+            log.error("❌ Error updating user preferences: {}", e.getMessage());
         }
 
         return false;
@@ -438,9 +517,13 @@ public class BookingServiceImpl implements BookingService {
     @Override
     public boolean approveBooking(int bookingId, int adminId) {
         try {
-            return bookingDAO.approveBooking(bookingId, adminId);
+            boolean success = bookingDAO.approveBooking(bookingId, adminId);
+            if (success) {
+                metrics.onBookingApproved(bookingId);
+            }
+            return success;
         } catch (Exception e) {
-            System.err.println("❌ Error approving booking: " + e.getMessage());
+            log.error("❌ Error approving booking: {}", e.getMessage());
             return false;
         }
     }
@@ -448,38 +531,83 @@ public class BookingServiceImpl implements BookingService {
     @Override
     public boolean rejectBooking(int bookingId, int adminId) {
         try {
-            return bookingDAO.rejectBooking(bookingId, adminId);
+            boolean success = bookingDAO.rejectBooking(bookingId, adminId);
+            if (success) {
+                metrics.onBookingRejected(bookingId);
+            }
+            return success;
         } catch (Exception e) {
-            System.err.println("❌ Error rejecting booking: " + e.getMessage());
+            log.error("❌ Error rejecting booking: {}", e.getMessage());
             return false;
         }
     }
 
+    @Override
+    public boolean[] approveBookings(int[] bookingIds, int adminId) {
+        log.info("✅ Bulk approving {} bookings by admin: {}", (bookingIds == null ? 0 : bookingIds.length), adminId);
+
+        if (bookingIds == null || bookingIds.length == 0 || adminId <= 0) {
+            log.error("❌ Invalid parameters for bulk approval");
+            return new boolean[bookingIds == null ? 0 : bookingIds.length];
+        }
+
+        // The UPDATE only matches PENDING rows, so every success was a PENDING -> APPROVED change
+        boolean[] results = bookingDAO.approveBookings(bookingIds, adminId);
+        for (int i = 0; i < results.length; i++) {
+            if (results[i]) {
+                metrics.onBookingApproved(bookingIds[i]);
+            }
+        }
+        return results;
+    }
+
+    @Override
+    public boolean[] rejectBookings(int[] bookingIds, int adminId) {
+        log.info("❌ Bulk rejecting {} bookings by admin: {}", (bookingIds == null ? 0 : bookingIds.length), adminId);
+
+        if (bookingIds == null || bookingIds.length == 0 || adminId <= 0) {
+            log.error("❌ Invalid parameters for bulk rejection");
+            return new boolean[bookingIds == null ? 0 : bookingIds.length];
+        }
+
+        boolean[] results = bookingDAO.rejectBookings(bookingIds, adminId);
+        for (int i = 0; i < results.length; i++) {
+            if (results[i]) {
+                metrics.onBookingRejected(bookingIds[i]);
+            }
+        }
+        return results;
+    }
+
     @Override
     public int getBookingCountByUserId(int userId) {
+        String sql = "SELECT COUNT(*) FROM bookings WHERE user_id = ?";
+
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
+
         try {
-            String sql = "SELECT COUNT(*) FROM bookings WHERE user_id = ?";
+            connection = DbUtil.getConnection();
+            if (connection == null) return 0;
 
-            Connection connection = DbUtil.getConnection();
-            PreparedStatement statement = connection.prepareStatement(sql);
+            statement = connection.prepareStatement(sql);
             statement.setInt(1, userId);
 
-            ResultSet resultSet = statement.executeQuery();
+            resultSet = statement.executeQuery();
             int count = 0;
 
             if (resultSet.next()) {
                 count = resultSet.getInt(1);
             }
 
-            resultSet.close();
-            statement.close();
-            connection.close();
-
             return count;
 
         } catch (Exception e) {
-            e.printStackTrace();
+            log.error("❌ Error counting bookings for user {}: {}", userId, e.getMessage(), e);
             return 0;
+        } finally {
+            DbUtil.closeAllResources(connection, statement, resultSet);
         }
     }
 
@@ -487,118 +615,41 @@ public class BookingServiceImpl implements BookingService {
     // 🎯 YOUR 3 REQUIREMENTS IMPLEMENTATION
     // ================================
 
-    // ✅ UPDATED: Debug Method for Conflict Detection
-    private void debugConflictingBookings(int cabinId, Date date, String timeSlot) {
-        System.out.println("🔍 DEBUG: All conflicting bookings for cabin " + cabinId);
-
-        List<Booking> allConflicts = bookingDAO.getConflictingBookings(cabinId, date, timeSlot);
-
-        System.out.println("📊 Total conflicts found: " + allConflicts.size());
-
-        for (Booking booking : allConflicts) {
-            System.out.println("📋 Conflict Found:");
-            System.out.println("   - Booking ID: " + booking.getBookingId());
-            System.out.println("   - User ID: " + booking.getUserId());
-            System.out.println("   - Status: " + booking.getStatus());
-            System.out.println("   - Priority: " + booking.getPriorityLevel());
-            System.out.println("   - Time Slot: " + booking.getTimeSlot());
-            System.out.println("   - Date: " + booking.getBookingDate());
-            System.out.println("   ----------------");
-        }
-    }
-
-    // ⭐ REQUIREMENT 1: ENHANCED VIP Override Implementation
+    // ⭐ REQUIREMENT 1: VIP Override - single transaction preemption
     @Override
     public boolean forceBookingForVIP(Booking vipBooking, User vipUser) {
-        System.out.println("⭐ VIP Force Booking: " + vipUser.getName() + " for cabin " + vipBooking.getCabinId());
+        log.info("⭐ VIP Force Booking: {} for cabin {}", vipUser.getName(), vipBooking.getCabinId());
 
         try {
-            // ✅ ADD DEBUG CALL:
-            debugConflictingBookings(vipBooking.getCabinId(), vipBooking.getBookingDate(), vipBooking.getTimeSlot());
-
-            // 1. Find conflicting normal bookings
-            List<Booking> conflicts = findConflictingNormalBookings(
-                    vipBooking.getCabinId(),
-                    vipBooking.getBookingDate(),
-                    vipBooking.getTimeSlot()
-            );
-
-            // ✅ ENHANCED: Process ALL conflicts, not just NORMAL priority
-            if (conflicts.isEmpty()) {
-                System.out.println("🔍 No NORMAL conflicts found, checking ALL conflicts...");
-
-                // Get ALL conflicting bookings regardless of priority/status
-                List<Booking> allConflicts = bookingDAO.getConflictingBookings(
-                        vipBooking.getCabinId(),
-                        vipBooking.getBookingDate(),
-                        vipBooking.getTimeSlot()
-                );
-
-                // Process ANY non-VIP booking as conflicting
-                for (Booking conflict : allConflicts) {
-                    if (conflict.getPriorityLevel() != Booking.PriorityLevel.VIP) {
-                        System.out.println("🎯 Processing non-VIP conflict: ID=" + conflict.getBookingId() +
-                                ", Status=" + conflict.getStatus() +
-                                ", Priority=" + conflict.getPriorityLevel());
-
-                        // Get user for the conflicting booking
-                        User normalUser = userService.getUserById(conflict.getUserId());
-
-                        if (normalUser != null) {
-                            // Simply reject the conflicting booking to make room for VIP
-                            conflict.setStatus(Booking.Status.REJECTED);
-                            bookingDAO.updateBooking(conflict);
-
-                            System.out.println("✅ Conflicting booking rejected: " + normalUser.getName() +
-                                    " (ID: " + conflict.getBookingId() + ")");
-                        }
-                    }
-                }
-            } else {
-                // Original logic for NORMAL priority conflicts
-                for (Booking conflict : conflicts) {
-                    User normalUser = userService.getUserById(conflict.getUserId());
-                    List<Cabin> alternatives = getAlternativeCabinsForUser(
-                            normalUser,
-                            vipBooking.getCabinId(),
-                            vipBooking.getBookingDate(),
-                            vipBooking.getTimeSlot()
-                    );
-
-                    if (!alternatives.isEmpty()) {
-                        // Reallocate normal user to first available alternative
-                        int newCabinId = alternatives.get(0).getCabinId();
-                        conflict.setCabinId(newCabinId);
-                        conflict.setStatus(Booking.Status.APPROVED);
-                        bookingDAO.updateBooking(conflict);
-
-                        System.out.println("✅ Normal user reallocated: " + normalUser.getName() + " to cabin " + newCabinId);
-                    } else {
-                        // No alternatives - reject normal booking
-                        conflict.setStatus(Booking.Status.REJECTED);
-                        bookingDAO.updateBooking(conflict);
-
-                        System.out.println("❌ Normal booking rejected - no alternatives available");
-                    }
-                }
-            }
-
-            // 3. Create VIP booking with highest priority
+            // Create VIP booking with highest priority
+            vipBooking.setUserId(vipUser.getUserId());
             vipBooking.setPriorityLevel(Booking.PriorityLevel.VIP);
             vipBooking.setStatus(Booking.Status.APPROVED); // Auto-approve VIP
             vipBooking.setApprovedBy(vipUser.getUserId());
             vipBooking.setApprovedAt(new java.sql.Timestamp(System.currentTimeMillis()));
 
-            boolean success = bookingDAO.createBooking(vipBooking);
-
-            if (success) {
-                System.out.println("⭐ VIP booking force-created successfully!");
+            // ✅ PERFORMANCE: Conflicts, alternative cabins and the VIP insert are handled in one
+            // transaction; any failure leaves every booking as it was
+            List<BookingChange> displaced = bookingDAO.createVIPBookingWithPreemption(vipBooking);
+
+            if (displaced != null) {
+                log.info("⭐ VIP booking force-created successfully!");
+                metrics.onBookingCreated(vipBooking);
+                for (BookingChange change : displaced) {
+                    if (change.isCabinChanged()) {
+                        metrics.onBookingReallocated(change.getAfter(), change.getBefore().getCabinId(),
+                                change.getBefore().getStatus());
+                    } else {
+                        metrics.onBookingUpdated(change.getBefore(), change.getAfter());
+                    }
+                }
                 return true;
             }
 
+            log.error("❌ VIP force booking was rolled back");
+
         } catch (Exception e) {
-            System.err.println("❌ VIP force booking failed: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ VIP force booking failed: {}", e.getMessage(), e);
         }
 
         return false;
@@ -606,7 +657,7 @@ public class BookingServiceImpl implements BookingService {
 
     @Override
     public List<Booking> findConflictingNormalBookings(int cabinId, Date date, String timeSlot) {
-        System.out.println("🔍 Finding conflicting normal bookings for cabin " + cabinId);
+        log.debug("🔍 Finding conflicting normal bookings for cabin {}", cabinId);
 
         List<Booking> allConflicts = bookingDAO.getConflictingBookings(cabinId, date, timeSlot);
         List<Booking> normalConflicts = new ArrayList<>();
@@ -617,30 +668,28 @@ public class BookingServiceImpl implements BookingService {
                     (booking.getStatus() == Booking.Status.PENDING ||
                             booking.getStatus() == Booking.Status.APPROVED)) {
                 normalConflicts.add(booking);
-                System.out.println("🎯 Found conflicting booking: ID=" + booking.getBookingId() +
-                        ", Status=" + booking.getStatus() +
-                        ", Priority=" + booking.getPriorityLevel());
+                log.debug("🎯 Found conflicting booking: ID={}, Status={}, Priority={}", booking.getBookingId(), booking.getStatus(), booking.getPriorityLevel());
             }
         }
 
-        System.out.println("📋 Found " + normalConflicts.size() + " conflicting normal bookings");
+        log.debug("📋 Found {} conflicting normal bookings", normalConflicts.size());
         return normalConflicts;
     }
 
     @Override
     public boolean reallocateNormalUserToAlternative(int normalBookingId, User vipUser, int adminId) {
-        System.out.println("🔄 Reallocating normal user booking: " + normalBookingId);
+        log.info("🔄 Reallocating normal user booking: {}", normalBookingId);
 
         try {
             // Log the reallocation activity
             Booking normalBooking = bookingDAO.getBookingById(normalBookingId);
             if (normalBooking != null) {
                 // You can add audit logging here
-                System.out.println("📝 Booking " + normalBookingId + " reallocated due to VIP override by " + vipUser.getName());
+                log.info("📝 Booking {} reallocated due to VIP override by {}", normalBookingId, vipUser.getName());
                 return true;
             }
         } catch (Exception e) {
-            System.err.println("❌ Reallocation failed: " + e.getMessage());
+            log.error("❌ Reallocation failed: {}", e.getMessage());
         }
 
         return false;
@@ -649,7 +698,7 @@ public class BookingServiceImpl implements BookingService {
     // 👨💼 REQUIREMENT 2: Admin Cabin Reallocation Implementation
     @Override
     public List<Cabin> getAlternativeCabinsForUser(User user, int excludeCabinId, Date date, String timeSlot) {
-        System.out.println("🏠 Finding alternative cabins for user: " + user.getName());
+        log.debug("🏠 Finding alternative cabins for user: {}", user.getName());
 
         try {
             List<Cabin> allCabins = cabinDAO.getAccessibleCabins(user);
@@ -667,51 +716,49 @@ public class BookingServiceImpl implements BookingService {
                 }
             }
 
-            System.out.println("✅ Found " + alternatives.size() + " alternative cabins");
+            log.debug("✅ Found {} alternative cabins", alternatives.size());
             return alternatives;
 
         } catch (Exception e) {
-            System.err.println("❌ Error finding alternatives: " + e.getMessage());
+            log.error("❌ Error finding alternatives: {}", e.getMessage());
             return new ArrayList<>();
         }
     }
 
     @Override
     public boolean adminReallocateUserCabin(int bookingId, int newCabinId, int adminId, String reason) {
-        System.out.println("👨💼 Admin reallocating booking " + bookingId + " to cabin " + newCabinId);
+        log.info("👨💼 Admin reallocating booking {} to cabin {}", bookingId, newCabinId);
 
         try {
             Booking booking = bookingDAO.getBookingById(bookingId);
             if (booking == null) {
-                System.err.println("❌ Booking not found: " + bookingId);
+                log.error("❌ Booking not found: {}", bookingId);
                 return false;
             }
 
-            // Verify new cabin is available
+            // Fast path: a conflict visible in the index is reported without taking any lock
             if (!bookingDAO.isSlotAvailable(newCabinId, booking.getBookingDate(), booking.getTimeSlot())) {
-                System.err.println("❌ New cabin not available: " + newCabinId);
+                log.info("🔄 New cabin not available: {}", newCabinId);
                 return false;
             }
 
-            // Update booking with new cabin
+            // ✅ Re-checked and moved under the new cabin-day lock, like createBooking;
+            // the move is auto-approved
             int oldCabinId = booking.getCabinId();
-            booking.setCabinId(newCabinId);
-            booking.setStatus(Booking.Status.APPROVED); // Auto-approve admin reallocation
-            booking.setApprovedBy(adminId);
-            booking.setApprovedAt(new java.sql.Timestamp(System.currentTimeMillis()));
-
-            boolean success = bookingDAO.updateBooking(booking);
+            Booking.Status oldStatus = booking.getStatus();
+            boolean success = bookingDAO.moveBookingToCabin(booking, newCabinId, adminId);
 
             if (success) {
+                metrics.onBookingReallocated(booking, oldCabinId, oldStatus);
+
                 // Notify user of reallocation
                 notifyUserOfReallocation(booking.getUserId(), oldCabinId, newCabinId, reason);
-                System.out.println("✅ Admin reallocation successful");
+                log.info("✅ Admin reallocation successful");
                 return true;
             }
 
         } catch (Exception e) {
-            System.err.println("❌ Admin reallocation failed: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Admin reallocation failed: {}", e.getMessage(), e);
         }
 
         return false;
@@ -719,7 +766,7 @@ public class BookingServiceImpl implements BookingService {
 
     @Override
     public boolean notifyUserOfReallocation(int userId, int oldCabinId, int newCabinId, String reason) {
-        System.out.println("📧 Notifying user " + userId + " of cabin reallocation");
+        log.info("📧 Notifying user {} of cabin reallocation", userId);
 
         try {
             // Here you can implement email notification, system notification, etc.
@@ -736,11 +783,11 @@ public class BookingServiceImpl implements BookingService {
                     reason
             );
 
-            System.out.println("📨 Notification: " + notification);
+            log.info("📨 Notification: {}", notification);
             return true;
 
         } catch (Exception e) {
-            System.err.println("❌ Notification failed: " + e.getMessage());
+            log.error("❌ Notification failed: {}", e.getMessage());
             return false;
         }
     }
@@ -749,18 +796,18 @@ public class BookingServiceImpl implements BookingService {
     @Override
     public boolean adminAssignSpecificCabin(int userId, int requestedCabinId, int adminChosenCabinId,
                                             Date date, String timeSlot, String purpose) {
-        System.out.println("🎯 Admin assigning specific cabin: " + adminChosenCabinId + " for user: " + userId);
+        log.info("🎯 Admin assigning specific cabin: {} for user: {}", adminChosenCabinId, userId);
 
         try {
             User user = userService.getUserById(userId); // ✅ NOW WORKS
             if (user == null) {
-                System.err.println("❌ User not found: " + userId);
+                log.error("❌ User not found: {}", userId);
                 return false;
             }
 
             // Check if admin chosen cabin is available
             if (!bookingDAO.isSlotAvailable(adminChosenCabinId, date, timeSlot)) {
-                System.err.println("❌ Admin chosen cabin not available: " + adminChosenCabinId);
+                log.info("❌ Admin chosen cabin not available: {}", adminChosenCabinId);
                 return false;
             }
 
@@ -777,13 +824,13 @@ public class BookingServiceImpl implements BookingService {
             boolean success = bookingDAO.createBooking(adminChoiceBooking);
 
             if (success) {
-                System.out.println("✅ Admin manual assignment successful");
+                metrics.onBookingCreated(adminChoiceBooking);
+                log.info("✅ Admin manual assignment successful");
                 return true;
             }
 
         } catch (Exception e) {
-            System.err.println("❌ Admin manual assignment failed: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Admin manual assignment failed: {}", e.getMessage(), e);
         }
 
         return false;
@@ -791,7 +838,7 @@ public class BookingServiceImpl implements BookingService {
 
     @Override
     public List<Cabin> getSuitableAlternativeCabins(int originalCabinId, User user) {
-        System.out.println("🔍 Finding suitable alternatives for cabin: " + originalCabinId);
+        log.debug("🔍 Finding suitable alternatives for cabin: {}", originalCabinId);
 
         try {
             Cabin originalCabin = cabinDAO.getCabinById(originalCabinId);
@@ -807,18 +854,18 @@ public class BookingServiceImpl implements BookingService {
                 }
             }
 
-            System.out.println("📋 Found " + suitable.size() + " suitable alternatives");
+            log.debug("📋 Found {} suitable alternatives", suitable.size());
             return suitable;
 
         } catch (Exception e) {
-            System.err.println("❌ Error finding suitable alternatives: " + e.getMessage());
+            log.error("❌ Error finding suitable alternatives: {}", e.getMessage());
             return new ArrayList<>();
         }
     }
 
     @Override
     public boolean createBookingWithAdminChoice(Booking originalRequest, int adminChosenCabinId, int adminId) {
-        System.out.println("🎯 Creating booking with admin choice");
+        log.info("🎯 Creating booking with admin choice");
 
         try {
             // Update original request with admin's cabin choice
@@ -827,10 +874,14 @@ public class BookingServiceImpl implements BookingService {
             originalRequest.setApprovedBy(adminId);
             originalRequest.setApprovedAt(new java.sql.Timestamp(System.currentTimeMillis()));
 
-            return bookingDAO.createBooking(originalRequest);
+            boolean success = bookingDAO.createBooking(originalRequest);
+            if (success) {
+                metrics.onBookingCreated(originalRequest);
+            }
+            return success;
 
         } catch (Exception e) {
-            System.err.println("❌ Admin choice booking failed: " + e.getMessage());
+            log.error("❌ Admin choice booking failed: {}", e.getMessage());
             return false;
         }
     }
@@ -841,102 +892,68 @@ public class BookingServiceImpl implements BookingService {
 
     private boolean isValidBookingData(Booking booking) {
         if (booking == null) {
-            System.err.println("❌ Booking object is null");
+            log.error("❌ Booking object is null");
             return false;
         }
 
         if (booking.getCabinId() <= 0) {
-            System.err.println("❌ Invalid cabin ID: " + booking.getCabinId());
+            log.error("❌ Invalid cabin ID: {}", booking.getCabinId());
             return false;
         }
 
         if (booking.getBookingDate() == null) {
-            System.err.println("❌ Booking date is required");
+            log.error("❌ Booking date is required");
             return false;
         }
 
         if (booking.getTimeSlot() == null || booking.getTimeSlot().trim().isEmpty()) {
-            System.err.println("❌ Time slot is required");
+            log.error("❌ Time slot is required");
             return false;
         }
 
         if (booking.getPurpose() == null || booking.getPurpose().trim().isEmpty()) {
-            System.err.println("❌ Booking purpose is required");
+            log.error("❌ Booking purpose is required");
             return false;
         }
 
         // Check if booking date is not in the past
         Date today = new Date(System.currentTimeMillis());
         if (booking.getBookingDate().before(today)) {
-            System.err.println("❌ Cannot book for past dates: " + booking.getBookingDate());
+            log.info("❌ Cannot book for past dates: {}", booking.getBookingDate());
             return false;
         }
 
         // ✅ ENHANCED: Flexible time slot validation
         if (!isValidTimeSlot(booking.getTimeSlot())) {
-            System.err.println("❌ Invalid time slot format: " + booking.getTimeSlot());
+            log.error("❌ Invalid time slot format: {}", booking.getTimeSlot());
             return false;
         }
 
         return true;
     }
 
-    // ✅ FIXED: Flexible time slot validation using regex pattern
+    // ✅ FIXED: Flexible time slot validation (15 min - 8 hours, within business hours)
     private boolean isValidTimeSlot(String timeSlot) {
-        if (timeSlot == null || timeSlot.trim().isEmpty()) {
+        TimeSlot slot = TimeSlot.parse(timeSlot);
+        if (slot == null) {
+            log.info("❌ Time slot doesn't match pattern: {}", timeSlot);
             return false;
         }
 
-        // ✅ ENHANCED: Pattern-based validation for flexible duration
-        if (!Pattern.matches(TIME_SLOT_PATTERN, timeSlot)) {
-            System.err.println("❌ Time slot doesn't match pattern: " + timeSlot);
+        // Validate business hours
+        if (!slot.isWithinBusinessHours()) {
+            log.info("❌ Time slot outside business hours (9 AM - 6 PM): {}", timeSlot);
             return false;
         }
 
-        try {
-            String[] times = timeSlot.split("-");
-            String startTime = times[0];
-            String endTime = times[1];
-
-            // Parse times
-            String[] startParts = startTime.split(":");
-            String[] endParts = endTime.split(":");
-
-            int startHour = Integer.parseInt(startParts[0]);
-            int startMin = Integer.parseInt(startParts[1]);
-            int endHour = Integer.parseInt(endParts[0]);
-            int endMin = Integer.parseInt(endParts[1]);
-
-            // Calculate duration
-            int startTotalMin = startHour * 60 + startMin;
-            int endTotalMin = endHour * 60 + endMin;
-            int duration = endTotalMin - startTotalMin;
-
-            // Validate business hours
-            if (startHour < BUSINESS_START_HOUR || endHour > BUSINESS_END_HOUR) {
-                System.err.println("❌ Time slot outside business hours (9 AM - 6 PM): " + timeSlot);
-                return false;
-            }
-
-            // Validate duration
-            if (duration < MIN_DURATION_MINUTES || duration > MAX_DURATION_MINUTES) {
-                System.err.println("❌ Duration out of range (15 min - 8 hours): " + duration + " minutes");
-                return false;
-            }
-
-            // Validate end time is after start time
-            if (endTotalMin <= startTotalMin) {
-                System.err.println("❌ End time must be after start time: " + timeSlot);
-                return false;
-            }
-
-            System.out.println("✅ Valid flexible time slot: " + timeSlot + " (Duration: " + duration + " minutes)");
-            return true;
-
-        } catch (Exception e) {
-            System.err.println("❌ Error parsing time slot: " + timeSlot + " - " + e.getMessage());
+        // Validate duration
+        if (!slot.hasBookableDuration()) {
+            log.info("❌ Duration out of range (15 min - 8 hours): {} minutes", slot.getDurationMinutes());
             return false;
         }
+
+        log.info("✅ Valid flexible time slot: {} (Duration: {} minutes)", slot, slot.getDurationMinutes());
+        return true;
     }
 
     // ✅ NEW: Fallback method for basic time slots
@@ -950,7 +967,7 @@ public class BookingServiceImpl implements BookingService {
             }
         }
 
-        System.out.println("✅ Found " + availableSlots.size() + " basic available time slots");
+        log.debug("✅ Found {} basic available time slots", availableSlots.size());
         return availableSlots;
     }
 
@@ -993,4 +1010,10 @@ public class BookingServiceImpl implements BookingService {
 
         return timeSlots;
     }
+
+    private static int clampPageSize(int pageSize) {
+        if (pageSize <= 0) return DEFAULT_PAGE_SIZE;
+        return Math.min(pageSize, MAX_PAGE_SIZE);
+    }
+
 }
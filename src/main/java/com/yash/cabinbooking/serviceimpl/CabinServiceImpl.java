@@ -5,6 +5,7 @@ import com.yash.cabinbooking.dao.CabinDao;
 import com.yash.cabinbooking.daoimpl.CabinDaoImpl;
 import com.yash.cabinbooking.model.Cabin;
 import com.yash.cabinbooking.model.User;
+import com.yash.cabinbooking.logging.Logger;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.stream.Collectors;
@@ -12,27 +13,29 @@ import java.util.stream.Collectors;
 
 public class CabinServiceImpl implements CabinService {
 
+    private static final Logger log = Logger.getLogger(CabinServiceImpl.class);
+
     private CabinDao cabinDao;
 
     public CabinServiceImpl() {
         this.cabinDao = new CabinDaoImpl();
-        System.out.println("🔧 CabinService initialized for Yash Technology (Single Company Mode)");
+        log.info("🔧 CabinService initialized for Yash Technology (Single Company Mode)");
     }
 
     @Override
     public boolean addCabin(Cabin cabin) {
-        System.out.println("🏠 Adding new cabin: " + cabin.getName());
+        log.info("🏠 Adding new cabin: {}", cabin.getName());
 
         try {
             // Validate cabin data
             if (!validateCabinData(cabin)) {
-                System.err.println("❌ Cabin validation failed");
+                log.error("❌ Cabin validation failed");
                 return false;
             }
 
             // Check for unique cabin name (no company filter needed)
             if (!isCabinNameUnique(cabin.getName())) {
-                System.err.println("❌ Cabin name already exists: " + cabin.getName());
+                log.error("❌ Cabin name already exists: {}", cabin.getName());
                 return false;
             }
 
@@ -47,35 +50,34 @@ public class CabinServiceImpl implements CabinService {
             boolean result = cabinDao.createCabin(cabin);
 
             if (result) {
-                System.out.println("✅ Cabin added successfully: " + cabin.getName() + " (ID: " + cabin.getCabinId() + ")");
+                log.info("✅ Cabin added successfully: {} (ID: {})", cabin.getName(), cabin.getCabinId());
             } else {
-                System.err.println("❌ Failed to add cabin: " + cabin.getName());
+                log.error("❌ Failed to add cabin: {}", cabin.getName());
             }
 
             return result;
 
         } catch (Exception e) {
-            System.err.println("❌ Error in addCabin service: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error in addCabin service: {}", e.getMessage(), e);
             return false;
         }
     }
 
     @Override
     public boolean updateCabin(Cabin cabin) {
-        System.out.println("📝 Updating cabin: " + cabin.getName() + " (ID: " + cabin.getCabinId() + ")");
+        log.info("📝 Updating cabin: {} (ID: {})", cabin.getName(), cabin.getCabinId());
 
         try {
             // Validate cabin data
             if (!validateCabinData(cabin)) {
-                System.err.println("❌ Cabin validation failed for update");
+                log.error("❌ Cabin validation failed for update");
                 return false;
             }
 
             // Check if cabin exists
             Cabin existingCabin = cabinDao.getCabinById(cabin.getCabinId());
             if (existingCabin == null) {
-                System.err.println("❌ Cabin not found for update: " + cabin.getCabinId());
+                log.error("❌ Cabin not found for update: {}", cabin.getCabinId());
                 return false;
             }
 
@@ -85,83 +87,79 @@ public class CabinServiceImpl implements CabinService {
             boolean result = cabinDao.updateCabin(cabin);
 
             if (result) {
-                System.out.println("✅ Cabin updated successfully: " + cabin.getName());
+                log.info("✅ Cabin updated successfully: {}", cabin.getName());
             } else {
-                System.err.println("❌ Failed to update cabin: " + cabin.getName());
+                log.error("❌ Failed to update cabin: {}", cabin.getName());
             }
 
             return result;
 
         } catch (Exception e) {
-            System.err.println("❌ Error in updateCabin service: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error in updateCabin service: {}", e.getMessage(), e);
             return false;
         }
     }
 
     @Override
     public boolean deleteCabin(int cabinId) {
-        System.out.println("🗑️ Deleting cabin: " + cabinId);
+        log.info("🗑️ Deleting cabin: {}", cabinId);
 
         try {
             // Check if cabin exists
             Cabin cabin = cabinDao.getCabinById(cabinId);
             if (cabin == null) {
-                System.err.println("❌ Cabin not found for deletion: " + cabinId);
+                log.error("❌ Cabin not found for deletion: {}", cabinId);
                 return false;
             }
 
             boolean result = cabinDao.deleteCabin(cabinId);
 
             if (result) {
-                System.out.println("✅ Cabin deleted successfully: " + cabinId);
+                log.info("✅ Cabin deleted successfully: {}", cabinId);
             } else {
-                System.err.println("❌ Failed to delete cabin: " + cabinId);
+                log.error("❌ Failed to delete cabin: {}", cabinId);
             }
 
             return result;
 
         } catch (Exception e) {
-            System.err.println("❌ Error in deleteCabin service: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error in deleteCabin service: {}", e.getMessage(), e);
             return false;
         }
     }
 
     @Override
     public Cabin getCabinById(int cabinId) {
-        System.out.println("🔍 Getting cabin by ID: " + cabinId);
+        log.debug("🔍 Getting cabin by ID: {}", cabinId);
 
         try {
             Cabin cabin = cabinDao.getCabinById(cabinId);
 
             if (cabin != null) {
-                System.out.println("✅ Cabin found: " + cabin.getName());
+                log.info("✅ Cabin found: {}", cabin.getName());
             } else {
-                System.out.println("❌ Cabin not found with ID: " + cabinId);
+                log.info("❌ Cabin not found with ID: {}", cabinId);
             }
 
             return cabin;
 
         } catch (Exception e) {
-            System.err.println("❌ Error in getCabinById service: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error in getCabinById service: {}", e.getMessage(), e);
             return null;
         }
     }
 
     @Override
     public List<Cabin> getAllCabins() {
-        System.out.println("📋 Getting all cabins");
+        log.debug("📋 Getting all cabins");
 
         try {
             List<Cabin> cabins = cabinDao.getAllCabins();
-            System.out.println("✅ Retrieved " + cabins.size() + " cabins");
+            log.info("✅ Retrieved {} cabins", cabins.size());
             return cabins;
 
         } catch (Exception e) {
-            System.err.println("❌ Error in getAllCabins service: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error in getAllCabins service: {}", e.getMessage(), e);
             return new ArrayList<>();
         }
     }
@@ -169,16 +167,15 @@ public class CabinServiceImpl implements CabinService {
     // ✅ UPDATED: Available cabins for user without company ID
     @Override
     public List<Cabin> getAvailableCabinsForUser(User user) {
-        System.out.println("👤 Getting accessible cabins for user: " + user.getName() + " (Type: " + user.getUserType() + ")");
+        log.debug("👤 Getting accessible cabins for user: {} (Type: {})", user.getName(), user.getUserType());
 
         try {
             List<Cabin> cabins = cabinDao.getAccessibleCabins(user);
-            System.out.println("✅ Retrieved " + cabins.size() + " accessible cabins for user: " + user.getName());
+            log.info("✅ Retrieved {} accessible cabins for user: {}", cabins.size(), user.getName());
             return cabins;
 
         } catch (Exception e) {
-            System.err.println("❌ Error in getAvailableCabinsForUser service: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error in getAvailableCabinsForUser service: {}", e.getMessage(), e);
             return new ArrayList<>();
         }
     }
@@ -186,16 +183,15 @@ public class CabinServiceImpl implements CabinService {
     // ✅ UPDATED: VIP cabins without company ID
     @Override
     public List<Cabin> getVIPCabins() {
-        System.out.println("⭐ Getting VIP cabins");
+        log.debug("⭐ Getting VIP cabins");
 
         try {
             List<Cabin> cabins = cabinDao.getVIPOnlyCabins();
-            System.out.println("✅ Retrieved " + cabins.size() + " VIP cabins");
+            log.info("✅ Retrieved {} VIP cabins", cabins.size());
             return cabins;
 
         } catch (Exception e) {
-            System.err.println("❌ Error in getVIPCabins service: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error in getVIPCabins service: {}", e.getMessage(), e);
             return new ArrayList<>();
         }
     }
@@ -203,71 +199,67 @@ public class CabinServiceImpl implements CabinService {
     // ✅ NEW: Get active cabins
     @Override
     public List<Cabin> getActiveCabins() {
-        System.out.println("📋 Getting active cabins");
+        log.debug("📋 Getting active cabins");
 
         try {
             List<Cabin> cabins = cabinDao.getAllActiveCabins();
-            System.out.println("✅ Retrieved " + cabins.size() + " active cabins");
+            log.info("✅ Retrieved {} active cabins", cabins.size());
             return cabins;
 
         } catch (Exception e) {
-            System.err.println("❌ Error in getActiveCabins service: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error in getActiveCabins service: {}", e.getMessage(), e);
             return new ArrayList<>();
         }
     }
 
     @Override
     public List<Cabin> getAllCabinsForAdmin() {
-        System.out.println("👨‍💼 Getting all cabins for admin dashboard");
+        log.debug("👨‍💼 Getting all cabins for admin dashboard");
 
         try {
             List<Cabin> cabins = cabinDao.getAllCabins();
-            System.out.println("✅ Retrieved " + cabins.size() + " cabins for admin");
+            log.info("✅ Retrieved {} cabins for admin", cabins.size());
             return cabins;
 
         } catch (Exception e) {
-            System.err.println("❌ Error in getAllCabinsForAdmin service: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error in getAllCabinsForAdmin service: {}", e.getMessage(), e);
             return new ArrayList<>();
         }
     }
 
     @Override
     public boolean updateCabinStatus(int cabinId, Cabin.Status status) {
-        System.out.println("🔄 Updating cabin status: " + cabinId + " to " + status);
+        log.info("🔄 Updating cabin status: {} to {}", cabinId, status);
 
         try {
             boolean result = cabinDao.updateCabinStatus(cabinId, status);
 
             if (result) {
-                System.out.println("✅ Cabin status updated successfully: " + cabinId + " to " + status);
+                log.info("✅ Cabin status updated successfully: {} to {}", cabinId, status);
             } else {
-                System.err.println("❌ Failed to update cabin status: " + cabinId);
+                log.error("❌ Failed to update cabin status: {}", cabinId);
             }
 
             return result;
 
         } catch (Exception e) {
-            System.err.println("❌ Error in updateCabinStatus service: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error in updateCabinStatus service: {}", e.getMessage(), e);
             return false;
         }
     }
 
     @Override
     public int getTotalCabinCount() {
-        System.out.println("📊 Getting total cabin count");
+        log.debug("📊 Getting total cabin count");
 
         try {
             List<Cabin> cabins = cabinDao.getAllCabins();
             int count = cabins.size();
-            System.out.println("✅ Total cabin count: " + count);
+            log.info("✅ Total cabin count: {}", count);
             return count;
 
         } catch (Exception e) {
-            System.err.println("❌ Error in getTotalCabinCount service: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error in getTotalCabinCount service: {}", e.getMessage(), e);
             return 0;
         }
     }
@@ -275,71 +267,62 @@ public class CabinServiceImpl implements CabinService {
     // ✅ UPDATED: Active cabin count without company ID
     @Override
     public int getActiveCabinCount() {
-        System.out.println("📊 Getting active cabin count");
+        log.debug("📊 Getting active cabin count");
 
         try {
             List<Cabin> cabins = cabinDao.getAvailableCabins();
             int count = cabins.size();
-            System.out.println("✅ Active cabin count: " + count);
+            log.info("✅ Active cabin count: {}", count);
             return count;
 
         } catch (Exception e) {
-            System.err.println("❌ Error in getActiveCabinCount service: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error in getActiveCabinCount service: {}", e.getMessage(), e);
             return 0;
         }
     }
 
     @Override
     public List<Cabin> searchCabinsByCapacity(int minCapacity, int maxCapacity) {
-        System.out.println("🔍 Searching cabins by capacity: " + minCapacity + "-" + maxCapacity);
+        log.debug("🔍 Searching cabins by capacity: {}-{}", minCapacity, maxCapacity);
 
         try {
             List<Cabin> cabins = cabinDao.getCabinsByCapacity(minCapacity, maxCapacity);
-            System.out.println("✅ Found " + cabins.size() + " cabins with capacity " + minCapacity + "-" + maxCapacity);
+            log.debug("✅ Found {} cabins with capacity {}-{}", cabins.size(), minCapacity, maxCapacity);
             return cabins;
 
         } catch (Exception e) {
-            System.err.println("❌ Error in searchCabinsByCapacity service: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error in searchCabinsByCapacity service: {}", e.getMessage(), e);
             return new ArrayList<>();
         }
     }
 
     @Override
     public List<Cabin> searchCabinsByAmenities(String amenities) {
-        System.out.println("🔍 Searching cabins by amenities: " + amenities);
+        log.debug("🔍 Searching cabins by amenities: {}", amenities);
 
         try {
             List<Cabin> cabins = cabinDao.getCabinsWithAmenities(amenities);
-            System.out.println("✅ Found " + cabins.size() + " cabins with amenities: " + amenities);
+            log.debug("✅ Found {} cabins with amenities: {}", cabins.size(), amenities);
             return cabins;
 
         } catch (Exception e) {
-            System.err.println("❌ Error in searchCabinsByAmenities service: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error in searchCabinsByAmenities service: {}", e.getMessage(), e);
             return new ArrayList<>();
         }
     }
 
     @Override
     public List<Cabin> getCabinsByLocation(String location) {
-        System.out.println("🔍 Getting cabins by location: " + location);
+        log.debug("🔍 Getting cabins by location: {}", location);
 
         try {
-            List<Cabin> allCabins = cabinDao.getAllCabins();
-            List<Cabin> filteredCabins = allCabins.stream()
-                    .filter(cabin -> cabin.getLocation() != null &&
-                            cabin.getLocation().toLowerCase().contains(location.toLowerCase()) &&
-                            cabin.getStatus() == Cabin.Status.ACTIVE)
-                    .collect(Collectors.toList());
+            List<Cabin> filteredCabins = cabinDao.getCabinsByLocation(location);
 
-            System.out.println("✅ Found " + filteredCabins.size() + " cabins in location: " + location);
+            log.debug("✅ Found {} cabins in location: {}", filteredCabins.size(), location);
             return filteredCabins;
 
         } catch (Exception e) {
-            System.err.println("❌ Error in getCabinsByLocation service: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error in getCabinsByLocation service: {}", e.getMessage(), e);
             return new ArrayList<>();
         }
     }
@@ -347,16 +330,15 @@ public class CabinServiceImpl implements CabinService {
     // ✅ UPDATED: Popular cabins without company ID
     @Override
     public List<Cabin> getPopularCabins() {
-        System.out.println("🌟 Getting popular cabins");
+        log.debug("🌟 Getting popular cabins");
 
         try {
             List<Cabin> cabins = cabinDao.getPopularCabins();
-            System.out.println("✅ Retrieved " + cabins.size() + " popular cabins");
+            log.info("✅ Retrieved {} popular cabins", cabins.size());
             return cabins;
 
         } catch (Exception e) {
-            System.err.println("❌ Error in getPopularCabins service: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error in getPopularCabins service: {}", e.getMessage(), e);
             return new ArrayList<>();
         }
     }
@@ -364,7 +346,7 @@ public class CabinServiceImpl implements CabinService {
     // ✅ UPDATED: Recommended cabins without company ID
     @Override
     public List<Cabin> getRecommendedCabins(User user) {
-        System.out.println("🤖 Getting AI recommendations for user: " + user.getName());
+        log.debug("🤖 Getting AI recommendations for user: {}", user.getName());
 
         try {
             // Get accessible cabins for user
@@ -389,64 +371,61 @@ public class CabinServiceImpl implements CabinService {
                         .forEach(recommendations::add);
             }
 
-            System.out.println("🤖 Generated " + recommendations.size() + " recommendations for user: " + user.getName());
+            log.info("🤖 Generated {} recommendations for user: {}", recommendations.size(), user.getName());
             return recommendations;
 
         } catch (Exception e) {
-            System.err.println("❌ Error in getRecommendedCabins service: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error in getRecommendedCabins service: {}", e.getMessage(), e);
             return new ArrayList<>();
         }
     }
 
     @Override
     public List<Cabin> getSimilarCabins(int cabinId) {
-        System.out.println("🔗 Getting similar cabins for cabin: " + cabinId);
+        log.debug("🔗 Getting similar cabins for cabin: {}", cabinId);
 
         try {
             List<Cabin> cabins = cabinDao.getSimilarCabins(cabinId);
-            System.out.println("✅ Found " + cabins.size() + " similar cabins");
+            log.debug("✅ Found {} similar cabins", cabins.size());
             return cabins;
 
         } catch (Exception e) {
-            System.err.println("❌ Error in getSimilarCabins service: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error in getSimilarCabins service: {}", e.getMessage(), e);
             return new ArrayList<>();
         }
     }
 
     @Override
     public boolean validateCabinData(Cabin cabin) {
-        System.out.println("✅ Validating cabin data: " + cabin.getName());
+        log.info("✅ Validating cabin data: {}", cabin.getName());
 
         try {
             // Check required fields
             if (cabin.getName() == null || cabin.getName().trim().isEmpty()) {
-                System.err.println("❌ Cabin name is required");
+                log.error("❌ Cabin name is required");
                 return false;
             }
 
             if (cabin.getCapacity() <= 0) {
-                System.err.println("❌ Cabin capacity must be greater than 0");
+                log.error("❌ Cabin capacity must be greater than 0");
                 return false;
             }
 
             if (cabin.getCapacity() > 50) {
-                System.err.println("❌ Cabin capacity cannot exceed 50");
+                log.error("❌ Cabin capacity cannot exceed 50");
                 return false;
             }
 
             if (cabin.getLocation() == null || cabin.getLocation().trim().isEmpty()) {
-                System.err.println("❌ Cabin location is required");
+                log.error("❌ Cabin location is required");
                 return false;
             }
 
-            System.out.println("✅ Cabin validation passed: " + cabin.getName());
+            log.info("✅ Cabin validation passed: {}", cabin.getName());
             return true;
 
         } catch (Exception e) {
-            System.err.println("❌ Error in validateCabinData service: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error in validateCabinData service: {}", e.getMessage(), e);
             return false;
         }
     }
@@ -454,7 +433,7 @@ public class CabinServiceImpl implements CabinService {
     // ✅ UPDATED: Cabin name uniqueness without company filter
     @Override
     public boolean isCabinNameUnique(String name) {
-        System.out.println("🔍 Checking cabin name uniqueness: " + name);
+        log.debug("🔍 Checking cabin name uniqueness: {}", name);
 
         try {
             List<Cabin> allCabins = cabinDao.getAllCabins();
@@ -463,45 +442,43 @@ public class CabinServiceImpl implements CabinService {
                     .noneMatch(cabin -> cabin.getName().equalsIgnoreCase(name.trim()));
 
             if (isUnique) {
-                System.out.println("✅ Cabin name is unique: " + name);
+                log.info("✅ Cabin name is unique: {}", name);
             } else {
-                System.out.println("❌ Cabin name already exists: " + name);
+                log.info("❌ Cabin name already exists: {}", name);
             }
 
             return isUnique;
 
         } catch (Exception e) {
-            System.err.println("❌ Error in isCabinNameUnique service: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error in isCabinNameUnique service: {}", e.getMessage(), e);
             return false;
         }
     }
 
     @Override
     public boolean canUserAccessCabin(int cabinId, User user) {
-        System.out.println("🔒 Checking user access for cabin: " + cabinId + " by user: " + user.getName());
+        log.debug("🔒 Checking user access for cabin: {} by user: {}", cabinId, user.getName());
 
         try {
             Cabin cabin = cabinDao.getCabinById(cabinId);
 
             if (cabin == null) {
-                System.err.println("❌ Cabin not found: " + cabinId);
+                log.error("❌ Cabin not found: {}", cabinId);
                 return false;
             }
 
             boolean canAccess = cabin.isAccessibleForUser(user);
 
             if (canAccess) {
-                System.out.println("✅ User can access cabin: " + cabin.getName());
+                log.info("✅ User can access cabin: {}", cabin.getName());
             } else {
-                System.out.println("❌ User cannot access cabin: " + cabin.getName() + " (VIP Only)");
+                log.info("❌ User cannot access cabin: {} (VIP Only)", cabin.getName());
             }
 
             return canAccess;
 
         } catch (Exception e) {
-            System.err.println("❌ Error in canUserAccessCabin service: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error in canUserAccessCabin service: {}", e.getMessage(), e);
             return false;
         }
     }
@@ -7,29 +7,32 @@ import com.yash.cabinbooking.daoimpl.CompanyDaoImpl;
 import com.yash.cabinbooking.service.CompanyService;
 import com.yash.cabinbooking.model.Company;
 import com.yash.cabinbooking.model.Cabin;
+import com.yash.cabinbooking.logging.Logger;
 import java.util.List;
 
 public class CompanyServiceImpl implements CompanyService {
 
+    private static final Logger log = Logger.getLogger(CompanyServiceImpl.class);
+
     private CompanyDao companyDAO;
     private CabinDao cabinDAO;
 
     public CompanyServiceImpl() {
         this.companyDAO = new CompanyDaoImpl();
         this.cabinDAO = new CabinDaoImpl();
-        System.out.println("🔧 CompanyService initialized for Yash Technology (Single Company Mode)");
+        log.info("🔧 CompanyService initialized for Yash Technology (Single Company Mode)");
     }
 
     @Override
     public Company getCompanyConfig() {
-        System.out.println("🏢 Fetching Yash Technology company configuration");
+        log.debug("🏢 Fetching Yash Technology company configuration");
 
         Company company = companyDAO.getCompanyConfig();
 
         if (company != null) {
-            System.out.println("✅ Company config loaded: " + company.getCompanyName());
+            log.info("✅ Company config loaded: {}", company.getCompanyName());
         } else {
-            System.out.println("⚠️ Using default company configuration");
+            log.warn("⚠️ Using default company configuration");
             company = Company.getDefaultCompany();
         }
 
@@ -38,20 +41,20 @@ public class CompanyServiceImpl implements CompanyService {
 
     @Override
     public boolean updateCompanyConfig(Company company) {
-        System.out.println("✏️ Updating company configuration: " + company.getCompanyName());
+        log.info("✏️ Updating company configuration: {}", company.getCompanyName());
 
         // Input validation
         if (!isValidCompanyData(company)) {
-            System.err.println("❌ Invalid company configuration data");
+            log.error("❌ Invalid company configuration data");
             return false;
         }
 
         boolean success = companyDAO.updateCompanyConfig(company);
 
         if (success) {
-            System.out.println("✅ Company configuration updated successfully: " + company.getCompanyName());
+            log.info("✅ Company configuration updated successfully: {}", company.getCompanyName());
         } else {
-            System.err.println("❌ Company configuration update failed");
+            log.error("❌ Company configuration update failed");
         }
 
         return success;
@@ -59,14 +62,14 @@ public class CompanyServiceImpl implements CompanyService {
 
     @Override
     public boolean activateCompany() {
-        System.out.println("🔓 Activating Yash Technology");
+        log.info("🔓 Activating Yash Technology");
 
         boolean success = companyDAO.activateCompany();
 
         if (success) {
-            System.out.println("✅ Company activated successfully");
+            log.info("✅ Company activated successfully");
         } else {
-            System.err.println("❌ Company activation failed");
+            log.error("❌ Company activation failed");
         }
 
         return success;
@@ -74,20 +77,20 @@ public class CompanyServiceImpl implements CompanyService {
 
     @Override
     public boolean deactivateCompany() {
-        System.out.println("🔒 Deactivating Yash Technology");
+        log.info("🔒 Deactivating Yash Technology");
 
         // Check if company has active bookings (business rule)
         int cabinCount = getTotalCabinCount();
         if (cabinCount > 0) {
-            System.out.println("⚠️ Warning: Company has " + cabinCount + " cabins. Deactivating anyway.");
+            log.warn("⚠️ Warning: Company has {} cabins. Deactivating anyway.", cabinCount);
         }
 
         boolean success = companyDAO.deactivateCompany();
 
         if (success) {
-            System.out.println("✅ Company deactivated successfully");
+            log.info("✅ Company deactivated successfully");
         } else {
-            System.err.println("❌ Company deactivation failed");
+            log.error("❌ Company deactivation failed");
         }
 
         return success;
@@ -95,59 +98,59 @@ public class CompanyServiceImpl implements CompanyService {
 
     @Override
     public boolean isCompanyActive() {
-        System.out.println("🔍 Checking company status");
+        log.debug("🔍 Checking company status");
 
         boolean isActive = companyDAO.isCompanyActive();
-        System.out.println("📊 Company status: " + (isActive ? "ACTIVE" : "INACTIVE"));
+        log.info("📊 Company status: {}", (isActive ? "ACTIVE" : "INACTIVE"));
 
         return isActive;
     }
 
     @Override
     public List<Cabin> getAllCabins() {
-        System.out.println("🏠 Fetching all cabins for Yash Technology");
+        log.debug("🏠 Fetching all cabins for Yash Technology");
 
         // Since it's single company, get all cabins (no company filter needed)
         List<Cabin> cabins = cabinDAO.getAllActiveCabins();
-        System.out.println("✅ Retrieved " + cabins.size() + " cabins");
+        log.info("✅ Retrieved {} cabins", cabins.size());
 
         return cabins;
     }
 
     @Override
     public int getTotalCabinCount() {
-        System.out.println("📊 Getting total cabin count");
+        log.debug("📊 Getting total cabin count");
 
         int count = companyDAO.getTotalCabinCount();
-        System.out.println("📈 Total cabins: " + count);
+        log.info("📈 Total cabins: {}", count);
 
         return count;
     }
 
     @Override
     public int getTotalBookingCount() {
-        System.out.println("📊 Getting total booking count");
+        log.debug("📊 Getting total booking count");
 
         // This would need BookingDAO method - simplified for now
         int cabinCount = getTotalCabinCount();
-        System.out.println("📈 Total booking-related metric: " + cabinCount);
+        log.info("📈 Total booking-related metric: {}", cabinCount);
 
         return cabinCount; // Simplified return
     }
 
     @Override
     public List<Cabin> getVIPCabins() {
-        System.out.println("⭐ Fetching VIP cabins");
+        log.debug("⭐ Fetching VIP cabins");
 
         List<Cabin> vipCabins = cabinDAO.getVIPOnlyCabins();
-        System.out.println("✅ Retrieved " + vipCabins.size() + " VIP cabins");
+        log.info("✅ Retrieved {} VIP cabins", vipCabins.size());
 
         return vipCabins;
     }
 
     @Override
     public boolean canPerformBooking() {
-        System.out.println("🔍 Checking if booking operations are allowed");
+        log.debug("🔍 Checking if booking operations are allowed");
 
         // Check if company is active and has cabins
         boolean companyActive = isCompanyActive();
@@ -156,11 +159,9 @@ public class CompanyServiceImpl implements CompanyService {
         boolean canBooking = companyActive && cabinCount > 0;
 
         if (canBooking) {
-            System.out.println("✅ Booking operations are allowed");
+            log.info("✅ Booking operations are allowed");
         } else {
-            System.out.println("❌ Booking operations not allowed - Company: " +
-                    (companyActive ? "ACTIVE" : "INACTIVE") +
-                    ", Cabins: " + cabinCount);
+            log.info("❌ Booking operations not allowed - Company: {}, Cabins: {}", (companyActive ? "ACTIVE" : "INACTIVE"), cabinCount);
         }
 
         return canBooking;
@@ -170,27 +171,27 @@ public class CompanyServiceImpl implements CompanyService {
 
     private boolean isValidCompanyData(Company company) {
         if (company == null) {
-            System.err.println("❌ Company object is null");
+            log.error("❌ Company object is null");
             return false;
         }
 
         if (company.getCompanyName() == null || company.getCompanyName().trim().isEmpty()) {
-            System.err.println("❌ Company name is required");
+            log.error("❌ Company name is required");
             return false;
         }
 
         if (company.getCompanyName().length() > 100) {
-            System.err.println("❌ Company name too long (max 100 characters)");
+            log.error("❌ Company name too long (max 100 characters)");
             return false;
         }
 
         if (company.getCompanyLocation() != null && company.getCompanyLocation().length() > 200) {
-            System.err.println("❌ Company location too long (max 200 characters)");
+            log.error("❌ Company location too long (max 200 characters)");
             return false;
         }
 
         if (company.getCompanyContact() != null && company.getCompanyContact().length() > 500) {
-            System.err.println("❌ Company contact info too long (max 500 characters)");
+            log.error("❌ Company contact info too long (max 500 characters)");
             return false;
         }
 
@@ -201,12 +202,12 @@ public class CompanyServiceImpl implements CompanyService {
      * Get company display information for UI
      */
     public String getCompanyDisplayInfo() {
-        System.out.println("🏢 Getting company display information");
+        log.debug("🏢 Getting company display information");
 
         Company company = getCompanyConfig();
         if (company != null) {
             String displayInfo = company.getDisplayName();
-            System.out.println("✅ Company display info: " + displayInfo);
+            log.info("✅ Company display info: {}", displayInfo);
             return displayInfo;
         }
 
@@ -217,7 +218,7 @@ public class CompanyServiceImpl implements CompanyService {
      * Business method to validate company setup
      */
     public boolean isCompanySetupComplete() {
-        System.out.println("🔍 Checking company setup completion");
+        log.debug("🔍 Checking company setup completion");
 
         Company company = getCompanyConfig();
         boolean isComplete = company != null &&
@@ -226,9 +227,9 @@ public class CompanyServiceImpl implements CompanyService {
                 company.isActive();
 
         if (isComplete) {
-            System.out.println("✅ Company setup is complete");
+            log.info("✅ Company setup is complete");
         } else {
-            System.out.println("❌ Company setup is incomplete");
+            log.info("❌ Company setup is incomplete");
         }
 
         return isComplete;
@@ -5,7 +5,9 @@ import com.yash.cabinbooking.dao.UserDao;
 import com.yash.cabinbooking.daoimpl.UserDaoImpl;
 import com.yash.cabinbooking.model.User;
 import com.yash.cabinbooking.util.DbUtil;
+import com.yash.cabinbooking.util.DeviceTokenUtil;
 import com.yash.cabinbooking.util.PasswordUtil;
+import com.yash.cabinbooking.logging.Logger;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
@@ -16,6 +18,8 @@ import java.util.List;
 
 public class UserServiceImpl implements UserService {
 
+    private static final Logger log = Logger.getLogger(UserServiceImpl.class);
+
     private UserDao userDAO;
 
     // ✅ SINGLE COMPANY: Static constants
@@ -25,17 +29,17 @@ public class UserServiceImpl implements UserService {
 
     public UserServiceImpl() {
         this.userDAO = new UserDaoImpl();
-        System.out.println("🔧 UserService initialized for " + COMPANY_NAME + " (Single Company) with BCrypt Security");
+        log.info("🔧 UserService initialized for {} (Single Company) with BCrypt Security", COMPANY_NAME);
     }
 
     // ✅ LEGACY: Keep old method for backward compatibility (will be deprecated)
     @Override
     public User authenticateUser(String email, String password) {
-        System.out.println("🔐 Legacy authentication for user: " + email + " (Consider using BCrypt method)");
+        log.info("🔐 Legacy authentication for user: {} (Consider using BCrypt method)", email);
 
         // Input validation
         if (email == null || email.trim().isEmpty() || password == null || password.trim().isEmpty()) {
-            System.err.println("❌ Invalid login credentials provided");
+            log.info("❌ Invalid login credentials provided");
             return null;
         }
 
@@ -43,11 +47,10 @@ public class UserServiceImpl implements UserService {
         User user = userDAO.authenticateUser(email.trim().toLowerCase(), password);
 
         if (user != null) {
-            System.out.println("✅ Legacy user authenticated successfully: " + user.getName() +
-                    " (" + user.getUserTypeDisplay() + ") - " + COMPANY_NAME);
+            log.info("✅ Legacy user authenticated successfully: {} ({}) - {}", user.getName(), user.getUserTypeDisplay(), COMPANY_NAME);
             return user;
         } else {
-            System.out.println("❌ Authentication failed for: " + email);
+            log.info("❌ Authentication failed for: {}", email);
             return null;
         }
     }
@@ -55,20 +58,20 @@ public class UserServiceImpl implements UserService {
     // ✅ NEW: Secure BCrypt authentication method
     @Override
     public User authenticateUserWithHashedPassword(String email, String password) {
-        System.out.println("🔐 Secure BCrypt authentication for user: " + email);
+        log.info("🔐 Secure BCrypt authentication for user: {}", email);
 
         // Input validation
         if (email == null || email.trim().isEmpty() || password == null || password.trim().isEmpty()) {
-            System.err.println("❌ Invalid login credentials provided");
+            log.info("❌ Invalid login credentials provided");
             return null;
         }
 
         try {
-            // Get user by email first
-            User user = userDAO.getUserByEmail(email.trim().toLowerCase());
+            // Get user by email first (uncached lookup - the cache never holds password hashes)
+            User user = userDAO.getUserByEmailForAuth(email.trim().toLowerCase());
 
             if (user == null) {
-                System.out.println("❌ User not found with email: " + email);
+                log.info("❌ User not found with email: {}", email);
                 return null;
             }
 
@@ -81,50 +84,100 @@ public class UserServiceImpl implements UserService {
                 boolean passwordMatches = PasswordUtil.verifyPassword(password, storedHash);
 
                 if (passwordMatches) {
-                    System.out.println("✅ BCrypt authentication successful for: " + user.getName() +
-                            " (" + user.getUserTypeDisplay() + ") - " + COMPANY_NAME);
+                    log.info("✅ BCrypt authentication successful for: {} ({}) - {}", user.getName(), user.getUserTypeDisplay(), COMPANY_NAME);
+
+                    // ✅ Cost changed since this hash was made - upgrade it while we have the password
+                    if (PasswordUtil.needsRehash(storedHash)) {
+                        String upgradedHash = PasswordUtil.hashPassword(password);
+                        if (userDAO.updateUserPassword(user.getUserId(), upgradedHash)) {
+                            user.setPassword(upgradedHash);
+                            log.info("🔁 Password hash upgraded from cost {} to {} for: {}",
+                                    PasswordUtil.getHashCost(storedHash), PasswordUtil.getWorkFactor(), user.getName());
+                        }
+                    }
                     return user;
                 } else {
-                    System.out.println("❌ BCrypt authentication failed - password mismatch for: " + email);
+                    log.info("❌ BCrypt authentication failed - password mismatch for: {}", email);
                     return null;
                 }
             } else {
                 // Legacy plain text password - migrate to BCrypt
                 if (storedHash.equals(password)) {
-                    System.out.println("⚠️ Legacy password authentication successful - migrating to BCrypt for: " + user.getName());
+                    log.warn("⚠️ Legacy password authentication successful - migrating to BCrypt for: {}", user.getName());
 
                     // Automatically upgrade to BCrypt
                     String hashedPassword = PasswordUtil.hashPassword(password);
-                    userDAO.updateUserPassword(user.getUserId(), hashedPassword);
+                    if (userDAO.updateUserPassword(user.getUserId(), hashedPassword)) {
+                        user.setPassword(hashedPassword);
+                    }
 
-                    System.out.println("✅ Password migrated to BCrypt for user: " + user.getName());
+                    log.info("✅ Password migrated to BCrypt for user: {}", user.getName());
                     return user;
                 } else {
-                    System.out.println("❌ Legacy authentication failed for: " + email);
+                    log.info("❌ Legacy authentication failed for: {}", email);
                     return null;
                 }
             }
 
         } catch (Exception e) {
-            System.err.println("❌ Error during BCrypt authentication: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error during BCrypt authentication: {}", e.getMessage(), e);
             return null;
         }
     }
 
+    // ✅ Remembered device: the cookie proves this browser already passed BCrypt with this password
+    @Override
+    public User authenticateUserWithDeviceToken(String email, String password, String deviceToken) {
+        if (deviceToken == null || email == null || email.trim().isEmpty() || password == null || password.trim().isEmpty()) {
+            return null;
+        }
+
+        try {
+            User user = userDAO.getUserByEmailForAuth(email.trim().toLowerCase());
+            if (user == null || !PasswordUtil.isBCryptHash(user.getPassword())) {
+                return null;
+            }
+
+            // A stale hash still goes through BCrypt once so it gets upgraded
+            if (PasswordUtil.needsRehash(user.getPassword())) {
+                return null;
+            }
+
+            if (DeviceTokenUtil.verify(deviceToken, user.getUserId(), user.getPassword(), password)) {
+                log.info("⚡ Remembered device authentication for: {} ({}) - BCrypt skipped", user.getName(), user.getUserTypeDisplay());
+                return user;
+            }
+
+            // Wrong password, expired or voided token - caller falls back to BCrypt
+            return null;
+
+        } catch (Exception e) {
+            log.error("❌ Error during device token authentication: {}", e.getMessage(), e);
+            return null;
+        }
+    }
+
+    @Override
+    public String issueDeviceToken(User user, String password) {
+        if (user == null || password == null || !PasswordUtil.isBCryptHash(user.getPassword())) {
+            return null;
+        }
+        return DeviceTokenUtil.issue(user.getUserId(), user.getPassword(), password);
+    }
+
     @Override
     public boolean registerUser(User user) {
-        System.out.println("📝 Registering new user with secure password: " + user.getEmail() + " for " + COMPANY_NAME);
+        log.info("📝 Registering new user with secure password: {} for {}", user.getEmail(), COMPANY_NAME);
 
         // Input validation
         if (!isValidUserData(user)) {
-            System.err.println("❌ Invalid user data for registration");
+            log.info("❌ Invalid user data for registration");
             return false;
         }
 
         // Check if email already exists
         if (!isEmailAvailable(user.getEmail())) {
-            System.err.println("❌ Email already exists: " + user.getEmail());
+            log.info("❌ Email already exists: {}", user.getEmail());
             return false;
         }
 
@@ -134,9 +187,9 @@ public class UserServiceImpl implements UserService {
             try {
                 String hashedPassword = PasswordUtil.hashPassword(password);
                 user.setPassword(hashedPassword);
-                System.out.println("🔐 Password hashed successfully for registration: " + user.getName());
+                log.info("🔐 Password hashed successfully for registration: {}", user.getName());
             } catch (Exception e) {
-                System.err.println("❌ Password hashing failed during registration: " + e.getMessage());
+                log.error("❌ Password hashing failed during registration: {}", e.getMessage());
                 return false;
             }
         }
@@ -159,10 +212,9 @@ public class UserServiceImpl implements UserService {
         boolean success = userDAO.createUser(user);
 
         if (success) {
-            System.out.println("✅ User registered successfully with secure password: " + user.getName() +
-                    " (ID: " + user.getUserId() + ", Company: " + COMPANY_NAME + ")");
+            log.info("✅ User registered successfully with secure password: {} (ID: {}, Company: {})", user.getName(), user.getUserId(), COMPANY_NAME);
         } else {
-            System.err.println("❌ User registration failed for: " + user.getEmail());
+            log.error("❌ User registration failed for: {}", user.getEmail());
         }
 
         return success;
@@ -175,25 +227,34 @@ public class UserServiceImpl implements UserService {
         }
 
         boolean exists = userDAO.emailExists(email.trim().toLowerCase());
-        System.out.println("📧 Email availability check for " + email + ": " + (exists ? "TAKEN" : "AVAILABLE"));
+        log.debug("📧 Email availability check for {}: {}", email, (exists ? "TAKEN" : "AVAILABLE"));
         return !exists;
     }
 
+    @Override
+    public User reloadUser(int userId) {
+        if (userId <= 0) {
+            log.error("❌ Invalid user ID provided: {}", userId);
+            return null;
+        }
+        return userDAO.reloadUserById(userId);
+    }
+
     @Override
     public User getUserById(int userId) {
-        System.out.println("🔍 Fetching user by ID: " + userId);
+        log.debug("🔍 Fetching user by ID: {}", userId);
 
         if (userId <= 0) {
-            System.err.println("❌ Invalid user ID provided: " + userId);
+            log.error("❌ Invalid user ID provided: {}", userId);
             return null;
         }
 
         User user = userDAO.getUserById(userId);
 
         if (user != null) {
-            System.out.println("✅ User found: " + user.getName() + " (" + COMPANY_NAME + ")");
+            log.info("✅ User found: {} ({})", user.getName(), COMPANY_NAME);
         } else {
-            System.out.println("❌ User not found with ID: " + userId);
+            log.info("❌ User not found with ID: {}", userId);
         }
 
         return user;
@@ -201,10 +262,10 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public User getUserByEmail(String email) {
-        System.out.println("🔍 Fetching user by email: " + email);
+        log.debug("🔍 Fetching user by email: {}", email);
 
         if (email == null || email.trim().isEmpty()) {
-            System.err.println("❌ Invalid email provided");
+            log.error("❌ Invalid email provided");
             return null;
         }
 
@@ -213,37 +274,39 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public List<User> getAllUsers() {
-        System.out.println("📋 Fetching all users for " + COMPANY_NAME);
+        log.debug("📋 Fetching all users for {}", COMPANY_NAME);
         return userDAO.getAllUsers();
     }
 
     @Override
     public List<User> getActiveUsers() {
-        System.out.println("📋 Fetching active users for " + COMPANY_NAME);
+        log.debug("📋 Fetching active users for {}", COMPANY_NAME);
         return userDAO.getActiveUsers();
     }
 
     @Override
     public boolean updateUserProfile(User user) {
-        System.out.println("✏️ Updating user profile: " + user.getUserId());
+        log.info("✏️ Updating user profile: {}", user.getUserId());
 
-        if (!isValidUserData(user) || user.getUserId() <= 0) {
-            System.err.println("❌ Invalid user data for update");
+        // Not isValidUserData: the profile update never writes the password, and users
+        // loaded through getUserById come without one
+        if (!isValidProfileData(user) || user.getUserId() <= 0) {
+            log.info("❌ Invalid user data for update");
             return false;
         }
 
         // ✅ SINGLE COMPANY: Ensure user belongs to default company
         if (user.getDefaultCompanyId() != DEFAULT_COMPANY_ID) {
             user.setDefaultCompanyId(DEFAULT_COMPANY_ID);
-            System.out.println("⚠️ Company ID corrected to " + DEFAULT_COMPANY_ID + " for user: " + user.getName());
+            log.warn("⚠️ Company ID corrected to {} for user: {}", DEFAULT_COMPANY_ID, user.getName());
         }
 
         boolean success = userDAO.updateUser(user);
 
         if (success) {
-            System.out.println("✅ User profile updated successfully: " + user.getName() + " (" + COMPANY_NAME + ")");
+            log.info("✅ User profile updated successfully: {} ({})", user.getName(), COMPANY_NAME);
         } else {
-            System.err.println("❌ User profile update failed for ID: " + user.getUserId());
+            log.error("❌ User profile update failed for ID: {}", user.getUserId());
         }
 
         return success;
@@ -252,25 +315,25 @@ public class UserServiceImpl implements UserService {
     // ✅ LEGACY: Keep old method for backward compatibility
     @Override
     public boolean changePassword(int userId, String oldPassword, String newPassword) {
-        System.out.println("🔑 Legacy password change for user: " + userId + " (Consider using BCrypt method)");
+        log.info("🔑 Legacy password change for user: {} (Consider using BCrypt method)", userId);
 
         // Enhanced input validation
         if (userId <= 0 || oldPassword == null || newPassword == null ||
                 newPassword.length() < MIN_PASSWORD_LENGTH) {
-            System.err.println("❌ Invalid password change request - Password must be at least " + MIN_PASSWORD_LENGTH + " characters");
+            log.info("❌ Invalid password change request - Password must be at least {} characters", MIN_PASSWORD_LENGTH);
             return false;
         }
 
-        // Get current user
-        User user = userDAO.getUserById(userId);
+        // Get current user (with password)
+        User user = userDAO.getUserByIdForAuth(userId);
         if (user == null) {
-            System.err.println("❌ User not found for password change: " + userId);
+            log.error("❌ User not found for password change: {}", userId);
             return false;
         }
 
         // Verify old password
         if (!user.getPassword().equals(oldPassword)) {
-            System.err.println("❌ Old password verification failed for user: " + userId);
+            log.info("❌ Old password verification failed for user: {}", userId);
             return false;
         }
 
@@ -278,9 +341,9 @@ public class UserServiceImpl implements UserService {
         boolean success = userDAO.updateUserPassword(userId, newPassword);
 
         if (success) {
-            System.out.println("✅ Password changed successfully for user: " + userId);
+            log.info("✅ Password changed successfully for user: {}", userId);
         } else {
-            System.err.println("❌ Password change failed for user: " + userId);
+            log.error("❌ Password change failed for user: {}", userId);
         }
 
         return success;
@@ -289,26 +352,26 @@ public class UserServiceImpl implements UserService {
     // ✅ NEW: Secure password change with BCrypt
     @Override
     public boolean changePasswordWithHash(int userId, String oldPassword, String newPassword) {
-        System.out.println("🔑 Secure password change with BCrypt for user: " + userId);
+        log.info("🔑 Secure password change with BCrypt for user: {}", userId);
 
         // Enhanced input validation
         if (userId <= 0 || oldPassword == null || newPassword == null ||
                 newPassword.length() < MIN_PASSWORD_LENGTH) {
-            System.err.println("❌ Invalid password change request - Password must be at least " + MIN_PASSWORD_LENGTH + " characters");
+            log.info("❌ Invalid password change request - Password must be at least {} characters", MIN_PASSWORD_LENGTH);
             return false;
         }
 
         // Enhanced password strength validation
         if (!PasswordUtil.isStrongPassword(newPassword)) {
-            System.err.println("❌ New password does not meet strength requirements");
+            log.info("❌ New password does not meet strength requirements");
             return false;
         }
 
         try {
-            // Get current user
-            User user = userDAO.getUserById(userId);
+            // Get current user (with password)
+            User user = userDAO.getUserByIdForAuth(userId);
             if (user == null) {
-                System.err.println("❌ User not found for password change: " + userId);
+                log.error("❌ User not found for password change: {}", userId);
                 return false;
             }
 
@@ -325,58 +388,57 @@ public class UserServiceImpl implements UserService {
             }
 
             if (!oldPasswordValid) {
-                System.err.println("❌ Old password verification failed for user: " + userId);
+                log.info("❌ Old password verification failed for user: {}", userId);
                 return false;
             }
 
             // Hash new password
             String newHashedPassword = PasswordUtil.hashPassword(newPassword);
 
-            // Update password in database
+            // Update password in database (the new hash also voids every remembered device)
             boolean success = userDAO.updateUserPassword(userId, newHashedPassword);
 
             if (success) {
-                System.out.println("✅ Secure password changed successfully for user: " + userId);
+                log.info("✅ Secure password changed successfully for user: {}", userId);
             } else {
-                System.err.println("❌ Secure password change failed for user: " + userId);
+                log.error("❌ Secure password change failed for user: {}", userId);
             }
 
             return success;
 
         } catch (Exception e) {
-            System.err.println("❌ Error during secure password change: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error during secure password change: {}", e.getMessage(), e);
             return false;
         }
     }
 
     @Override
     public boolean promoteToVIP(int userId) {
-        System.out.println("⭐ Promoting user to VIP: " + userId);
+        log.info("⭐ Promoting user to VIP: {}", userId);
         return updateUserType(userId, User.UserType.VIP);
     }
 
     @Override
     public boolean promoteToAdmin(int userId) {
-        System.out.println("👨‍💼 Promoting user to Admin: " + userId);
+        log.info("👨‍💼 Promoting user to Admin: {}", userId);
         return updateUserType(userId, User.UserType.ADMIN);
     }
 
     @Override
     public boolean updateUserType(int userId, User.UserType newType) {
-        System.out.println("🔄 Updating user type to " + newType + " for user: " + userId);
+        log.info("🔄 Updating user type to {} for user: {}", newType, userId);
 
         if (userId <= 0 || newType == null) {
-            System.err.println("❌ Invalid parameters for user type update");
+            log.error("❌ Invalid parameters for user type update");
             return false;
         }
 
         boolean success = userDAO.updateUserType(userId, newType);
 
         if (success) {
-            System.out.println("✅ User type updated successfully: " + userId + " to " + newType);
+            log.info("✅ User type updated successfully: {} to {}", userId, newType);
         } else {
-            System.err.println("❌ User type update failed for user: " + userId);
+            log.error("❌ User type update failed for user: {}", userId);
         }
 
         return success;
@@ -384,39 +446,39 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public boolean activateUser(int userId) {
-        System.out.println("🔓 Activating user: " + userId);
+        log.info("🔓 Activating user: {}", userId);
         boolean success = userDAO.activateUser(userId);
         if (success) {
-            System.out.println("✅ User activated successfully: " + userId);
+            log.info("✅ User activated successfully: {}", userId);
         }
         return success;
     }
 
     @Override
     public boolean deactivateUser(int userId) {
-        System.out.println("🔒 Deactivating user: " + userId);
+        log.info("🔒 Deactivating user: {}", userId);
         boolean success = userDAO.deactivateUser(userId);
         if (success) {
-            System.out.println("✅ User deactivated successfully: " + userId);
+            log.info("✅ User deactivated successfully: {}", userId);
         }
         return success;
     }
 
     @Override
     public int getUserBookingCount(int userId) {
-        System.out.println("📊 Getting booking count for user: " + userId);
+        log.debug("📊 Getting booking count for user: {}", userId);
         return userDAO.getUserBookingCount(userId);
     }
 
     @Override
     public List<User> getVIPUsers() {
-        System.out.println("⭐ Fetching all VIP users for " + COMPANY_NAME);
+        log.debug("⭐ Fetching all VIP users for {}", COMPANY_NAME);
         return userDAO.getVIPUsers();
     }
 
     @Override
     public List<User> getAdminUsers() {
-        System.out.println("👨‍💼 Fetching all admin users for " + COMPANY_NAME);
+        log.debug("👨‍💼 Fetching all admin users for {}", COMPANY_NAME);
         return userDAO.getAdminUsers();
     }
 
@@ -427,7 +489,7 @@ public class UserServiceImpl implements UserService {
         boolean hasPrivileges = user.getUserType() == User.UserType.ADMIN ||
                 user.getUserType() == User.UserType.SUPER_ADMIN;
 
-        System.out.println("🔐 Admin privilege check for " + user.getName() + ": " + hasPrivileges);
+        log.info("🔐 Admin privilege check for {}: {}", user.getName(), hasPrivileges);
         return hasPrivileges;
     }
 
@@ -439,40 +501,40 @@ public class UserServiceImpl implements UserService {
                 user.getUserType() == User.UserType.ADMIN ||
                 user.getUserType() == User.UserType.SUPER_ADMIN;
 
-        System.out.println("⭐ VIP cabin access check for " + user.getName() + ": " + canAccess);
+        log.info("⭐ VIP cabin access check for {}: {}", user.getName(), canAccess);
         return canAccess;
     }
 
     @Override
     public int getTotalUserCount() {
-        System.out.println("📊 Getting total user count for " + COMPANY_NAME);
+        log.debug("📊 Getting total user count for {}", COMPANY_NAME);
         return userDAO.getTotalUserCount();
     }
 
     @Override
     public int getActiveUserCount() {
-        System.out.println("📊 Getting active user count for " + COMPANY_NAME);
+        log.debug("📊 Getting active user count for {}", COMPANY_NAME);
         return userDAO.getActiveUserCount();
     }
 
     @Override
     public List<User> getAllUsersForAdmin() {
-        System.out.println("📋 Fetching all users for admin dashboard");
+        log.debug("📋 Fetching all users for admin dashboard");
         return userDAO.getAllUsersForAdmin();
     }
 
     @Override
     public boolean isUserActive(int userId) {
-        System.out.println("🔍 Checking if user is active: " + userId);
+        log.debug("🔍 Checking if user is active: {}", userId);
         return userDAO.isUserActive(userId);
     }
 
     @Override
     public List<User> getUsersByType(User.UserType userType) {
-        System.out.println("📋 Fetching users by type: " + userType);
+        log.debug("📋 Fetching users by type: {}", userType);
 
         if (userType == null) {
-            System.err.println("❌ User type cannot be null");
+            log.error("❌ User type cannot be null");
             return new ArrayList<>();
         }
 
@@ -485,7 +547,7 @@ public class UserServiceImpl implements UserService {
             return false;
         }
 
-        System.out.println("🔐 Validating permission '" + permission + "' for user: " + user.getName());
+        log.info("🔐 Validating permission '{}' for user: {}", permission, user.getName());
 
         switch (permission.toLowerCase()) {
             case "admin":
@@ -499,7 +561,7 @@ public class UserServiceImpl implements UserService {
             case "approve_bookings":
                 return user.isAdmin();
             default:
-                System.err.println("❌ Unknown permission: " + permission);
+                log.error("❌ Unknown permission: {}", permission);
                 return false;
         }
     }
@@ -507,64 +569,55 @@ public class UserServiceImpl implements UserService {
     @Override
     public boolean demoteUser(int userId) {
         try {
-            System.out.println("📉 Demoting user to NORMAL: " + userId);
-
-            // Update user type to NORMAL in database
-            String sql = "UPDATE users SET user_type = 'NORMAL' WHERE user_id = ?";
-
-            Connection connection = DbUtil.getConnection();
-            PreparedStatement statement = connection.prepareStatement(sql);
-            statement.setInt(1, userId);
+            log.info("📉 Demoting user to NORMAL: {}", userId);
 
-            int rowsAffected = statement.executeUpdate();
-
-            statement.close();
-            connection.close();
-
-            if (rowsAffected > 0) {
-                System.out.println("✅ User demoted successfully: " + userId);
+            // Update user type to NORMAL through the DAO so the user cache is invalidated
+            if (userDAO.updateUserType(userId, User.UserType.NORMAL)) {
+                log.info("✅ User demoted successfully: {}", userId);
                 return true;
             } else {
-                System.err.println("❌ User demotion failed: " + userId);
+                log.error("❌ User demotion failed: {}", userId);
                 return false;
             }
 
         } catch (Exception e) {
-            System.err.println("❌ Error demoting user: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error demoting user: {}", e.getMessage(), e);
             return false;
         }
     }
 
     @Override
     public int getBookingCountByUserId(int userId) {
-        try {
-            System.out.println("📊 Getting booking count for user: " + userId);
+        log.debug("📊 Getting booking count for user: {}", userId);
+
+        String sql = "SELECT COUNT(*) FROM bookings WHERE user_id = ?";
 
-            String sql = "SELECT COUNT(*) FROM bookings WHERE user_id = ?";
+        Connection connection = null;
+        PreparedStatement statement = null;
+        ResultSet resultSet = null;
 
-            Connection connection = DbUtil.getConnection();
-            PreparedStatement statement = connection.prepareStatement(sql);
+        try {
+            connection = DbUtil.getConnection();
+            if (connection == null) return 0;
+
+            statement = connection.prepareStatement(sql);
             statement.setInt(1, userId);
 
-            ResultSet resultSet = statement.executeQuery();
+            resultSet = statement.executeQuery();
             int count = 0;
 
             if (resultSet.next()) {
                 count = resultSet.getInt(1);
             }
 
-            resultSet.close();
-            statement.close();
-            connection.close();
-
-            System.out.println("📊 Booking count for user " + userId + ": " + count);
+            log.info("📊 Booking count for user {}: {}", userId, count);
             return count;
 
         } catch (Exception e) {
-            System.err.println("❌ Error getting booking count: " + e.getMessage());
-            e.printStackTrace();
+            log.error("❌ Error getting booking count: {}", e.getMessage(), e);
             return 0;
+        } finally {
+            DbUtil.closeAllResources(connection, statement, resultSet);
         }
     }
 
@@ -573,28 +626,37 @@ public class UserServiceImpl implements UserService {
     // ================================
 
     private boolean isValidUserData(User user) {
+        if (!isValidProfileData(user)) {
+            return false;
+        }
+
+        if (user.getPassword() == null || user.getPassword().length() < MIN_PASSWORD_LENGTH) {
+            log.info("❌ Password must be at least {} characters", MIN_PASSWORD_LENGTH);
+            return false;
+        }
+
+        return true;
+    }
+
+    // Name and email - everything updateUserProfile writes that the user can edit
+    private boolean isValidProfileData(User user) {
         if (user == null) {
-            System.err.println("❌ User object is null");
+            log.error("❌ User object is null");
             return false;
         }
 
         if (user.getName() == null || user.getName().trim().isEmpty()) {
-            System.err.println("❌ User name is required");
+            log.info("❌ User name is required");
             return false;
         }
 
         if (user.getEmail() == null || user.getEmail().trim().isEmpty()) {
-            System.err.println("❌ User email is required");
+            log.info("❌ User email is required");
             return false;
         }
 
         if (!isValidEmail(user.getEmail())) {
-            System.err.println("❌ Invalid email format: " + user.getEmail());
-            return false;
-        }
-
-        if (user.getPassword() == null || user.getPassword().length() < MIN_PASSWORD_LENGTH) {
-            System.err.println("❌ Password must be at least " + MIN_PASSWORD_LENGTH + " characters");
+            log.info("❌ Invalid email format: {}", user.getEmail());
             return false;
         }
 
@@ -0,0 +1,196 @@
+package com.yash.cabinbooking.util;
+
+import com.google.gson.stream.JsonWriter;
+import com.yash.cabinbooking.dao.BookingSink;
+import com.yash.cabinbooking.model.Booking;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.sql.Timestamp;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes exported bookings straight to a Writer, one row per booking.
+ *
+ * Formats:
+ *   csv    - RFC 4180, header row first
+ *   ndjson - one JSON object per line
+ *
+ * Nothing is buffered here beyond the Writer itself - wrap the response
+ * stream in a BufferedWriter.
+ */
+public abstract class BookingExportWriter implements BookingSink {
+
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final String[] COLUMNS = {
+            "booking_id", "booking_date", "time_slot", "cabin_id", "cabin_name", "user_id", "user_name",
+            "purpose", "booking_type", "status", "priority_level", "created_at",
+            "approved_by", "approved_at", "rejected_by", "rejected_at"
+    };
+
+    protected final Writer out;
+
+    protected BookingExportWriter(Writer out) {
+        this.out = out;
+    }
+
+    /**
+     * Content type for an export format
+     * @param format "csv" or "ndjson" (case-insensitive)
+     * @return Content type or null for an unknown format
+     */
+    public static String contentTypeFor(String format) {
+        if ("csv".equalsIgnoreCase(format)) return "text/csv; charset=UTF-8";
+        if ("ndjson".equalsIgnoreCase(format)) return "application/x-ndjson; charset=UTF-8";
+        return null;
+    }
+
+    /**
+     * Writer for the requested format
+     * @param format "csv" or "ndjson" (case-insensitive)
+     * @return Writer or null for an unknown format
+     */
+    public static BookingExportWriter forFormat(String format, Writer out) {
+        if ("csv".equalsIgnoreCase(format)) return new CsvWriter(out);
+        if ("ndjson".equalsIgnoreCase(format)) return new NdjsonWriter(out);
+        return null;
+    }
+
+    // Called once before the first booking
+    public void writeHeader() throws IOException {
+    }
+
+    protected static String formatTimestamp(Timestamp timestamp) {
+        return timestamp == null ? null : TIMESTAMP_FORMAT.format(timestamp.toLocalDateTime());
+    }
+
+    // approved_by / rejected_by are 0 when unset
+    private static String adminId(int userId) {
+        return userId > 0 ? Integer.toString(userId) : null;
+    }
+
+    private static String name(Enum<?> value) {
+        return value == null ? null : value.name();
+    }
+
+    // ================================
+    // CSV
+    // ================================
+
+    private static final class CsvWriter extends BookingExportWriter {
+
+        CsvWriter(Writer out) {
+            super(out);
+        }
+
+        @Override
+        public void writeHeader() throws IOException {
+            out.write(String.join(",", COLUMNS));
+            out.write("\r\n");
+        }
+
+        @Override
+        public void accept(Booking booking) throws IOException {
+            out.write(Integer.toString(booking.getBookingId()));
+            out.write(',');
+            writeCell(booking.getBookingDate() == null ? null : booking.getBookingDate().toString());
+            out.write(',');
+            writeCell(booking.getTimeSlot());
+            out.write(',');
+            out.write(Integer.toString(booking.getCabinId()));
+            out.write(',');
+            writeCell(booking.getCabinName());
+            out.write(',');
+            out.write(Integer.toString(booking.getUserId()));
+            out.write(',');
+            writeCell(booking.getUserName());
+            out.write(',');
+            writeCell(booking.getPurpose());
+            out.write(',');
+            writeCell(name(booking.getBookingType()));
+            out.write(',');
+            writeCell(name(booking.getStatus()));
+            out.write(',');
+            writeCell(name(booking.getPriorityLevel()));
+            out.write(',');
+            writeCell(formatTimestamp(booking.getCreatedAt()));
+            out.write(',');
+            writeCell(adminId(booking.getApprovedBy()));
+            out.write(',');
+            writeCell(formatTimestamp(booking.getApprovedAt()));
+            out.write(',');
+            writeCell(adminId(booking.getRejectedBy()));
+            out.write(',');
+            writeCell(formatTimestamp(booking.getRejectedAt()));
+            out.write("\r\n");
+        }
+
+        // Quote only when needed; a leading = + - @ is defused so spreadsheets don't run it as a formula
+        private void writeCell(String value) throws IOException {
+            if (value == null || value.isEmpty()) return;
+
+            char first = value.charAt(0);
+            boolean formula = first == '=' || first == '+' || first == '-' || first == '@';
+            boolean quote = formula;
+            for (int i = 0; i < value.length() && !quote; i++) {
+                char c = value.charAt(i);
+                quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+
+            if (!quote) {
+                out.write(value);
+                return;
+            }
+
+            out.write('"');
+            if (formula) out.write('\'');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"') out.write('"');
+                out.write(c);
+            }
+            out.write('"');
+        }
+    }
+
+    // ================================
+    // NDJSON
+    // ================================
+
+    private static final class NdjsonWriter extends BookingExportWriter {
+
+        private final JsonWriter json;
+
+        NdjsonWriter(Writer out) {
+            super(out);
+            this.json = new JsonWriter(out);
+            // Lenient mode allows one top-level object per line
+            this.json.setLenient(true);
+            this.json.setSerializeNulls(false);
+        }
+
+        @Override
+        public void accept(Booking booking) throws IOException {
+            json.beginObject();
+            json.name("booking_id").value(booking.getBookingId());
+            json.name("booking_date").value(booking.getBookingDate() == null ? null : booking.getBookingDate().toString());
+            json.name("time_slot").value(booking.getTimeSlot());
+            json.name("cabin_id").value(booking.getCabinId());
+            json.name("cabin_name").value(booking.getCabinName());
+            json.name("user_id").value(booking.getUserId());
+            json.name("user_name").value(booking.getUserName());
+            json.name("purpose").value(booking.getPurpose());
+            json.name("booking_type").value(name(booking.getBookingType()));
+            json.name("status").value(name(booking.getStatus()));
+            json.name("priority_level").value(name(booking.getPriorityLevel()));
+            json.name("created_at").value(formatTimestamp(booking.getCreatedAt()));
+            if (booking.getApprovedBy() > 0) json.name("approved_by").value(booking.getApprovedBy());
+            json.name("approved_at").value(formatTimestamp(booking.getApprovedAt()));
+            if (booking.getRejectedBy() > 0) json.name("rejected_by").value(booking.getRejectedBy());
+            json.name("rejected_at").value(formatTimestamp(booking.getRejectedAt()));
+            json.endObject();
+            out.write('\n');
+        }
+    }
+}
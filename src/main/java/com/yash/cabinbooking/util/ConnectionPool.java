@@ -0,0 +1,483 @@
+package com.yash.cabinbooking.util;
+
+import com.yash.cabinbooking.logging.Logger;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded JDBC connection pool used behind DbUtil.getConnection().
+ *
+ * Connections handed out are proxies: calling close() returns the physical
+ * connection to the pool, so existing DAO code (DbUtil.closeAllResources)
+ * works unchanged. The IST session timezone is set once per physical connection.
+ *
+ * Tunable with system properties:
+ *   cabinbooking.db.pool.minSize         (default 2)
+ *   cabinbooking.db.pool.maxSize         (default 10)
+ *   cabinbooking.db.pool.borrowTimeoutMs (default 5000)
+ *   cabinbooking.db.pool.leakThresholdMs (default 30000, 0 disables)
+ *   cabinbooking.db.pool.validationTimeoutSec (default 2)
+ */
+public class ConnectionPool {
+
+    private static final Logger log = Logger.getLogger(ConnectionPool.class);
+
+    private final String url;
+    private final String username;
+    private final String password;
+    private final String sessionInitSql;
+
+    private final int minSize;
+    private final int maxSize;
+    private final long borrowTimeoutMs;
+    private final long leakThresholdMs;
+    private final int validationTimeoutSec;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition connectionReturned = lock.newCondition();
+    private final Deque<Connection> idleConnections = new ArrayDeque<>();
+    private final Set<Lease> activeLeases = ConcurrentHashMap.newKeySet();
+    private int totalConnections = 0;
+    private int waitingThreads = 0;
+    private boolean shutdown = false;
+
+    // ✅ Pool statistics
+    private final AtomicLong borrowCount = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final AtomicLong timeoutCount = new AtomicLong();
+    private final AtomicLong createdCount = new AtomicLong();
+    private final AtomicLong discardedCount = new AtomicLong();
+    private final AtomicLong leakCount = new AtomicLong();
+
+    private final ScheduledExecutorService leakDetector;
+
+    public ConnectionPool(String driverClass, String url, String username, String password, String sessionInitSql) {
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.sessionInitSql = sessionInitSql;
+
+        this.maxSize = Math.max(1, Integer.getInteger("cabinbooking.db.pool.maxSize", 10));
+        this.minSize = Math.min(maxSize, Math.max(0, Integer.getInteger("cabinbooking.db.pool.minSize", 2)));
+        this.borrowTimeoutMs = Long.getLong("cabinbooking.db.pool.borrowTimeoutMs", 5000L);
+        this.leakThresholdMs = Long.getLong("cabinbooking.db.pool.leakThresholdMs", 30000L);
+        this.validationTimeoutSec = Integer.getInteger("cabinbooking.db.pool.validationTimeoutSec", 2);
+
+        try {
+            Class.forName(driverClass);
+        } catch (ClassNotFoundException e) {
+            log.error("❌ JDBC driver not found: {}", driverClass);
+        }
+
+        if (leakThresholdMs > 0) {
+            leakDetector = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "cabinbooking-db-leak-detector");
+                t.setDaemon(true);
+                return t;
+            });
+            long period = Math.max(1000L, leakThresholdMs / 2);
+            leakDetector.scheduleAtFixedRate(this::detectLeaks, period, period, TimeUnit.MILLISECONDS);
+        } else {
+            leakDetector = null;
+        }
+
+        log.info("🏊 Connection pool initialized (min={}, max={}, borrowTimeout={}ms)", minSize, maxSize, borrowTimeoutMs);
+        fillToMinimum();
+    }
+
+    // ================================
+    // BORROW / RETURN
+    // ================================
+
+    /**
+     * Borrow a connection, waiting up to borrowTimeoutMs when the pool is exhausted
+     * @return Connection proxy whose close() returns it to the pool
+     * @throws SQLException if the pool is exhausted or a new connection cannot be opened
+     */
+    public Connection borrow() throws SQLException {
+        long waitStart = System.nanoTime();
+        long deadline = waitStart + TimeUnit.MILLISECONDS.toNanos(borrowTimeoutMs);
+
+        while (true) {
+            Connection physical = null;
+            boolean createNew = false;
+
+            lock.lock();
+            try {
+                while (!shutdown && idleConnections.isEmpty() && totalConnections >= maxSize) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        timeoutCount.incrementAndGet();
+                        throw new SQLException("Connection pool exhausted after waiting " + borrowTimeoutMs +
+                                "ms (" + getStatsSummary() + ")");
+                    }
+                    waitingThreads++;
+                    try {
+                        connectionReturned.awaitNanos(remaining);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new SQLException("Interrupted while waiting for a pooled connection", e);
+                    } finally {
+                        waitingThreads--;
+                    }
+                }
+                if (shutdown) {
+                    throw new SQLException("Connection pool has been shut down");
+                }
+                physical = idleConnections.pollFirst();
+                if (physical == null) {
+                    totalConnections++;
+                    createNew = true;
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            if (createNew) {
+                try {
+                    physical = openPhysicalConnection();
+                } catch (SQLException e) {
+                    discard(null);
+                    throw e;
+                }
+            } else if (!isUsable(physical)) {
+                // ✅ Validation on borrow: stale connections are dropped and we try again
+                log.info("♻️ Discarding stale pooled connection");
+                discard(physical);
+                continue;
+            }
+
+            recordWait(System.nanoTime() - waitStart);
+            return lease(physical);
+        }
+    }
+
+    private void release(Lease lease) {
+        activeLeases.remove(lease);
+        Connection physical = lease.physical;
+
+        // ✅ Reset state so the next borrower gets a clean connection
+        try {
+            if (!physical.getAutoCommit()) {
+                physical.rollback();
+                physical.setAutoCommit(true);
+            }
+            if (physical.isReadOnly()) {
+                physical.setReadOnly(false);
+            }
+            physical.clearWarnings();
+        } catch (SQLException e) {
+            log.error("❌ Error resetting pooled connection, discarding it: {}", e.getMessage());
+            discard(physical);
+            return;
+        }
+
+        lock.lock();
+        try {
+            if (shutdown) {
+                totalConnections--;
+                closeQuietly(physical);
+            } else {
+                idleConnections.offerFirst(physical);
+            }
+            connectionReturned.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void discard(Connection physical) {
+        if (physical != null) {
+            closeQuietly(physical);
+            discardedCount.incrementAndGet();
+        }
+        lock.lock();
+        try {
+            totalConnections--;
+            connectionReturned.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // ================================
+    // PHYSICAL CONNECTIONS
+    // ================================
+
+    private Connection openPhysicalConnection() throws SQLException {
+        Connection connection = DriverManager.getConnection(url, username, password);
+        if (sessionInitSql != null && !sessionInitSql.trim().isEmpty()) {
+            try (Statement stmt = connection.createStatement()) {
+                stmt.execute(sessionInitSql);
+            } catch (SQLException e) {
+                closeQuietly(connection);
+                throw e;
+            }
+        }
+        createdCount.incrementAndGet();
+        log.info("✅ New pooled database connection opened with IST timezone (total={})", totalConnections);
+        return connection;
+    }
+
+    private boolean isUsable(Connection physical) {
+        try {
+            return !physical.isClosed() && physical.isValid(validationTimeoutSec);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private void fillToMinimum() {
+        for (int i = 0; i < minSize; i++) {
+            lock.lock();
+            try {
+                if (totalConnections >= minSize) return;
+                totalConnections++;
+            } finally {
+                lock.unlock();
+            }
+
+            try {
+                Connection physical = openPhysicalConnection();
+                lock.lock();
+                try {
+                    idleConnections.offerLast(physical);
+                    connectionReturned.signal();
+                } finally {
+                    lock.unlock();
+                }
+            } catch (SQLException e) {
+                discard(null);
+                log.warn("⚠️ Could not pre-fill connection pool: {}", e.getMessage());
+                return;
+            }
+        }
+    }
+
+    private static void closeQuietly(Connection physical) {
+        try {
+            physical.close();
+        } catch (SQLException ignored) {
+            // nothing useful to do here
+        }
+    }
+
+    /**
+     * Close idle connections and stop the leak detector; borrowed connections close on return
+     */
+    public void shutdown() {
+        log.info("📊 Final connection pool stats: {}", getStatsSummary());
+
+        List<Connection> toClose = new ArrayList<>();
+        lock.lock();
+        try {
+            shutdown = true;
+            toClose.addAll(idleConnections);
+            totalConnections -= idleConnections.size();
+            idleConnections.clear();
+            connectionReturned.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        toClose.forEach(ConnectionPool::closeQuietly);
+        if (leakDetector != null) {
+            leakDetector.shutdownNow();
+        }
+        log.info("🔒 Connection pool shut down ({} idle connections closed)", toClose.size());
+    }
+
+    // ================================
+    // LEAK DETECTION
+    // ================================
+
+    private void detectLeaks() {
+        long now = System.currentTimeMillis();
+        for (Lease lease : activeLeases) {
+            if (!lease.leakReported && now - lease.borrowedAt > leakThresholdMs) {
+                lease.leakReported = true;
+                leakCount.incrementAndGet();
+                log.warn("⚠️ Possible connection leak: connection held for {}ms by thread '{}'", (now - lease.borrowedAt), lease.borrowerThread, lease.borrowSite);
+            }
+        }
+    }
+
+    // ================================
+    // STATISTICS
+    // ================================
+
+    private void recordWait(long waitNanos) {
+        borrowCount.incrementAndGet();
+        totalWaitNanos.addAndGet(waitNanos);
+        maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    public int getActiveCount() {
+        return activeLeases.size();
+    }
+
+    public int getIdleCount() {
+        lock.lock();
+        try {
+            return idleConnections.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getTotalCount() {
+        lock.lock();
+        try {
+            return totalConnections;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getWaitingCount() {
+        lock.lock();
+        try {
+            return waitingThreads;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getBorrowCount() {
+        return borrowCount.get();
+    }
+
+    public double getAverageWaitMillis() {
+        long borrows = borrowCount.get();
+        return borrows == 0 ? 0.0 : totalWaitNanos.get() / 1_000_000.0 / borrows;
+    }
+
+    public double getMaxWaitMillis() {
+        return maxWaitNanos.get() / 1_000_000.0;
+    }
+
+    public long getTimeoutCount() {
+        return timeoutCount.get();
+    }
+
+    public long getLeakCount() {
+        return leakCount.get();
+    }
+
+    public String getStatsSummary() {
+        // ✅ The lock-guarded counters are read together, so idle/total/waiting agree with each other
+        int idle;
+        int total;
+        int waiting;
+        lock.lock();
+        try {
+            idle = idleConnections.size();
+            total = totalConnections;
+            waiting = waitingThreads;
+        } finally {
+            lock.unlock();
+        }
+        return String.format("active=%d, idle=%d, total=%d/%d, waiting=%d, borrows=%d, avgWait=%.2fms, " +
+                        "maxWait=%.2fms, timeouts=%d, created=%d, discarded=%d, leaks=%d",
+                getActiveCount(), idle, total, maxSize, waiting,
+                borrowCount.get(), getAverageWaitMillis(), getMaxWaitMillis(), timeoutCount.get(),
+                createdCount.get(), discardedCount.get(), leakCount.get());
+    }
+
+    // ================================
+    // CONNECTION PROXY
+    // ================================
+
+    private Connection lease(Connection physical) {
+        Lease lease = new Lease(physical);
+        activeLeases.add(lease);
+        return (Connection) Proxy.newProxyInstance(
+                ConnectionPool.class.getClassLoader(), new Class<?>[]{Connection.class}, lease);
+    }
+
+    /**
+     * One borrow of a physical connection. A fresh lease per borrow means a stale
+     * reference held after close() can never touch the next borrower's connection.
+     */
+    private class Lease implements InvocationHandler {
+        private final Connection physical;
+        private final long borrowedAt = System.currentTimeMillis();
+        private final String borrowerThread = Thread.currentThread().getName();
+        private final Throwable borrowSite;
+        private volatile boolean closed = false;
+        private volatile boolean leakReported = false;
+
+        Lease(Connection physical) {
+            this.physical = physical;
+            this.borrowSite = leakThresholdMs > 0 ? new Throwable("Connection borrowed here") : null;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        release(this);
+                    }
+                    return null;
+                case "isClosed":
+                    return closed || physical.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "PooledConnection[" + physical + "]";
+                case "unwrap":
+                case "isWrapperFor":
+                    return unwrap(method, args);
+                default:
+                    if (closed) {
+                        throw new SQLException("Connection has already been returned to the pool");
+                    }
+                    try {
+                        return method.invoke(physical, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+            }
+        }
+
+        // The physical connection must never escape: closing it would bypass release() and the pool's count
+        private Object unwrap(Method method, Object[] args) throws SQLException {
+            if (closed) {
+                throw new SQLException("Connection has already been returned to the pool");
+            }
+            Class<?> iface = (Class<?>) args[0];
+            if ("isWrapperFor".equals(method.getName())) {
+                return !Connection.class.isAssignableFrom(iface) && physical.isWrapperFor(iface)
+                        && !(physical.unwrap(iface) instanceof Connection);
+            }
+            Object unwrapped = physical.unwrap(iface);
+            if (unwrapped instanceof Connection) {
+                throw new SQLException("A pooled connection cannot be unwrapped to its physical connection (" + iface.getName() + ")");
+            }
+            return unwrapped;
+        }
+    }
+}
@@ -1,41 +1,81 @@
 package com.yash.cabinbooking.util;
 
+import com.yash.cabinbooking.logging.Logger;
+
 import java.sql.*;
 
 
 public class DbUtil {
 
+    private static final Logger log = Logger.getLogger(DbUtil.class);
+
     // ✅ MAIN FIX: Updated URL with correct IST timezone
-    private static final String URL = "jdbc:mysql://localhost:3306/cabin_booking1?" +
+    private static final String DEFAULT_URL = "jdbc:mysql://localhost:3306/cabin_booking1?" +
             "useSSL=false&" +
             "serverTimezone=Asia/Kolkata&" +        // ✅ FIXED: IST timezone instead of UTC
             "useLegacyDatetimeCode=false&" +         // ✅ NEW: Better datetime handling
             "useTimezone=true";                      // ✅ NEW: Enable timezone support
 
-    private static final String USERNAME = "root";
-    private static final String PASSWORD = "root";
-    private static final String DRIVER_CLASS = "com.mysql.cj.jdbc.Driver";
+    // ✅ Overridable with system properties (cabinbooking.db.*) so benchmarks can point at an embedded database
+    private static final String URL = System.getProperty("cabinbooking.db.url", DEFAULT_URL);
+    private static final String USERNAME = System.getProperty("cabinbooking.db.user", "root");
+    private static final String PASSWORD = System.getProperty("cabinbooking.db.password", "root");
+    private static final String DRIVER_CLASS = System.getProperty("cabinbooking.db.driver", "com.mysql.cj.jdbc.Driver");
+
+    // ✅ POOLING: Session timezone is applied once per physical connection, not per borrow
+    // ✅ CONCURRENCY: Row lock waits give up after a few seconds instead of InnoDB's default 50
+    private static final int LOCK_WAIT_TIMEOUT_SECONDS = Integer.getInteger("cabinbooking.db.lockWaitTimeoutSec", 5);
+    private static final String SESSION_INIT_SQL = System.getProperty("cabinbooking.db.sessionInitSql",
+            "SET time_zone = '+05:30', " +  // IST timezone
+            "innodb_lock_wait_timeout = " + LOCK_WAIT_TIMEOUT_SECONDS);
+
+    // ✅ POOLING: Lazily created so the pool only starts when the first DAO needs it
+    private static volatile ConnectionPool pool;
 
     /**
-     * Get database connection with proper IST timezone
+     * Get database connection with proper IST timezone.
+     * Connections come from the shared pool; close() hands them back.
      */
     public static Connection getConnection() {
         try {
-            Class.forName(DRIVER_CLASS);
-            Connection connection = DriverManager.getConnection(URL, USERNAME, PASSWORD);
+            return getPool().borrow();
+        } catch (Exception e) {
+            log.error("❌ Database connection failed: {}", e.getMessage(), e);
+            return null;
+        }
+    }
 
-            // ✅ ENHANCED: Set session timezone to IST for consistent timestamp handling
-            try (Statement stmt = connection.createStatement()) {
-                stmt.execute("SET time_zone = '+05:30'");  // IST timezone
-                System.out.println("⏰ Database session timezone set to IST (+05:30)");
+    /**
+     * Access the shared pool (statistics, shutdown)
+     */
+    public static ConnectionPool getPool() {
+        ConnectionPool current = pool;
+        if (current == null) {
+            synchronized (DbUtil.class) {
+                current = pool;
+                if (current == null) {
+                    current = new ConnectionPool(DRIVER_CLASS, URL, USERNAME, PASSWORD, SESSION_INIT_SQL);
+                    pool = current;
+                }
             }
+        }
+        return current;
+    }
 
-            System.out.println("✅ Database connected successfully with IST timezone");
-            return connection;
-        } catch (Exception e) {
-            System.err.println("❌ Database connection failed: " + e.getMessage());
-            e.printStackTrace();
-            return null;
+    /**
+     * Human readable pool statistics for logs and admin pages
+     */
+    public static String getPoolStats() {
+        return getPool().getStatsSummary();
+    }
+
+    /**
+     * Close pooled connections on application shutdown
+     */
+    public static synchronized void shutdownPool() {
+        if (pool != null) {
+            pool.shutdown();
+            pool = null;
         }
     }
 
@@ -46,53 +86,64 @@ public class DbUtil {
         try {
             if (connection != null && !connection.isClosed()) {
                 connection.close();
-                System.out.println("🔒 Database connection closed");
+                log.debug("🔒 Database connection returned to pool");
             }
         } catch (SQLException e) {
-            System.err.println("❌ Error closing connection: " + e.getMessage());
+            log.error("❌ Error closing connection: {}", e.getMessage());
         }
     }
 
     /**
-     * Close all resources
+     * Close all resources. Each one is closed on its own, so a result set that
+     * fails to close (e.g. after Statement.cancel()) never keeps the pooled
+     * connection from going back to the pool.
      */
     public static void closeAllResources(Connection conn, PreparedStatement stmt, ResultSet rs) {
         try {
             if (rs != null) rs.close();
+        } catch (SQLException e) {
+            log.error("❌ Error closing result set: {}", e.getMessage());
+        }
+        try {
             if (stmt != null) stmt.close();
+        } catch (SQLException e) {
+            log.error("❌ Error closing statement: {}", e.getMessage());
+        }
+        try {
             if (conn != null) conn.close();
-            System.out.println("🧹 All resources closed successfully");
         } catch (SQLException e) {
-            System.err.println("❌ Error closing resources: " + e.getMessage());
+            log.error("❌ Error closing connection: {}", e.getMessage());
         }
+        log.debug("🧹 All resources closed");
     }
 
     /**
      * Enhanced test with timezone verification
      */
     public static boolean testConnection() {
-        System.out.println("🧪 Testing database connection with IST timezone...");
+        log.debug("🧪 Testing database connection with IST timezone...");
         Connection testConn = getConnection();
         if (testConn != null) {
+            PreparedStatement pstmt = null;
+            ResultSet rs = null;
             try {
                 // ✅ NEW: Verify timezone setting
-                PreparedStatement pstmt = testConn.prepareStatement("SELECT NOW(), @@session.time_zone");
-                ResultSet rs = pstmt.executeQuery();
+                pstmt = testConn.prepareStatement("SELECT NOW(), @@session.time_zone");
+                rs = pstmt.executeQuery();
                 if (rs.next()) {
-                    System.out.println("🕐 Current database time: " + rs.getTimestamp(1));
-                    System.out.println("⏰ Database timezone: " + rs.getString(2));
+                    log.debug("🕐 Current database time: {}", rs.getTimestamp(1));
+                    log.debug("⏰ Database timezone: {}", rs.getString(2));
                 }
-                pstmt.close();
-                rs.close();
             } catch (SQLException e) {
-                System.out.println("⚠️ Timezone verification failed: " + e.getMessage());
+                log.warn("⚠️ Timezone verification failed: {}", e.getMessage());
+            } finally {
+                closeAllResources(testConn, pstmt, rs);
             }
 
-            closeConnection(testConn);
-            System.out.println("✅ Database test PASSED with IST timezone configuration");
+            log.debug("✅ Database test PASSED with IST timezone configuration");
             return true;
         } else {
-            System.out.println("❌ Database test FAILED");
+            log.debug("❌ Database test FAILED");
             return false;
         }
     }
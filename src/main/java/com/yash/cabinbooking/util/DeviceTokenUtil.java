@@ -0,0 +1,139 @@
+package com.yash.cabinbooking.util;
+
+import com.yash.cabinbooking.logging.Logger;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * "Remember this device" tokens - proof that this browser already passed BCrypt
+ * for a user, so the next login with the same password can skip BCrypt.
+ *
+ * Token format: "<userId>.<expiresAtEpochSec>.<base64url HMAC-SHA256>", where the
+ * MAC covers the user id, the expiry, the stored password hash and the password
+ * itself, keyed with a server secret. Therefore:
+ *   - the token alone logs nobody in - the password is still required
+ *   - it cannot be brute-forced offline without the server secret
+ *   - a password change (or a cost rehash) changes the stored hash and voids every token
+ * A wrong password is not rejected here, the caller falls back to BCrypt, so
+ * guessing passwords stays as slow as before.
+ *
+ * Tunable with system properties:
+ *   cabinbooking.device.secret     (base64, 32+ bytes) - without it a random key is used and tokens end on restart
+ *   cabinbooking.device.maxAgeDays (default 14)        - lifetime of a token; it is not extended on use
+ */
+public final class DeviceTokenUtil {
+
+    private static final Logger log = Logger.getLogger(DeviceTokenUtil.class);
+
+    public static final String COOKIE_NAME = "cabinest_device";
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_SECRET_BYTES = 32;
+
+    private static final long MAX_AGE_SECONDS = Math.max(1, Long.getLong("cabinbooking.device.maxAgeDays", 14L)) * 24 * 60 * 60;
+    private static final byte[] SECRET = loadSecret();
+
+    private DeviceTokenUtil() {
+    }
+
+    /**
+     * Create a token for a user who just passed BCrypt
+     * @param userId The user's id
+     * @param storedHash The user's current stored password hash
+     * @param password The password that was verified
+     * @return Token for the device cookie
+     */
+    public static String issue(int userId, String storedHash, String password) {
+        long expiresAt = System.currentTimeMillis() / 1000 + MAX_AGE_SECONDS;
+        return userId + "." + expiresAt + "." + mac(userId, expiresAt, storedHash, password);
+    }
+
+    /**
+     * Check a token against the password being used to log in
+     * @param token Token from the device cookie
+     * @param userId Id of the user the email belongs to
+     * @param storedHash The user's current stored password hash
+     * @param password The password from the login form
+     * @return true if the token is unexpired, for this user, and was issued for this password and hash
+     */
+    public static boolean verify(String token, int userId, String storedHash, String password) {
+        if (token == null || storedHash == null || password == null) {
+            return false;
+        }
+
+        String[] parts = token.split("\\.");
+        if (parts.length != 3) {
+            return false;
+        }
+
+        try {
+            if (Integer.parseInt(parts[0]) != userId) {
+                return false;
+            }
+            long expiresAt = Long.parseLong(parts[1]);
+            if (expiresAt < System.currentTimeMillis() / 1000) {
+                return false;
+            }
+
+            String expected = mac(userId, expiresAt, storedHash, password);
+            return MessageDigest.isEqual(expected.getBytes(StandardCharsets.US_ASCII),
+                    parts[2].getBytes(StandardCharsets.US_ASCII));
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Lifetime of a token, for the cookie's Max-Age
+     */
+    public static int getMaxAgeSeconds() {
+        return (int) Math.min(Integer.MAX_VALUE, MAX_AGE_SECONDS);
+    }
+
+    // ================================
+    // PRIVATE UTILITY METHODS
+    // ================================
+
+    private static String mac(int userId, long expiresAt, String storedHash, String password) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(SECRET, ALGORITHM));
+            // Length-prefixed fields, so no two different inputs produce the same message
+            for (String field : new String[]{Integer.toString(userId), Long.toString(expiresAt), storedHash, password}) {
+                byte[] bytes = field.getBytes(StandardCharsets.UTF_8);
+                mac.update((bytes.length + ":").getBytes(StandardCharsets.US_ASCII));
+                mac.update(bytes);
+            }
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(mac.doFinal());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 not available", e);
+        }
+    }
+
+    private static byte[] loadSecret() {
+        String configured = System.getProperty("cabinbooking.device.secret");
+        if (configured != null && !configured.trim().isEmpty()) {
+            try {
+                byte[] secret = Base64.getDecoder().decode(configured.trim());
+                if (secret.length >= MIN_SECRET_BYTES) {
+                    return secret;
+                }
+                log.warn("⚠️ cabinbooking.device.secret is shorter than {} bytes - using a random key", MIN_SECRET_BYTES);
+            } catch (IllegalArgumentException e) {
+                log.warn("⚠️ cabinbooking.device.secret is not valid base64 - using a random key");
+            }
+        } else {
+            log.info("🔑 No cabinbooking.device.secret set - remembered devices last until restart");
+        }
+
+        byte[] secret = new byte[MIN_SECRET_BYTES];
+        new SecureRandom().nextBytes(secret);
+        return secret;
+    }
+}
@@ -0,0 +1,140 @@
+package com.yash.cabinbooking.util;
+
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonWriter;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Writes the JSON bodies of the AJAX endpoints from typed response objects
+ * (AvailabilityResponse, ActionResponse, ...).
+ *
+ * Gson serializes straight into a JsonWriter on the servlet writer - no
+ * intermediate String, and every value is escaped properly. Null fields are
+ * left out. One Gson instance is shared; it is thread-safe and caches the
+ * type adapter of each response class.
+ *
+ * writeCacheable() adds an ETag for GET requests: the body is rendered into a
+ * buffer, hashed, and answered with 304 Not Modified when the browser already
+ * has it (If-None-Match). Cache-Control "private, no-cache" makes the browser
+ * revalidate every time, so a new booking shows up immediately.
+ */
+public final class JsonResponseWriter {
+
+    private static final Gson GSON = new Gson();
+
+    private static final String CONTENT_TYPE = "application/json";
+    private static final int ETAG_BYTES = 16;
+
+    private JsonResponseWriter() {
+    }
+
+    /**
+     * Write a 200 response
+     * @param response Servlet response, nothing written yet
+     * @param body Response object to serialize
+     */
+    public static void write(HttpServletResponse response, Object body) throws IOException {
+        write(response, HttpServletResponse.SC_OK, body);
+    }
+
+    /**
+     * Write a response with the given status
+     * @param response Servlet response, nothing written yet
+     * @param status HTTP status code
+     * @param body Response object to serialize
+     */
+    public static void write(HttpServletResponse response, int status, Object body) throws IOException {
+        response.setStatus(status);
+        setJsonHeaders(response);
+        Writer out = response.getWriter();
+        serialize(body, out);
+        out.flush();
+    }
+
+    /**
+     * Write a 200 response that the browser may cache and revalidate with an ETag.
+     * Only GET and HEAD get an ETag; other methods are written as with write().
+     * @param request Servlet request (for the method and If-None-Match)
+     * @param response Servlet response, nothing written yet
+     * @param body Response object to serialize
+     */
+    public static void writeCacheable(HttpServletRequest request, HttpServletResponse response, Object body)
+            throws IOException {
+        String method = request.getMethod();
+        if (!"GET".equals(method) && !"HEAD".equals(method)) {
+            write(response, body);
+            return;
+        }
+
+        StringWriter buffer = new StringWriter(256);
+        serialize(body, buffer);
+        String json = buffer.toString();
+        String etag = etagFor(json);
+
+        response.setHeader("ETag", etag);
+        response.setHeader("Cache-Control", "private, no-cache");
+
+        if (matches(request.getHeader("If-None-Match"), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        setJsonHeaders(response);
+        Writer out = response.getWriter();
+        out.write(json);
+        out.flush();
+    }
+
+    // ================================
+    // PRIVATE UTILITY METHODS
+    // ================================
+
+    private static void setJsonHeaders(HttpServletResponse response) {
+        response.setContentType(CONTENT_TYPE);
+        response.setCharacterEncoding("UTF-8");
+    }
+
+    private static void serialize(Object body, Writer out) throws IOException {
+        JsonWriter json = new JsonWriter(out);
+        GSON.toJson(body, body.getClass(), json);
+        json.flush();
+    }
+
+    // Strong ETag: first 16 bytes of the SHA-256 of the body
+    private static String etagFor(String json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json.getBytes(StandardCharsets.UTF_8));
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, ETAG_BYTES)) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    // If-None-Match may list several tags, weak ones (W/"..") or "*"
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag) || tag.equals("*")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
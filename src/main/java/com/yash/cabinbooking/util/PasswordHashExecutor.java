@@ -0,0 +1,187 @@
+package com.yash.cabinbooking.util;
+
+import com.yash.cabinbooking.logging.Logger;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Small dedicated pool for BCrypt work (login verification), so a burst of logins
+ * queues here instead of tying up Tomcat request threads for ~250 ms each.
+ *
+ * The queue is bounded: when it is full submit() returns null straight away and
+ * the caller answers 503 with Retry-After instead of letting logins wait minutes.
+ * PasswordUtil reports every BCrypt call here, so hash time is measured even for
+ * work that does not go through the pool (registration, password change).
+ *
+ * Tunable with system properties:
+ *   cabinbooking.bcrypt.threads       (default: available processors)
+ *   cabinbooking.bcrypt.queueSize     (default 8 per thread) - waiting tasks before rejecting
+ *   cabinbooking.bcrypt.retryAfterSec (default 2)            - Retry-After sent with the 503
+ */
+public final class PasswordHashExecutor {
+
+    private static final Logger log = Logger.getLogger(PasswordHashExecutor.class);
+
+    private static final long REJECT_WARN_INTERVAL_MS = 10_000L;
+
+    private static final PasswordHashExecutor INSTANCE = new PasswordHashExecutor();
+
+    private final int threads = Math.max(1, Integer.getInteger("cabinbooking.bcrypt.threads",
+            Runtime.getRuntime().availableProcessors()));
+    // ✅ 8 per thread keeps the worst queue wait to a couple of seconds at ~250 ms per hash
+    private final int queueSize = Math.max(1, Integer.getInteger("cabinbooking.bcrypt.queueSize", threads * 8));
+    private final int retryAfterSeconds = Math.max(1, Integer.getInteger("cabinbooking.bcrypt.retryAfterSec", 2));
+
+    private final ThreadPoolExecutor executor;
+
+    // ✅ Task statistics
+    private final AtomicLong submittedCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong totalQueueNanos = new AtomicLong();
+    private final AtomicLong maxQueueNanos = new AtomicLong();
+    private final AtomicLong lastRejectWarnAt = new AtomicLong();
+
+    // ✅ BCrypt statistics (every hash / verify, pooled or not)
+    private final AtomicLong hashCount = new AtomicLong();
+    private final AtomicLong totalHashNanos = new AtomicLong();
+    private final AtomicLong maxHashNanos = new AtomicLong();
+
+    private PasswordHashExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize), r -> {
+                    Thread t = new Thread(r, "cabinbooking-bcrypt-" + threadNumber.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public static PasswordHashExecutor getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Run a task on the BCrypt pool. Cancelling the future before the task starts
+     * skips it, so a caller that gave up does not cost a hash.
+     * @param task Work that verifies or hashes a password
+     * @return Future with the task's result, or null if the queue is full
+     */
+    public <T> CompletableFuture<T> submit(Callable<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        long queuedAt = System.nanoTime();
+
+        try {
+            executor.execute(() -> {
+                long waited = System.nanoTime() - queuedAt;
+                totalQueueNanos.addAndGet(waited);
+                maxQueueNanos.accumulateAndGet(waited, Math::max);
+                if (future.isDone()) {
+                    return; // cancelled while queued
+                }
+                try {
+                    future.complete(task.call());
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCount.incrementAndGet();
+            warnRejected();
+            return null;
+        }
+
+        submittedCount.incrementAndGet();
+        return future;
+    }
+
+    /**
+     * Called by PasswordUtil after every BCrypt hash or verification
+     */
+    public void recordHashTime(long nanos) {
+        hashCount.incrementAndGet();
+        totalHashNanos.addAndGet(nanos);
+        maxHashNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * Stop accepting work and give queued logins a moment to finish
+     */
+    public void shutdown() {
+        log.info("📊 Final BCrypt executor stats: {}", getStatsSummary());
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(5, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ================================
+    // STATISTICS
+    // ================================
+
+    public int getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    public int getQueuedCount() {
+        return executor.getQueue().size();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    public double getAverageHashMillis() {
+        long count = hashCount.get();
+        return count == 0 ? 0.0 : totalHashNanos.get() / 1_000_000.0 / count;
+    }
+
+    public double getMaxHashMillis() {
+        return maxHashNanos.get() / 1_000_000.0;
+    }
+
+    public double getAverageQueueMillis() {
+        long count = executor.getCompletedTaskCount();
+        return count == 0 ? 0.0 : totalQueueNanos.get() / 1_000_000.0 / count;
+    }
+
+    public double getMaxQueueMillis() {
+        return maxQueueNanos.get() / 1_000_000.0;
+    }
+
+    public String getStatsSummary() {
+        return String.format("threads=%d, active=%d, queued=%d/%d, submitted=%d, rejected=%d, " +
+                        "avgQueue=%.1fms, maxQueue=%.1fms, hashes=%d, avgHash=%.1fms, maxHash=%.1fms",
+                threads, getActiveCount(), getQueuedCount(), queueSize, submittedCount.get(), rejectedCount.get(),
+                getAverageQueueMillis(), getMaxQueueMillis(), hashCount.get(), getAverageHashMillis(),
+                getMaxHashMillis());
+    }
+
+    // ================================
+    // PRIVATE UTILITY METHODS
+    // ================================
+
+    // One warning per burst rather than one per rejected login
+    private void warnRejected() {
+        long now = System.currentTimeMillis();
+        long last = lastRejectWarnAt.get();
+        if (now - last >= REJECT_WARN_INTERVAL_MS && lastRejectWarnAt.compareAndSet(last, now)) {
+            log.warn("⚠️ BCrypt executor saturated, rejecting logins ({})", getStatsSummary());
+        }
+    }
+}
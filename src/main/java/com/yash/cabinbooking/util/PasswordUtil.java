@@ -1,13 +1,18 @@
 package com.yash.cabinbooking.util;
 
+import com.yash.cabinbooking.logging.Logger;
+
 import org.mindrot.jbcrypt.BCrypt;
 
 
 public class PasswordUtil {
 
+    private static final Logger log = Logger.getLogger(PasswordUtil.class);
+
     // BCrypt work factor (cost) - Higher = More secure but slower
-    // 12 is recommended for 2024 security standards
-    private static final int WORK_FACTOR = 12;
+    // 12 is recommended for 2024 security standards; each step doubles the CPU per login.
+    // Per deployment with -Dcabinbooking.bcrypt.cost - stored hashes move to it on their next login.
+    private static final int WORK_FACTOR = Math.max(4, Math.min(31, Integer.getInteger("cabinbooking.bcrypt.cost", 12)));
 
     /**
      * Hash a plain text password using BCrypt
@@ -20,11 +25,13 @@ public class PasswordUtil {
         }
 
         try {
+            long started = System.nanoTime();
             String hashedPassword = BCrypt.hashpw(plainTextPassword, BCrypt.gensalt(WORK_FACTOR));
-            System.out.println("🔐 Password hashed successfully with BCrypt (work factor: " + WORK_FACTOR + ")");
+            PasswordHashExecutor.getInstance().recordHashTime(System.nanoTime() - started);
+            log.debug("🔐 Password hashed successfully with BCrypt (work factor: {})", WORK_FACTOR);
             return hashedPassword;
         } catch (Exception e) {
-            System.err.println("❌ Error hashing password: " + e.getMessage());
+            log.error("❌ Error hashing password: {}", e.getMessage());
             throw new RuntimeException("Password hashing failed", e);
         }
     }
@@ -37,21 +44,23 @@ public class PasswordUtil {
      */
     public static boolean verifyPassword(String plainTextPassword, String hashedPassword) {
         if (plainTextPassword == null || hashedPassword == null) {
-            System.err.println("❌ Password verification failed: null input");
+            log.error("❌ Password verification failed: null input");
             return false;
         }
 
         if (plainTextPassword.trim().isEmpty() || hashedPassword.trim().isEmpty()) {
-            System.err.println("❌ Password verification failed: empty input");
+            log.error("❌ Password verification failed: empty input");
             return false;
         }
 
         try {
+            long started = System.nanoTime();
             boolean matches = BCrypt.checkpw(plainTextPassword, hashedPassword);
-            System.out.println("🔍 Password verification: " + (matches ? "✅ SUCCESS" : "❌ FAILED"));
+            PasswordHashExecutor.getInstance().recordHashTime(System.nanoTime() - started);
+            log.debug("🔍 Password verification: {}", (matches ? "✅ SUCCESS" : "❌ FAILED"));
             return matches;
         } catch (Exception e) {
-            System.err.println("❌ Error verifying password: " + e.getMessage());
+            log.error("❌ Error verifying password: {}", e.getMessage());
             return false;
         }
     }
@@ -70,6 +79,40 @@ public class PasswordUtil {
         return password.startsWith("$2a$") || password.startsWith("$2b$") || password.startsWith("$2y$");
     }
 
+    /**
+     * Target work factor for new hashes
+     */
+    public static int getWorkFactor() {
+        return WORK_FACTOR;
+    }
+
+    /**
+     * Read the work factor out of a BCrypt hash ("$2a$12$...")
+     * @param hashedPassword The BCrypt hash
+     * @return Cost, or -1 if it is not a BCrypt hash
+     */
+    public static int getHashCost(String hashedPassword) {
+        if (!isBCryptHash(hashedPassword)) {
+            return -1;
+        }
+        char tens = hashedPassword.charAt(4);
+        char ones = hashedPassword.charAt(5);
+        if (!Character.isDigit(tens) || !Character.isDigit(ones) || hashedPassword.charAt(6) != '$') {
+            return -1;
+        }
+        return (tens - '0') * 10 + (ones - '0');
+    }
+
+    /**
+     * Check if a stored hash should be replaced after a successful login
+     * @param hashedPassword The stored password
+     * @return true for BCrypt hashes at a different cost than the configured one
+     */
+    public static boolean needsRehash(String hashedPassword) {
+        int cost = getHashCost(hashedPassword);
+        return cost > 0 && cost != WORK_FACTOR;
+    }
+
     /**
      * Generate a random secure password (for testing or admin use)
      * @param length Password length (minimum 8)
@@ -0,0 +1,274 @@
+package com.yash.cabinbooking.util;
+
+import com.yash.cabinbooking.logging.Logger;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Applies versioned schema changes at startup and records them in schema_migrations.
+ *
+ * Each migration is idempotent (it checks information_schema before altering
+ * anything), so a half-applied migration is simply re-run. A MySQL named lock
+ * makes sure only one app instance migrates at a time.
+ *
+ * Tunable with system properties:
+ *   cabinbooking.migrations.enabled   (default true)  - false if the schema is managed by hand
+ *   cabinbooking.migrations.batchSize (default 10000) - rows per backfill transaction
+ */
+public final class SchemaMigrator {
+
+    private static final Logger log = Logger.getLogger(SchemaMigrator.class);
+
+    private static final String LOCK_NAME = "cabinbooking.schema_migrations";
+    private static final int LOCK_TIMEOUT_SECONDS = 300;
+
+    private static final int BATCH_SIZE = Integer.getInteger("cabinbooking.migrations.batchSize", 10000);
+
+    // "HH:MM-HH:MM", blanks allowed around the dash - anything else is left NULL
+    private static final String TIME_SLOT_REGEXP = "'^ *[0-9]{1,2}:[0-5][0-9] *- *[0-9]{1,2}:[0-5][0-9] *$'";
+
+    private static final List<Migration> MIGRATIONS = new ArrayList<>();
+
+    static {
+        MIGRATIONS.add(new Migration(1, "Reservation lock table cabin_day_locks") {
+            @Override
+            void apply(Connection conn) throws SQLException {
+                execute(conn, "CREATE TABLE IF NOT EXISTS cabin_day_locks (" +
+                        "cabin_id INT NOT NULL, " +
+                        "booking_date DATE NOT NULL, " +
+                        "PRIMARY KEY (cabin_id, booking_date))");
+            }
+        });
+
+        MIGRATIONS.add(new Migration(2, "Add bookings.start_minute and bookings.end_minute") {
+            @Override
+            void apply(Connection conn) throws SQLException {
+                if (!columnExists(conn, "bookings", "start_minute")) {
+                    execute(conn, "ALTER TABLE bookings ADD COLUMN start_minute SMALLINT NULL AFTER time_slot");
+                }
+                if (!columnExists(conn, "bookings", "end_minute")) {
+                    execute(conn, "ALTER TABLE bookings ADD COLUMN end_minute SMALLINT NULL AFTER start_minute");
+                }
+            }
+        });
+
+        MIGRATIONS.add(new Migration(3, "Backfill start_minute / end_minute from time_slot") {
+            @Override
+            void apply(Connection conn) throws SQLException {
+                backfillSlotMinutes(conn);
+            }
+        });
+
+        MIGRATIONS.add(new Migration(4, "Index bookings (cabin_id, booking_date, status, start_minute, end_minute)") {
+            @Override
+            void apply(Connection conn) throws SQLException {
+                createIndexIfMissing(conn, "bookings", "idx_bookings_cabin_day_range",
+                        "cabin_id, booking_date, status, start_minute, end_minute");
+            }
+        });
+
+        MIGRATIONS.add(new Migration(5, "Keyset pagination indexes on bookings (..., created_at, booking_id)") {
+            @Override
+            void apply(Connection conn) throws SQLException {
+                createIndexIfMissing(conn, "bookings", "idx_bookings_created",
+                        "created_at, booking_id");
+                createIndexIfMissing(conn, "bookings", "idx_bookings_status_created",
+                        "status, created_at, booking_id");
+                createIndexIfMissing(conn, "bookings", "idx_bookings_priority_created",
+                        "priority_level, created_at, booking_id");
+                createIndexIfMissing(conn, "bookings", "idx_bookings_user_created",
+                        "user_id, created_at, booking_id");
+            }
+        });
+    }
+
+    private SchemaMigrator() {
+    }
+
+    /**
+     * Apply every migration not yet recorded in schema_migrations
+     * @return true if the schema is up to date
+     */
+    public static boolean migrate() {
+        if (!Boolean.parseBoolean(System.getProperty("cabinbooking.migrations.enabled", "true"))) {
+            log.info("⏭️ Schema migrations disabled");
+            return true;
+        }
+
+        Connection conn = DbUtil.getConnection();
+        if (conn == null) {
+            log.error("❌ Schema migrations skipped - no database connection");
+            return false;
+        }
+
+        boolean locked = false;
+        try {
+            locked = acquireLock(conn);
+            if (!locked) {
+                log.error("❌ Schema migrations skipped - another instance holds the migration lock");
+                return false;
+            }
+
+            execute(conn, "CREATE TABLE IF NOT EXISTS schema_migrations (" +
+                    "version INT PRIMARY KEY, " +
+                    "description VARCHAR(200) NOT NULL, " +
+                    "applied_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP)");
+
+            Set<Integer> applied = appliedVersions(conn);
+            int count = 0;
+            for (Migration migration : MIGRATIONS) {
+                if (applied.contains(migration.version)) continue;
+
+                long started = System.currentTimeMillis();
+                log.info("🛠️ Applying migration {}: {}", migration.version, migration.description);
+                migration.apply(conn);
+                recordApplied(conn, migration);
+                count++;
+                log.info("✅ Migration {} applied in {} ms", migration.version, (System.currentTimeMillis() - started));
+            }
+
+            log.info("✅ Schema up to date ({} migrations applied)", count);
+            return true;
+
+        } catch (SQLException e) {
+            log.error("❌ Schema migration failed: {}", e.getMessage(), e);
+            return false;
+        } finally {
+            if (locked) {
+                releaseLock(conn);
+            }
+            DbUtil.closeConnection(conn);
+        }
+    }
+
+    // ================================
+    // BACKFILL
+    // ================================
+
+    // Primary key ranges of BATCH_SIZE rows, each committed on its own, so a 10M row
+    // table is never locked by one huge UPDATE and an interrupted run resumes where it stopped
+    private static void backfillSlotMinutes(Connection conn) throws SQLException {
+        long minId;
+        long maxId;
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT MIN(booking_id), MAX(booking_id) FROM bookings WHERE start_minute IS NULL")) {
+            if (!rs.next() || rs.getObject(1) == null) {
+                log.info("📭 Nothing to backfill");
+                return;
+            }
+            minId = rs.getLong(1);
+            maxId = rs.getLong(2);
+        }
+
+        String sql = "UPDATE bookings SET " +
+                "start_minute = TIME_TO_SEC(TRIM(SUBSTRING_INDEX(time_slot, '-', 1))) DIV 60, " +
+                "end_minute = TIME_TO_SEC(TRIM(SUBSTRING_INDEX(time_slot, '-', -1))) DIV 60 " +
+                "WHERE booking_id BETWEEN ? AND ? AND start_minute IS NULL AND time_slot REGEXP " + TIME_SLOT_REGEXP;
+
+        long updated = 0;
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            for (long from = minId; from <= maxId; from += BATCH_SIZE) {
+                pstmt.setLong(1, from);
+                pstmt.setLong(2, Math.min(from + BATCH_SIZE - 1, maxId));
+                updated += pstmt.executeUpdate();
+            }
+        }
+        log.info("📝 Backfilled slot minutes for {} bookings", updated);
+    }
+
+    // ================================
+    // PRIVATE UTILITY METHODS
+    // ================================
+
+    private static boolean acquireLock(Connection conn) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+            pstmt.setString(1, LOCK_NAME);
+            pstmt.setInt(2, LOCK_TIMEOUT_SECONDS);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() && rs.getInt(1) == 1;
+            }
+        }
+    }
+
+    private static void releaseLock(Connection conn) {
+        try (PreparedStatement pstmt = conn.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            pstmt.setString(1, LOCK_NAME);
+            pstmt.executeQuery().close();
+        } catch (SQLException e) {
+            log.warn("⚠️ Could not release migration lock: {}", e.getMessage());
+        }
+    }
+
+    private static Set<Integer> appliedVersions(Connection conn) throws SQLException {
+        Set<Integer> versions = new HashSet<>();
+        try (Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT version FROM schema_migrations")) {
+            while (rs.next()) {
+                versions.add(rs.getInt(1));
+            }
+        }
+        return versions;
+    }
+
+    private static void recordApplied(Connection conn, Migration migration) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(
+                "INSERT INTO schema_migrations (version, description) VALUES (?, ?)")) {
+            pstmt.setInt(1, migration.version);
+            pstmt.setString(2, migration.description);
+            pstmt.executeUpdate();
+        }
+    }
+
+    private static boolean columnExists(Connection conn, String table, String column) throws SQLException {
+        return exists(conn, "SELECT 1 FROM information_schema.columns " +
+                "WHERE table_schema = DATABASE() AND table_name = ? AND column_name = ?", table, column);
+    }
+
+    private static boolean indexExists(Connection conn, String table, String index) throws SQLException {
+        return exists(conn, "SELECT 1 FROM information_schema.statistics " +
+                "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?", table, index);
+    }
+
+    private static void createIndexIfMissing(Connection conn, String table, String index, String columns)
+            throws SQLException {
+        if (!indexExists(conn, table, index)) {
+            execute(conn, "CREATE INDEX " + index + " ON " + table + " (" + columns + ")");
+        }
+    }
+
+    private static boolean exists(Connection conn, String sql, String first, String second) throws SQLException {
+        try (PreparedStatement pstmt = conn.prepareStatement(sql)) {
+            pstmt.setString(1, first);
+            pstmt.setString(2, second);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
+    private static void execute(Connection conn, String sql) throws SQLException {
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute(sql);
+        }
+    }
+
+    private abstract static class Migration {
+        private final int version;
+        private final String description;
+
+        Migration(int version, String description) {
+            this.version = version;
+            this.description = description;
+        }
+
+        abstract void apply(Connection conn) throws SQLException;
+    }
+}
@@ -0,0 +1,76 @@
+package com.yash.cabinbooking.util;
+
+import com.yash.cabinbooking.model.SessionPrincipal;
+import com.yash.cabinbooking.model.User;
+import com.yash.cabinbooking.logging.Logger;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpSession;
+
+/**
+ * The one place that reads and writes the signed-in user in the HTTP session.
+ *
+ * The session holds a single SessionPrincipal under "user" - no User object, no
+ * password hash and no copied flags (isAdmin, userName, ...). Controllers call
+ * getCurrentUser() for a User built from it; admin pages get "admin" as a
+ * request attribute from their controller.
+ */
+public final class SessionUtil {
+
+    private static final Logger log = Logger.getLogger(SessionUtil.class);
+
+    public static final String USER_ATTRIBUTE = "user";
+
+    private static final int SESSION_TIMEOUT_SECONDS = 30 * 60;
+
+    private SessionUtil() {
+    }
+
+    /**
+     * Store the signed-in user in the session, creating it if needed
+     * @param request Current request
+     * @param user User who just logged in or registered
+     * @return The session
+     */
+    public static HttpSession signIn(HttpServletRequest request, User user) {
+        HttpSession session = request.getSession(true);
+        session.setAttribute(USER_ATTRIBUTE, SessionPrincipal.from(user));
+        session.setMaxInactiveInterval(SESSION_TIMEOUT_SECONDS);
+        log.debug("🎫 Session principal stored for user: {}", user.getUserId());
+        return session;
+    }
+
+    /**
+     * Replace the principal after the user's name, email or role changed
+     * @param request Current request
+     * @param user Updated user
+     */
+    public static void refresh(HttpServletRequest request, User user) {
+        HttpSession session = request.getSession(false);
+        if (session != null && session.getAttribute(USER_ATTRIBUTE) != null) {
+            session.setAttribute(USER_ATTRIBUTE, SessionPrincipal.from(user));
+        }
+    }
+
+    /**
+     * @param request Current request
+     * @return The signed-in principal, or null if there is no session or nobody is logged in
+     */
+    public static SessionPrincipal getPrincipal(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        if (session == null) {
+            return null;
+        }
+        Object principal = session.getAttribute(USER_ATTRIBUTE);
+        return principal instanceof SessionPrincipal ? (SessionPrincipal) principal : null;
+    }
+
+    /**
+     * @param request Current request
+     * @return A User for the signed-in principal (without password, status or createdAt), or null
+     */
+    public static User getCurrentUser(HttpServletRequest request) {
+        SessionPrincipal principal = getPrincipal(request);
+        return principal != null ? principal.toUser() : null;
+    }
+}
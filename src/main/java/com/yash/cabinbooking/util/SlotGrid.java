@@ -0,0 +1,118 @@
+package com.yash.cabinbooking.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Business-day grid used for slot generation: 09:00-18:00 in 15 minute granules,
+ * i.e. 36 granules that fit in the low bits of a long. Bit i set in an occupancy
+ * mask means granule [09:00 + 15*i, 09:00 + 15*(i+1)) is booked.
+ *
+ * Slot labels ("HH:MM-HH:MM") are precomputed once and interned, so generating
+ * free slots for a day allocates nothing beyond the result list.
+ */
+public final class SlotGrid {
+
+    public static final int DAY_START_MINUTE = 9 * 60;   // 09:00
+    public static final int DAY_END_MINUTE = 18 * 60;    // 18:00
+    public static final int GRANULE_MINUTES = 15;
+    public static final int GRANULES = (DAY_END_MINUTE - DAY_START_MINUTE) / GRANULE_MINUTES; // 36
+
+    public static final long FULL_DAY_MASK = (1L << GRANULES) - 1;
+
+    // ✅ "HH:MM" for every minute of the day, and "HH:MM-HH:MM" for every granule-aligned slot
+    private static final String[] MINUTE_LABELS = new String[24 * 60 + 1];
+    private static final String[][] SLOT_LABELS = new String[GRANULES][GRANULES + 1];
+
+    static {
+        for (int minute = 0; minute <= 24 * 60; minute++) {
+            MINUTE_LABELS[minute] = String.format("%02d:%02d", minute / 60, minute % 60).intern();
+        }
+        for (int start = 0; start < GRANULES; start++) {
+            for (int end = start + 1; end <= GRANULES; end++) {
+                SLOT_LABELS[start][end] = (MINUTE_LABELS[granuleToMinute(start)] + "-" +
+                        MINUTE_LABELS[granuleToMinute(end)]).intern();
+            }
+        }
+    }
+
+    private SlotGrid() {
+    }
+
+    public static int granuleToMinute(int granule) {
+        return DAY_START_MINUTE + granule * GRANULE_MINUTES;
+    }
+
+    /**
+     * Mask of granules touched by [startMinute, endMinute), clipped to business hours
+     */
+    public static long maskFor(int startMinute, int endMinute) {
+        int from = Math.max(startMinute, DAY_START_MINUTE);
+        int to = Math.min(endMinute, DAY_END_MINUTE);
+        if (to <= from) return 0L;
+
+        int firstGranule = (from - DAY_START_MINUTE) / GRANULE_MINUTES;
+        int lastGranule = (to - DAY_START_MINUTE + GRANULE_MINUTES - 1) / GRANULE_MINUTES; // exclusive
+        return ((1L << lastGranule) - 1) & ~((1L << firstGranule) - 1);
+    }
+
+    /**
+     * Granule indexes where a slot of the given length (in granules) can start
+     * without touching any occupied granule
+     */
+    public static long freeStarts(long occupiedMask, int lengthGranules) {
+        if (lengthGranules <= 0 || lengthGranules > GRANULES) return 0L;
+
+        long free = ~occupiedMask & FULL_DAY_MASK;
+        long starts = free;
+        for (int shift = 1; shift < lengthGranules && starts != 0; shift++) {
+            starts &= free >>> shift;
+        }
+        // The slot must also end by 18:00
+        return starts & ((1L << (GRANULES - lengthGranules + 1)) - 1);
+    }
+
+    /**
+     * Free slots of durationMinutes, in start order, at most limit of them
+     * @param occupiedMask Booked granules for the day (0 for an empty day)
+     * @param durationMinutes Slot length in minutes
+     * @param limit Maximum number of slots to return
+     * @return Slot labels in "HH:MM-HH:MM" format
+     */
+    public static List<String> freeSlots(long occupiedMask, int durationMinutes, int limit) {
+        List<String> slots = new ArrayList<>();
+        if (durationMinutes <= 0 || limit <= 0) return slots;
+
+        // Durations off the 15 minute grid block every granule they touch
+        int lengthGranules = (durationMinutes + GRANULE_MINUTES - 1) / GRANULE_MINUTES;
+        boolean aligned = durationMinutes % GRANULE_MINUTES == 0;
+
+        long starts = freeStarts(occupiedMask, lengthGranules);
+        while (starts != 0 && slots.size() < limit) {
+            int start = Long.numberOfTrailingZeros(starts);
+            starts &= starts - 1;
+
+            if (aligned) {
+                slots.add(SLOT_LABELS[start][start + lengthGranules]);
+            } else {
+                int startMinute = granuleToMinute(start);
+                slots.add(MINUTE_LABELS[startMinute] + "-" + MINUTE_LABELS[startMinute + durationMinutes]);
+            }
+        }
+        return slots;
+    }
+
+    /**
+     * All free slots of durationMinutes for the day
+     */
+    public static List<String> freeSlots(long occupiedMask, int durationMinutes) {
+        return freeSlots(occupiedMask, durationMinutes, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Interned "HH:MM" label for a minute of the day
+     */
+    public static String minuteLabel(int minuteOfDay) {
+        return MINUTE_LABELS[minuteOfDay];
+    }
+}
@@ -158,11 +158,27 @@
                         </div>
                     </div>
                     <div class="search-info">
-                        Showing <span id="visibleCount">${not empty bookings ? bookings.size() : '0'}</span> bookings
+                        Showing <span id="visibleCount">${not empty bookings ? bookings.size() : '0'}</span> bookings on this page
                         <c:if test="${not empty param.filter && param.filter ne 'all'}">
                             from <strong>Yash Technology</strong> (${param.filter} filter)
                         </c:if>
                     </div>
+                    <!-- ✅ Streaming export of every booking in the current tab -->
+                    <c:choose>
+                        <c:when test="${currentFilter eq 'vip'}">
+                            <c:set var="exportQuery" value="priority=VIP"/>
+                        </c:when>
+                        <c:when test="${currentFilter eq 'all'}">
+                            <c:set var="exportQuery" value=""/>
+                        </c:when>
+                        <c:otherwise>
+                            <c:set var="exportQuery" value="status=${currentFilter}"/>
+                        </c:otherwise>
+                    </c:choose>
+                    <div class="export-links">
+                        <a href="${pageContext.request.contextPath}/admin/export-bookings?format=csv&${exportQuery}">⬇️ Export CSV</a>
+                        <a href="${pageContext.request.contextPath}/admin/export-bookings?format=ndjson&gzip=true&${exportQuery}">⬇️ Export NDJSON (.gz)</a>
+                    </div>
                 </div>
             </div>
         </section>
@@ -371,6 +387,22 @@
                             </form>
                         </c:otherwise>
                     </c:choose>
+
+                    <!-- ✅ Keyset pagination: newest first, one page per request -->
+                    <c:if test="${not isFirstPage || not empty nextToken}">
+                        <div class="pagination-nav">
+                            <c:if test="${not isFirstPage}">
+                                <a class="pagination-link" href="${pageContext.request.contextPath}/admin/bookings?filter=${currentFilter}">
+                                    ⏮️ Back to newest
+                                </a>
+                            </c:if>
+                            <c:if test="${not empty nextToken}">
+                                <a class="pagination-link" href="${pageContext.request.contextPath}/admin/bookings?filter=${currentFilter}&after=${nextToken}">
+                                    Older bookings →
+                                </a>
+                            </c:if>
+                        </div>
+                    </c:if>
                 </div>
             </div>
         </section>
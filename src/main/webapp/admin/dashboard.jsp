@@ -136,7 +136,7 @@
                 <div class="stat-card vip">
                     <div class="stat-icon">⭐</div>
                     <div class="stat-content">
-                        <div class="stat-number">${not empty vipBookings ? vipBookings.size() : 0}</div>
+                        <div class="stat-number">${vipBookingCount}</div>
                         <div class="stat-label">VIP Priority</div>
                     </div>
                     <a href="${pageContext.request.contextPath}/admin/bookings?filter=vip" class="stat-action">
@@ -443,7 +443,7 @@
                             ⏳ Review Pending (${pendingCount})
                         </a>
                         <a href="${pageContext.request.contextPath}/admin/bookings?filter=vip" class="quick-action vip">
-                            ⭐ VIP Priority (${not empty vipBookings ? vipBookings.size() : 0})
+                            ⭐ VIP Priority (${vipBookingCount})
                         </a>
 
                         <!-- User Actions -->
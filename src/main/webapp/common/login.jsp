@@ -45,6 +45,13 @@
                     <input type="password" id="password" name="password" required>
                 </div>
 
+                <div class="remember-device">
+                    <label>
+                        <input type="checkbox" name="rememberDevice" value="true">
+                        Remember this device
+                    </label>
+                </div>
+
                 <button type="submit" class="login-btn">
                     🔐 Login
                 </button>
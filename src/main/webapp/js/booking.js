@@ -462,20 +462,23 @@ function checkAvailability() {
 
     // ✅ CRITICAL: Get context path with detailed logging
     const contextPath = getContextPath();
-    const requestBody = `cabinId=${cabinId}&date=${date}&startTime=${selectedStartTime}&duration=${selectedDuration}`;
-    const fullURL = contextPath + '/book?action=availability';
+    // ✅ GET, so the browser can revalidate with the ETag and get a 304 when nothing changed
+    const query = new URLSearchParams({
+        action: 'availability',
+        cabinId: cabinId,
+        date: date,
+        startTime: selectedStartTime,
+        duration: selectedDuration
+    });
+    const fullURL = contextPath + '/book?' + query.toString();
 
     console.log('📡 Request details:');
     console.log('   - Context Path:', contextPath);
     console.log('   - Full URL:', fullURL);
-    console.log('   - Request Body:', requestBody);
 
     fetch(fullURL, {
-        method: 'POST',
-        headers: {
-            'Content-Type': 'application/x-www-form-urlencoded'
-        },
-        body: requestBody
+        method: 'GET',
+        headers: { 'Accept': 'application/json' }
     })
     .then(response => {
         console.log('📡 Response received:');
@@ -512,16 +515,22 @@ function checkMultiDayAvailability() {
 
     // ✅ CRITICAL: Get context path with detailed logging
     const contextPath = getContextPath();
-    const fullURL = contextPath + '/book?action=multiDayAvailability';
+    const query = new URLSearchParams({
+        action: 'multiDayAvailability',
+        cabinId: cabinId,
+        startDate: startDate,
+        endDate: endDate,
+        bookingType: 'MULTI_DAY'
+    });
+    const fullURL = contextPath + '/book?' + query.toString();
 
     console.log('📡 Multi-day request details:');
     console.log('   - Context Path:', contextPath);
     console.log('   - Full URL:', fullURL);
 
     fetch(fullURL, {
-        method: 'POST',
-        headers: { 'Content-Type': 'application/x-www-form-urlencoded' },
-        body: `cabinId=${cabinId}&startDate=${startDate}&endDate=${endDate}&bookingType=MULTI_DAY`
+        method: 'GET',
+        headers: { 'Accept': 'application/json' }
     })
     .then(response => {
         console.log('📡 Multi-day response status:', response.status);
@@ -64,15 +64,15 @@
                         <div class="stat-label">Total Bookings</div>
                     </div>
                     <div class="stat-card pending">
-                        <div class="stat-number">${pendingBookings.size()}</div>
+                        <div class="stat-number">${pendingCount}</div>
                         <div class="stat-label">Pending</div>
                     </div>
                     <div class="stat-card approved">
-                        <div class="stat-number">${approvedBookings.size()}</div>
+                        <div class="stat-number">${approvedCount}</div>
                         <div class="stat-label">Approved</div>
                     </div>
                     <div class="stat-card rejected">
-                        <div class="stat-number">${rejectedBookings.size()}</div>
+                        <div class="stat-number">${rejectedCount}</div>
                         <div class="stat-label">Rejected</div>
                     </div>
                 </div>
@@ -106,13 +106,13 @@
                         📋 All (${totalBookings})
                     </button>
                     <button class="filter-tab" data-filter="pending">
-                        ⏳ Pending (${pendingBookings.size()})
+                        ⏳ Pending (${pendingCount})
                     </button>
                     <button class="filter-tab" data-filter="approved">
-                        ✅ Approved (${approvedBookings.size()})
+                        ✅ Approved (${approvedCount})
                     </button>
                     <button class="filter-tab" data-filter="rejected">
-                        ❌ Rejected (${rejectedBookings.size()})
+                        ❌ Rejected (${rejectedCount})
                     </button>
                 </div>
 
@@ -373,6 +373,22 @@
                             </c:otherwise>
                         </c:choose>
                     </div>
+
+                    <!-- ✅ Keyset pagination: tabs filter the bookings on this page -->
+                    <c:if test="${not isFirstPage || not empty nextToken}">
+                        <div class="pagination-nav">
+                            <c:if test="${not isFirstPage}">
+                                <a class="pagination-link" href="${pageContext.request.contextPath}/mybookings">
+                                    ⏮️ Back to newest
+                                </a>
+                            </c:if>
+                            <c:if test="${not empty nextToken}">
+                                <a class="pagination-link" href="${pageContext.request.contextPath}/mybookings?after=${nextToken}">
+                                    Older bookings →
+                                </a>
+                            </c:if>
+                        </div>
+                    </c:if>
                 </div>
             </div>
 
@@ -408,7 +424,7 @@
                             <span class="summary-value">
                                 <c:choose>
                                     <c:when test="${totalBookings > 0}">
-                                        ${Math.round((approvedBookings.size() * 100.0) / totalBookings)}%
+                                        ${Math.round((approvedCount * 100.0) / totalBookings)}%
                                     </c:when>
                                     <c:otherwise>0%</c:otherwise>
                                 </c:choose>
@@ -418,9 +434,12 @@
                             <span class="summary-label">Most Recent:</span>
                             <span class="summary-value">
                                 <c:choose>
-                                    <c:when test="${not empty allBookings}">
+                                    <c:when test="${isFirstPage && not empty allBookings}">
                                         <fmt:formatDate value="${allBookings[0].createdAt}" pattern="MMM dd"/>
                                     </c:when>
+                                    <c:when test="${not isFirstPage}">
+                                        <a href="${pageContext.request.contextPath}/mybookings">View</a>
+                                    </c:when>
                                     <c:otherwise>None</c:otherwise>
                                 </c:choose>
                             </span>
@@ -0,0 +1,58 @@
+package com.yash.cabinbooking;
+
+import com.yash.cabinbooking.util.DbUtil;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Embedded H2 (MySQL mode, REPEATABLE READ) database shared by the DAO and
+ * service tests, with the schema in src/test/resources/h2/schema.sql.
+ *
+ * DbUtil reads its cabinbooking.db.* properties when the class is loaded, and
+ * all test classes run in one JVM - so every test that reaches the database
+ * calls start() in its @BeforeClass, before touching a DAO. Tests share the
+ * data; each one works on rows (days, emails) of its own.
+ */
+public final class TestDatabase {
+
+    private static final String URL = "jdbc:h2:mem:cabinbookingtest;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    private static boolean started;
+
+    private TestDatabase() {
+    }
+
+    public static synchronized void start() throws SQLException {
+        if (started) return;
+
+        System.setProperty("cabinbooking.db.url", URL);
+        System.setProperty("cabinbooking.db.user", "sa");
+        System.setProperty("cabinbooking.db.password", "");
+        System.setProperty("cabinbooking.db.driver", "org.h2.Driver");
+        System.setProperty("cabinbooking.db.sessionInitSql",
+                "SET SESSION CHARACTERISTICS AS TRANSACTION ISOLATION LEVEL REPEATABLE READ");
+        // The schema already has every migrated column; GET_LOCK is MySQL-only anyway
+        System.setProperty("cabinbooking.migrations.enabled", "false");
+
+        Connection conn = getConnection();
+        try (Statement stmt = conn.createStatement()) {
+            stmt.execute("RUNSCRIPT FROM 'classpath:/h2/schema.sql'");
+        } finally {
+            DbUtil.closeConnection(conn);
+        }
+        started = true;
+    }
+
+    /**
+     * Pooled connection for checks made by a test; close with DbUtil.closeConnection
+     */
+    public static Connection getConnection() throws SQLException {
+        Connection conn = DbUtil.getConnection();
+        if (conn == null) {
+            throw new SQLException("No connection to " + URL);
+        }
+        return conn;
+    }
+}
@@ -0,0 +1,111 @@
+package com.yash.cabinbooking.cache;
+
+import com.yash.cabinbooking.cache.AvailabilityIndex.DaySchedule;
+import com.yash.cabinbooking.util.SlotGrid;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class DayScheduleTest {
+
+    // 1: 09:00-10:00, 2: 11:00-12:00, 3: 14:00-15:30 - given out of order on purpose
+    private static DaySchedule sample() {
+        return DaySchedule.build(Arrays.asList(3, 1, 2), Arrays.asList(840, 540, 660), Arrays.asList(930, 600, 720));
+    }
+
+    @Test
+    public void emptyDayHasNoOverlaps() {
+        DaySchedule empty = DaySchedule.build(Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+
+        assertFalse(empty.overlaps(0, 24 * 60));
+        assertEquals(0, empty.size());
+        assertEquals(0L, empty.getOccupancyMask());
+    }
+
+    @Test
+    public void overlapsFindsAnyIntersection() {
+        DaySchedule day = sample();
+
+        assertTrue(day.overlaps(570, 580));     // inside 1
+        assertTrue(day.overlaps(500, 550));     // across the start of 1
+        assertTrue(day.overlaps(700, 850));     // across the end of 2 and the start of 3
+        assertFalse(day.overlaps(600, 660));    // the gap between 1 and 2
+        assertFalse(day.overlaps(930, 1000));   // right after 3
+        assertFalse(day.overlaps(480, 540));    // right before 1
+    }
+
+    @Test
+    public void overlapsSeesLongBookingsThatStartEarlier() {
+        // Legacy data: 1 spans 09:00-13:00 and 2 sits inside it
+        DaySchedule day = DaySchedule.build(Arrays.asList(1, 2), Arrays.asList(540, 600), Arrays.asList(780, 630));
+
+        assertTrue(day.overlaps(700, 710));
+        assertEquals(Collections.singletonList(1), day.conflictingBookingIds(700, 710));
+        assertEquals(Arrays.asList(1, 2), day.conflictingBookingIds(610, 620));
+    }
+
+    @Test
+    public void conflictingBookingIdsAreInStartOrder() {
+        assertEquals(Arrays.asList(1, 2, 3), sample().conflictingBookingIds(0, 24 * 60));
+        assertEquals(Collections.emptyList(), sample().conflictingBookingIds(600, 660));
+    }
+
+    @Test
+    public void withAddsABookingInStartOrder() {
+        DaySchedule day = sample();
+        DaySchedule added = day.with(4, 600, 660);
+
+        assertEquals(4, added.size());
+        assertEquals(Arrays.asList(1, 4, 2, 3), added.conflictingBookingIds(0, 24 * 60));
+        assertTrue(added.overlaps(620, 630));
+
+        // The original is untouched
+        assertEquals(3, day.size());
+        assertFalse(day.overlaps(620, 630));
+    }
+
+    @Test
+    public void withMovesAnExistingBooking() {
+        DaySchedule moved = sample().with(1, 960, 1020);
+
+        assertEquals(3, moved.size());
+        assertFalse(moved.overlaps(540, 600));
+        assertTrue(moved.overlaps(1000, 1010));
+        assertEquals(Arrays.asList(2, 3, 1), moved.conflictingBookingIds(0, 24 * 60));
+    }
+
+    @Test
+    public void withoutRemovesOnlyThatBooking() {
+        DaySchedule day = sample();
+        DaySchedule removed = day.without(2);
+
+        assertEquals(2, removed.size());
+        assertFalse(removed.overlaps(660, 720));
+        assertEquals(Arrays.asList(1, 3), removed.conflictingBookingIds(0, 24 * 60));
+        assertTrue(day.overlaps(660, 720));
+    }
+
+    @Test
+    public void withoutUnknownBookingReturnsSameSchedule() {
+        DaySchedule day = sample();
+
+        assertSame(day, day.without(99));
+    }
+
+    @Test
+    public void occupancyMaskFollowsChanges() {
+        DaySchedule day = sample();
+        long expected = SlotGrid.maskFor(540, 600) | SlotGrid.maskFor(660, 720) | SlotGrid.maskFor(840, 930);
+        assertEquals(expected, day.getOccupancyMask());
+
+        assertEquals(expected | SlotGrid.maskFor(600, 660), day.with(4, 600, 660).getOccupancyMask());
+        assertEquals(expected & ~SlotGrid.maskFor(660, 720), day.without(2).getOccupancyMask());
+    }
+}
@@ -0,0 +1,170 @@
+package com.yash.cabinbooking.daoimpl;
+
+import com.yash.cabinbooking.TestDatabase;
+import com.yash.cabinbooking.model.Booking;
+import com.yash.cabinbooking.util.DbUtil;
+
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * createBooking and moveBookingToCabin raced from many threads against the H2 TestDatabase.
+ *
+ * Every test books a new day. Threads that pass the AvailabilityIndex fast path
+ * together are decided by the re-check under the cabin-day lock.
+ * H2 locks differently from InnoDB; this checks the check-and-insert, not MySQL.
+ */
+public class BookingDaoImplConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int CABIN_ID = 1;
+    private static final int OTHER_CABIN_ID = 2;
+
+    private static final AtomicInteger NEXT_DAY = new AtomicInteger();
+
+    private BookingDaoImpl bookingDao;
+    private Date day;
+
+    @BeforeClass
+    public static void startDatabase() throws SQLException {
+        TestDatabase.start();
+    }
+
+    @Before
+    public void setUp() {
+        bookingDao = new BookingDaoImpl();
+        day = Date.valueOf(LocalDate.now().plusDays(100 + NEXT_DAY.incrementAndGet()));
+    }
+
+    @Test
+    public void sameSlotIsBookedOnce() throws Exception {
+        List<String> slots = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            slots.add("10:00-11:00");
+        }
+
+        assertEquals(1, race(slots));
+        assertEquals(1, countBookings(day));
+    }
+
+    @Test
+    public void overlappingSlotsAreBookedOnce() throws Exception {
+        List<String> slots = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            // 09:00-10:00, 09:05-10:05, ... - every pair overlaps
+            int start = 9 * 60 + i * 5;
+            slots.add(label(start) + "-" + label(start + 60));
+        }
+
+        assertEquals(1, race(slots));
+        assertEquals(1, countBookings(day));
+    }
+
+    @Test
+    public void disjointSlotsAreAllBooked() throws Exception {
+        List<String> slots = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            int start = 9 * 60 + i * 60;
+            slots.add(label(start) + "-" + label(start + 60));
+        }
+
+        assertEquals(THREADS, race(slots));
+        assertEquals(THREADS, countBookings(day));
+    }
+
+    @Test
+    public void moveAndCreateIntoTheSameSlotSucceedOnce() throws Exception {
+        Booking elsewhere = new Booking(99, OTHER_CABIN_ID, day, "10:00-11:00", "Booking to move");
+        assertTrue(bookingDao.createBooking(elsewhere));
+        Booking toMove = bookingDao.getBookingById(elsewhere.getBookingId());
+
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        tasks.add(() -> bookingDao.moveBookingToCabin(toMove, CABIN_ID, 1));
+        for (int i = 1; i < THREADS; i++) {
+            Booking booking = new Booking(100 + i, CABIN_ID, day, "10:30-11:30", "Concurrency test " + i);
+            tasks.add(() -> bookingDao.createBooking(booking));
+        }
+
+        assertEquals(1, runTogether(tasks));
+        assertEquals(1, countBookings(day));
+    }
+
+    // ================================
+    // PRIVATE UTILITY METHODS
+    // ================================
+
+    // One thread per slot, all released at once; returns how many createBooking calls succeeded
+    private int race(List<String> slots) throws Exception {
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (int i = 0; i < slots.size(); i++) {
+            Booking booking = new Booking(100 + i, CABIN_ID, day, slots.get(i), "Concurrency test " + i);
+            tasks.add(() -> bookingDao.createBooking(booking));
+        }
+        return runTogether(tasks);
+    }
+
+    // One thread per task, all released at once; returns how many returned true
+    private static int runTogether(List<Callable<Boolean>> tasks) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(tasks.size());
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (Callable<Boolean> task : tasks) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+
+            int succeeded = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get(30, TimeUnit.SECONDS)) {
+                    succeeded++;
+                }
+            }
+            return succeeded;
+        } finally {
+            pool.shutdownNow();
+            assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+        }
+    }
+
+    private static int countBookings(Date day) throws SQLException {
+        Connection conn = TestDatabase.getConnection();
+        try (PreparedStatement pstmt = conn.prepareStatement(
+                "SELECT COUNT(*) FROM bookings WHERE cabin_id = ? AND booking_date = ?")) {
+            pstmt.setInt(1, CABIN_ID);
+            pstmt.setDate(2, day);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? rs.getInt(1) : 0;
+            }
+        } finally {
+            DbUtil.closeConnection(conn);
+        }
+    }
+
+    private static String label(int minuteOfDay) {
+        return String.format("%02d:%02d", minuteOfDay / 60, minuteOfDay % 60);
+    }
+}
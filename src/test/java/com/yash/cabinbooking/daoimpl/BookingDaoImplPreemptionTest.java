@@ -0,0 +1,134 @@
+package com.yash.cabinbooking.daoimpl;
+
+import com.yash.cabinbooking.TestDatabase;
+import com.yash.cabinbooking.model.Booking;
+import com.yash.cabinbooking.model.BookingChange;
+import com.yash.cabinbooking.util.DbUtil;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * createVIPBookingWithPreemption against the H2 TestDatabase: what it commits and
+ * the displaced bookings it reports back for the metrics.
+ */
+public class BookingDaoImplPreemptionTest {
+
+    private static int vipCabinId;
+    private static int freeCabinId;
+    private static int fullCabinId;
+
+    @BeforeClass
+    public static void startDatabase() throws SQLException {
+        TestDatabase.start();
+        vipCabinId = insertCabin("Preemption VIP Room", true);
+        freeCabinId = insertCabin("Preemption Room A", false);
+        fullCabinId = insertCabin("Preemption Room B", false);
+    }
+
+    @Test
+    public void displacedBookingsAreMovedOrRejectedAndReported() throws SQLException {
+        Date day = Date.valueOf(LocalDate.now().plusDays(300));
+        int approvedId = insertBooking(vipCabinId, day, 10 * 60, 11 * 60, "APPROVED");
+        int pendingId = insertBooking(vipCabinId, day, 10 * 60 + 30, 11 * 60 + 30, "PENDING");
+        insertBooking(fullCabinId, day, 8 * 60, 18 * 60, "APPROVED");
+
+        Booking vipBooking = new Booking(1, vipCabinId, day, "10:00-12:00", "Board meeting");
+        vipBooking.setPriorityLevel(Booking.PriorityLevel.VIP);
+        vipBooking.setStatus(Booking.Status.APPROVED);
+
+        List<BookingChange> changes = new BookingDaoImpl().createVIPBookingWithPreemption(vipBooking);
+
+        assertNotNull(changes);
+        assertTrue(vipBooking.getBookingId() > 0);
+        assertEquals(2, changes.size());
+
+        // The first conflict takes the free room; the second overlaps it there and has nowhere to go
+        BookingChange moved = changes.get(0);
+        assertEquals(approvedId, moved.getBefore().getBookingId());
+        assertTrue(moved.isCabinChanged());
+        assertEquals(vipCabinId, moved.getBefore().getCabinId());
+        assertEquals(Booking.Status.APPROVED, moved.getBefore().getStatus());
+        assertEquals(freeCabinId, moved.getAfter().getCabinId());
+        assertEquals(Booking.Status.APPROVED, moved.getAfter().getStatus());
+        assertEquals(60, moved.getAfter().getDurationMinutes());
+
+        BookingChange rejected = changes.get(1);
+        assertEquals(pendingId, rejected.getBefore().getBookingId());
+        assertFalse(rejected.isCabinChanged());
+        assertEquals(Booking.Status.PENDING, rejected.getBefore().getStatus());
+        assertEquals(Booking.Status.REJECTED, rejected.getAfter().getStatus());
+        assertEquals(day, rejected.getAfter().getBookingDate());
+
+        assertEquals(freeCabinId + ":APPROVED", storedCabinAndStatus(approvedId));
+        assertEquals(vipCabinId + ":REJECTED", storedCabinAndStatus(pendingId));
+    }
+
+    @Test
+    public void freeSlotDisplacesNothing() {
+        Date day = Date.valueOf(LocalDate.now().plusDays(301));
+
+        Booking vipBooking = new Booking(1, vipCabinId, day, "14:00-15:00", "Board meeting");
+        vipBooking.setPriorityLevel(Booking.PriorityLevel.VIP);
+        vipBooking.setStatus(Booking.Status.APPROVED);
+
+        List<BookingChange> changes = new BookingDaoImpl().createVIPBookingWithPreemption(vipBooking);
+
+        assertNotNull(changes);
+        assertTrue(changes.isEmpty());
+        assertTrue(vipBooking.getBookingId() > 0);
+    }
+
+    // ================================
+    // PRIVATE UTILITY METHODS
+    // ================================
+
+    private static int insertCabin(String name, boolean vipOnly) throws SQLException {
+        return insert("INSERT INTO cabins (company_id, name, capacity, is_vip_only) VALUES (1, '" + name + "', 6, " + vipOnly + ")");
+    }
+
+    private static int insertBooking(int cabinId, Date day, int start, int end, String status) throws SQLException {
+        String slot = String.format("%02d:%02d-%02d:%02d", start / 60, start % 60, end / 60, end % 60);
+        return insert("INSERT INTO bookings (user_id, cabin_id, booking_date, time_slot, start_minute, end_minute, purpose, status) " +
+                "VALUES (99, " + cabinId + ", '" + day + "', '" + slot + "', " + start + ", " + end + ", 'Preemption test', '" + status + "')");
+    }
+
+    private static int insert(String sql) throws SQLException {
+        Connection conn = TestDatabase.getConnection();
+        try (Statement stmt = conn.createStatement()) {
+            stmt.executeUpdate(sql, Statement.RETURN_GENERATED_KEYS);
+            try (ResultSet rs = stmt.getGeneratedKeys()) {
+                assertTrue(rs.next());
+                return rs.getInt(1);
+            }
+        } finally {
+            DbUtil.closeConnection(conn);
+        }
+    }
+
+    private static String storedCabinAndStatus(int bookingId) throws SQLException {
+        Connection conn = TestDatabase.getConnection();
+        try (PreparedStatement pstmt = conn.prepareStatement("SELECT cabin_id, status FROM bookings WHERE booking_id = ?")) {
+            pstmt.setInt(1, bookingId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? rs.getInt(1) + ":" + rs.getString(2) : null;
+            }
+        } finally {
+            DbUtil.closeConnection(conn);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.yash.cabinbooking.daoimpl;
+
+import com.yash.cabinbooking.TestDatabase;
+import com.yash.cabinbooking.model.Booking;
+import com.yash.cabinbooking.model.CabinUtilization;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.sql.Date;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * getCabinUtilizationForDate against the H2 TestDatabase.
+ */
+public class BookingDaoImplUtilizationTest {
+
+    private static final int CABIN_ID = 11;
+    private static final int OTHER_CABIN_ID = 12;
+
+    @BeforeClass
+    public static void startDatabase() throws SQLException {
+        TestDatabase.start();
+    }
+
+    @Test
+    public void countsAndMinutesAreSummedPerCabin() {
+        BookingDaoImpl bookingDao = new BookingDaoImpl();
+        Date day = Date.valueOf(LocalDate.now().plusDays(400));
+
+        assertTrue(bookingDao.createBooking(new Booking(7, CABIN_ID, day, "09:00-10:00", "Standup")));
+        assertTrue(bookingDao.createBooking(new Booking(7, CABIN_ID, day, "10:00-11:30", "Review")));
+        assertTrue(bookingDao.createBooking(new Booking(7, OTHER_CABIN_ID, day, "14:00-14:45", "Sync")));
+        Booking rejected = new Booking(7, CABIN_ID, day, "15:00-17:00", "Rejected later");
+        assertTrue(bookingDao.createBooking(rejected));
+        assertTrue(bookingDao.rejectBooking(rejected.getBookingId(), 1));
+
+        Map<Integer, CabinUtilization> histogram = bookingDao.getCabinUtilizationForDate(day);
+
+        assertEquals(2, histogram.size());
+        assertEquals(2, histogram.get(CABIN_ID).getBookingCount());
+        assertEquals(150, histogram.get(CABIN_ID).getBookedMinutes());
+        assertEquals(1, histogram.get(OTHER_CABIN_ID).getBookingCount());
+        assertEquals(45, histogram.get(OTHER_CABIN_ID).getBookedMinutes());
+        assertFalse(histogram.get(OTHER_CABIN_ID).isUnderbooked(1, 60));
+    }
+
+    @Test
+    public void emptyDayHasNoCabins() {
+        Date day = Date.valueOf(LocalDate.now().plusDays(401));
+
+        assertTrue(new BookingDaoImpl().getCabinUtilizationForDate(day).isEmpty());
+    }
+}
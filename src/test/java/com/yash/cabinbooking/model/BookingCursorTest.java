@@ -0,0 +1,64 @@
+package com.yash.cabinbooking.model;
+
+import org.junit.Test;
+
+import java.sql.Timestamp;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class BookingCursorTest {
+
+    private static final Timestamp CREATED_AT = Timestamp.valueOf("2026-03-01 08:30:15.250");
+
+    @Test
+    public void tokenRoundTrips() {
+        BookingCursor cursor = new BookingCursor(CREATED_AT, 4711);
+        String token = cursor.toToken();
+
+        assertEquals(CREATED_AT.getTime() + ".4711", token);
+
+        BookingCursor parsed = BookingCursor.fromToken(token);
+        assertEquals(CREATED_AT, parsed.getLastCreatedAt());
+        assertEquals(4711, parsed.getLastBookingId());
+    }
+
+    @Test
+    public void afterTakesTheBookingsPosition() {
+        Booking booking = new Booking();
+        booking.setBookingId(12);
+        booking.setCreatedAt(CREATED_AT);
+
+        BookingCursor parsed = BookingCursor.fromToken(BookingCursor.after(booking).toToken());
+        assertEquals(CREATED_AT, parsed.getLastCreatedAt());
+        assertEquals(12, parsed.getLastBookingId());
+    }
+
+    @Test
+    public void missingTokenIsTheFirstPage() {
+        assertNull(BookingCursor.fromToken(null));
+        assertNull(BookingCursor.fromToken(""));
+    }
+
+    @Test
+    public void tamperedTokenIsTheFirstPage() {
+        long millis = CREATED_AT.getTime();
+        String[] tampered = {
+                "garbage", ".4711", millis + ".", Long.toString(millis), millis + ".4711.1",
+                millis + ".abc", "abc.4711", millis + ".99999999999", "99999999999999999999.4711",
+                millis + ". 4711", millis + ".4711'--", "0x10.4711"
+        };
+        for (String token : tampered) {
+            assertNull(token, BookingCursor.fromToken(token));
+        }
+    }
+
+    @Test
+    public void editedTokenOnlyMovesThePosition() {
+        // Not signed: a well-formed edit is just another keyset position within the same query
+        BookingCursor parsed = BookingCursor.fromToken("0.1");
+
+        assertEquals(0L, parsed.getLastCreatedAt().getTime());
+        assertEquals(1, parsed.getLastBookingId());
+    }
+}
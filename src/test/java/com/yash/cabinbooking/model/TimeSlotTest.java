@@ -0,0 +1,118 @@
+package com.yash.cabinbooking.model;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class TimeSlotTest {
+
+    @Test
+    public void parseReadsStartAndEndMinutes() {
+        TimeSlot slot = TimeSlot.parse("09:00-10:30");
+
+        assertEquals(540, slot.getStartMinute());
+        assertEquals(630, slot.getEndMinute());
+        assertEquals(90, slot.getDurationMinutes());
+        assertEquals("09:00-10:30", slot.toString());
+    }
+
+    @Test
+    public void parseAcceptsSingleDigitHoursAndBlanks() {
+        TimeSlot slot = TimeSlot.parse(" 9:00 - 10:30 ");
+
+        assertEquals("09:00-10:30", slot.toString());
+        assertSame(TimeSlot.parse("09:00-10:30"), slot);
+    }
+
+    @Test
+    public void parseRejectsMalformedText() {
+        String[] invalid = {
+                null, "", " ", "09:00", "09:00-", "-10:00", "09:00-10:00x", "09:00--10:00",
+                "9-10", "09:0-10:00", "09:60-10:00", "24:00-24:30", "123:00-13:00", "09.00-10.00"
+        };
+        for (String text : invalid) {
+            assertNull(text, TimeSlot.parse(text));
+            assertEquals(text, TimeSlot.INVALID, TimeSlot.parsePacked(text));
+        }
+    }
+
+    @Test
+    public void parseRejectsEmptyAndBackwardRanges() {
+        assertNull(TimeSlot.parse("10:00-10:00"));
+        assertNull(TimeSlot.parse("10:00-09:00"));
+    }
+
+    @Test
+    public void parsePackedMatchesParse() {
+        int packed = TimeSlot.parsePacked("13:15-17:45");
+
+        assertEquals(13 * 60 + 15, TimeSlot.startOf(packed));
+        assertEquals(17 * 60 + 45, TimeSlot.endOf(packed));
+        assertEquals(TimeSlot.parse("13:15-17:45").getPacked(), packed);
+    }
+
+    @Test
+    public void parsePackedCoversTheWholeDay() {
+        int packed = TimeSlot.parsePacked("00:00-23:59");
+
+        assertEquals(0, TimeSlot.startOf(packed));
+        assertEquals(23 * 60 + 59, TimeSlot.endOf(packed));
+    }
+
+    @Test
+    public void parseMinuteReadsOneTime() {
+        assertEquals(0, TimeSlot.parseMinute("00:00"));
+        assertEquals(9 * 60 + 5, TimeSlot.parseMinute(" 9:05 "));
+        assertEquals(TimeSlot.INVALID, TimeSlot.parseMinute("09:00-10:00"));
+        assertEquals(TimeSlot.INVALID, TimeSlot.parseMinute("25:00"));
+    }
+
+    @Test
+    public void alignedSlotsAreShared() {
+        assertSame(TimeSlot.of(540, 600), TimeSlot.of(540, 600));
+
+        // Off the 15 minute grid - a new but equal instance
+        TimeSlot odd = TimeSlot.of(545, 600);
+        assertNotSame(odd, TimeSlot.of(545, 600));
+        assertEquals(odd, TimeSlot.of(545, 600));
+        assertEquals("09:05-10:00", odd.toString());
+    }
+
+    @Test
+    public void ofRejectsRangesOutsideOneDay() {
+        assertNull(TimeSlot.of(-1, 60));
+        assertNull(TimeSlot.of(600, 600));
+        assertNull(TimeSlot.of(23 * 60, 24 * 60));
+    }
+
+    @Test
+    public void bookableDurationIsFifteenMinutesToEightHours() {
+        assertFalse(TimeSlot.parse("09:00-09:10").hasBookableDuration());
+        assertTrue(TimeSlot.parse("09:00-09:15").hasBookableDuration());
+        assertTrue(TimeSlot.parse("09:00-17:00").hasBookableDuration());
+        assertFalse(TimeSlot.parse("09:00-17:15").hasBookableDuration());
+    }
+
+    @Test
+    public void businessHoursAreNineToSix() {
+        assertTrue(TimeSlot.parse("09:00-18:00").isWithinBusinessHours());
+        assertFalse(TimeSlot.parse("08:45-10:00").isWithinBusinessHours());
+        assertFalse(TimeSlot.parse("17:00-18:15").isWithinBusinessHours());
+    }
+
+    @Test
+    public void backToBackSlotsDoNotOverlap() {
+        TimeSlot slot = TimeSlot.parse("10:00-11:00");
+
+        assertFalse(slot.overlaps(TimeSlot.parse("09:00-10:00")));
+        assertFalse(slot.overlaps(TimeSlot.parse("11:00-12:00")));
+        assertTrue(slot.overlaps(TimeSlot.parse("10:59-12:00")));
+        assertTrue(slot.overlaps(TimeSlot.parse("10:15-10:30")));
+        assertFalse(slot.overlaps(null));
+    }
+}
@@ -0,0 +1,85 @@
+package com.yash.cabinbooking.serviceimpl;
+
+import com.yash.cabinbooking.TestDatabase;
+import com.yash.cabinbooking.daoimpl.UserDaoImpl;
+import com.yash.cabinbooking.model.SessionPrincipal;
+import com.yash.cabinbooking.model.User;
+import com.yash.cabinbooking.util.DbUtil;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.mindrot.jbcrypt.BCrypt;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * The profile page's save path for a signed-in user: the session only has a
+ * SessionPrincipal, so UserController reloads the user with getUserById (a
+ * copy without the password), applies the form and calls updateUserProfile.
+ */
+public class UserServiceImplProfileTest {
+
+    private static final String HASH = BCrypt.hashpw("Secret@123", BCrypt.gensalt(4));
+
+    @BeforeClass
+    public static void startDatabase() throws SQLException {
+        TestDatabase.start();
+    }
+
+    private static User createUser(String email) {
+        User user = new User("Profile Tester", email, HASH);
+        assertTrue(new UserDaoImpl().createUser(user));
+        return user;
+    }
+
+    @Test
+    public void signedInUserCanSaveProfile() throws SQLException {
+        User created = createUser("profile.save@test.local");
+        SessionPrincipal principal = SessionPrincipal.from(created);
+        UserServiceImpl userService = new UserServiceImpl();
+
+        // As UserController.loadFullProfile
+        User user = userService.getUserById(principal.getUserId());
+        assertNull(user.getPassword());
+
+        user.setName("Renamed Tester");
+        user.setEmail("profile.renamed@test.local");
+        assertTrue(userService.updateUserProfile(user));
+
+        User reloaded = userService.getUserById(principal.getUserId());
+        assertEquals("Renamed Tester", reloaded.getName());
+        assertEquals("profile.renamed@test.local", reloaded.getEmail());
+        assertEquals(HASH, storedPassword(principal.getUserId()));
+    }
+
+    @Test
+    public void invalidEmailIsStillRejected() {
+        User created = createUser("profile.invalid@test.local");
+        UserServiceImpl userService = new UserServiceImpl();
+
+        User user = userService.getUserById(created.getUserId());
+        user.setEmail("not-an-email");
+
+        assertFalse(userService.updateUserProfile(user));
+    }
+
+    private static String storedPassword(int userId) throws SQLException {
+        Connection conn = TestDatabase.getConnection();
+        try (PreparedStatement pstmt = conn.prepareStatement("SELECT password FROM users WHERE user_id = ?")) {
+            pstmt.setInt(1, userId);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() ? rs.getString(1) : null;
+            }
+        } finally {
+            DbUtil.closeConnection(conn);
+        }
+    }
+}
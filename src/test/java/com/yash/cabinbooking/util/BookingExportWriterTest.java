@@ -0,0 +1,93 @@
+package com.yash.cabinbooking.util;
+
+import com.yash.cabinbooking.model.Booking;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.sql.Date;
+import java.sql.Timestamp;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class BookingExportWriterTest {
+
+    private static final String HEADER = "booking_id,booking_date,time_slot,cabin_id,cabin_name,user_id,user_name," +
+            "purpose,booking_type,status,priority_level,created_at,approved_by,approved_at,rejected_by,rejected_at\r\n";
+
+    private static Booking booking(String cabinName, String purpose) {
+        Booking booking = new Booking(5, 3, Date.valueOf("2026-03-02"), "09:00-10:00", purpose);
+        booking.setBookingId(7);
+        booking.setCabinName(cabinName);
+        booking.setUserName("Ann");
+        booking.setCreatedAt(Timestamp.valueOf("2026-03-01 08:30:00"));
+        return booking;
+    }
+
+    private static String csv(Booking booking) throws IOException {
+        StringWriter out = new StringWriter();
+        BookingExportWriter writer = BookingExportWriter.forFormat("csv", out);
+        writer.accept(booking);
+        return out.toString();
+    }
+
+    private static String row(String cabinCell, String purposeCell) {
+        return "7,2026-03-02,09:00-10:00,3," + cabinCell + ",5,Ann," + purposeCell +
+                ",SINGLE_DAY,PENDING,NORMAL,2026-03-01 08:30:00,,,,\r\n";
+    }
+
+    @Test
+    public void headerIsOneCrlfTerminatedLine() throws IOException {
+        StringWriter out = new StringWriter();
+        BookingExportWriter.forFormat("CSV", out).writeHeader();
+
+        assertEquals(HEADER, out.toString());
+    }
+
+    @Test
+    public void plainValuesAreNotQuoted() throws IOException {
+        assertEquals(row("Room A", "Standup"), csv(booking("Room A", "Standup")));
+    }
+
+    @Test
+    public void commaIsQuoted() throws IOException {
+        assertEquals(row("\"Room A, 2nd floor\"", "Standup"), csv(booking("Room A, 2nd floor", "Standup")));
+    }
+
+    @Test
+    public void quoteIsDoubled() throws IOException {
+        assertEquals(row("Room A", "\"Review \"\"Q3\"\" plan\""), csv(booking("Room A", "Review \"Q3\" plan")));
+    }
+
+    @Test
+    public void newlinesStayInsideTheQuotedCell() throws IOException {
+        assertEquals(row("Room A", "\"Agenda:\n1. budget\r\n2. hiring\""),
+                csv(booking("Room A", "Agenda:\n1. budget\r\n2. hiring")));
+    }
+
+    @Test
+    public void everySpecialCharacterTogether() throws IOException {
+        assertEquals(row("Room A", "\"a,\"\"b\"\"\nc\""), csv(booking("Room A", "a,\"b\"\nc")));
+    }
+
+    @Test
+    public void formulaIsDefused() throws IOException {
+        assertEquals(row("Room A", "\"'=HYPERLINK(\"\"http://x\"\")\""), csv(booking("Room A", "=HYPERLINK(\"http://x\")")));
+        assertEquals(row("\"'+1\"", "\"'@SUM(A1)\""), csv(booking("+1", "@SUM(A1)")));
+        assertEquals(row("Room A", "\"'-2\""), csv(booking("Room A", "-2")));
+    }
+
+    @Test
+    public void missingValuesAreEmptyCells() throws IOException {
+        assertEquals(row("", ""), csv(booking(null, "")));
+    }
+
+    @Test
+    public void unknownFormatHasNoWriter() {
+        assertNull(BookingExportWriter.forFormat("xlsx", new StringWriter()));
+        assertNull(BookingExportWriter.contentTypeFor("xlsx"));
+        assertEquals("text/csv; charset=UTF-8", BookingExportWriter.contentTypeFor("csv"));
+    }
+}
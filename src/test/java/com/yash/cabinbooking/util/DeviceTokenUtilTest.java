@@ -0,0 +1,101 @@
+package com.yash.cabinbooking.util;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class DeviceTokenUtilTest {
+
+    private static final int USER_ID = 42;
+    private static final String HASH = "$2a$12$abcdefghijklmnopqrstuuABCDEFGHIJKLMNOPQRSTUVWXYZ01234";
+    private static final String PASSWORD = "Secret@123";
+
+    @Test
+    public void issuedTokenVerifies() {
+        String token = DeviceTokenUtil.issue(USER_ID, HASH, PASSWORD);
+
+        assertTrue(DeviceTokenUtil.verify(token, USER_ID, HASH, PASSWORD));
+    }
+
+    @Test
+    public void tokenCarriesUserAndExpiry() {
+        long now = System.currentTimeMillis() / 1000;
+        String[] parts = DeviceTokenUtil.issue(USER_ID, HASH, PASSWORD).split("\\.");
+
+        assertEquals(3, parts.length);
+        assertEquals(Integer.toString(USER_ID), parts[0]);
+        long expiresAt = Long.parseLong(parts[1]);
+        assertTrue(expiresAt >= now + DeviceTokenUtil.getMaxAgeSeconds());
+        assertTrue(expiresAt <= now + DeviceTokenUtil.getMaxAgeSeconds() + 5);
+    }
+
+    @Test
+    public void wrongPasswordDoesNotVerify() {
+        String token = DeviceTokenUtil.issue(USER_ID, HASH, PASSWORD);
+
+        assertFalse(DeviceTokenUtil.verify(token, USER_ID, HASH, "Secret@124"));
+    }
+
+    @Test
+    public void otherUserDoesNotVerify() {
+        String token = DeviceTokenUtil.issue(USER_ID, HASH, PASSWORD);
+
+        assertFalse(DeviceTokenUtil.verify(token, USER_ID + 1, HASH, PASSWORD));
+        // Swapping the user id in the token breaks the MAC
+        String swapped = (USER_ID + 1) + token.substring(token.indexOf('.'));
+        assertFalse(DeviceTokenUtil.verify(swapped, USER_ID + 1, HASH, PASSWORD));
+    }
+
+    @Test
+    public void changedStoredHashVoidsTheToken() {
+        String token = DeviceTokenUtil.issue(USER_ID, HASH, PASSWORD);
+        String rehashed = "$2a$13$abcdefghijklmnopqrstuuABCDEFGHIJKLMNOPQRSTUVWXYZ01234";
+
+        assertFalse(DeviceTokenUtil.verify(token, USER_ID, rehashed, PASSWORD));
+    }
+
+    @Test
+    public void expiredTokenDoesNotVerify() {
+        String[] parts = DeviceTokenUtil.issue(USER_ID, HASH, PASSWORD).split("\\.");
+        String expired = parts[0] + "." + (System.currentTimeMillis() / 1000 - 1) + "." + parts[2];
+
+        assertFalse(DeviceTokenUtil.verify(expired, USER_ID, HASH, PASSWORD));
+    }
+
+    @Test
+    public void extendedExpiryBreaksTheMac() {
+        String[] parts = DeviceTokenUtil.issue(USER_ID, HASH, PASSWORD).split("\\.");
+        String extended = parts[0] + "." + (Long.parseLong(parts[1]) + 86400) + "." + parts[2];
+
+        assertFalse(DeviceTokenUtil.verify(extended, USER_ID, HASH, PASSWORD));
+    }
+
+    @Test
+    public void alteredMacDoesNotVerify() {
+        String token = DeviceTokenUtil.issue(USER_ID, HASH, PASSWORD);
+        char last = token.charAt(token.length() - 1);
+        String altered = token.substring(0, token.length() - 1) + (last == 'A' ? 'B' : 'A');
+
+        assertFalse(DeviceTokenUtil.verify(altered, USER_ID, HASH, PASSWORD));
+        assertFalse(DeviceTokenUtil.verify(token.substring(0, token.length() - 1), USER_ID, HASH, PASSWORD));
+    }
+
+    @Test
+    public void malformedTokensDoNotVerify() {
+        String[] malformed = {"", "42", "42.1", "42.x.abc", "x.1.abc", "42.1.abc.def", "..."};
+        for (String token : malformed) {
+            assertFalse(token, DeviceTokenUtil.verify(token, USER_ID, HASH, PASSWORD));
+        }
+    }
+
+    @Test
+    public void nullInputsDoNotVerify() {
+        String token = DeviceTokenUtil.issue(USER_ID, HASH, PASSWORD);
+
+        assertFalse(DeviceTokenUtil.verify(null, USER_ID, HASH, PASSWORD));
+        assertFalse(DeviceTokenUtil.verify(token, USER_ID, null, PASSWORD));
+        assertFalse(DeviceTokenUtil.verify(token, USER_ID, HASH, null));
+    }
+}
@@ -0,0 +1,62 @@
+package com.yash.cabinbooking.util;
+
+import org.junit.Test;
+import org.mindrot.jbcrypt.BCrypt;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class PasswordUtilTest {
+
+    private static final String SALT_AND_HASH = "abcdefghijklmnopqrstuuABCDEFGHIJKLMNOPQRSTUVWXYZ01234";
+
+    private static String hashAtCost(int cost) {
+        return String.format("$2a$%02d$", cost) + SALT_AND_HASH;
+    }
+
+    @Test
+    public void hashCostIsReadFromTheHash() {
+        assertEquals(4, PasswordUtil.getHashCost(hashAtCost(4)));
+        assertEquals(10, PasswordUtil.getHashCost(hashAtCost(10)));
+        assertEquals(31, PasswordUtil.getHashCost(hashAtCost(31)));
+        assertEquals(12, PasswordUtil.getHashCost("$2b$12$" + SALT_AND_HASH));
+        assertEquals(12, PasswordUtil.getHashCost("$2y$12$" + SALT_AND_HASH));
+    }
+
+    @Test
+    public void hashCostOfARealHash() {
+        assertEquals(5, PasswordUtil.getHashCost(BCrypt.hashpw("Secret@123", BCrypt.gensalt(5))));
+    }
+
+    @Test
+    public void hashCostOfNonBCryptValues() {
+        assertEquals(-1, PasswordUtil.getHashCost(null));
+        assertEquals(-1, PasswordUtil.getHashCost(""));
+        assertEquals(-1, PasswordUtil.getHashCost("Secret@123"));
+        assertEquals(-1, PasswordUtil.getHashCost("$2a$12$tooShort"));
+        assertEquals(-1, PasswordUtil.getHashCost("$2x$12$" + SALT_AND_HASH));
+        assertEquals(-1, PasswordUtil.getHashCost("$2a$1x$" + SALT_AND_HASH));
+        assertEquals(-1, PasswordUtil.getHashCost("$2a$123" + SALT_AND_HASH));
+    }
+
+    @Test
+    public void hashAtTheWorkFactorNeedsNoRehash() {
+        assertFalse(PasswordUtil.needsRehash(hashAtCost(PasswordUtil.getWorkFactor())));
+    }
+
+    @Test
+    public void hashAtAnotherCostNeedsRehash() {
+        int workFactor = PasswordUtil.getWorkFactor();
+
+        assertTrue(PasswordUtil.needsRehash(hashAtCost(workFactor - 1)));
+        assertTrue(PasswordUtil.needsRehash(hashAtCost(workFactor + 1)));
+    }
+
+    @Test
+    public void nonBCryptValuesNeedNoRehash() {
+        assertFalse(PasswordUtil.needsRehash(null));
+        assertFalse(PasswordUtil.needsRehash("Secret@123"));
+        assertFalse(PasswordUtil.needsRehash("$2a$1x$" + SALT_AND_HASH));
+    }
+}
@@ -0,0 +1,111 @@
+package com.yash.cabinbooking.util;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+
+public class SlotGridTest {
+
+    private static final int NINE = 9 * 60;
+    private static final int SIX_PM = 18 * 60;
+    private static final long LAST_GRANULE = 1L << 35;
+
+    @Test
+    public void gridIsThirtySixGranules() {
+        assertEquals(36, SlotGrid.GRANULES);
+        assertEquals(0xFFFFFFFFFL, SlotGrid.FULL_DAY_MASK);
+        assertEquals(SIX_PM, SlotGrid.granuleToMinute(SlotGrid.GRANULES));
+    }
+
+    @Test
+    public void maskForFirstAndLastGranule() {
+        assertEquals(1L, SlotGrid.maskFor(NINE, NINE + 15));
+        assertEquals(LAST_GRANULE, SlotGrid.maskFor(SIX_PM - 15, SIX_PM));
+        assertEquals(SlotGrid.FULL_DAY_MASK, SlotGrid.maskFor(NINE, SIX_PM));
+    }
+
+    @Test
+    public void maskForClipsToBusinessHours() {
+        assertEquals(0L, SlotGrid.maskFor(8 * 60, NINE));
+        assertEquals(0L, SlotGrid.maskFor(SIX_PM, 20 * 60));
+        assertEquals(0b11L, SlotGrid.maskFor(8 * 60, NINE + 30));
+        assertEquals(LAST_GRANULE, SlotGrid.maskFor(SIX_PM - 5, 19 * 60));
+        assertEquals(SlotGrid.FULL_DAY_MASK, SlotGrid.maskFor(0, 24 * 60 - 1));
+    }
+
+    @Test
+    public void maskForMarksEveryGranuleTouched() {
+        assertEquals(1L, SlotGrid.maskFor(NINE + 5, NINE + 10));
+        assertEquals(0b11L, SlotGrid.maskFor(NINE + 10, NINE + 20));
+        assertEquals(0b110L, SlotGrid.maskFor(NINE + 15, NINE + 31));
+    }
+
+    @Test
+    public void maskForEmptyRangeIsZero() {
+        assertEquals(0L, SlotGrid.maskFor(NINE + 30, NINE + 30));
+        assertEquals(0L, SlotGrid.maskFor(NINE + 30, NINE));
+    }
+
+    @Test
+    public void freeStartsOnAnEmptyDay() {
+        assertEquals(SlotGrid.FULL_DAY_MASK, SlotGrid.freeStarts(0L, 1));
+        assertEquals(1L, SlotGrid.freeStarts(0L, 36));
+        assertEquals(0b11L, SlotGrid.freeStarts(0L, 35));
+    }
+
+    @Test
+    public void freeStartsRejectsImpossibleLengths() {
+        assertEquals(0L, SlotGrid.freeStarts(0L, 0));
+        assertEquals(0L, SlotGrid.freeStarts(0L, 37));
+        assertEquals(0L, SlotGrid.freeStarts(SlotGrid.FULL_DAY_MASK, 1));
+    }
+
+    @Test
+    public void freeStartsAvoidsOccupiedGranules() {
+        // Only the last granule is booked
+        assertEquals(SlotGrid.FULL_DAY_MASK & ~LAST_GRANULE, SlotGrid.freeStarts(LAST_GRANULE, 1));
+        assertEquals(0L, SlotGrid.freeStarts(LAST_GRANULE, 36));
+
+        // Only the first granule is booked: a 35 granule slot still fits from 09:15
+        assertEquals(0b10L, SlotGrid.freeStarts(1L, 35));
+    }
+
+    @Test
+    public void freeSlotsListsAlignedSlotsInOrder() {
+        assertEquals(Arrays.asList("09:00-10:00", "09:15-10:15", "09:30-10:30"), SlotGrid.freeSlots(0L, 60, 3));
+        assertEquals(Collections.singletonList("09:00-18:00"), SlotGrid.freeSlots(0L, 9 * 60));
+        assertEquals(Collections.emptyList(), SlotGrid.freeSlots(0L, 9 * 60 + 15));
+    }
+
+    @Test
+    public void freeSlotsUpToTheEndOfTheDay() {
+        long onlyLastFree = SlotGrid.FULL_DAY_MASK & ~LAST_GRANULE;
+
+        assertEquals(Collections.singletonList("17:45-18:00"), SlotGrid.freeSlots(onlyLastFree, 15));
+        assertEquals(Collections.emptyList(), SlotGrid.freeSlots(onlyLastFree, 30));
+    }
+
+    @Test
+    public void freeSlotsOffTheGridBlockWholeGranules() {
+        long lastTwoFree = SlotGrid.FULL_DAY_MASK & ~(0b11L << 34);
+
+        // 20 minutes needs two granules, so only 17:30 works
+        assertEquals(Collections.singletonList("17:30-17:50"), SlotGrid.freeSlots(lastTwoFree, 20));
+    }
+
+    @Test
+    public void freeSlotsWithNothingToReturn() {
+        assertEquals(Collections.emptyList(), SlotGrid.freeSlots(0L, 0));
+        assertEquals(Collections.emptyList(), SlotGrid.freeSlots(0L, 60, 0));
+    }
+
+    @Test
+    public void minuteLabelCoversTheWholeDay() {
+        assertEquals("00:00", SlotGrid.minuteLabel(0));
+        assertEquals("09:05", SlotGrid.minuteLabel(NINE + 5));
+        assertEquals("24:00", SlotGrid.minuteLabel(24 * 60));
+    }
+}
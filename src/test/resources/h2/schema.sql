@@ -0,0 +1,65 @@
+-- H2 (MODE=MySQL) stand-in for the MySQL schema, used by the benchmark and load-test harnesses.
+-- Same columns as src/main/sql plus everything SchemaMigrator adds, so migrations can stay disabled.
+
+CREATE TABLE companies (
+    company_id INT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    location VARCHAR(200),
+    contact_info VARCHAR(500),
+    status ENUM('ACTIVE','INACTIVE') DEFAULT 'ACTIVE',
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE users (
+    user_id INT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    email VARCHAR(100) UNIQUE NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    user_type ENUM('NORMAL','VIP','ADMIN','SUPER_ADMIN') DEFAULT 'NORMAL',
+    default_company_id INT,
+    status ENUM('ACTIVE','INACTIVE') DEFAULT 'ACTIVE',
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE cabins (
+    cabin_id INT AUTO_INCREMENT PRIMARY KEY,
+    company_id INT NOT NULL,
+    name VARCHAR(100) NOT NULL,
+    capacity INT NOT NULL,
+    amenities TEXT,
+    is_vip_only BOOLEAN DEFAULT FALSE,
+    location VARCHAR(200),
+    status ENUM('ACTIVE','MAINTENANCE','INACTIVE') DEFAULT 'ACTIVE',
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE bookings (
+    booking_id INT AUTO_INCREMENT PRIMARY KEY,
+    user_id INT NOT NULL,
+    cabin_id INT NOT NULL,
+    booking_date DATE NOT NULL,
+    time_slot VARCHAR(20) NOT NULL,
+    start_minute SMALLINT NULL,
+    end_minute SMALLINT NULL,
+    purpose TEXT NOT NULL,
+    booking_type ENUM('SINGLE_DAY','MULTI_DAY','RECURRING','EMERGENCY') NOT NULL DEFAULT 'SINGLE_DAY',
+    status ENUM('PENDING','APPROVED','REJECTED','CANCELLED') DEFAULT 'PENDING',
+    priority_level ENUM('NORMAL','HIGH','VIP') DEFAULT 'NORMAL',
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    approved_by INT,
+    approved_at TIMESTAMP NULL,
+    rejected_by INT,
+    rejected_at TIMESTAMP NULL
+);
+
+CREATE TABLE cabin_day_locks (
+    cabin_id INT NOT NULL,
+    booking_date DATE NOT NULL,
+    PRIMARY KEY (cabin_id, booking_date)
+);
+
+CREATE INDEX idx_bookings_cabin_day_range ON bookings (cabin_id, booking_date, status, start_minute, end_minute);
+CREATE INDEX idx_bookings_created ON bookings (created_at, booking_id);
+CREATE INDEX idx_bookings_status_created ON bookings (status, created_at, booking_id);
+CREATE INDEX idx_bookings_priority_created ON bookings (priority_level, created_at, booking_id);
+CREATE INDEX idx_bookings_user_created ON bookings (user_id, created_at, booking_id);